@@ -18,6 +18,7 @@ package org.verifyica.api;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.function.Supplier;
 
 /**
  * {@code Argument} is a container that associates a name with a given payload.
@@ -128,21 +129,25 @@ public interface Argument<T> extends Named {
     /**
      * Method to create an Argument of type int
      *
+     * <p>The Argument is an IntArgument. Use IntArgument.of(int) to declare the IntArgument type.
+     *
      * @param value value
      * @return an Argument
      */
     static Argument<Integer> ofInt(int value) {
-        return of(String.valueOf(value), value);
+        return IntArgument.of(value);
     }
 
     /**
      * Method to create an Argument of type long
      *
+     * <p>The Argument is a LongArgument. Use LongArgument.of(long) to declare the LongArgument type.
+     *
      * @param value value
      * @return an Argument
      */
     static Argument<Long> ofLong(long value) {
-        return of(String.valueOf(value), value);
+        return LongArgument.of(value);
     }
 
     /**
@@ -158,11 +163,13 @@ public interface Argument<T> extends Named {
     /**
      * Method to create an Argument of type double
      *
+     * <p>The Argument is a DoubleArgument. Use DoubleArgument.of(double) to declare the DoubleArgument type.
+     *
      * @param value value
      * @return an Argument
      */
     static Argument<Double> ofDouble(double value) {
-        return of(String.valueOf(value), value);
+        return DoubleArgument.of(value);
     }
 
     /**
@@ -239,6 +246,20 @@ public interface Argument<T> extends Named {
         };
     }
 
+    /**
+     * Method to create an Argument of type T, with a name that is created when first requested
+     *
+     * @param nameSupplier nameSupplier
+     * @param payload payload
+     * @return an Argument
+     * @param <T> type T
+     */
+    static <T> Argument<T> lazy(Supplier<String> nameSupplier, T payload) {
+        notNull(nameSupplier, "nameSupplier is null");
+
+        return new LazyArgument<>(nameSupplier, payload);
+    }
+
     /**
      * Method to validate an Object is not null, throwing an IllegalArgumentException if it is null
      *
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.api;
+
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * {@code ArgumentSource} is an index addressable source of test arguments that an
+ * {@code @Verifyica.ArgumentSupplier} method can return.
+ *
+ * <p>When a specific test argument is selected (for example when an IDE re-runs a single test
+ * argument) only the selected indices are requested, so test arguments that aren't selected are
+ * never created. Values that are not an {@link Argument} are wrapped using the name {@code
+ * argument[index]}.
+ *
+ * @param <T> the value type
+ */
+public interface ArgumentSource<T> {
+
+    /**
+     * Method to get the number of test arguments
+     *
+     * @return the number of test arguments
+     */
+    int size();
+
+    /**
+     * Method to get a test argument
+     *
+     * @param index index
+     * @return the test argument (or value) at the index
+     */
+    T get(int index);
+
+    /**
+     * Method to create an ArgumentSource
+     *
+     * @param size the number of test arguments
+     * @param function the function used to create the test argument (or value) for an index
+     * @return an ArgumentSource
+     * @param <T> the value type
+     */
+    static <T> ArgumentSource<T> of(int size, IntFunction<T> function) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size is less than 0");
+        }
+        if (function == null) {
+            throw new IllegalArgumentException("function is null");
+        }
+
+        return new ArgumentSource<T>() {
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public T get(int index) {
+                if (index < 0 || index >= size) {
+                    throw new IndexOutOfBoundsException("index [" + index + "] size [" + size + "]");
+                }
+                return function.apply(index);
+            }
+        };
+    }
+
+    /**
+     * Method to create an ArgumentSource backed by a List
+     *
+     * @param list list
+     * @return an ArgumentSource
+     * @param <T> the value type
+     */
+    static <T> ArgumentSource<T> of(List<T> list) {
+        if (list == null) {
+            throw new IllegalArgumentException("list is null");
+        }
+
+        return of(list.size(), list::get);
+    }
+}
@@ -16,6 +16,8 @@
 
 package org.verifyica.api;
 
+import java.util.function.Supplier;
+
 /** Interface to implement Context */
 public interface Context {
 
@@ -50,4 +52,85 @@ public interface Context {
      * @return the Map
      */
     ExtendedMap<String, Object> getMap();
+
+    /**
+     * Get the value from the Map, creating it once if absent, even when called concurrently
+     *
+     * @param key key
+     * @param supplier supplier
+     * @return the current or created value
+     * @param <T> the value type
+     * @see ExtendedMap#computeIfAbsentShared(Object, Supplier)
+     */
+    default <T> T computeIfAbsentShared(String key, Supplier<? extends T> supplier) {
+        return getMap().computeIfAbsentShared(key, supplier);
+    }
+
+    /**
+     * Declare that the value mapped to the key is closed before the values mapped to the other keys
+     * when the context is cleaned up
+     *
+     * @param key key
+     * @param keys keys closed after the key
+     * @see ExtendedMap#closeBefore(Object, Object[])
+     */
+    default void closeBefore(String key, String... keys) {
+        getMap().closeBefore(key, keys);
+    }
+
+    /**
+     * Get the value for a ContextKey
+     *
+     * <p>The default implementation stores the value in the Map, using the ContextKey string
+     * representation as the key. Engine contexts override it with an array-backed slot table.
+     *
+     * @param contextKey contextKey
+     * @return the value, or null if no value is set
+     * @param <T> the value type
+     */
+    @SuppressWarnings("unchecked")
+    default <T> T get(ContextKey<T> contextKey) {
+        if (contextKey == null) {
+            throw new IllegalArgumentException("contextKey is null");
+        }
+
+        return (T) getMap().get(contextKey.toString());
+    }
+
+    /**
+     * Set the value for a ContextKey
+     *
+     * @param contextKey contextKey
+     * @param value value, or null to remove the value
+     * @return the previous value, or null if no value was set
+     * @param <T> the value type
+     */
+    @SuppressWarnings("unchecked")
+    default <T> T put(ContextKey<T> contextKey, T value) {
+        if (contextKey == null) {
+            throw new IllegalArgumentException("contextKey is null");
+        }
+
+        if (value == null) {
+            return remove(contextKey);
+        }
+
+        return (T) getMap().put(contextKey.toString(), value);
+    }
+
+    /**
+     * Remove the value for a ContextKey
+     *
+     * @param contextKey contextKey
+     * @return the removed value, or null if no value was set
+     * @param <T> the value type
+     */
+    @SuppressWarnings("unchecked")
+    default <T> T remove(ContextKey<T> contextKey) {
+        if (contextKey == null) {
+            throw new IllegalArgumentException("contextKey is null");
+        }
+
+        return (T) getMap().remove(contextKey.toString());
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.api;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Class to implement ContextKey
+ *
+ * <p>A ContextKey is a typed key for values stored in a Context. Each ContextKey is assigned a dense
+ * index when created, so values are stored in an array-backed slot table and read without hashing
+ * or casting. ContextKeys are intended to be created once, as static constants.
+ *
+ * @param <T> the value type
+ */
+public final class ContextKey<T> {
+
+    private static final AtomicInteger INDEX = new AtomicInteger();
+
+    private final String name;
+    private final int index;
+
+    /**
+     * Constructor
+     *
+     * @param name name
+     * @param index index
+     */
+    private ContextKey(String name, int index) {
+        this.name = name;
+        this.index = index;
+    }
+
+    /**
+     * Create a ContextKey
+     *
+     * @param name name, used for diagnostics
+     * @return a ContextKey
+     * @param <T> the value type
+     */
+    public static <T> ContextKey<T> of(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("name is null");
+        }
+
+        if (name.trim().isEmpty()) {
+            throw new IllegalArgumentException("name is blank");
+        }
+
+        return new ContextKey<>(name.trim(), INDEX.getAndIncrement());
+    }
+
+    /**
+     * Create a ContextKey
+     *
+     * @param name name, used for diagnostics
+     * @param type type, used for type inference
+     * @return a ContextKey
+     * @param <T> the value type
+     */
+    public static <T> ContextKey<T> of(String name, Class<T> type) {
+        if (type == null) {
+            throw new IllegalArgumentException("type is null");
+        }
+
+        return of(name);
+    }
+
+    /**
+     * Get the name
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the index
+     *
+     * @return the index
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return "ContextKey{" + "name='" + name + '\'' + ", index=" + index + '}';
+    }
+}
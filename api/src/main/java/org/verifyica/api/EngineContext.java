@@ -16,6 +16,10 @@
 
 package org.verifyica.api;
 
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Supplier;
+
 /** Interface to implement EngineContext */
 public interface EngineContext extends Context {
 
@@ -34,4 +38,63 @@ public interface EngineContext extends Context {
      * @return the Engine version
      */
     String getVersion();
+
+    /**
+     * Get the engine Metrics
+     *
+     * <p>The default implementation returns Metrics that are not recorded.
+     *
+     * @return the engine Metrics
+     */
+    default Metrics getMetrics() {
+        return new Metrics() {
+
+            @Override
+            public boolean isEnabled() {
+                return false;
+            }
+
+            @Override
+            public Set<String> getNames() {
+                return Collections.emptySet();
+            }
+
+            @Override
+            public Histogram getHistogram(String name) {
+                return null;
+            }
+
+            @Override
+            public String toJson() {
+                return "{\n  \"unit\": \"nanoseconds\",\n  \"aggregate\": {},\n  \"classes\": {}\n}\n";
+            }
+        };
+    }
+
+    /**
+     * Get a FixturePool shared by all test classes, creating it once if absent
+     *
+     * <p>The FixturePool is stored in the Engine context Map, so it's closed, destroying its idle
+     * fixtures, when the Engine context is cleaned up.
+     *
+     * @param key key
+     * @param supplier supplier used to create the FixturePool
+     * @return the FixturePool
+     * @param <T> the fixture type
+     */
+    default <T> FixturePool<T> getFixturePool(String key, Supplier<FixturePool<T>> supplier) {
+        if (key == null) {
+            throw new IllegalArgumentException("key is null");
+        }
+
+        if (key.trim().isEmpty()) {
+            throw new IllegalArgumentException("key is blank");
+        }
+
+        if (supplier == null) {
+            throw new IllegalArgumentException("supplier is null");
+        }
+
+        return computeIfAbsentShared(FixturePool.class.getName() + "." + key.trim(), supplier);
+    }
 }
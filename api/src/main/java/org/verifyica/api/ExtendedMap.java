@@ -16,8 +16,17 @@
 
 package org.verifyica.api;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
 
 /**
  * Class to implement ExtendedMap
@@ -28,6 +37,10 @@ import java.util.concurrent.ConcurrentHashMap;
 @SuppressWarnings("unchecked")
 public class ExtendedMap<K, V> extends ConcurrentHashMap<K, V> {
 
+    private transient ConcurrentHashMap<K, OwnedFutureTask<V>> futureTasks = new ConcurrentHashMap<>();
+
+    private transient ConcurrentHashMap<K, Set<K>> closedBeforeKeys = new ConcurrentHashMap<>();
+
     /** Constructor */
     public ExtendedMap() {
         super();
@@ -125,4 +138,177 @@ public class ExtendedMap<K, V> extends ConcurrentHashMap<K, V> {
 
         return type.cast(remove(key));
     }
+
+    /**
+     * Returns the value to which the specified key is mapped, creating it with the supplier if there
+     * is no mapping.
+     *
+     * <p>Creation is single-flight. Concurrent callers for the same key wait for one in-flight
+     * creation and receive its value. Callers for other keys are not blocked. If creation fails, the
+     * exception is thrown to all waiting callers, no mapping is added, and a later call retries
+     * creation. Values are stored in the map, so AutoCloseable values are closed when the context
+     * owning the map is cleaned up.
+     *
+     * <p>A supplier must not call this method for the key it is creating. Such a re-entrant call
+     * throws an IllegalStateException instead of waiting for its own creation.
+     *
+     * @param key key
+     * @param supplier supplier
+     * @return the current or created value, or null if the supplier returned null
+     * @param <T> the assigned type
+     */
+    public <T> T computeIfAbsentShared(K key, Supplier<? extends V> supplier) {
+        if (key == null) {
+            throw new IllegalArgumentException("key is null");
+        }
+
+        if (supplier == null) {
+            throw new IllegalArgumentException("supplier is null");
+        }
+
+        V value = get(key);
+        if (value != null) {
+            return (T) value;
+        }
+
+        OwnedFutureTask<V> futureTask = new OwnedFutureTask<>(() -> {
+            // Another caller may have completed creation since the first check
+            V currentValue = get(key);
+            return currentValue != null ? currentValue : supplier.get();
+        });
+
+        OwnedFutureTask<V> existingFutureTask = futureTasks.putIfAbsent(key, futureTask);
+
+        if (existingFutureTask == null) {
+            try {
+                futureTask.owner = Thread.currentThread();
+                futureTask.run();
+                value = await(futureTask);
+                if (value != null) {
+                    V previousValue = putIfAbsent(key, value);
+                    if (previousValue != null) {
+                        value = previousValue;
+                    }
+                }
+            } finally {
+                futureTasks.remove(key, futureTask);
+            }
+
+            return (T) value;
+        }
+
+        if (existingFutureTask.owner == Thread.currentThread()) {
+            throw new IllegalStateException("re-entrant computeIfAbsentShared call for key [" + key + "]");
+        }
+
+        return (T) await(existingFutureTask);
+    }
+
+    /**
+     * Declares that the value mapped to the key is closed before the values mapped to the other keys
+     * when the context owning the map is cleaned up. For example, close a client before the network
+     * it uses.
+     *
+     * @param key key
+     * @param keys keys closed after the key
+     */
+    @SafeVarargs
+    public final void closeBefore(K key, K... keys) {
+        if (key == null) {
+            throw new IllegalArgumentException("key is null");
+        }
+
+        if (keys == null) {
+            throw new IllegalArgumentException("keys is null");
+        }
+
+        for (K otherKey : keys) {
+            if (otherKey == null) {
+                throw new IllegalArgumentException("keys contains a null key");
+            }
+
+            closedBeforeKeys
+                    .computeIfAbsent(otherKey, k -> Collections.synchronizedSet(new LinkedHashSet<>()))
+                    .add(key);
+        }
+    }
+
+    /**
+     * Returns the keys whose values are closed before the value mapped to the key.
+     *
+     * @param key key
+     * @return an unmodifiable copy of the keys closed before the key
+     */
+    public Set<K> getClosedBeforeKeys(K key) {
+        Set<K> keys = closedBeforeKeys.get(key);
+
+        if (keys == null) {
+            return Collections.emptySet();
+        }
+
+        synchronized (keys) {
+            return Collections.unmodifiableSet(new LinkedHashSet<>(keys));
+        }
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        closedBeforeKeys.clear();
+    }
+
+    /**
+     * Method to deserialize the map, recreating the transient state
+     *
+     * @param objectInputStream objectInputStream
+     * @throws IOException If an error occurs
+     * @throws ClassNotFoundException If a class is not found
+     */
+    private void readObject(ObjectInputStream objectInputStream) throws IOException, ClassNotFoundException {
+        objectInputStream.defaultReadObject();
+        futureTasks = new ConcurrentHashMap<>();
+        closedBeforeKeys = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Method to wait for a FutureTask, propagating the exception thrown by the supplier
+     *
+     * @param futureTask futureTask
+     * @return the FutureTask value
+     */
+    private static <V> V await(FutureTask<V> futureTask) {
+        try {
+            return futureTask.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted waiting for value", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Class to implement OwnedFutureTask, recording the thread creating the value
+     *
+     * @param <V> value type
+     */
+    private static class OwnedFutureTask<V> extends FutureTask<V> {
+
+        private volatile Thread owner;
+
+        /**
+         * Constructor
+         *
+         * @param callable callable
+         */
+        private OwnedFutureTask(Callable<V> callable) {
+            super(callable);
+        }
+    }
 }
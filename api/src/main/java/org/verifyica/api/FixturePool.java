@@ -0,0 +1,695 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.api;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Class to implement FixturePool
+ *
+ * <p>A FixturePool leases reusable fixtures (for example, containers or clients) so tests don't
+ * create and destroy a fixture per argument. Fixtures are created on demand up to the maximum size,
+ * checked before each lease, reset after each lease, and destroyed when idle for longer than the
+ * idle timeout or when the pool is closed.
+ *
+ * @param <T> the fixture type
+ */
+public class FixturePool<T> implements AutoCloseable {
+
+    private final Factory<T> factory;
+    private final HealthCheck<T> healthCheck;
+    private final Action<T> reset;
+    private final Action<T> destroy;
+    private final int maximumSize;
+    private final long idleTimeoutNanos;
+    private final Lock lock;
+    private final Condition condition;
+    private final Deque<IdleFixture<T>> idleFixtures;
+    private int size;
+    private int leased;
+    private boolean closed;
+
+    /**
+     * Constructor
+     *
+     * @param builder builder
+     */
+    private FixturePool(Builder<T> builder) {
+        this.factory = builder.factory;
+        this.healthCheck = builder.healthCheck;
+        this.reset = builder.reset;
+        this.destroy = builder.destroy;
+        this.maximumSize = builder.maximumSize;
+        this.idleTimeoutNanos = builder.idleTimeout != null ? builder.idleTimeout.toNanos() : -1;
+        this.lock = new ReentrantLock(true);
+        this.condition = lock.newCondition();
+        this.idleFixtures = new ArrayDeque<>();
+    }
+
+    /**
+     * Create a Builder
+     *
+     * @param factory factory used to create fixtures
+     * @return a Builder
+     * @param <T> the fixture type
+     */
+    public static <T> Builder<T> builder(Factory<T> factory) {
+        if (factory == null) {
+            throw new IllegalArgumentException("factory is null");
+        }
+
+        return new Builder<>(factory);
+    }
+
+    /**
+     * Create fixtures until the pool contains the target number of fixtures
+     *
+     * @param targetSize targetSize, limited to the maximum size
+     * @throws Throwable Throwable if a fixture can't be created
+     */
+    public void warmUp(int targetSize) throws Throwable {
+        if (targetSize < 0) {
+            throw new IllegalArgumentException("targetSize is less than 0");
+        }
+
+        while (true) {
+            lock.lock();
+            try {
+                checkOpen();
+                if (size >= Math.min(targetSize, maximumSize)) {
+                    return;
+                }
+                size++;
+            } finally {
+                lock.unlock();
+            }
+
+            T fixture = null;
+            boolean added = false;
+
+            try {
+                fixture = create();
+            } finally {
+                lock.lock();
+                try {
+                    if (fixture != null && !closed) {
+                        idleFixtures.addLast(new IdleFixture<>(fixture, System.nanoTime()));
+                        added = true;
+                    } else {
+                        size--;
+                    }
+                    condition.signal();
+                } finally {
+                    lock.unlock();
+                }
+            }
+
+            if (!added) {
+                destroy(fixture);
+                throw new IllegalStateException("fixture pool is closed");
+            }
+        }
+    }
+
+    /**
+     * Lease a fixture, waiting if the pool is at its maximum size and all fixtures are leased
+     *
+     * @return a Lease
+     * @throws Throwable Throwable if a fixture can't be created
+     */
+    public Lease<T> lease() throws Throwable {
+        return lease(-1, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Lease a fixture, waiting up to the timeout if the pool is at its maximum size and all fixtures
+     * are leased
+     *
+     * @param timeout timeout, or a negative value to wait indefinitely
+     * @param timeUnit timeUnit
+     * @return a Lease
+     * @throws Throwable Throwable if a fixture can't be created, or IllegalStateException if the
+     *     timeout expires
+     */
+    public Lease<T> lease(long timeout, TimeUnit timeUnit) throws Throwable {
+        if (timeUnit == null) {
+            throw new IllegalArgumentException("timeUnit is null");
+        }
+
+        long remainingNanos = timeUnit.toNanos(timeout);
+
+        while (true) {
+            IdleFixture<T> idleFixture = null;
+            List<T> evictedFixtures = Collections.emptyList();
+
+            // Evicted fixtures are destroyed even if waiting is interrupted or times out
+            try {
+                lock.lock();
+                try {
+                    evictedFixtures = evict(System.nanoTime());
+
+                    while (true) {
+                        checkOpen();
+                        if (!idleFixtures.isEmpty()) {
+                            // Most recently used first, so unused fixtures age out
+                            idleFixture = idleFixtures.removeLast();
+                            break;
+                        } else if (size < maximumSize) {
+                            size++;
+                            break;
+                        } else if (timeout < 0) {
+                            condition.await();
+                        } else if (remainingNanos <= 0) {
+                            throw new IllegalStateException("timeout waiting for fixture");
+                        } else {
+                            remainingNanos = condition.awaitNanos(remainingNanos);
+                        }
+                    }
+
+                    leased++;
+                } finally {
+                    lock.unlock();
+                }
+            } finally {
+                destroyAll(evictedFixtures);
+            }
+
+            if (idleFixture == null) {
+                try {
+                    return new Lease<>(this, create());
+                } catch (Throwable t) {
+                    discard();
+                    throw t;
+                }
+            }
+
+            if (isHealthy(idleFixture.fixture)) {
+                return new Lease<>(this, idleFixture.fixture);
+            }
+
+            discard();
+            destroy(idleFixture.fixture);
+        }
+    }
+
+    /**
+     * Destroy fixtures that have been idle longer than the idle timeout
+     */
+    public void evictIdle() {
+        List<T> evictedFixtures;
+
+        lock.lock();
+        try {
+            evictedFixtures = evict(System.nanoTime());
+        } finally {
+            lock.unlock();
+        }
+
+        destroyAll(evictedFixtures);
+    }
+
+    /**
+     * Get the number of fixtures, idle and leased
+     *
+     * @return the number of fixtures
+     */
+    public int getSize() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the number of idle fixtures
+     *
+     * @return the number of idle fixtures
+     */
+    public int getIdle() {
+        lock.lock();
+        try {
+            return idleFixtures.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the number of leased fixtures
+     *
+     * @return the number of leased fixtures
+     */
+    public int getLeased() {
+        lock.lock();
+        try {
+            return leased;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Close the pool, destroying idle fixtures. Leased fixtures are destroyed when returned
+     *
+     * @throws Exception the first Exception thrown destroying an idle fixture
+     */
+    @Override
+    public void close() throws Exception {
+        List<T> fixtures = new ArrayList<>();
+
+        lock.lock();
+        try {
+            closed = true;
+            for (IdleFixture<T> idleFixture : idleFixtures) {
+                fixtures.add(idleFixture.fixture);
+            }
+            size -= idleFixtures.size();
+            idleFixtures.clear();
+            condition.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        Throwable throwable = null;
+
+        for (T fixture : fixtures) {
+            Throwable t = destroy(fixture);
+            if (throwable == null) {
+                throwable = t;
+            }
+        }
+
+        if (throwable instanceof Exception) {
+            throw (Exception) throwable;
+        } else if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+    }
+
+    /**
+     * Return a leased fixture to the pool
+     *
+     * @param fixture fixture
+     * @param invalidate true to destroy the fixture instead of returning it
+     */
+    private void release(T fixture, boolean invalidate) {
+        boolean reusable = !invalidate;
+
+        if (reusable && reset != null) {
+            try {
+                reset.accept(fixture);
+            } catch (Throwable t) {
+                reusable = false;
+            }
+        }
+
+        List<T> evictedFixtures;
+        boolean destroyFixture;
+
+        lock.lock();
+        try {
+            leased--;
+            // Decided while holding the lock, since a fixture returned to the pool is owned by the pool
+            destroyFixture = !reusable || closed;
+            if (destroyFixture) {
+                size--;
+            } else {
+                idleFixtures.addLast(new IdleFixture<>(fixture, System.nanoTime()));
+            }
+            evictedFixtures = evict(System.nanoTime());
+            condition.signal();
+        } finally {
+            lock.unlock();
+        }
+
+        if (destroyFixture) {
+            destroy(fixture);
+        }
+
+        destroyAll(evictedFixtures);
+    }
+
+    /**
+     * Method to remove a leased fixture that won't be returned from the counts
+     */
+    private void discard() {
+        lock.lock();
+        try {
+            leased--;
+            size--;
+            condition.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Method to remove expired idle fixtures, must be called while holding the lock
+     *
+     * @param now now
+     * @return a List of fixtures to destroy
+     */
+    private List<T> evict(long now) {
+        if (idleTimeoutNanos < 0 || idleFixtures.isEmpty()) {
+            return new ArrayList<>(0);
+        }
+
+        List<T> evictedFixtures = new ArrayList<>();
+
+        Iterator<IdleFixture<T>> iterator = idleFixtures.iterator();
+        while (iterator.hasNext()) {
+            IdleFixture<T> idleFixture = iterator.next();
+            if (now - idleFixture.idleSinceNanos >= idleTimeoutNanos) {
+                iterator.remove();
+                size--;
+                evictedFixtures.add(idleFixture.fixture);
+            }
+        }
+
+        if (!evictedFixtures.isEmpty()) {
+            condition.signalAll();
+        }
+
+        return evictedFixtures;
+    }
+
+    /**
+     * Method to check the pool is open, must be called while holding the lock
+     */
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("fixture pool is closed");
+        }
+    }
+
+    /**
+     * Method to create a fixture
+     *
+     * @return a fixture
+     * @throws Throwable Throwable
+     */
+    private T create() throws Throwable {
+        T fixture = factory.create();
+
+        if (fixture == null) {
+            throw new IllegalStateException("factory returned null");
+        }
+
+        return fixture;
+    }
+
+    /**
+     * Method to check the health of a fixture
+     *
+     * @param fixture fixture
+     * @return true if the fixture is healthy, else false
+     */
+    private boolean isHealthy(T fixture) {
+        if (healthCheck == null) {
+            return true;
+        }
+
+        try {
+            return healthCheck.isHealthy(fixture);
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    /**
+     * Method to destroy fixtures
+     *
+     * @param fixtures fixtures
+     */
+    private void destroyAll(List<T> fixtures) {
+        for (T fixture : fixtures) {
+            destroy(fixture);
+        }
+    }
+
+    /**
+     * Method to destroy a fixture. The fixture is removed from the pool even if destroying it fails
+     *
+     * @param fixture fixture
+     * @return the Throwable thrown destroying the fixture, or null
+     */
+    private Throwable destroy(T fixture) {
+        try {
+            if (destroy != null) {
+                destroy.accept(fixture);
+            } else if (fixture instanceof AutoCloseable) {
+                ((AutoCloseable) fixture).close();
+            }
+            return null;
+        } catch (Throwable t) {
+            return t;
+        }
+    }
+
+    /**
+     * Interface to implement Factory
+     *
+     * @param <T> the fixture type
+     */
+    public interface Factory<T> {
+
+        /**
+         * Create a fixture
+         *
+         * @return a fixture
+         * @throws Throwable Throwable
+         */
+        T create() throws Throwable;
+    }
+
+    /**
+     * Interface to implement HealthCheck
+     *
+     * @param <T> the fixture type
+     */
+    public interface HealthCheck<T> {
+
+        /**
+         * Check if a fixture is healthy
+         *
+         * @param fixture fixture
+         * @return true if the fixture is healthy, else false
+         * @throws Throwable Throwable
+         */
+        boolean isHealthy(T fixture) throws Throwable;
+    }
+
+    /**
+     * Interface to implement Action
+     *
+     * @param <T> the fixture type
+     */
+    public interface Action<T> {
+
+        /**
+         * Perform the action on a fixture
+         *
+         * @param fixture fixture
+         * @throws Throwable Throwable
+         */
+        void accept(T fixture) throws Throwable;
+    }
+
+    /**
+     * Class to implement Lease
+     *
+     * @param <T> the fixture type
+     */
+    public static class Lease<T> implements AutoCloseable {
+
+        private final FixturePool<T> fixturePool;
+        private final T fixture;
+        private boolean released;
+
+        /**
+         * Constructor
+         *
+         * @param fixturePool fixturePool
+         * @param fixture fixture
+         */
+        private Lease(FixturePool<T> fixturePool, T fixture) {
+            this.fixturePool = fixturePool;
+            this.fixture = fixture;
+        }
+
+        /**
+         * Get the fixture
+         *
+         * @return the fixture
+         */
+        public T get() {
+            return fixture;
+        }
+
+        /**
+         * Destroy the fixture instead of returning it to the pool
+         */
+        public synchronized void invalidate() {
+            if (!released) {
+                released = true;
+                fixturePool.release(fixture, true);
+            }
+        }
+
+        /**
+         * Return the fixture to the pool
+         */
+        @Override
+        public synchronized void close() {
+            if (!released) {
+                released = true;
+                fixturePool.release(fixture, false);
+            }
+        }
+    }
+
+    /**
+     * Class to implement Builder
+     *
+     * @param <T> the fixture type
+     */
+    public static class Builder<T> {
+
+        private final Factory<T> factory;
+        private HealthCheck<T> healthCheck;
+        private Action<T> reset;
+        private Action<T> destroy;
+        private int maximumSize;
+        private Duration idleTimeout;
+
+        /**
+         * Constructor
+         *
+         * @param factory factory
+         */
+        private Builder(Factory<T> factory) {
+            this.factory = factory;
+            this.maximumSize = Integer.MAX_VALUE;
+        }
+
+        /**
+         * Set the health check run before a fixture is leased. Unhealthy fixtures are destroyed
+         *
+         * @param healthCheck healthCheck
+         * @return this Builder
+         */
+        public Builder<T> healthCheck(HealthCheck<T> healthCheck) {
+            this.healthCheck = healthCheck;
+            return this;
+        }
+
+        /**
+         * Set the reset action run when a fixture is returned. Fixtures that fail to reset are destroyed
+         *
+         * @param reset reset
+         * @return this Builder
+         */
+        public Builder<T> reset(Action<T> reset) {
+            this.reset = reset;
+            return this;
+        }
+
+        /**
+         * Set the destroy action. By default, AutoCloseable fixtures are closed
+         *
+         * @param destroy destroy
+         * @return this Builder
+         */
+        public Builder<T> destroy(Action<T> destroy) {
+            this.destroy = destroy;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of fixtures, idle and leased
+         *
+         * @param maximumSize maximumSize
+         * @return this Builder
+         */
+        public Builder<T> maximumSize(int maximumSize) {
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("maximumSize is less than 1");
+            }
+
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Set the idle timeout after which idle fixtures are destroyed
+         *
+         * @param idleTimeout idleTimeout, or null to keep idle fixtures until the pool is closed
+         * @return this Builder
+         */
+        public Builder<T> idleTimeout(Duration idleTimeout) {
+            if (idleTimeout != null && idleTimeout.isNegative()) {
+                throw new IllegalArgumentException("idleTimeout is negative");
+            }
+
+            this.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        /**
+         * Build the FixturePool
+         *
+         * @return a FixturePool
+         */
+        public FixturePool<T> build() {
+            return new FixturePool<>(this);
+        }
+    }
+
+    /**
+     * Class to implement IdleFixture
+     *
+     * @param <T> the fixture type
+     */
+    private static class IdleFixture<T> {
+
+        private final T fixture;
+        private final long idleSinceNanos;
+
+        /**
+         * Constructor
+         *
+         * @param fixture fixture
+         * @param idleSinceNanos idleSinceNanos
+         */
+        private IdleFixture(T fixture, long idleSinceNanos) {
+            this.fixture = fixture;
+            this.idleSinceNanos = idleSinceNanos;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.api;
+
+import java.util.function.Supplier;
+
+/**
+ * Class to implement LazyArgument
+ *
+ * @param <T> the payload type
+ */
+class LazyArgument<T> implements Argument<T> {
+
+    private final T payload;
+    private Supplier<String> nameSupplier;
+    private volatile String name;
+
+    /**
+     * Constructor
+     *
+     * @param nameSupplier nameSupplier
+     * @param payload payload
+     */
+    LazyArgument(Supplier<String> nameSupplier, T payload) {
+        this.nameSupplier = nameSupplier;
+        this.payload = payload;
+    }
+
+    @Override
+    public String getName() {
+        String name = this.name;
+        if (name == null) {
+            synchronized (this) {
+                name = this.name;
+                if (name == null) {
+                    name = nameSupplier.get();
+                    Argument.notBlank(name, "name is null", "name is blank");
+                    this.name = name;
+                    nameSupplier = null;
+                }
+            }
+        }
+        return name;
+    }
+
+    @Override
+    public T getPayload() {
+        return payload;
+    }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+}
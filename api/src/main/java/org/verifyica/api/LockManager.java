@@ -92,7 +92,14 @@ public class LockManager {
             LOCK.unlock();
         }
 
-        return lockReference.getLock().tryLock(timeout, timeUnit);
+        Object event = LockWaitEvents.begin();
+        boolean locked = false;
+        try {
+            locked = lockReference.getLock().tryLock(timeout, timeUnit);
+            return locked;
+        } finally {
+            LockWaitEvents.end(event, trimmedKey, locked);
+        }
     }
 
     /**
@@ -118,7 +125,9 @@ public class LockManager {
             LOCK.unlock();
         }
 
+        Object event = LockWaitEvents.begin();
         lockReference.getLock().lock();
+        LockWaitEvents.end(event, trimmedKey, true);
     }
 
     /**
@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.api;
+
+/**
+ * Class to implement LockWaitEvents
+ *
+ * <p>Java Flight Recorder events are not available on Java 8, so no events are created. The
+ * Java 11+ version of this class, in the multi-release jar, creates the events.
+ */
+class LockWaitEvents {
+
+    /** Constructor */
+    private LockWaitEvents() {
+        // INTENTIONALLY BLANK
+    }
+
+    /**
+     * Method to begin a lock wait event
+     *
+     * @return null
+     */
+    static Object begin() {
+        return null;
+    }
+
+    /**
+     * Method to end a lock wait event, committing it if required
+     *
+     * @param event the event returned by begin, or null
+     * @param key key
+     * @param locked locked
+     */
+    static void end(Object event, String key, boolean locked) {
+        // INTENTIONALLY BLANK
+    }
+}
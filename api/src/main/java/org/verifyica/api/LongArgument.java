@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.api;
+
+import java.util.function.LongSupplier;
+
+/**
+ * {@code LongArgument} is an {@link Argument} with a primitive {@code long} payload.
+ *
+ * <p>The name is created when first requested, and the payload is only boxed by {@link
+ * #getPayload()}. Test methods can declare a {@code LongArgument} parameter and use {@link
+ * #getAsLong()} to get the value without unboxing.
+ */
+public final class LongArgument implements Argument<Long>, LongSupplier {
+
+    private final long value;
+    private String name;
+
+    /**
+     * Constructor
+     *
+     * @param name name, or null to use the value as the name
+     * @param value value
+     */
+    private LongArgument(String name, long value) {
+        this.name = name;
+        this.value = value;
+    }
+
+    @Override
+    public String getName() {
+        // Benign race, the name is immutable and always equal
+        String name = this.name;
+        if (name == null) {
+            name = String.valueOf(value);
+            this.name = name;
+        }
+        return name;
+    }
+
+    @Override
+    public Long getPayload() {
+        return value;
+    }
+
+    @Override
+    public boolean hasPayload() {
+        return true;
+    }
+
+    /**
+     * Method to get the Argument payload without boxing
+     *
+     * @return the Argument payload
+     */
+    @Override
+    public long getAsLong() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+
+    /**
+     * Method to create a LongArgument, named using the value
+     *
+     * @param value value
+     * @return a LongArgument
+     */
+    public static LongArgument of(long value) {
+        return new LongArgument(null, value);
+    }
+
+    /**
+     * Method to create a LongArgument
+     *
+     * @param name name
+     * @param value value
+     * @return a LongArgument
+     */
+    public static LongArgument of(String name, long value) {
+        Argument.notBlank(name, "name is null", "name is blank");
+
+        return new LongArgument(name, value);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.api;
+
+import java.util.Set;
+
+/**
+ * Interface to implement Metrics
+ *
+ * <p>Latency histograms recorded by the engine for each state machine phase of test classes,
+ * test arguments, and test methods, and for each class interceptor hook. Histogram values are
+ * nanoseconds.
+ *
+ * <p>Aggregate histograms are named {@code <scope>.<PHASE>.<kind>} (e.g. {@code
+ * argument.BEFORE_ALL.user}). Per test class histograms are prefixed with the test class name
+ * and a {@code /} (e.g. {@code org.example.ExampleTest/argument.BEFORE_ALL.user}).
+ */
+public interface Metrics {
+
+    /**
+     * Method to return if metrics are recorded
+     *
+     * @return true if metrics are recorded, else false
+     */
+    boolean isEnabled();
+
+    /**
+     * Method to get the names of the recorded histograms
+     *
+     * @return a Set of histogram names, sorted
+     */
+    Set<String> getNames();
+
+    /**
+     * Method to get a histogram
+     *
+     * @param name name
+     * @return the histogram, or null if no values were recorded for the name
+     */
+    Histogram getHistogram(String name);
+
+    /**
+     * Method to get the recorded histograms as JSON
+     *
+     * @return a JSON String
+     */
+    String toJson();
+
+    /** Interface to implement Histogram */
+    interface Histogram {
+
+        /**
+         * Method to get the number of recorded values
+         *
+         * @return the number of recorded values
+         */
+        long getCount();
+
+        /**
+         * Method to get the sum of the recorded values
+         *
+         * @return the sum of the recorded values
+         */
+        long getTotal();
+
+        /**
+         * Method to get the minimum recorded value
+         *
+         * @return the minimum recorded value, or 0 if no values were recorded
+         */
+        long getMin();
+
+        /**
+         * Method to get the maximum recorded value
+         *
+         * @return the maximum recorded value, or 0 if no values were recorded
+         */
+        long getMax();
+
+        /**
+         * Method to get the mean of the recorded values
+         *
+         * @return the mean of the recorded values, or 0 if no values were recorded
+         */
+        double getMean();
+
+        /**
+         * Method to get the value at a percentile
+         *
+         * <p>The value is accurate to within approximately 3%
+         *
+         * @param percentile percentile, between 0 and 100
+         * @return the value at the percentile, or 0 if no values were recorded
+         */
+        long getValueAtPercentile(double percentile);
+    }
+}
@@ -0,0 +1,479 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.api.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Class to implement VerifyicaIndexProcessor
+ *
+ * <p>Generates the {@value #INDEX_RESOURCE_NAME} resource, listing test classes, argument supplier
+ * methods, lifecycle methods, and autowired interceptors, so the engine doesn't need to scan the
+ * classpath root at runtime.
+ *
+ * <p>Index format (UTF-8, line oriented)
+ *
+ * <pre>
+ * version 1
+ * type org.example.ExampleTest
+ *   test-class org.example.ExampleTest
+ *   argument-supplier org.example.ExampleTest#arguments
+ *   test org.example.ExampleTest#test
+ * type org.example.ExampleInterceptor
+ *   class-interceptor org.example.ExampleInterceptor
+ * </pre>
+ *
+ * <p>Every compiled top-level type is listed, so the engine can detect an index that is older than
+ * the classes in a directory. Entries of types not compiled in the current compilation (incremental
+ * builds) are preserved.
+ *
+ * <p>Class files are generated after annotation processing, so when running in javac, the
+ * modification time of the index is updated after each class file is generated. The engine treats
+ * an index as stale if a class file is newer than the index (e.g. compiled without the processor).
+ */
+public class VerifyicaIndexProcessor extends AbstractProcessor {
+
+    /** Index resource name */
+    public static final String INDEX_RESOURCE_NAME = "META-INF/verifyica/index";
+
+    /** Index format version */
+    public static final String INDEX_VERSION = "1";
+
+    private static final String VERIFYICA_ANNOTATION_PREFIX = "org.verifyica.api.Verifyica.";
+
+    private static final String AUTOWIRED = "org.verifyica.api.Verifyica.Autowired";
+
+    private static final String CLASS_INTERCEPTOR = "org.verifyica.api.ClassInterceptor";
+
+    private static final String ENGINE_INTERCEPTOR = "org.verifyica.api.EngineInterceptor";
+
+    private static final Map<String, String> METHOD_ANNOTATION_KINDS;
+
+    static {
+        METHOD_ANNOTATION_KINDS = new LinkedHashMap<>();
+        METHOD_ANNOTATION_KINDS.put("ArgumentSupplier", "argument-supplier");
+        METHOD_ANNOTATION_KINDS.put("Prepare", "prepare");
+        METHOD_ANNOTATION_KINDS.put("BeforeAll", "before-all");
+        METHOD_ANNOTATION_KINDS.put("BeforeEach", "before-each");
+        METHOD_ANNOTATION_KINDS.put("Test", "test");
+        METHOD_ANNOTATION_KINDS.put("AfterEach", "after-each");
+        METHOD_ANNOTATION_KINDS.put("AfterAll", "after-all");
+        METHOD_ANNOTATION_KINDS.put("Conclude", "conclude");
+    }
+
+    private final Map<String, List<String>> types;
+    private boolean generateListener;
+    private volatile Path indexPath;
+
+    /** Constructor */
+    public VerifyicaIndexProcessor() {
+        types = new TreeMap<>();
+    }
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnvironment) {
+        super.init(processingEnvironment);
+
+        generateListener = addGenerateListener(processingEnvironment);
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton("*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+        if (roundEnvironment.processingOver()) {
+            writeIndex();
+        } else {
+            for (Element element : roundEnvironment.getRootElements()) {
+                if (isType(element)) {
+                    TypeElement typeElement = (TypeElement) element;
+                    List<String> entries = new ArrayList<>();
+                    processType(typeElement, entries);
+                    types.put(getBinaryName(typeElement), entries);
+                }
+            }
+        }
+
+        // Never claim annotations
+        return false;
+    }
+
+    /**
+     * Method to process a type and its member types
+     *
+     * @param typeElement typeElement
+     * @param entries entries
+     */
+    private void processType(TypeElement typeElement, List<String> entries) {
+        String binaryName = getBinaryName(typeElement);
+        boolean isConcreteClass = typeElement.getKind() == ElementKind.CLASS
+                && !typeElement.getModifiers().contains(Modifier.ABSTRACT);
+
+        List<String> methodEntries = new ArrayList<>();
+        boolean hasTestAnnotations = false;
+
+        for (ExecutableElement method : getMethods(typeElement)) {
+            for (AnnotationMirror annotationMirror : method.getAnnotationMirrors()) {
+                String kind = METHOD_ANNOTATION_KINDS.get(getVerifyicaAnnotationName(annotationMirror));
+                if (kind != null) {
+                    hasTestAnnotations |= "argument-supplier".equals(kind) || "test".equals(kind);
+                    methodEntries.add(kind + " " + binaryName + "#"
+                            + method.getSimpleName().toString());
+                }
+            }
+        }
+
+        if (isConcreteClass && hasTestAnnotations) {
+            entries.add("test-class " + binaryName);
+            entries.addAll(methodEntries);
+        }
+
+        if (isConcreteClass && isAnnotated(typeElement, AUTOWIRED)) {
+            if (isAssignable(typeElement, CLASS_INTERCEPTOR)) {
+                entries.add("class-interceptor " + binaryName);
+            }
+            if (isAssignable(typeElement, ENGINE_INTERCEPTOR)) {
+                entries.add("engine-interceptor " + binaryName);
+            }
+        }
+
+        for (Element element : typeElement.getEnclosedElements()) {
+            if (isType(element)) {
+                processType((TypeElement) element, entries);
+            }
+        }
+    }
+
+    /**
+     * Method to get the methods of a type, its superclasses, and its interfaces
+     *
+     * @param typeElement typeElement
+     * @return a List of methods
+     */
+    private List<ExecutableElement> getMethods(TypeElement typeElement) {
+        List<ExecutableElement> methods = new ArrayList<>();
+        Set<String> visited = new HashSet<>();
+        Deque<TypeElement> deque = new ArrayDeque<>();
+        deque.add(typeElement);
+
+        while (!deque.isEmpty()) {
+            TypeElement currentTypeElement = deque.removeFirst();
+            if (!visited.add(currentTypeElement.getQualifiedName().toString())
+                    || "java.lang.Object".contentEquals(currentTypeElement.getQualifiedName())) {
+                continue;
+            }
+
+            for (Element element : currentTypeElement.getEnclosedElements()) {
+                if (element.getKind() == ElementKind.METHOD) {
+                    methods.add((ExecutableElement) element);
+                }
+            }
+
+            addTypeElement(currentTypeElement.getSuperclass(), deque);
+            for (TypeMirror typeMirror : currentTypeElement.getInterfaces()) {
+                addTypeElement(typeMirror, deque);
+            }
+        }
+
+        return methods;
+    }
+
+    /**
+     * Method to write the index, merging entries of types not compiled in this compilation
+     */
+    private void writeIndex() {
+        Map<String, List<String>> existingIndex = readIndex();
+        Map<String, List<String>> index = new TreeMap<>();
+        if (existingIndex != null) {
+            index.putAll(existingIndex);
+        }
+        index.putAll(types);
+
+        boolean hasEntries = false;
+        for (List<String> entries : index.values()) {
+            if (!entries.isEmpty()) {
+                hasEntries = true;
+                break;
+            }
+        }
+
+        // Only write an index for compilations that use Verifyica, or to update an existing index
+        if (!hasEntries && existingIndex == null) {
+            return;
+        }
+
+        try {
+            FileObject fileObject =
+                    processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE_NAME);
+            try (Writer writer = fileObject.openWriter()) {
+                writer.write("version " + INDEX_VERSION + "\n");
+                for (Map.Entry<String, List<String>> entry : index.entrySet()) {
+                    writer.write("type " + entry.getKey() + "\n");
+                    for (String line : entry.getValue()) {
+                        writer.write("  " + line + "\n");
+                    }
+                }
+            }
+
+            if (generateListener && "file".equals(fileObject.toUri().getScheme())) {
+                indexPath = Paths.get(fileObject.toUri());
+            }
+        } catch (IOException e) {
+            processingEnv
+                    .getMessager()
+                    .printMessage(
+                            Diagnostic.Kind.WARNING,
+                            "Verifyica index [" + INDEX_RESOURCE_NAME + "] could not be written: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Method to add a javac TaskListener that updates the modification time of the index after each
+     * class file is generated. javac is accessed reflectively, since the processor also runs in
+     * other compilers
+     *
+     * @param processingEnvironment processingEnvironment
+     * @return true if the TaskListener was added, else false
+     */
+    private boolean addGenerateListener(ProcessingEnvironment processingEnvironment) {
+        try {
+            ClassLoader classLoader = processingEnvironment.getClass().getClassLoader();
+            Class<?> javacTaskClass = Class.forName("com.sun.source.util.JavacTask", false, classLoader);
+            Class<?> taskListenerClass = Class.forName("com.sun.source.util.TaskListener", false, classLoader);
+            Class<?> taskEventClass = Class.forName("com.sun.source.util.TaskEvent", false, classLoader);
+            Method getKindMethod = taskEventClass.getMethod("getKind");
+
+            Object javacTask = javacTaskClass
+                    .getMethod("instance", ProcessingEnvironment.class)
+                    .invoke(null, processingEnvironment);
+
+            Object taskListener = Proxy.newProxyInstance(
+                    taskListenerClass.getClassLoader(), new Class<?>[] {taskListenerClass}, (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "finished": {
+                                if ("GENERATE".equals(String.valueOf(getKindMethod.invoke(args[0])))) {
+                                    touchIndex();
+                                }
+                                return null;
+                            }
+                            case "equals": {
+                                return proxy == args[0];
+                            }
+                            case "hashCode": {
+                                return System.identityHashCode(proxy);
+                            }
+                            case "toString": {
+                                return VerifyicaIndexProcessor.class.getName();
+                            }
+                            default: {
+                                return null;
+                            }
+                        }
+                    });
+
+            javacTaskClass.getMethod("addTaskListener", taskListenerClass).invoke(javacTask, taskListener);
+
+            return true;
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            // Not javac, so the engine may scan directories compiled with the index
+            return false;
+        }
+    }
+
+    /** Method to update the modification time of the index, if written in this compilation */
+    private void touchIndex() {
+        Path path = indexPath;
+        if (path != null) {
+            try {
+                Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+            } catch (IOException e) {
+                indexPath = null;
+            }
+        }
+    }
+
+    /**
+     * Method to read an existing index from the class output
+     *
+     * @return a Map of type to index entries, or null if there is no readable index
+     */
+    private Map<String, List<String>> readIndex() {
+        Map<String, List<String>> index = new TreeMap<>();
+
+        try {
+            FileObject fileObject =
+                    processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE_NAME);
+            try (BufferedReader bufferedReader =
+                    new BufferedReader(new InputStreamReader(fileObject.openInputStream(), StandardCharsets.UTF_8))) {
+                String line = bufferedReader.readLine();
+                if (line == null || !line.equals("version " + INDEX_VERSION)) {
+                    // Unknown format, rewritten from scratch
+                    return index;
+                }
+
+                List<String> entries = null;
+                while ((line = bufferedReader.readLine()) != null) {
+                    if (line.startsWith("type ")) {
+                        entries = new ArrayList<>();
+                        index.put(line.substring("type ".length()).trim(), entries);
+                    } else if (entries != null && !line.trim().isEmpty()) {
+                        entries.add(line.trim());
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+
+        return index;
+    }
+
+    /**
+     * Method to return if an element is a class or interface
+     *
+     * @param element element
+     * @return true if the element is a class or interface, else false
+     */
+    private static boolean isType(Element element) {
+        ElementKind elementKind = element.getKind();
+        return elementKind == ElementKind.CLASS
+                || elementKind == ElementKind.INTERFACE
+                || elementKind == ElementKind.ENUM
+                || elementKind == ElementKind.ANNOTATION_TYPE;
+    }
+
+    /**
+     * Method to add the TypeElement of a declared type
+     *
+     * @param typeMirror typeMirror
+     * @param deque deque
+     */
+    private static void addTypeElement(TypeMirror typeMirror, Deque<TypeElement> deque) {
+        if (typeMirror.getKind() == TypeKind.DECLARED) {
+            Element element = ((DeclaredType) typeMirror).asElement();
+            if (element instanceof TypeElement) {
+                deque.add((TypeElement) element);
+            }
+        }
+    }
+
+    /**
+     * Method to get the Verifyica annotation simple name
+     *
+     * @param annotationMirror annotationMirror
+     * @return the Verifyica annotation simple name, or null if not a Verifyica annotation
+     */
+    private static String getVerifyicaAnnotationName(AnnotationMirror annotationMirror) {
+        String name = ((TypeElement) annotationMirror.getAnnotationType().asElement())
+                .getQualifiedName()
+                .toString();
+        return name.startsWith(VERIFYICA_ANNOTATION_PREFIX)
+                ? name.substring(VERIFYICA_ANNOTATION_PREFIX.length())
+                : null;
+    }
+
+    /**
+     * Method to return if a type is annotated, directly or by inheritance
+     *
+     * @param typeElement typeElement
+     * @param annotationName annotationName
+     * @return true if the type is annotated, else false
+     */
+    private boolean isAnnotated(TypeElement typeElement, String annotationName) {
+        for (AnnotationMirror annotationMirror : processingEnv.getElementUtils().getAllAnnotationMirrors(typeElement)) {
+            if (((TypeElement) annotationMirror.getAnnotationType().asElement())
+                    .getQualifiedName()
+                    .contentEquals(annotationName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Method to return if a type is assignable to another type
+     *
+     * @param typeElement typeElement
+     * @param typeName typeName
+     * @return true if the type is assignable, else false
+     */
+    private boolean isAssignable(TypeElement typeElement, String typeName) {
+        TypeElement targetTypeElement = processingEnv.getElementUtils().getTypeElement(typeName);
+        if (targetTypeElement == null) {
+            return false;
+        }
+        return processingEnv
+                .getTypeUtils()
+                .isAssignable(
+                        processingEnv.getTypeUtils().erasure(typeElement.asType()),
+                        processingEnv.getTypeUtils().erasure(targetTypeElement.asType()));
+    }
+
+    /**
+     * Method to get the binary name of a type
+     *
+     * @param typeElement typeElement
+     * @return the binary name
+     */
+    private String getBinaryName(TypeElement typeElement) {
+        return processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+    }
+}
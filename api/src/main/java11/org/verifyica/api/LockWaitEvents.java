@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.verifyica.api;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Class to implement LockWaitEvents
+ *
+ * <p>Creates Java Flight Recorder events for LockManager waits. An event is only created when its
+ * event type is enabled in a recording.
+ *
+ * <p>If the jdk.jfr module is not present in the runtime, no events are created.
+ */
+class LockWaitEvents {
+
+    private static final boolean SUPPORTED = initialize();
+
+    /** Constructor */
+    private LockWaitEvents() {
+        // INTENTIONALLY BLANK
+    }
+
+    /**
+     * Method to begin a lock wait event
+     *
+     * @return the event, or null if the event is not enabled
+     */
+    static Object begin() {
+        if (!SUPPORTED) {
+            return null;
+        }
+
+        return Recorder.begin();
+    }
+
+    /**
+     * Method to end a lock wait event, committing it if required
+     *
+     * @param event the event returned by begin, or null
+     * @param key key
+     * @param locked locked
+     */
+    static void end(Object event, String key, boolean locked) {
+        if (event == null) {
+            return;
+        }
+
+        Recorder.end(event, key, locked);
+    }
+
+    /**
+     * Method to initialize the Java Flight Recorder event type
+     *
+     * @return true if the jdk.jfr module is present, else false
+     */
+    private static boolean initialize() {
+        try {
+            Recorder.initialize();
+            return true;
+        } catch (Throwable t) {
+            // The jdk.jfr module is not present (NoClassDefFoundError or another LinkageError)
+            return false;
+        }
+    }
+
+    /**
+     * Class to implement Recorder
+     *
+     * <p>All references to jdk.jfr classes are in this class, so they are only loaded if
+     * initialize() succeeds
+     */
+    private static final class Recorder {
+
+        private static final EventType LOCK_WAIT_EVENT_TYPE = EventType.getEventType(LockWaitEvent.class);
+
+        /** Constructor */
+        private Recorder() {
+            // INTENTIONALLY BLANK
+        }
+
+        /** Method to initialize the class, resolving the event type */
+        static void initialize() {
+            // INTENTIONALLY BLANK
+        }
+
+        /**
+         * Method to begin a lock wait event
+         *
+         * @return the event, or null if the event is not enabled
+         */
+        static Object begin() {
+            // Checked before creating the event, so nothing is allocated when recording is off
+            if (!LOCK_WAIT_EVENT_TYPE.isEnabled()) {
+                return null;
+            }
+
+            LockWaitEvent event = new LockWaitEvent();
+            event.begin();
+            return event;
+        }
+
+        /**
+         * Method to end a lock wait event, committing it if required
+         *
+         * @param event the event returned by begin
+         * @param key key
+         * @param locked locked
+         */
+        static void end(Object event, String key, boolean locked) {
+            LockWaitEvent lockWaitEvent = (LockWaitEvent) event;
+            lockWaitEvent.end();
+            if (lockWaitEvent.shouldCommit()) {
+                lockWaitEvent.key = key;
+                lockWaitEvent.locked = locked;
+                lockWaitEvent.commit();
+            }
+        }
+
+        /** Class to implement LockWaitEvent */
+        @Name("org.verifyica.LockWait")
+        @Label("Lock Wait")
+        @Category("Verifyica")
+        @Description("Wait to lock a LockManager key")
+        private static final class LockWaitEvent extends Event {
+
+            @Label("Key")
+            String key;
+
+            @Label("Locked")
+            boolean locked;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class ArgumentSourceTest {
+
+    @Test
+    public void testOf() {
+        AtomicInteger invocations = new AtomicInteger();
+
+        ArgumentSource<String> argumentSource = ArgumentSource.of(4711, index -> {
+            invocations.incrementAndGet();
+            return "argument" + index;
+        });
+
+        assertThat(argumentSource.size()).isEqualTo(4711);
+        assertThat(argumentSource.get(4710)).isEqualTo("argument4710");
+        assertThat(invocations.get()).isEqualTo(1);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> argumentSource.get(4711));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> ArgumentSource.of(-1, index -> 1));
+    }
+
+    @Test
+    public void testOfList() {
+        ArgumentSource<String> argumentSource = ArgumentSource.of(Arrays.asList("a", "b"));
+
+        assertThat(argumentSource.size()).isEqualTo(2);
+        assertThat(argumentSource.get(1)).isEqualTo("b");
+    }
+}
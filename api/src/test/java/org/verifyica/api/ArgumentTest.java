@@ -21,6 +21,7 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 public class ArgumentTest {
@@ -257,6 +258,63 @@ public class ArgumentTest {
         assertThatExceptionOfType(ClassCastException.class).isThrownBy(() -> argument.getPayload(String.class));
     }
 
+    @Test
+    public void testIntArgument() {
+        assertThat(Argument.ofInt(1)).isInstanceOf(IntArgument.class);
+
+        IntArgument argument = IntArgument.of(1);
+
+        assertThat(argument.getName()).isEqualTo("1");
+        assertThat(argument.toString()).isEqualTo("1");
+        assertThat(argument.hasPayload()).isTrue();
+        assertThat(argument.getAsInt()).isEqualTo(1);
+        assertThat(argument.getPayload()).isEqualTo(1);
+        assertThat(argument.getPayload(Integer.class)).isEqualTo(1);
+
+        argument = IntArgument.of("foo", 2);
+
+        assertThat(argument.getName()).isEqualTo("foo");
+        assertThat(argument.getAsInt()).isEqualTo(2);
+
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> IntArgument.of(" ", 1));
+    }
+
+    @Test
+    public void testLongAndDoubleArgument() {
+        assertThat(Argument.ofLong(1L)).isInstanceOf(LongArgument.class);
+        assertThat(Argument.ofDouble(1.5d)).isInstanceOf(DoubleArgument.class);
+
+        LongArgument longArgument = LongArgument.of(Long.MAX_VALUE);
+
+        assertThat(longArgument.getName()).isEqualTo(String.valueOf(Long.MAX_VALUE));
+        assertThat(longArgument.getAsLong()).isEqualTo(Long.MAX_VALUE);
+        assertThat(longArgument.getPayload()).isEqualTo(Long.MAX_VALUE);
+
+        DoubleArgument doubleArgument = DoubleArgument.of(1.5d);
+
+        assertThat(doubleArgument.getName()).isEqualTo("1.5");
+        assertThat(doubleArgument.getAsDouble()).isEqualTo(1.5d);
+        assertThat(doubleArgument.getPayload()).isEqualTo(1.5d);
+    }
+
+    @Test
+    public void testLazy() {
+        AtomicInteger count = new AtomicInteger();
+
+        Argument<String> argument = Argument.lazy(() -> "foo" + count.incrementAndGet(), "bar");
+
+        assertThat(count.get()).isEqualTo(0);
+        assertThat(argument.getPayload()).isEqualTo("bar");
+        assertThat(count.get()).isEqualTo(0);
+        assertThat(argument.getName()).isEqualTo("foo1");
+        assertThat(argument.toString()).isEqualTo("foo1");
+        assertThat(count.get()).isEqualTo(1);
+
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> Argument.lazy(null, "bar"));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> Argument.lazy(() -> " ", "bar").getName());
+    }
+
     @Test
     public void testOfBigInteger1() {
         String name = "foo";
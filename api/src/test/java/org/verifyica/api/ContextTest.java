@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class ContextTest {
+
+    private static final ContextKey<Integer> KEY = ContextKey.of("key", Integer.class);
+
+    @Test
+    public void testDefaultContextKeyMethods() {
+        ExtendedMap<String, Object> map = new ExtendedMap<>();
+
+        Context context = new Context() {
+
+            @Override
+            public Configuration getConfiguration() {
+                return null;
+            }
+
+            @Override
+            public ExtendedMap<String, Object> getMap() {
+                return map;
+            }
+        };
+
+        assertThat(context.get(KEY)).isNull();
+        assertThat(context.put(KEY, 1)).isNull();
+        assertThat(context.get(KEY)).isEqualTo(1);
+        assertThat(context.put(KEY, 2)).isEqualTo(1);
+        assertThat(context.remove(KEY)).isEqualTo(2);
+        assertThat(context.get(KEY)).isNull();
+
+        context.put(KEY, 3);
+        assertThat(context.put(KEY, null)).isEqualTo(3);
+        assertThat(map).isEmpty();
+    }
+}
@@ -17,9 +17,22 @@
 package org.verifyica.api;
 
 import static org.assertj.core.api.Assertions.assertThat;
-
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
+@SuppressWarnings("unchecked")
 public class ExtendedMapTest {
 
     @Test
@@ -44,6 +57,107 @@ public class ExtendedMapTest {
         assertThat(extendedMap).isEmpty();
     }
 
+    @Test
+    public void testComputeIfAbsentShared() throws Exception {
+        ExtendedMap<String, Object> extendedMap = new ExtendedMap<>();
+        AtomicInteger creations = new AtomicInteger();
+        CountDownLatch countDownLatch = new CountDownLatch(1);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executorService.submit(() -> {
+                    countDownLatch.await();
+                    return extendedMap.computeIfAbsentShared("foo", () -> {
+                        creations.incrementAndGet();
+                        return new Object();
+                    });
+                }));
+            }
+
+            countDownLatch.countDown();
+
+            Object value = extendedMap.get("foo");
+            for (Future<Object> future : futures) {
+                Object result = future.get();
+                if (value == null) {
+                    value = result;
+                }
+                assertThat(result).isSameAs(value);
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        assertThat(creations.get()).isEqualTo(1);
+        assertThat(extendedMap).hasSize(1);
+    }
+
+    @Test
+    public void testComputeIfAbsentSharedRetry() {
+        ExtendedMap<String, Object> extendedMap = new ExtendedMap<>();
+
+        assertThatThrownBy(() -> extendedMap.computeIfAbsentShared("foo", () -> {
+                    throw new IllegalStateException("failed");
+                }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("failed");
+
+        assertThat(extendedMap).isEmpty();
+
+        Integer value = extendedMap.computeIfAbsentShared("foo", () -> 1);
+
+        assertThat(value).isEqualTo(1);
+        assertThat(extendedMap.getAs("foo", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    public void testComputeIfAbsentSharedReentrant() {
+        ExtendedMap<String, Object> extendedMap = new ExtendedMap<>();
+
+        assertThatThrownBy(() -> extendedMap.computeIfAbsentShared(
+                        "foo", () -> extendedMap.computeIfAbsentShared("foo", () -> 1)))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(extendedMap).isEmpty();
+
+        Integer value = extendedMap.computeIfAbsentShared(
+                "foo", () -> extendedMap.<Integer>computeIfAbsentShared("bar", () -> 1) + 1);
+
+        assertThat(value).isEqualTo(2);
+        assertThat(extendedMap.getAs("bar", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        ExtendedMap<String, Object> extendedMap = new ExtendedMap<>();
+        extendedMap.put("foo", 1);
+
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(extendedMap);
+        }
+
+        ExtendedMap<String, Object> deserializedExtendedMap;
+        try (ObjectInputStream objectInputStream =
+                new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))) {
+            deserializedExtendedMap = (ExtendedMap<String, Object>) objectInputStream.readObject();
+        }
+
+        assertThat(deserializedExtendedMap.getAs("foo", Integer.class)).isEqualTo(1);
+
+        Integer value = deserializedExtendedMap.computeIfAbsentShared("bar", () -> 2);
+        assertThat(value).isEqualTo(2);
+
+        deserializedExtendedMap.closeBefore("foo", "bar");
+        assertThat(deserializedExtendedMap.getClosedBeforeKeys("bar")).containsExactly("foo");
+
+        deserializedExtendedMap.clear();
+        assertThat(deserializedExtendedMap).isEmpty();
+    }
+
     @Test
     public void testInheritance() {
         ExtendedMap<String, Object> extendedMap = new ExtendedMap<>();
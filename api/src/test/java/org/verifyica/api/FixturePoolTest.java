@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class FixturePoolTest {
+
+    @Test
+    public void testLeaseReuse() throws Throwable {
+        AtomicInteger created = new AtomicInteger();
+        List<Integer> resets = new ArrayList<>();
+
+        try (FixturePool<Integer> fixturePool = FixturePool.builder(created::incrementAndGet)
+                .reset(resets::add)
+                .maximumSize(1)
+                .build()) {
+            try (FixturePool.Lease<Integer> lease = fixturePool.lease()) {
+                assertThat(lease.get()).isEqualTo(1);
+                assertThat(fixturePool.getLeased()).isEqualTo(1);
+            }
+
+            try (FixturePool.Lease<Integer> lease = fixturePool.lease()) {
+                assertThat(lease.get()).isEqualTo(1);
+                assertThatThrownBy(() -> fixturePool.lease(10, TimeUnit.MILLISECONDS))
+                        .isInstanceOf(IllegalStateException.class);
+            }
+
+            assertThat(created.get()).isEqualTo(1);
+            assertThat(resets).containsExactly(1, 1);
+            assertThat(fixturePool.getSize()).isEqualTo(1);
+            assertThat(fixturePool.getIdle()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void testWarmUpAndClose() throws Throwable {
+        List<Fixture> fixtures = new ArrayList<>();
+
+        FixturePool<Fixture> fixturePool = FixturePool.builder(() -> {
+                    Fixture fixture = new Fixture();
+                    fixtures.add(fixture);
+                    return fixture;
+                })
+                .maximumSize(2)
+                .build();
+
+        fixturePool.warmUp(3);
+
+        assertThat(fixturePool.getSize()).isEqualTo(2);
+        assertThat(fixturePool.getIdle()).isEqualTo(2);
+
+        FixturePool.Lease<Fixture> lease = fixturePool.lease();
+
+        fixturePool.close();
+
+        assertThat(fixtures).hasSize(2);
+        assertThat(fixtures.stream().filter(fixture -> fixture.closed.get())).hasSize(1);
+        assertThat(lease.get().closed).isFalse();
+
+        lease.close();
+
+        assertThat(lease.get().closed).isTrue();
+        assertThat(fixturePool.getSize()).isEqualTo(0);
+        assertThatThrownBy(fixturePool::lease).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testHealthCheck() throws Throwable {
+        AtomicInteger created = new AtomicInteger();
+
+        try (FixturePool<Integer> fixturePool = FixturePool.builder(created::incrementAndGet)
+                .healthCheck(fixture -> fixture > 1)
+                .build()) {
+            fixturePool.lease().close();
+
+            assertThat(fixturePool.getIdle()).isEqualTo(1);
+
+            try (FixturePool.Lease<Integer> lease = fixturePool.lease()) {
+                assertThat(lease.get()).isEqualTo(2);
+                assertThat(fixturePool.getSize()).isEqualTo(1);
+            }
+        }
+    }
+
+    @Test
+    public void testIdleEviction() throws Throwable {
+        AtomicInteger created = new AtomicInteger();
+
+        try (FixturePool<Integer> fixturePool = FixturePool.builder(created::incrementAndGet)
+                .idleTimeout(Duration.ZERO)
+                .build()) {
+            fixturePool.warmUp(2);
+            fixturePool.evictIdle();
+
+            assertThat(fixturePool.getSize()).isEqualTo(0);
+            assertThat(created.get()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void testInterruptedLease() throws Throwable {
+        List<Integer> destroyed = new ArrayList<>();
+        AtomicInteger created = new AtomicInteger();
+
+        try (FixturePool<Integer> fixturePool = FixturePool.builder(created::incrementAndGet)
+                .destroy(destroyed::add)
+                .maximumSize(1)
+                .build()) {
+            try (FixturePool.Lease<Integer> lease = fixturePool.lease()) {
+                Thread.currentThread().interrupt();
+                try {
+                    assertThatThrownBy(fixturePool::lease).isInstanceOf(InterruptedException.class);
+                } finally {
+                    Thread.interrupted();
+                }
+
+                assertThat(fixturePool.getSize()).isEqualTo(1);
+                assertThat(fixturePool.getLeased()).isEqualTo(1);
+            }
+
+            assertThat(fixturePool.getIdle()).isEqualTo(1);
+        }
+
+        assertThat(destroyed).containsExactly(1);
+    }
+
+    @Test
+    public void testCreateFailure() throws Throwable {
+        try (FixturePool<Object> fixturePool = FixturePool.builder(() -> {
+                    throw new IllegalStateException("failed");
+                })
+                .maximumSize(1)
+                .build()) {
+            assertThatThrownBy(fixturePool::lease).hasMessage("failed");
+            assertThatThrownBy(() -> fixturePool.warmUp(1)).hasMessage("failed");
+            assertThat(fixturePool.getSize()).isEqualTo(0);
+            assertThat(fixturePool.getLeased()).isEqualTo(0);
+        }
+    }
+
+    private static class Fixture implements AutoCloseable {
+
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        @Override
+        public void close() {
+            closed.set(true);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.api.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.verifyica.api.TemporaryDirectory;
+
+public class VerifyicaIndexProcessorTest {
+
+    private static final String TEST_CLASS_SOURCE = "package example;\n"
+            + "import org.verifyica.api.ArgumentContext;\n"
+            + "import org.verifyica.api.Verifyica;\n"
+            + "public class ExampleTest {\n"
+            + "    @Verifyica.ArgumentSupplier\n"
+            + "    public static Object arguments() { return \"test\"; }\n"
+            + "    @Verifyica.Prepare\n"
+            + "    public static void prepare() {}\n"
+            + "    @Verifyica.Test\n"
+            + "    public void test(ArgumentContext argumentContext) {}\n"
+            + "    public static class NestedTest extends ExampleTest {}\n"
+            + "}\n";
+
+    private static final String INTERCEPTOR_SOURCE = "package example;\n"
+            + "import org.verifyica.api.ClassInterceptor;\n"
+            + "import org.verifyica.api.Verifyica;\n"
+            + "@Verifyica.Autowired\n"
+            + "public class ExampleInterceptor implements ClassInterceptor {}\n";
+
+    private static final String PLAIN_SOURCE = "package example;\n" + "public class Plain {}\n";
+
+    @Test
+    public void testIndex() throws IOException {
+        try (TemporaryDirectory temporaryDirectory = new TemporaryDirectory()) {
+            Path outputDirectory = temporaryDirectory.path().resolve("classes");
+
+            compile(temporaryDirectory.path(), outputDirectory, "ExampleTest", TEST_CLASS_SOURCE);
+            compile(temporaryDirectory.path(), outputDirectory, "ExampleInterceptor", INTERCEPTOR_SOURCE);
+            compile(temporaryDirectory.path(), outputDirectory, "Plain", PLAIN_SOURCE);
+
+            List<String> lines = Files.readAllLines(
+                    outputDirectory.resolve(VerifyicaIndexProcessor.INDEX_RESOURCE_NAME), StandardCharsets.UTF_8);
+
+            // Entries from previous (incremental) compilations are preserved
+            assertThat(lines)
+                    .containsExactly(
+                            "version " + VerifyicaIndexProcessor.INDEX_VERSION,
+                            "type example.ExampleInterceptor",
+                            "  class-interceptor example.ExampleInterceptor",
+                            "type example.ExampleTest",
+                            "  test-class example.ExampleTest",
+                            "  argument-supplier example.ExampleTest#arguments",
+                            "  prepare example.ExampleTest#prepare",
+                            "  test example.ExampleTest#test",
+                            "  test-class example.ExampleTest$NestedTest",
+                            "  argument-supplier example.ExampleTest$NestedTest#arguments",
+                            "  prepare example.ExampleTest$NestedTest#prepare",
+                            "  test example.ExampleTest$NestedTest#test",
+                            "type example.Plain");
+
+            // The index is updated after class files are generated, so it is never older than them
+            long indexLastModifiedMillis = Files.getLastModifiedTime(
+                            outputDirectory.resolve(VerifyicaIndexProcessor.INDEX_RESOURCE_NAME))
+                    .toMillis();
+
+            try (Stream<Path> paths = Files.walk(outputDirectory)) {
+                assertThat(paths.filter(path -> path.toString().endsWith(".class")))
+                        .isNotEmpty()
+                        .allSatisfy(path -> assertThat(
+                                        Files.getLastModifiedTime(path).toMillis())
+                                .isLessThanOrEqualTo(indexLastModifiedMillis));
+            }
+        }
+    }
+
+    @Test
+    public void testNoIndex() throws IOException {
+        try (TemporaryDirectory temporaryDirectory = new TemporaryDirectory()) {
+            Path outputDirectory = temporaryDirectory.path().resolve("classes");
+
+            compile(temporaryDirectory.path(), outputDirectory, "Plain", PLAIN_SOURCE);
+
+            assertThat(outputDirectory.resolve(VerifyicaIndexProcessor.INDEX_RESOURCE_NAME))
+                    .doesNotExist();
+        }
+    }
+
+    private static void compile(Path sourceDirectory, Path outputDirectory, String className, String source)
+            throws IOException {
+        Path sourceFile = sourceDirectory.resolve(className + ".java");
+        Files.write(sourceFile, source.getBytes(StandardCharsets.UTF_8));
+        Files.createDirectories(outputDirectory);
+
+        JavaCompiler javaCompiler = ToolProvider.getSystemJavaCompiler();
+
+        try (StandardJavaFileManager standardJavaFileManager =
+                javaCompiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            Iterable<? extends JavaFileObject> javaFileObjects =
+                    standardJavaFileManager.getJavaFileObjects(sourceFile.toFile());
+
+            JavaCompiler.CompilationTask compilationTask = javaCompiler.getTask(
+                    null,
+                    standardJavaFileManager,
+                    null,
+                    Arrays.asList(
+                            "-classpath",
+                            System.getProperty("java.class.path") + File.pathSeparator + outputDirectory,
+                            "-d",
+                            outputDirectory.toString()),
+                    null,
+                    javaFileObjects);
+
+            compilationTask.setProcessors(Collections.singletonList(new VerifyicaIndexProcessor()));
+
+            assertThat(compilationTask.call()).isTrue();
+        }
+    }
+}
@@ -24,15 +24,15 @@ import io.github.thunkware.vt.bridge.SemaphoreExecutor;
 import io.github.thunkware.vt.bridge.ThreadNameRunnable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
-import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -53,14 +53,17 @@ import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.EngineDescriptor;
 import org.verifyica.api.ClassInterceptor;
 import org.verifyica.api.Configuration;
-import org.verifyica.api.EngineContext;
+import org.verifyica.engine.classpath.ClasspathIndex;
+import org.verifyica.engine.common.AdjustableLimiter;
 import org.verifyica.engine.common.AnsiColor;
 import org.verifyica.engine.common.EphemeralExecutorService;
+import org.verifyica.engine.common.LimiterRunnable;
 import org.verifyica.engine.common.PlatformThreadFactory;
 import org.verifyica.engine.common.StackTracePrinter;
 import org.verifyica.engine.common.Stopwatch;
 import org.verifyica.engine.common.VirtualThreadFactory;
 import org.verifyica.engine.configuration.ConcreteConfiguration;
+import org.verifyica.engine.configuration.ConfigurationSnapshot;
 import org.verifyica.engine.configuration.Constants;
 import org.verifyica.engine.context.ConcreteEngineContext;
 import org.verifyica.engine.descriptor.ClassTestDescriptor;
@@ -72,13 +75,18 @@ import org.verifyica.engine.inject.Injector;
 import org.verifyica.engine.interceptor.ClassInterceptorRegistry;
 import org.verifyica.engine.interceptor.EngineInterceptorRegistry;
 import org.verifyica.engine.listener.ChainedEngineExecutionListener;
+import org.verifyica.engine.listener.TimelineEngineExecutionListener;
 import org.verifyica.engine.listener.TracingEngineExecutionListener;
 import org.verifyica.engine.logger.Logger;
 import org.verifyica.engine.logger.LoggerFactory;
+import org.verifyica.engine.management.EngineManagement;
+import org.verifyica.engine.metrics.MetricsRegistry;
+import org.verifyica.engine.metrics.ResourceAccounting;
 import org.verifyica.engine.resolver.EngineDiscoveryRequestResolver;
+import org.verifyica.engine.support.AutoCloseableSupport;
 import org.verifyica.engine.support.ExecutorServiceSupport;
+import org.verifyica.engine.support.FlightRecorderSupport;
 import org.verifyica.engine.support.HashSupport;
-import org.verifyica.engine.support.ListSupport;
 
 /** Class to implement VerifyicaEngine */
 @SuppressWarnings("PMD.EmptyCatchBlock")
@@ -113,10 +121,15 @@ public class VerifyicaTestEngine implements TestEngine {
     /** Constant */
     private static final String ENGINE_PROPERTIES_VERSION_KEY = "version";
 
+    /** Constant */
+    private static final String DEFAULT_METRICS_FILE = "verifyica-metrics.json";
+
     private final List<Throwable> throwables;
 
     private Configuration configuration;
 
+    private ClasspathIndex classpathIndex;
+
     @Override
     public String getId() {
         return ID;
@@ -164,9 +177,14 @@ public class VerifyicaTestEngine implements TestEngine {
         try {
             configuration = ConcreteConfiguration.getInstance();
 
+            int discoveryParallelism = getEngineDiscoveryParallelism(configuration);
+
+            classpathIndex = new ClasspathIndex(discoveryParallelism);
+
             EngineDescriptor engineDescriptor = new EngineDescriptor(uniqueId, DISPLAY_NAME);
 
-            new EngineDiscoveryRequestResolver().resolveSelectors(engineDiscoveryRequest, engineDescriptor);
+            new EngineDiscoveryRequestResolver(classpathIndex, discoveryParallelism)
+                    .resolveSelectors(engineDiscoveryRequest, engineDescriptor);
 
             LOGGER.trace(
                     "discovered [%d] test classes",
@@ -199,9 +217,14 @@ public class VerifyicaTestEngine implements TestEngine {
         LOGGER.trace("execute()");
 
         EngineExecutionListener engineExecutionListener = null;
-        EngineContext engineContext = null;
+        ConcreteEngineContext engineContext = null;
         EngineInterceptorRegistry engineInterceptorRegistry = null;
         ClassInterceptorRegistry classInterceptorRegistry = null;
+        MetricsRegistry metricsRegistry = null;
+
+        // Created before the executors, so an invalid configuration doesn't leave them running
+        ResourceAccounting resourceAccounting = createResourceAccounting();
+        TimelineEngineExecutionListener timeline = createTimeline();
 
         try {
             if (LOGGER.isTraceEnabled()) {
@@ -210,13 +233,25 @@ public class VerifyicaTestEngine implements TestEngine {
 
             ExecutorService classExecutorService = createEngineClassExecutorService(configuration);
             ExecutorService argumentExecutorService = createEngineArgumentExecutorService(configuration);
+            ExecutorService cleanupExecutorService = AutoCloseableSupport.createExecutorService();
+            AdjustableLimiter classLimiter = new AdjustableLimiter(getEngineClassParallelism(configuration));
+            AdjustableLimiter argumentLimiter = new AdjustableLimiter(getEngineArgumentParallelism(configuration));
+            EngineManagement engineManagement = new EngineManagement(
+                    configuration, classExecutorService, classLimiter, argumentExecutorService, argumentLimiter);
 
             engineExecutionListener = configureEngineExecutionListeners(executionRequest);
-            engineInterceptorRegistry = new EngineInterceptorRegistry(configuration);
-            classInterceptorRegistry = new ClassInterceptorRegistry(configuration);
-            engineContext = new ConcreteEngineContext(configuration, staticGetVersion());
+            if (timeline != null) {
+                engineExecutionListener = new ChainedEngineExecutionListener(timeline, engineExecutionListener);
+            }
+            engineInterceptorRegistry = new EngineInterceptorRegistry(configuration, classpathIndex);
+            classInterceptorRegistry = new ClassInterceptorRegistry(configuration, classpathIndex);
+            metricsRegistry = new MetricsRegistry(
+                    ConfigurationSnapshot.of(configuration).getBoolean(Constants.ENGINE_METRICS, false));
+            engineContext = new ConcreteEngineContext(configuration, staticGetVersion(), metricsRegistry);
 
             try {
+                engineManagement.start();
+
                 engineInterceptorRegistry.initialize(engineContext);
                 classInterceptorRegistry.initialize(engineContext);
 
@@ -234,7 +269,6 @@ public class VerifyicaTestEngine implements TestEngine {
                     Class<?> testClass = ((ClassTestDescriptor) testableTestDescriptor).getTestClass();
                     List<ClassInterceptor> classInterceptors =
                             classInterceptorRegistry.getClassInterceptors(engineContext, testClass);
-                    List<ClassInterceptor> classInterceptorsReversed = ListSupport.copyAndReverse(classInterceptors);
 
                     Injector.inject(
                             TestableTestDescriptor.ENGINE_EXECUTION_LISTENER,
@@ -245,18 +279,28 @@ public class VerifyicaTestEngine implements TestEngine {
                             TestableTestDescriptor.ARGUMENT_EXECUTOR_SERVICE,
                             argumentExecutorService,
                             testableTestDescriptor);
+                    Injector.inject(TestableTestDescriptor.ARGUMENT_LIMITER, argumentLimiter, testableTestDescriptor);
                     Injector.inject(
                             TestableTestDescriptor.CLASS_INTERCEPTORS, classInterceptors, testableTestDescriptor);
+                    Injector.inject(TestableTestDescriptor.METRICS_REGISTRY, metricsRegistry, testableTestDescriptor);
+                    Injector.inject(TestableTestDescriptor.TIMELINE, timeline, testableTestDescriptor);
                     Injector.inject(
-                            TestableTestDescriptor.CLASS_INTERCEPTORS_REVERSED,
-                            classInterceptorsReversed,
+                            TestableTestDescriptor.RESOURCE_ACCOUNTING, resourceAccounting, testableTestDescriptor);
+                    Injector.inject(TestableTestDescriptor.ENGINE_MANAGEMENT, engineManagement, testableTestDescriptor);
+                    Injector.inject(
+                            TestableTestDescriptor.CLEANUP_EXECUTOR_SERVICE,
+                            cleanupExecutorService,
                             testableTestDescriptor);
 
                     String hash = HashSupport.alphanumeric(6);
                     String threadName = hash + "/" + hash;
-                    ThreadNameRunnable threadNameRunnable =
-                            new ThreadNameRunnable(threadName, testableTestDescriptor::test);
-                    Future<?> future = classExecutorService.submit(threadNameRunnable);
+                    Runnable runnable = new ThreadNameRunnable(threadName, testableTestDescriptor::test);
+                    if (timeline != null) {
+                        // Records the wait for the executor and the class limiter
+                        runnable = timeline.queueWait(runnable, testableTestDescriptor);
+                    }
+                    Future<?> future = classExecutorService.submit(FlightRecorderSupport.queueWait(
+                            new LimiterRunnable(classLimiter, runnable), testClass.getName(), null));
                     futures.add(future);
                 }
 
@@ -268,21 +312,17 @@ public class VerifyicaTestEngine implements TestEngine {
                 ExecutorServiceSupport.shutdownAndAwaitTermination(argumentExecutorService);
                 ExecutorServiceSupport.shutdownAndAwaitTermination(classExecutorService);
 
-                Map<String, Object> map = engineContext.getMap();
+                engineManagement.stop();
 
-                Set<Map.Entry<String, Object>> entrySet = map.entrySet();
-                for (Map.Entry<String, Object> entry : entrySet) {
-                    if (entry.getValue() instanceof AutoCloseable) {
-                        try {
-                            ((AutoCloseable) entry.getValue()).close();
-                        } catch (Throwable t) {
-                            StackTracePrinter.printStackTrace(t, AnsiColor.TEXT_RED_BOLD, System.err);
-                            throwables.add(t);
-                        }
-                    }
+                for (Throwable throwable : AutoCloseableSupport.closeAll(engineContext, cleanupExecutorService)) {
+                    StackTracePrinter.printStackTrace(throwable, AnsiColor.TEXT_RED_BOLD, System.err);
+                    throwables.add(throwable);
                 }
 
-                map.clear();
+                // Interrupts closes that timed out and are still running
+                cleanupExecutorService.shutdownNow();
+
+                engineContext.clear();
             }
         } finally {
             if (classInterceptorRegistry != null) {
@@ -293,12 +333,26 @@ public class VerifyicaTestEngine implements TestEngine {
                 engineInterceptorRegistry.destroy(engineContext);
             }
 
+            if (metricsRegistry != null && metricsRegistry.isEnabled()) {
+                writeMetrics(metricsRegistry);
+            }
+
+            if (resourceAccounting != null) {
+                for (String line : resourceAccounting.report()) {
+                    LOGGER.info("%s", line);
+                }
+            }
+
             TestExecutionResult testExecutionResult = throwables.isEmpty()
                     ? TestExecutionResult.successful()
                     : TestExecutionResult.failed(throwables.get(0));
 
             engineExecutionListener.executionFinished(executionRequest.getRootTestDescriptor(), testExecutionResult);
 
+            if (timeline != null) {
+                timeline.close();
+            }
+
             LOGGER.trace(
                     "execute() elapsedTime [%d] ms", stopwatch.elapsedTime().toMillis());
         }
@@ -325,6 +379,91 @@ public class VerifyicaTestEngine implements TestEngine {
         return value;
     }
 
+    /**
+     * Method to write the recorded metrics as JSON
+     *
+     * @param metricsRegistry metricsRegistry
+     */
+    private void writeMetrics(MetricsRegistry metricsRegistry) {
+        Path path = Paths.get(ConfigurationSnapshot.of(configuration)
+                .get(Constants.ENGINE_METRICS_FILE, DEFAULT_METRICS_FILE)
+                .trim());
+
+        try {
+            metricsRegistry.write(path);
+            LOGGER.debug("metrics written to [%s]", path.toAbsolutePath());
+        } catch (IOException e) {
+            LOGGER.warn("metrics could not be written to [%s] [%s]", path.toAbsolutePath(), e.getMessage());
+        }
+    }
+
+    /**
+     * Method to create the resource accounting, if enabled
+     *
+     * @return the resource accounting, or null if resource accounting is not enabled or not supported
+     */
+    private ResourceAccounting createResourceAccounting() {
+        ConfigurationSnapshot configurationSnapshot = ConfigurationSnapshot.of(configuration);
+
+        if (!configurationSnapshot.getBoolean(Constants.ENGINE_ACCOUNTING, false)) {
+            return null;
+        }
+
+        String value = configurationSnapshot.get(Constants.ENGINE_ACCOUNTING_TOP, "10");
+        int top;
+        try {
+            top = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new EngineConfigurationException(
+                    format("Invalid %s value [%s]", Constants.ENGINE_ACCOUNTING_TOP, value), e);
+        }
+
+        if (top < 1) {
+            throw new EngineConfigurationException(
+                    format("Invalid %s value [%d]", Constants.ENGINE_ACCOUNTING_TOP, top));
+        }
+
+        if (!ResourceAccounting.isSupported()) {
+            LOGGER.warn("resource accounting is not supported by the JVM");
+            return null;
+        }
+
+        return new ResourceAccounting(top);
+    }
+
+    /**
+     * Method to create the timeline, if enabled
+     *
+     * @return the timeline, or null if the timeline is not enabled or the file could not be created
+     */
+    private TimelineEngineExecutionListener createTimeline() {
+        ConfigurationSnapshot configurationSnapshot = ConfigurationSnapshot.of(configuration);
+
+        if (!configurationSnapshot.getBoolean(Constants.ENGINE_TIMELINE, false)) {
+            return null;
+        }
+
+        String value = configurationSnapshot.get(Constants.ENGINE_TIMELINE_FORMAT, "chrome");
+        TimelineEngineExecutionListener.Format timelineFormat = TimelineEngineExecutionListener.Format.decode(value);
+        if (timelineFormat == null) {
+            throw new EngineConfigurationException(
+                    format("Invalid %s value [%s]", Constants.ENGINE_TIMELINE_FORMAT, value));
+        }
+
+        Path path = Paths.get(configurationSnapshot
+                .get(Constants.ENGINE_TIMELINE_FILE, timelineFormat.getDefaultFilename())
+                .trim());
+
+        try {
+            TimelineEngineExecutionListener timeline = new TimelineEngineExecutionListener(path, timelineFormat);
+            LOGGER.debug("timeline writing to [%s]", path.toAbsolutePath());
+            return timeline;
+        } catch (IOException e) {
+            LOGGER.warn("timeline could not be written to [%s] [%s]", path.toAbsolutePath(), e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * Method to configure EngineExecutionListeners
      *
@@ -509,6 +648,40 @@ public class VerifyicaTestEngine implements TestEngine {
         return new VirtualThreadFactory();
     }
 
+    /**
+     * Method to get the engine discovery parallelism configuration value
+     *
+     * <p>Defaults to 1, so argument suppliers are invoked sequentially on the discovery thread
+     * unless parallel discovery is configured
+     *
+     * @return the engine discovery parallelism value
+     */
+    private static int getEngineDiscoveryParallelism(Configuration configuration) {
+        LOGGER.trace("getEngineDiscoveryParallelism()");
+
+        int engineDiscoveryParallelism = ofNullable(
+                        configuration.getProperties().getProperty(Constants.ENGINE_DISCOVERY_PARALLELISM))
+                .map(value -> {
+                    int intValue;
+                    try {
+                        intValue = Integer.parseInt(value);
+                        if (intValue < 1) {
+                            throw new EngineConfigurationException(
+                                    format("Invalid %s value [%d]", Constants.ENGINE_DISCOVERY_PARALLELISM, intValue));
+                        }
+                        return intValue;
+                    } catch (NumberFormatException e) {
+                        throw new EngineConfigurationException(
+                                format("Invalid %s value [%s]", Constants.ENGINE_DISCOVERY_PARALLELISM, value), e);
+                    }
+                })
+                .orElse(1);
+
+        LOGGER.trace("engineDiscoveryParallelism [%d]", engineDiscoveryParallelism);
+
+        return engineDiscoveryParallelism;
+    }
+
     /**
      * Method to get the engine class parallelism configuration value
      *
@@ -65,6 +65,14 @@ public interface ClassDefinition {
      */
     List<Argument<?>> getArguments();
 
+    /**
+     * Get the test argument index list, where each index is the position of the corresponding test
+     * argument as produced by the argument supplier
+     *
+     * @return the test argument index list
+     */
+    List<Integer> getArgumentIndices();
+
     /**
      * Get the test argument parallelism
      *
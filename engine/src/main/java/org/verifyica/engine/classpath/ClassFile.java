@@ -0,0 +1,437 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.classpath;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.verifyica.engine.common.Precondition;
+
+/**
+ * Class to implement ClassFile
+ *
+ * <p>Minimal class file model parsed directly from bytecode, without loading the class. Only the
+ * class hierarchy and the runtime visible annotation types are retained.
+ */
+public class ClassFile {
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final int ACC_INTERFACE = 0x0200;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELD_REF = 9;
+    private static final int CONSTANT_METHOD_REF = 10;
+    private static final int CONSTANT_INTERFACE_METHOD_REF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_METHOD_TYPE = 16;
+    private static final int CONSTANT_DYNAMIC = 17;
+    private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+    private static final int CONSTANT_MODULE = 19;
+    private static final int CONSTANT_PACKAGE = 20;
+
+    private static final byte[] RUNTIME_VISIBLE_ANNOTATIONS =
+            "RuntimeVisibleAnnotations".getBytes(StandardCharsets.US_ASCII);
+
+    private final String name;
+    private final String superName;
+    private final List<String> interfaceNames;
+    private final Set<String> annotationNames;
+    private final boolean isInterface;
+
+    /**
+     * Constructor
+     *
+     * @param name name
+     * @param superName superName
+     * @param interfaceNames interfaceNames
+     * @param annotationNames annotationNames
+     * @param isInterface isInterface
+     */
+    ClassFile(
+            String name,
+            String superName,
+            List<String> interfaceNames,
+            Set<String> annotationNames,
+            boolean isInterface) {
+        this.name = name;
+        this.superName = superName;
+        this.interfaceNames = Collections.unmodifiableList(interfaceNames);
+        this.annotationNames = Collections.unmodifiableSet(annotationNames);
+        this.isInterface = isInterface;
+    }
+
+    /**
+     * Method to get the internal class name (e.g. org/verifyica/api/Verifyica)
+     *
+     * @return the internal class name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Method to get the binary class name (e.g. org.verifyica.api.Verifyica)
+     *
+     * @return the binary class name
+     */
+    public String getClassName() {
+        return name.replace('/', '.');
+    }
+
+    /**
+     * Method to get the internal super class name
+     *
+     * @return the internal super class name, or null for java/lang/Object and modules
+     */
+    public String getSuperName() {
+        return superName;
+    }
+
+    /**
+     * Method to get the internal interface names
+     *
+     * @return the List of internal interface names
+     */
+    public List<String> getInterfaceNames() {
+        return interfaceNames;
+    }
+
+    /**
+     * Method to get the internal names of runtime visible annotations declared on the class, its
+     * fields, or its methods
+     *
+     * @return the Set of internal annotation names
+     */
+    public Set<String> getAnnotationNames() {
+        return annotationNames;
+    }
+
+    /**
+     * Method to return if the class file describes an interface
+     *
+     * @return true if the class file describes an interface, else false
+     */
+    public boolean isInterface() {
+        return isInterface;
+    }
+
+    @Override
+    public String toString() {
+        return "ClassFile{" + "name=" + name + ", superName=" + superName + ", interfaceNames=" + interfaceNames
+                + ", annotationNames=" + annotationNames + '}';
+    }
+
+    /**
+     * Method to parse class file bytes
+     *
+     * @param bytes bytes
+     * @param length length
+     * @return a ClassFile
+     * @throws IOException if the bytes are not a valid class file
+     */
+    public static ClassFile parse(byte[] bytes, int length) throws IOException {
+        Precondition.notNull(bytes, "bytes is null");
+
+        try {
+            return new Parser(bytes, length).parse();
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("truncated class file", e);
+        }
+    }
+
+    /** Class to implement Parser */
+    private static class Parser {
+
+        private final byte[] bytes;
+        private final int length;
+        private int position;
+        private int[] offsets;
+
+        /**
+         * Constructor
+         *
+         * @param bytes bytes
+         * @param length length
+         */
+        private Parser(byte[] bytes, int length) {
+            this.bytes = bytes;
+            this.length = length;
+        }
+
+        /**
+         * Method to parse the class file
+         *
+         * @return a ClassFile
+         * @throws IOException if the bytes are not a valid class file
+         */
+        private ClassFile parse() throws IOException {
+            if (readInt() != MAGIC) {
+                throw new IOException("invalid class file magic");
+            }
+
+            // Skip minor and major version
+            skip(4);
+
+            int constantPoolCount = readUnsignedShort();
+            offsets = new int[constantPoolCount];
+
+            for (int i = 1; i < constantPoolCount; i++) {
+                int tag = readUnsignedByte();
+                offsets[i] = position;
+                switch (tag) {
+                    case CONSTANT_UTF8:
+                        skip(readUnsignedShort());
+                        break;
+                    case CONSTANT_INTEGER:
+                    case CONSTANT_FLOAT:
+                    case CONSTANT_FIELD_REF:
+                    case CONSTANT_METHOD_REF:
+                    case CONSTANT_INTERFACE_METHOD_REF:
+                    case CONSTANT_NAME_AND_TYPE:
+                    case CONSTANT_DYNAMIC:
+                    case CONSTANT_INVOKE_DYNAMIC:
+                        skip(4);
+                        break;
+                    case CONSTANT_LONG:
+                    case CONSTANT_DOUBLE:
+                        skip(8);
+                        i++;
+                        break;
+                    case CONSTANT_CLASS:
+                    case CONSTANT_STRING:
+                    case CONSTANT_METHOD_TYPE:
+                    case CONSTANT_MODULE:
+                    case CONSTANT_PACKAGE:
+                        skip(2);
+                        break;
+                    case CONSTANT_METHOD_HANDLE:
+                        skip(3);
+                        break;
+                    default:
+                        throw new IOException("invalid constant pool tag [" + tag + "]");
+                }
+            }
+
+            int accessFlags = readUnsignedShort();
+            String name = readClassName(readUnsignedShort());
+            int superIndex = readUnsignedShort();
+            String superName = superIndex != 0 ? readClassName(superIndex) : null;
+
+            int interfaceCount = readUnsignedShort();
+            List<String> interfaceNames = new ArrayList<>(interfaceCount);
+            for (int i = 0; i < interfaceCount; i++) {
+                interfaceNames.add(readClassName(readUnsignedShort()));
+            }
+
+            Set<String> annotationNames = new LinkedHashSet<>();
+
+            // Fields
+            readMembers(annotationNames);
+
+            // Methods
+            readMembers(annotationNames);
+
+            // Class attributes
+            readAttributes(annotationNames);
+
+            return new ClassFile(name, superName, interfaceNames, annotationNames, (accessFlags & ACC_INTERFACE) != 0);
+        }
+
+        /**
+         * Method to read fields or methods
+         *
+         * @param annotationNames annotationNames
+         */
+        private void readMembers(Set<String> annotationNames) {
+            int memberCount = readUnsignedShort();
+            for (int i = 0; i < memberCount; i++) {
+                // Skip access flags, name index, and descriptor index
+                skip(6);
+                readAttributes(annotationNames);
+            }
+        }
+
+        /**
+         * Method to read attributes, collecting runtime visible annotation types
+         *
+         * @param annotationNames annotationNames
+         */
+        private void readAttributes(Set<String> annotationNames) {
+            int attributeCount = readUnsignedShort();
+            for (int i = 0; i < attributeCount; i++) {
+                int nameIndex = readUnsignedShort();
+                int attributeLength = readInt();
+                int end = position + attributeLength;
+                if (utf8Equals(nameIndex, RUNTIME_VISIBLE_ANNOTATIONS)) {
+                    int annotationCount = readUnsignedShort();
+                    for (int j = 0; j < annotationCount; j++) {
+                        readAnnotation(annotationNames);
+                    }
+                }
+                position = end;
+            }
+        }
+
+        /**
+         * Method to read an annotation
+         *
+         * @param annotationNames annotationNames
+         */
+        private void readAnnotation(Set<String> annotationNames) {
+            String descriptor = readUtf8(readUnsignedShort());
+            if (descriptor.length() > 2 && descriptor.charAt(0) == 'L') {
+                annotationNames.add(descriptor.substring(1, descriptor.length() - 1));
+            }
+            int pairCount = readUnsignedShort();
+            for (int i = 0; i < pairCount; i++) {
+                skip(2);
+                skipElementValue(annotationNames);
+            }
+        }
+
+        /**
+         * Method to skip an annotation element value
+         *
+         * @param annotationNames annotationNames
+         */
+        private void skipElementValue(Set<String> annotationNames) {
+            int tag = readUnsignedByte();
+            switch (tag) {
+                case 'e':
+                    skip(4);
+                    break;
+                case '@':
+                    readAnnotation(annotationNames);
+                    break;
+                case '[':
+                    int valueCount = readUnsignedShort();
+                    for (int i = 0; i < valueCount; i++) {
+                        skipElementValue(annotationNames);
+                    }
+                    break;
+                default:
+                    // B, C, D, F, I, J, S, Z, s, c
+                    skip(2);
+                    break;
+            }
+        }
+
+        /**
+         * Method to read a class name from a CONSTANT_Class entry
+         *
+         * @param classIndex classIndex
+         * @return the internal class name
+         */
+        private String readClassName(int classIndex) {
+            int offset = offsets[classIndex];
+            return readUtf8(((bytes[offset] & 0xFF) << 8) | (bytes[offset + 1] & 0xFF));
+        }
+
+        /**
+         * Method to decode a CONSTANT_Utf8 entry
+         *
+         * @param utf8Index utf8Index
+         * @return the decoded String
+         */
+        private String readUtf8(int utf8Index) {
+            int offset = offsets[utf8Index];
+            int utf8Length = ((bytes[offset] & 0xFF) << 8) | (bytes[offset + 1] & 0xFF);
+            int start = offset + 2;
+
+            for (int i = start; i < start + utf8Length; i++) {
+                if (bytes[i] < 0) {
+                    // Modified UTF-8
+                    try {
+                        return new DataInputStream(new ByteArrayInputStream(bytes, offset, utf8Length + 2)).readUTF();
+                    } catch (IOException e) {
+                        throw new IndexOutOfBoundsException(e.getMessage());
+                    }
+                }
+            }
+
+            return new String(bytes, start, utf8Length, StandardCharsets.ISO_8859_1);
+        }
+
+        /**
+         * Method to compare a CONSTANT_Utf8 entry with ASCII bytes, without decoding
+         *
+         * @param utf8Index utf8Index
+         * @param value value
+         * @return true if equal, else false
+         */
+        private boolean utf8Equals(int utf8Index, byte[] value) {
+            int offset = offsets[utf8Index];
+            int utf8Length = ((bytes[offset] & 0xFF) << 8) | (bytes[offset + 1] & 0xFF);
+            if (utf8Length != value.length) {
+                return false;
+            }
+            for (int i = 0; i < utf8Length; i++) {
+                if (bytes[offset + 2 + i] != value[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int readUnsignedByte() {
+            checkBounds(1);
+            return bytes[position++] & 0xFF;
+        }
+
+        private int readUnsignedShort() {
+            checkBounds(2);
+            int value = ((bytes[position] & 0xFF) << 8) | (bytes[position + 1] & 0xFF);
+            position += 2;
+            return value;
+        }
+
+        private int readInt() {
+            checkBounds(4);
+            int value = ((bytes[position] & 0xFF) << 24)
+                    | ((bytes[position + 1] & 0xFF) << 16)
+                    | ((bytes[position + 2] & 0xFF) << 8)
+                    | (bytes[position + 3] & 0xFF);
+            position += 4;
+            return value;
+        }
+
+        private void skip(int count) {
+            checkBounds(count);
+            position += count;
+        }
+
+        private void checkBounds(int count) {
+            if (count < 0 || position + count > length) {
+                throw new IndexOutOfBoundsException("position [" + position + "] count [" + count + "]");
+            }
+        }
+    }
+}
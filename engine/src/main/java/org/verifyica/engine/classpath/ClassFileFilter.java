@@ -0,0 +1,217 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.classpath;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.verifyica.engine.common.Precondition;
+
+/**
+ * Class to implement ClassFileFilter
+ *
+ * <p>Decides, from class file bytes only, whether a class could be a test class or an interceptor.
+ * A class is a candidate if it references a Verifyica annotation, implements ClassInterceptor or
+ * EngineInterceptor, or inherits from a class or interface that is a candidate.
+ */
+public class ClassFileFilter {
+
+    private static final String VERIFYICA_ANNOTATION_PREFIX = "org/verifyica/api/Verifyica$";
+
+    private static final String CLASS_INTERCEPTOR = "org/verifyica/api/ClassInterceptor";
+
+    private static final String ENGINE_INTERCEPTOR = "org/verifyica/api/EngineInterceptor";
+
+    private final ClassLoader classLoader;
+    private final Map<String, Optional<ClassFile>> classFiles;
+    private final Map<String, Boolean> candidates;
+
+    /**
+     * Constructor
+     *
+     * @param classLoader classLoader used to read the bytes of superclasses and interfaces
+     */
+    public ClassFileFilter(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+        this.classFiles = new ConcurrentHashMap<>();
+        this.candidates = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Method to register a parsed class file, so its hierarchy can be resolved without reading it
+     * again
+     *
+     * @param classFile classFile
+     */
+    public void register(ClassFile classFile) {
+        Precondition.notNull(classFile, "classFile is null");
+
+        classFiles.putIfAbsent(classFile.getName(), Optional.of(classFile));
+    }
+
+    /**
+     * Method to release the parsed class files and cached results, once scanning completes
+     */
+    public void clear() {
+        classFiles.clear();
+        candidates.clear();
+    }
+
+    /**
+     * Method to return if a class file is a discovery candidate
+     *
+     * @param classFile classFile
+     * @return true if the class file is a candidate, else false
+     */
+    public boolean isCandidate(ClassFile classFile) {
+        Precondition.notNull(classFile, "classFile is null");
+
+        register(classFile);
+
+        return Boolean.TRUE.equals(isCandidate(classFile.getName(), new HashSet<>()));
+    }
+
+    /**
+     * Method to return if a class is a candidate, resolving its hierarchy
+     *
+     * <p>A result that depends on a class that is still being resolved (a cycle in a malformed
+     * hierarchy) is incomplete, so a negative result is not cached
+     *
+     * @param name name
+     * @param visiting names being resolved, to guard against cycles in malformed hierarchies
+     * @return true if the class is a candidate, false if it is not, or null if the result is
+     *     incomplete
+     */
+    private Boolean isCandidate(String name, Set<String> visiting) {
+        if (name == null || name.startsWith("java/") || name.startsWith("javax/")) {
+            return Boolean.FALSE;
+        }
+
+        Boolean candidate = candidates.get(name);
+        if (candidate != null) {
+            return candidate;
+        }
+
+        if (!visiting.add(name)) {
+            return null;
+        }
+
+        boolean result = false;
+        boolean incomplete = false;
+
+        ClassFile classFile = getClassFile(name);
+        if (classFile != null) {
+            result = referencesVerifyica(classFile);
+
+            List<String> parentNames = new ArrayList<>(classFile.getInterfaceNames());
+            parentNames.add(0, classFile.getSuperName());
+
+            for (String parentName : parentNames) {
+                if (result) {
+                    break;
+                }
+                Boolean parentResult = isCandidate(parentName, visiting);
+                if (parentResult == null) {
+                    incomplete = true;
+                } else {
+                    result = parentResult;
+                }
+            }
+        }
+
+        visiting.remove(name);
+
+        if (result || !incomplete) {
+            candidates.put(name, result);
+            return result;
+        }
+
+        return null;
+    }
+
+    /**
+     * Method to return if a class file directly references Verifyica
+     *
+     * @param classFile classFile
+     * @return true if the class file references Verifyica, else false
+     */
+    private static boolean referencesVerifyica(ClassFile classFile) {
+        for (String annotationName : classFile.getAnnotationNames()) {
+            if (annotationName.startsWith(VERIFYICA_ANNOTATION_PREFIX)) {
+                return true;
+            }
+        }
+
+        for (String interfaceName : classFile.getInterfaceNames()) {
+            if (CLASS_INTERCEPTOR.equals(interfaceName) || ENGINE_INTERCEPTOR.equals(interfaceName)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Method to get a class file, reading it as a resource if it has not been registered
+     *
+     * @param name name
+     * @return a ClassFile, or null if it can't be read
+     */
+    private ClassFile getClassFile(String name) {
+        return classFiles
+                .computeIfAbsent(name, key -> Optional.ofNullable(readClassFile(key)))
+                .orElse(null);
+    }
+
+    /**
+     * Method to read a class file as a resource
+     *
+     * @param name name
+     * @return a ClassFile, or null if it can't be read
+     */
+    private ClassFile readClassFile(String name) {
+        if (classLoader == null) {
+            return null;
+        }
+
+        try (InputStream inputStream = classLoader.getResourceAsStream(name + ".class")) {
+            if (inputStream == null) {
+                return null;
+            }
+
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                byteArrayOutputStream.write(buffer, 0, read);
+            }
+
+            byte[] bytes = byteArrayOutputStream.toByteArray();
+
+            return ClassFile.parse(bytes, bytes.length);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
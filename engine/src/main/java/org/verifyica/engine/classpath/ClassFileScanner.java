@@ -0,0 +1,208 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.classpath;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Enumeration;
+import java.util.Locale;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.verifyica.engine.common.Precondition;
+import org.verifyica.engine.logger.Logger;
+import org.verifyica.engine.logger.LoggerFactory;
+
+/**
+ * Class to implement ClassFileScanner
+ *
+ * <p>Reads the class files of a classpath root (directory or jar) without loading any classes
+ */
+public class ClassFileScanner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClassFileScanner.class);
+
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    private byte[] buffer;
+
+    /** Constructor */
+    public ClassFileScanner() {
+        this.buffer = new byte[16384];
+    }
+
+    /**
+     * Method to return if a classpath root can be scanned
+     *
+     * @param uri uri
+     * @return true if the classpath root is a directory or a jar file, else false
+     */
+    public static boolean isSupported(URI uri) {
+        Precondition.notNull(uri, "uri is null");
+
+        return "file".equalsIgnoreCase(uri.getScheme());
+    }
+
+    /**
+     * Method to scan a classpath root
+     *
+     * @param uri uri
+     * @param visitor visitor
+     * @throws IOException IOException
+     */
+    public void scan(URI uri, Visitor visitor) throws IOException {
+        Precondition.notNull(uri, "uri is null");
+        Precondition.notNull(visitor, "visitor is null");
+
+        Path path = Paths.get(uri);
+
+        if (Files.isDirectory(path)) {
+            scanDirectory(path, visitor);
+        } else if (Files.isRegularFile(path)) {
+            scanJarFile(path, visitor);
+        }
+    }
+
+    /**
+     * Method to scan a directory
+     *
+     * @param root root
+     * @param visitor visitor
+     * @throws IOException IOException
+     */
+    private void scanDirectory(Path root, Visitor visitor) throws IOException {
+        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+
+            @Override
+            public FileVisitResult visitFile(Path path, BasicFileAttributes basicFileAttributes) {
+                if (basicFileAttributes.isRegularFile()) {
+                    String relativeName = root.relativize(path).toString().replace('\\', '/');
+                    if (isClassFile(relativeName)) {
+                        try (InputStream inputStream = Files.newInputStream(path)) {
+                            visit(relativeName, inputStream, (int) basicFileAttributes.size(), visitor);
+                        } catch (IOException e) {
+                            LOGGER.trace("class file [%s] could not be read [%s]", path, e.getMessage());
+                        }
+                    }
+                }
+
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path path, IOException ioException) {
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * Method to scan a jar file
+     *
+     * @param jarPath jarPath
+     * @param visitor visitor
+     * @throws IOException IOException
+     */
+    private void scanJarFile(Path jarPath, Visitor visitor) throws IOException {
+        try (ZipFile zipFile = new ZipFile(jarPath.toFile())) {
+            Enumeration<? extends ZipEntry> zipEntries = zipFile.entries();
+            while (zipEntries.hasMoreElements()) {
+                ZipEntry zipEntry = zipEntries.nextElement();
+                if (!zipEntry.isDirectory() && isClassFile(zipEntry.getName())) {
+                    try (InputStream inputStream = zipFile.getInputStream(zipEntry)) {
+                        visit(zipEntry.getName(), inputStream, (int) zipEntry.getSize(), visitor);
+                    } catch (IOException e) {
+                        LOGGER.trace(
+                                "class file [%s!/%s] could not be read [%s]",
+                                jarPath, zipEntry.getName(), e.getMessage());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Method to read and parse a class file, reusing the scanner buffer
+     *
+     * @param entryName entryName
+     * @param inputStream inputStream
+     * @param size size, or -1 if unknown
+     * @param visitor visitor
+     * @throws IOException IOException
+     */
+    private void visit(String entryName, InputStream inputStream, int size, Visitor visitor) throws IOException {
+        if (size > buffer.length) {
+            buffer = new byte[size];
+        }
+
+        int length = 0;
+        int read;
+        while ((read = inputStream.read(buffer, length, buffer.length - length)) != -1) {
+            length += read;
+            if (length == buffer.length) {
+                byte[] newBuffer = new byte[buffer.length * 2];
+                System.arraycopy(buffer, 0, newBuffer, 0, length);
+                buffer = newBuffer;
+            }
+        }
+
+        String className = entryName
+                .substring(0, entryName.length() - CLASS_FILE_SUFFIX.length())
+                .replace('/', '.');
+
+        ClassFile classFile = null;
+
+        try {
+            classFile = ClassFile.parse(buffer, length);
+        } catch (IOException e) {
+            LOGGER.trace("class file [%s] could not be parsed [%s]", entryName, e.getMessage());
+        }
+
+        visitor.visit(className, classFile);
+    }
+
+    /**
+     * Method to return if an entry is a class file that could contain a class
+     *
+     * @param entryName entryName
+     * @return true if the entry is a class file, else false
+     */
+    private static boolean isClassFile(String entryName) {
+        return entryName.toLowerCase(Locale.ENGLISH).endsWith(CLASS_FILE_SUFFIX)
+                && !entryName.startsWith("META-INF/")
+                && !entryName.endsWith("package-info.class")
+                && !entryName.endsWith("module-info.class");
+    }
+
+    /** Interface to implement Visitor */
+    public interface Visitor {
+
+        /**
+         * Method to visit a class file
+         *
+         * @param className the class name derived from the entry name
+         * @param classFile the parsed class file, or null if it could not be parsed
+         */
+        void visit(String className, ClassFile classFile);
+    }
+}
@@ -0,0 +1,367 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.classpath;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import org.verifyica.engine.common.PlatformThreadFactory;
+import org.verifyica.engine.common.Precondition;
+import org.verifyica.engine.common.Stopwatch;
+import org.verifyica.engine.exception.EngineException;
+import org.verifyica.engine.logger.Logger;
+import org.verifyica.engine.logger.LoggerFactory;
+import org.verifyica.engine.support.ClassSupport;
+
+/**
+ * Class to implement ClasspathIndex
+ *
+ * <p>Each classpath root is scanned at most once, and classpath roots are scanned concurrently.
+ * Discovery and the interceptor registries query the indexed candidate classes instead of
+ * rescanning the classpath.
+ */
+public class ClasspathIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClasspathIndex.class);
+
+    private final int parallelism;
+    private final ClassLoader classLoader;
+    private final ClassFileFilter classFileFilter;
+    private final Map<URI, FutureTask<List<IndexedClass>>> scanFutureTasks;
+    private final AtomicInteger activeScans;
+
+    /** Constructor */
+    public ClasspathIndex() {
+        this(1);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param parallelism the maximum number of classpath roots scanned concurrently
+     */
+    public ClasspathIndex(int parallelism) {
+        Precondition.isTrue(parallelism > 0, "parallelism is less than 1");
+
+        this.parallelism = parallelism;
+        this.classLoader = getDefaultClassLoader();
+        this.classFileFilter = new ClassFileFilter(classLoader);
+        this.scanFutureTasks = new ConcurrentHashMap<>();
+        this.activeScans = new AtomicInteger();
+    }
+
+    /**
+     * Method to get the indexed classes for all classpath roots
+     *
+     * @return a List of IndexedClasses, in classpath order
+     */
+    public List<IndexedClass> getIndexedClasses() {
+        return getIndexedClasses(ClassSupport.getClasspathURIs());
+    }
+
+    /**
+     * Method to get the indexed classes for a classpath root
+     *
+     * @param uri uri
+     * @return a List of IndexedClasses
+     */
+    public List<IndexedClass> getIndexedClasses(URI uri) {
+        Precondition.notNull(uri, "uri is null");
+
+        return getIndexedClasses(Collections.singletonList(uri));
+    }
+
+    /**
+     * Method to get the indexed classes for a List of classpath roots, scanning roots that haven't
+     * been scanned concurrently
+     *
+     * @param uris uris
+     * @return a List of IndexedClasses, in classpath root order
+     */
+    private List<IndexedClass> getIndexedClasses(List<URI> uris) {
+        List<FutureTask<List<IndexedClass>>> futureTasks = new ArrayList<>(uris.size());
+        List<FutureTask<List<IndexedClass>>> pendingFutureTasks = new ArrayList<>();
+
+        for (URI uri : uris) {
+            FutureTask<List<IndexedClass>> futureTask = new FutureTask<>(() -> scan(uri));
+            FutureTask<List<IndexedClass>> existingFutureTask = scanFutureTasks.putIfAbsent(uri, futureTask);
+            if (existingFutureTask != null) {
+                futureTask = existingFutureTask;
+            } else {
+                pendingFutureTasks.add(futureTask);
+            }
+            futureTasks.add(futureTask);
+        }
+
+        boolean scanning = !pendingFutureTasks.isEmpty();
+        if (scanning) {
+            activeScans.incrementAndGet();
+        }
+
+        List<IndexedClass> indexedClasses = new ArrayList<>();
+
+        try {
+            run(pendingFutureTasks);
+
+            for (FutureTask<List<IndexedClass>> futureTask : futureTasks) {
+                try {
+                    indexedClasses.addAll(futureTask.get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new EngineException(e);
+                } catch (ExecutionException e) {
+                    throw new EngineException(e.getCause());
+                }
+            }
+        } finally {
+            // Parsed class files are only needed while scanning, so they aren't kept for the run
+            if (scanning && activeScans.decrementAndGet() == 0) {
+                classFileFilter.clear();
+            }
+        }
+
+        return indexedClasses;
+    }
+
+    /**
+     * Method to run scan tasks, concurrently if configured
+     *
+     * @param futureTasks futureTasks
+     */
+    private void run(List<FutureTask<List<IndexedClass>>> futureTasks) {
+        int threads = Math.min(parallelism, futureTasks.size());
+
+        if (threads <= 1) {
+            futureTasks.forEach(FutureTask::run);
+            return;
+        }
+
+        LOGGER.trace("scanning [%d] classpath roots using [%d] threads", futureTasks.size(), threads);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threads, new PlatformThreadFactory());
+
+        try {
+            futureTasks.forEach(executorService::execute);
+        } finally {
+            // Previously submitted tasks are executed before the threads terminate
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * Method to find indexed classes matching the Predicate
+     *
+     * @param predicate predicate
+     * @return a List of Classes
+     */
+    public List<Class<?>> findClasses(Predicate<Class<?>> predicate) {
+        Precondition.notNull(predicate, "predicate is null");
+
+        return filter(getIndexedClasses(), predicate);
+    }
+
+    /**
+     * Method to find indexed classes in a classpath root matching the Predicate
+     *
+     * @param uri uri
+     * @param predicate predicate
+     * @return a List of Classes
+     */
+    public List<Class<?>> findClasses(URI uri, Predicate<Class<?>> predicate) {
+        Precondition.notNull(uri, "uri is null");
+        Precondition.notNull(predicate, "predicate is null");
+
+        return filter(getIndexedClasses(uri), predicate);
+    }
+
+    /**
+     * Method to find indexed classes in a package matching the Predicate
+     *
+     * @param packageName packageName
+     * @param predicate predicate
+     * @return a List of Classes
+     */
+    public List<Class<?>> findClasses(String packageName, Predicate<Class<?>> predicate) {
+        Precondition.notNull(packageName, "packageName is null");
+        Precondition.notNull(predicate, "predicate is null");
+
+        return filter(getIndexedClasses(), clazz -> packageName.equals(getPackageName(clazz)) && predicate.test(clazz));
+    }
+
+    /**
+     * Method to filter indexed classes
+     *
+     * @param indexedClasses indexedClasses
+     * @param predicate predicate
+     * @return a List of Classes sorted by name
+     */
+    private static List<Class<?>> filter(List<IndexedClass> indexedClasses, Predicate<Class<?>> predicate) {
+        Set<Class<?>> set = new LinkedHashSet<>();
+
+        for (IndexedClass indexedClass : indexedClasses) {
+            Class<?> clazz = indexedClass.getType();
+            if (predicate.test(clazz)) {
+                set.add(clazz);
+            }
+        }
+
+        List<Class<?>> list = new ArrayList<>(set);
+        list.sort(Comparator.comparing(Class::getName));
+        return list;
+    }
+
+    /**
+     * Method to scan a classpath root
+     *
+     * <p>A fresh compile time index is used if present. Otherwise, class files are parsed first,
+     * and only candidate classes are loaded
+     *
+     * @param uri uri
+     * @return a List of IndexedClasses
+     */
+    private List<IndexedClass> scan(URI uri) {
+        LOGGER.trace("scan() uri [%s]", uri);
+
+        Stopwatch stopwatch = new Stopwatch();
+
+        List<Class<?>> classes = new ArrayList<>();
+
+        VerifyicaIndex verifyicaIndex = ClassFileScanner.isSupported(uri) ? VerifyicaIndex.load(uri) : null;
+
+        if (verifyicaIndex != null && isFresh(verifyicaIndex, uri)) {
+            LOGGER.trace("using index for uri [%s]", uri);
+
+            for (String className : verifyicaIndex.getClassNames()) {
+                Class<?> clazz = loadClass(className);
+                if (clazz != null) {
+                    classes.add(clazz);
+                }
+            }
+        } else if (ClassFileScanner.isSupported(uri)) {
+            try {
+                new ClassFileScanner().scan(uri, (className, classFile) -> {
+                    // Class files that can't be parsed are loaded to let reflection decide
+                    if (classFile == null || classFileFilter.isCandidate(classFile)) {
+                        Class<?> clazz = loadClass(className);
+                        if (clazz != null) {
+                            classes.add(clazz);
+                        }
+                    }
+                });
+            } catch (IOException e) {
+                LOGGER.trace("classpath root [%s] could not be scanned [%s]", uri, e.getMessage());
+            }
+        } else {
+            classes.addAll(ClassSupport.findAllClasses(uri, clazz -> true));
+        }
+
+        List<IndexedClass> indexedClasses = new ArrayList<>();
+
+        for (Class<?> clazz : classes) {
+            try {
+                IndexedClass indexedClass = IndexedClass.of(uri, clazz);
+                if (indexedClass != null) {
+                    indexedClasses.add(indexedClass);
+                }
+            } catch (Throwable t) {
+                LOGGER.trace("class [%s] could not be indexed [%s]", clazz.getName(), t.getMessage());
+            }
+        }
+
+        indexedClasses.sort(
+                Comparator.comparing(indexedClass -> indexedClass.getType().getName()));
+
+        LOGGER.trace(
+                "scan() uri [%s] loaded classes [%d] indexed classes [%d] elapsedTime [%d] ms",
+                uri,
+                classes.size(),
+                indexedClasses.size(),
+                stopwatch.elapsedTime().toMillis());
+
+        return indexedClasses;
+    }
+
+    /**
+     * Method to return if an index is fresh for a classpath root
+     *
+     * @param verifyicaIndex verifyicaIndex
+     * @param uri uri
+     * @return true if the index is fresh, else false
+     */
+    private static boolean isFresh(VerifyicaIndex verifyicaIndex, URI uri) {
+        try {
+            if (verifyicaIndex.isFresh(uri)) {
+                return true;
+            }
+        } catch (IOException e) {
+            LOGGER.trace("index for uri [%s] could not be checked [%s]", uri, e.getMessage());
+        }
+
+        LOGGER.trace("index for uri [%s] is stale, scanning", uri);
+
+        return false;
+    }
+
+    /**
+     * Method to load a Class without initializing it
+     *
+     * @param className className
+     * @return the Class, or null if it can't be loaded
+     */
+    private Class<?> loadClass(String className) {
+        try {
+            return Class.forName(className, false, classLoader);
+        } catch (Throwable t) {
+            LOGGER.trace("class [%s] could not be loaded [%s]", className, t.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Method to get the default ClassLoader
+     *
+     * @return the default ClassLoader
+     */
+    private static ClassLoader getDefaultClassLoader() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader != null ? classLoader : ClassLoader.getSystemClassLoader();
+    }
+
+    /**
+     * Method to get the package name of a Class
+     *
+     * @param clazz clazz
+     * @return the package name
+     */
+    private static String getPackageName(Class<?> clazz) {
+        Package pkg = clazz.getPackage();
+        return pkg != null ? pkg.getName() : "";
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.classpath;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import org.verifyica.api.ClassInterceptor;
+import org.verifyica.api.EngineInterceptor;
+import org.verifyica.api.Verifyica;
+import org.verifyica.engine.common.Precondition;
+
+/** Class to implement IndexedClass */
+public class IndexedClass {
+
+    private final URI classpathRoot;
+    private final Class<?> clazz;
+    private final Set<Class<? extends Annotation>> annotations;
+
+    /**
+     * Constructor
+     *
+     * @param classpathRoot classpathRoot
+     * @param clazz clazz
+     * @param annotations annotations
+     */
+    private IndexedClass(URI classpathRoot, Class<?> clazz, Set<Class<? extends Annotation>> annotations) {
+        this.classpathRoot = classpathRoot;
+        this.clazz = clazz;
+        this.annotations = Collections.unmodifiableSet(annotations);
+    }
+
+    /**
+     * Method to get the classpath root
+     *
+     * @return the classpath root
+     */
+    public URI getClasspathRoot() {
+        return classpathRoot;
+    }
+
+    /**
+     * Method to get the Class
+     *
+     * @return the Class
+     */
+    public Class<?> getType() {
+        return clazz;
+    }
+
+    /**
+     * Method to get the Set of Verifyica annotations declared on the Class, or on methods of the
+     * Class, its superclasses, or its interfaces
+     *
+     * @return the Set of Verifyica annotations
+     */
+    public Set<Class<? extends Annotation>> getAnnotations() {
+        return annotations;
+    }
+
+    /**
+     * Method to return if the Class references a Verifyica annotation
+     *
+     * @param annotationClass annotationClass
+     * @return true if the Class references the annotation, else false
+     */
+    public boolean hasAnnotation(Class<? extends Annotation> annotationClass) {
+        return annotations.contains(annotationClass);
+    }
+
+    /**
+     * Method to return if the Class is a ClassInterceptor
+     *
+     * @return true if the Class is a ClassInterceptor, else false
+     */
+    public boolean isClassInterceptor() {
+        return ClassInterceptor.class.isAssignableFrom(clazz);
+    }
+
+    /**
+     * Method to return if the Class is an EngineInterceptor
+     *
+     * @return true if the Class is an EngineInterceptor, else false
+     */
+    public boolean isEngineInterceptor() {
+        return EngineInterceptor.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public String toString() {
+        return "IndexedClass{" + "classpathRoot=" + classpathRoot + ", class=" + clazz.getName() + ", annotations="
+                + annotations + '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        IndexedClass that = (IndexedClass) o;
+        return Objects.equals(classpathRoot, that.classpathRoot) && Objects.equals(clazz, that.clazz);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(classpathRoot, clazz);
+    }
+
+    /**
+     * Method to create an IndexedClass if the Class is a discovery candidate
+     *
+     * <p>A Class is a candidate if it (or a superclass or interface) uses Verifyica annotations, or if it
+     * implements ClassInterceptor or EngineInterceptor
+     *
+     * @param classpathRoot classpathRoot
+     * @param clazz clazz
+     * @return an IndexedClass, or null if the Class is not a candidate
+     */
+    public static IndexedClass of(URI classpathRoot, Class<?> clazz) {
+        Precondition.notNull(classpathRoot, "classpathRoot is null");
+        Precondition.notNull(clazz, "clazz is null");
+
+        Set<Class<? extends Annotation>> annotations = new LinkedHashSet<>();
+
+        collectAnnotations(clazz.getAnnotations(), annotations);
+
+        Deque<Class<?>> deque = new ArrayDeque<>();
+        Set<Class<?>> visited = new HashSet<>();
+        deque.add(clazz);
+
+        while (!deque.isEmpty()) {
+            Class<?> currentClass = deque.removeFirst();
+            if (currentClass == Object.class || !visited.add(currentClass)) {
+                continue;
+            }
+            for (Method method : currentClass.getDeclaredMethods()) {
+                collectAnnotations(method.getDeclaredAnnotations(), annotations);
+            }
+            if (currentClass.getSuperclass() != null) {
+                deque.add(currentClass.getSuperclass());
+            }
+            Collections.addAll(deque, currentClass.getInterfaces());
+        }
+
+        if (annotations.isEmpty()
+                && !ClassInterceptor.class.isAssignableFrom(clazz)
+                && !EngineInterceptor.class.isAssignableFrom(clazz)) {
+            return null;
+        }
+
+        return new IndexedClass(classpathRoot, clazz, annotations);
+    }
+
+    /**
+     * Method to collect Verifyica annotations
+     *
+     * @param source source
+     * @param annotations annotations
+     */
+    private static void collectAnnotations(Annotation[] source, Set<Class<? extends Annotation>> annotations) {
+        for (Annotation annotation : source) {
+            Class<? extends Annotation> annotationType = annotation.annotationType();
+            if (annotationType.getEnclosingClass() == Verifyica.class) {
+                annotations.add(annotationType);
+            }
+        }
+    }
+}
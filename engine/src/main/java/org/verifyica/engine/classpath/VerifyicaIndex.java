@@ -0,0 +1,287 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.classpath;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.verifyica.api.processor.VerifyicaIndexProcessor;
+import org.verifyica.engine.common.Precondition;
+import org.verifyica.engine.logger.Logger;
+import org.verifyica.engine.logger.LoggerFactory;
+
+/**
+ * Class to implement VerifyicaIndex
+ *
+ * <p>Reads the compile time index generated by {@link VerifyicaIndexProcessor}
+ */
+public class VerifyicaIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VerifyicaIndex.class);
+
+    /** Test class entry kind */
+    public static final String TEST_CLASS = "test-class";
+
+    /** Class interceptor entry kind */
+    public static final String CLASS_INTERCEPTOR = "class-interceptor";
+
+    /** Engine interceptor entry kind */
+    public static final String ENGINE_INTERCEPTOR = "engine-interceptor";
+
+    private static final String VERSION_PREFIX = "version ";
+
+    private static final String TYPE_PREFIX = "type ";
+
+    private final Set<String> types;
+    private final List<String[]> entries;
+    private final long lastModifiedMillis;
+
+    /**
+     * Constructor
+     *
+     * @param types types
+     * @param entries entries
+     * @param lastModifiedMillis the modification time of the index, or -1 if not known
+     */
+    private VerifyicaIndex(Set<String> types, List<String[]> entries, long lastModifiedMillis) {
+        this.types = Collections.unmodifiableSet(types);
+        this.entries = Collections.unmodifiableList(entries);
+        this.lastModifiedMillis = lastModifiedMillis >= 0 ? lastModifiedMillis : Long.MAX_VALUE;
+    }
+
+    /**
+     * Method to get the top-level types compiled with the index
+     *
+     * @return a Set of top-level type names
+     */
+    public Set<String> getTypes() {
+        return types;
+    }
+
+    /**
+     * Method to get the names listed for an entry kind
+     *
+     * @param kind kind
+     * @return a Set of names
+     */
+    public Set<String> getNames(String kind) {
+        Precondition.notNull(kind, "kind is null");
+
+        Set<String> names = new LinkedHashSet<>();
+        for (String[] entry : entries) {
+            if (entry[0].equals(kind)) {
+                names.add(entry[1]);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Method to get the names of classes that are test classes or autowired interceptors
+     *
+     * @return a Set of class names
+     */
+    public Set<String> getClassNames() {
+        Set<String> classNames = new LinkedHashSet<>();
+        classNames.addAll(getNames(TEST_CLASS));
+        classNames.addAll(getNames(CLASS_INTERCEPTOR));
+        classNames.addAll(getNames(ENGINE_INTERCEPTOR));
+        return classNames;
+    }
+
+    /**
+     * Method to return if the index is fresh for a classpath root
+     *
+     * <p>An index is stale if a class file is newer than the index (e.g. compiled incrementally
+     * without the annotation processor). A directory index is also stale if a top-level class file
+     * in the directory was not compiled with the index.
+     *
+     * @param uri uri
+     * @return true if the index is fresh, else false
+     * @throws IOException IOException
+     */
+    public boolean isFresh(URI uri) throws IOException {
+        Precondition.notNull(uri, "uri is null");
+
+        Path root = Paths.get(uri);
+        if (!Files.isDirectory(root)) {
+            return isFresh(root);
+        }
+
+        AtomicBoolean fresh = new AtomicBoolean(true);
+
+        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+
+            @Override
+            public FileVisitResult visitFile(Path path, BasicFileAttributes basicFileAttributes) {
+                String name = root.relativize(path).toString().replace('\\', '/');
+                if (name.endsWith(".class")
+                        && basicFileAttributes.lastModifiedTime().toMillis() > lastModifiedMillis) {
+                    LOGGER.trace("class file [%s] is newer than the index", path);
+                    fresh.set(false);
+                    return FileVisitResult.TERMINATE;
+                }
+                if (name.endsWith(".class")
+                        && name.indexOf('$') == -1
+                        && !name.startsWith("META-INF/")
+                        && !name.endsWith("package-info.class")
+                        && !name.endsWith("module-info.class")) {
+                    String className =
+                            name.substring(0, name.length() - ".class".length()).replace('/', '.');
+                    if (!types.contains(className)) {
+                        fresh.set(false);
+                        return FileVisitResult.TERMINATE;
+                    }
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path path, IOException ioException) {
+                return FileVisitResult.CONTINUE;
+            }
+        });
+
+        return fresh.get();
+    }
+
+    /**
+     * Method to return if the index is fresh for a jar
+     *
+     * @param path path
+     * @return true if the index is fresh, else false
+     * @throws IOException IOException
+     */
+    private boolean isFresh(Path path) throws IOException {
+        try (ZipFile zipFile = new ZipFile(path.toFile())) {
+            Enumeration<? extends ZipEntry> enumeration = zipFile.entries();
+            while (enumeration.hasMoreElements()) {
+                ZipEntry zipEntry = enumeration.nextElement();
+                if (zipEntry.getName().endsWith(".class") && zipEntry.getTime() > lastModifiedMillis) {
+                    LOGGER.trace("class file [%s] in [%s] is newer than the index", zipEntry.getName(), path);
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Method to load the index of a classpath root
+     *
+     * @param uri uri
+     * @return a VerifyicaIndex, or null if the classpath root doesn't contain a readable index
+     */
+    public static VerifyicaIndex load(URI uri) {
+        Precondition.notNull(uri, "uri is null");
+
+        try {
+            Path root = Paths.get(uri);
+
+            if (Files.isDirectory(root)) {
+                Path path = root.resolve(VerifyicaIndexProcessor.INDEX_RESOURCE_NAME);
+                if (Files.isRegularFile(path)) {
+                    try (InputStream inputStream = Files.newInputStream(path)) {
+                        return parse(
+                                inputStream, Files.getLastModifiedTime(path).toMillis());
+                    }
+                }
+            } else if (Files.isRegularFile(root)) {
+                try (ZipFile zipFile = new ZipFile(root.toFile())) {
+                    ZipEntry zipEntry = zipFile.getEntry(VerifyicaIndexProcessor.INDEX_RESOURCE_NAME);
+                    if (zipEntry != null) {
+                        try (InputStream inputStream = zipFile.getInputStream(zipEntry)) {
+                            return parse(inputStream, zipEntry.getTime());
+                        }
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.trace("index for uri [%s] could not be read [%s]", uri, e.getMessage());
+        }
+
+        return null;
+    }
+
+    /**
+     * Method to parse an index
+     *
+     * @param inputStream inputStream
+     * @return a VerifyicaIndex, or null if the index version is not supported
+     * @throws IOException IOException
+     */
+    public static VerifyicaIndex parse(InputStream inputStream) throws IOException {
+        return parse(inputStream, -1);
+    }
+
+    /**
+     * Method to parse an index
+     *
+     * @param inputStream inputStream
+     * @param lastModifiedMillis the modification time of the index, or -1 if not known
+     * @return a VerifyicaIndex, or null if the index version is not supported
+     * @throws IOException IOException
+     */
+    private static VerifyicaIndex parse(InputStream inputStream, long lastModifiedMillis) throws IOException {
+        Precondition.notNull(inputStream, "inputStream is null");
+
+        BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+
+        String line = bufferedReader.readLine();
+        if (line == null || !line.equals(VERSION_PREFIX + VerifyicaIndexProcessor.INDEX_VERSION)) {
+            return null;
+        }
+
+        Set<String> types = new LinkedHashSet<>();
+        List<String[]> entries = new ArrayList<>();
+
+        while ((line = bufferedReader.readLine()) != null) {
+            line = line.trim();
+            if (line.startsWith(TYPE_PREFIX)) {
+                types.add(line.substring(TYPE_PREFIX.length()).trim());
+            } else if (!line.isEmpty()) {
+                int index = line.indexOf(' ');
+                if (index > 0) {
+                    entries.add(new String[] {
+                        line.substring(0, index), line.substring(index + 1).trim()
+                    });
+                }
+            }
+        }
+
+        return new VerifyicaIndex(types, entries, lastModifiedMillis);
+    }
+}
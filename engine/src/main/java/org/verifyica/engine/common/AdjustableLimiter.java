@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.common;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Class to implement AdjustableLimiter
+ *
+ * <p>Limits the number of concurrently running tasks. The limit can be changed while tasks are
+ * running, and is applied the next time a task is admitted.
+ */
+public class AdjustableLimiter {
+
+    private final ReentrantLock lock;
+    private final Condition condition;
+    private int limit;
+    private int active;
+    private int waiting;
+    private long waitCount;
+
+    /**
+     * Constructor
+     *
+     * @param limit limit
+     */
+    public AdjustableLimiter(int limit) {
+        Precondition.isTrue(limit > 0, "limit is less than 1");
+
+        this.lock = new ReentrantLock(true);
+        this.condition = lock.newCondition();
+        this.limit = limit;
+    }
+
+    /**
+     * Method to acquire a permit, waiting until the number of active tasks is less than the limit
+     *
+     * @throws InterruptedException InterruptedException
+     */
+    public void acquire() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            if (active >= limit) {
+                waitCount++;
+                waiting++;
+                try {
+                    while (active >= limit) {
+                        condition.await();
+                    }
+                } finally {
+                    waiting--;
+                }
+            }
+            active++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Method to release a permit */
+    public void release() {
+        lock.lock();
+        try {
+            active--;
+            condition.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Method to set the limit
+     *
+     * <p>Lowering the limit doesn't interrupt active tasks
+     *
+     * @param limit limit
+     */
+    public void setLimit(int limit) {
+        Precondition.isTrue(limit > 0, "limit is less than 1");
+
+        lock.lock();
+        try {
+            this.limit = limit;
+            condition.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Method to get the limit
+     *
+     * @return the limit
+     */
+    public int getLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Method to get the number of active tasks
+     *
+     * @return the number of active tasks
+     */
+    public int getActive() {
+        lock.lock();
+        try {
+            return active;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Method to get the number of tasks waiting to be admitted
+     *
+     * @return the number of waiting tasks
+     */
+    public int getWaiting() {
+        lock.lock();
+        try {
+            return waiting;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Method to get the number of times a task had to wait to be admitted
+     *
+     * @return the wait count
+     */
+    public long getWaitCount() {
+        lock.lock();
+        try {
+            return waitCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
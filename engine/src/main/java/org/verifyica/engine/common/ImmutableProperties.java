@@ -22,6 +22,7 @@ import java.io.Reader;
 import java.io.Writer;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
@@ -31,13 +32,36 @@ public class ImmutableProperties extends Properties {
 
     private static final long serialVersionUID = 1L;
 
+    /** String properties, read without locking */
+    private final transient Map<String, String> values;
+
     /**
      * Constructor
      *
+     * <p>The properties are copied, so later changes to the source properties are not visible
+     *
      * @param properties properties
      */
     public ImmutableProperties(Properties properties) {
-        super(properties);
+        super(copy(properties));
+
+        Map<String, String> values = new HashMap<>();
+        for (String name : defaults.stringPropertyNames()) {
+            values.put(name, defaults.getProperty(name));
+        }
+
+        this.values = values;
+    }
+
+    @Override
+    public String getProperty(String key) {
+        return values.get(key);
+    }
+
+    @Override
+    public String getProperty(String key, String defaultValue) {
+        String value = values.get(key);
+        return value != null ? value : defaultValue;
     }
 
     @Override
@@ -99,4 +123,22 @@ public class ImmutableProperties extends Properties {
     public synchronized Enumeration<Object> elements() {
         return Collections.enumeration(Collections.list(super.elements()));
     }
+
+    /**
+     * Method to copy Properties
+     *
+     * @param properties properties
+     * @return a copy of the Properties
+     */
+    private static Properties copy(Properties properties) {
+        Properties copy = new OrderedProperties();
+
+        synchronized (properties) {
+            for (String name : properties.stringPropertyNames()) {
+                copy.setProperty(name, properties.getProperty(name));
+            }
+        }
+
+        return copy;
+    }
 }
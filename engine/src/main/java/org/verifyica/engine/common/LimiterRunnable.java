@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.common;
+
+/** Class to implement LimiterRunnable */
+public class LimiterRunnable implements Runnable {
+
+    private final AdjustableLimiter adjustableLimiter;
+    private final Runnable runnable;
+
+    /**
+     * Constructor
+     *
+     * @param adjustableLimiter adjustableLimiter
+     * @param runnable runnable
+     */
+    public LimiterRunnable(AdjustableLimiter adjustableLimiter, Runnable runnable) {
+        Precondition.notNull(adjustableLimiter, "adjustableLimiter is null");
+        Precondition.notNull(runnable, "runnable is null");
+
+        this.adjustableLimiter = adjustableLimiter;
+        this.runnable = runnable;
+    }
+
+    @Override
+    public void run() {
+        try {
+            adjustableLimiter.acquire();
+            try {
+                runnable.run();
+            } finally {
+                adjustableLimiter.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
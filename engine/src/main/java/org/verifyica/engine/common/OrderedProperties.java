@@ -36,6 +36,9 @@ public class OrderedProperties extends Properties {
     /** Ordered Map */
     private final TreeMap<Object, Object> orderedMap;
 
+    /** Modification count */
+    private volatile long modificationCount;
+
     /** Constructor */
     public OrderedProperties() {
         this.orderedMap = new TreeMap<>();
@@ -44,21 +47,33 @@ public class OrderedProperties extends Properties {
     @Override
     public synchronized Object put(Object key, Object value) {
         orderedMap.put(key, value);
+        modificationCount++;
         return super.put(key, value);
     }
 
     @Override
     public synchronized Object remove(Object key) {
         orderedMap.remove(key);
+        modificationCount++;
         return super.remove(key);
     }
 
     @Override
     public synchronized void clear() {
         orderedMap.clear();
+        modificationCount++;
         super.clear();
     }
 
+    /**
+     * Method to get the modification count, which changes whenever a property is modified
+     *
+     * @return the modification count
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public synchronized Object get(Object key) {
         return orderedMap.get(key);
@@ -78,14 +93,22 @@ public class OrderedProperties extends Properties {
     public synchronized void load(InputStream inputStream) throws IOException {
         super.load(inputStream);
         orderedMap.clear();
-        orderedMap.putAll(this);
+        // entrySet() is backed by the ordered map, so copy from the loaded Properties entries
+        for (Map.Entry<Object, Object> entry : super.entrySet()) {
+            orderedMap.put(entry.getKey(), entry.getValue());
+        }
+        modificationCount++;
     }
 
     @Override
     public synchronized void load(Reader reader) throws IOException {
         super.load(reader);
         orderedMap.clear();
-        orderedMap.putAll(this);
+        // entrySet() is backed by the ordered map, so copy from the loaded Properties entries
+        for (Map.Entry<Object, Object> entry : super.entrySet()) {
+            orderedMap.put(entry.getKey(), entry.getValue());
+        }
+        modificationCount++;
     }
 
     @Override
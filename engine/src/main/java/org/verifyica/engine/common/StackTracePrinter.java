@@ -16,8 +16,6 @@
 
 package org.verifyica.engine.common;
 
-import static java.util.Optional.ofNullable;
-
 import java.io.PrintStream;
 import java.util.Arrays;
 import org.verifyica.engine.configuration.ConcreteConfiguration;
@@ -26,16 +24,8 @@ import org.verifyica.engine.configuration.Constants;
 /** Class to implement StackTracePrinter */
 public class StackTracePrinter {
 
-    private static boolean pruneStackTraces = true;
-
-    static {
-        ofNullable(ConcreteConfiguration.getInstance().getProperties().getProperty(Constants.ENGINE_PRUNE_STACK_TRACE))
-                .ifPresent(value -> {
-                    if (Constants.FALSE.equals(value)) {
-                        pruneStackTraces = false;
-                    }
-                });
-    }
+    private static final boolean pruneStackTraces =
+            ConcreteConfiguration.getInstance().getSnapshot().getBoolean(Constants.ENGINE_PRUNE_STACK_TRACE, true);
 
     /** Constructor */
     private StackTracePrinter() {
@@ -68,6 +68,36 @@ public class Throttle {
         }
     }
 
+    /**
+     * Method to parse a Throttle value of the form {@code <milliseconds>} or {@code <minimum>,<maximum>}
+     *
+     * @param name name
+     * @param value value
+     * @return a Throttle, or null if the value is not valid
+     */
+    public static Throttle parse(String name, String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+
+        try {
+            String[] tokens = value.trim().split("[\\s,]+");
+            switch (tokens.length) {
+                case 1: {
+                    return new Throttle(name, Long.parseLong(tokens[0]), Long.parseLong(tokens[0]));
+                }
+                case 2: {
+                    return new Throttle(name, Long.parseLong(tokens[0]), Long.parseLong(tokens[1]));
+                }
+                default: {
+                    return null;
+                }
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     /**
      * Method to create a random long between minimum and maximum (inclusive)
      *
@@ -50,8 +50,9 @@ public class ConcreteConfiguration implements Configuration {
     private static final DateTimeFormatter DATE_TIME_FORMATTER =
             DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS", Locale.getDefault());
 
-    private final Properties properties;
+    private final OrderedProperties properties;
     private Path propertiesPath;
+    private volatile ConfigurationSnapshot snapshot;
 
     /** Constructor */
     private ConcreteConfiguration() {
@@ -68,6 +69,28 @@ public class ConcreteConfiguration implements Configuration {
         return properties;
     }
 
+    /**
+     * Method to get a snapshot of the configuration
+     *
+     * <p>The snapshot is created again only if the configuration properties were modified
+     *
+     * @return a ConfigurationSnapshot
+     */
+    public ConfigurationSnapshot getSnapshot() {
+        ConfigurationSnapshot configurationSnapshot = snapshot;
+
+        if (configurationSnapshot == null
+                || configurationSnapshot.getModificationCount() != properties.getModificationCount()) {
+            synchronized (properties) {
+                configurationSnapshot =
+                        new ConfigurationSnapshot(propertiesPath, properties, properties.getModificationCount());
+            }
+            snapshot = configurationSnapshot;
+        }
+
+        return configurationSnapshot;
+    }
+
     /**
      * Method to get a singleton instance
      *
@@ -87,12 +110,12 @@ public class ConcreteConfiguration implements Configuration {
     /**
      * Method to load configuration Properties
      */
-    private Properties load() {
+    private OrderedProperties load() {
         if (IS_TRACE_ENABLED) {
             trace("load()");
         }
 
-        Properties properties = new OrderedProperties();
+        OrderedProperties properties = new OrderedProperties();
 
         try {
             // Get the properties file from a system property
@@ -0,0 +1,271 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.configuration;
+
+import static java.util.Optional.ofNullable;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.regex.Pattern;
+import org.verifyica.api.Configuration;
+import org.verifyica.engine.common.ImmutableProperties;
+import org.verifyica.engine.common.Precondition;
+import org.verifyica.engine.common.Throttle;
+
+/**
+ * Class to implement ConfigurationSnapshot
+ *
+ * <p>An immutable copy of the configuration properties that can be read without locking. Typed
+ * values are parsed once per snapshot and cached per type, so a cached read doesn't allocate.
+ */
+public class ConfigurationSnapshot implements Configuration {
+
+    private final Path propertiesPath;
+    private final ImmutableProperties properties;
+    private final long modificationCount;
+    private final Map<String, Optional<Object>> booleans;
+    private final Map<String, Optional<Object>> ints;
+    private final Map<String, Optional<Object>> longs;
+    private final Map<String, Optional<Object>> throttles;
+    private final Map<String, Map<String, Optional<Object>>> patterns;
+
+    /**
+     * Constructor
+     *
+     * @param propertiesPath propertiesPath, may be null
+     * @param properties properties
+     * @param modificationCount the modification count of the source properties
+     */
+    ConfigurationSnapshot(Path propertiesPath, Properties properties, long modificationCount) {
+        Precondition.notNull(properties, "properties is null");
+
+        this.propertiesPath = propertiesPath;
+        this.properties = new ImmutableProperties(properties);
+        this.modificationCount = modificationCount;
+        this.booleans = new ConcurrentHashMap<>();
+        this.ints = new ConcurrentHashMap<>();
+        this.longs = new ConcurrentHashMap<>();
+        this.throttles = new ConcurrentHashMap<>();
+        this.patterns = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public Optional<Path> getPropertiesPath() {
+        return ofNullable(propertiesPath);
+    }
+
+    @Override
+    public Properties getProperties() {
+        return properties;
+    }
+
+    /**
+     * Method to get the modification count of the source properties when the snapshot was created
+     *
+     * @return the modification count
+     */
+    long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Method to get a property value
+     *
+     * @param key key
+     * @return the property value, or null if not defined
+     */
+    public String get(String key) {
+        return properties.getProperty(key);
+    }
+
+    /**
+     * Method to get a property value
+     *
+     * @param key key
+     * @param defaultValue defaultValue
+     * @return the property value, or the default value if not defined
+     */
+    public String get(String key, String defaultValue) {
+        return properties.getProperty(key, defaultValue);
+    }
+
+    /**
+     * Method to get a boolean property value
+     *
+     * @param key key
+     * @param defaultValue defaultValue
+     * @return the property value, or the default value if not defined or not {@code true} or {@code
+     *     false}
+     */
+    public boolean getBoolean(String key, boolean defaultValue) {
+        Boolean value = getParsedValue(booleans, key, (k, string) -> {
+            String trimmed = string.trim();
+            if (Constants.TRUE.equals(trimmed)) {
+                return Boolean.TRUE;
+            } else if (Constants.FALSE.equals(trimmed)) {
+                return Boolean.FALSE;
+            }
+            return null;
+        });
+
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Method to get an int property value
+     *
+     * @param key key
+     * @param defaultValue defaultValue
+     * @return the property value, or the default value if not defined or invalid
+     */
+    public int getInt(String key, int defaultValue) {
+        Integer value = getParsedValue(ints, key, (k, string) -> Integer.parseInt(string.trim()));
+
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Method to get a long property value
+     *
+     * @param key key
+     * @param defaultValue defaultValue
+     * @return the property value, or the default value if not defined or invalid
+     */
+    public long getLong(String key, long defaultValue) {
+        Long value = getParsedValue(longs, key, (k, string) -> Long.parseLong(string.trim()));
+
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Method to get a compiled regular expression property value
+     *
+     * @param key key
+     * @param defaultRegex defaultRegex
+     * @return the compiled property value, or null if the regular expression is invalid
+     */
+    public Pattern getPattern(String key, String defaultRegex) {
+        Precondition.notNull(defaultRegex, "defaultRegex is null");
+
+        Map<String, Optional<Object>> parsedValues = patterns.get(defaultRegex);
+        if (parsedValues == null) {
+            parsedValues = patterns.computeIfAbsent(defaultRegex, k -> new ConcurrentHashMap<>());
+        }
+
+        return getParsedValue(parsedValues, key, (k, regex) -> Pattern.compile(regex), defaultRegex);
+    }
+
+    /**
+     * Method to get a Throttle property value
+     *
+     * <p>The property value is either a single value or a minimum and maximum separated by a comma
+     * or whitespace, in milliseconds
+     *
+     * @param key key
+     * @return a Throttle, a Throttle that doesn't throttle if not defined or invalid
+     */
+    public Throttle getThrottle(String key) {
+        // Undefined and invalid values are cached as a Throttle that doesn't throttle
+        return getParsedValue(
+                throttles,
+                key,
+                (k, value) -> {
+                    Throttle throttle = Throttle.parse(k, value);
+                    return throttle != null ? throttle : new Throttle(k, 0, 0);
+                },
+                "0");
+    }
+
+    /**
+     * Method to get a parsed property value, parsing the property value once
+     *
+     * @param parsedValues the parsed values of the type
+     * @param key key
+     * @param parser parser, called with the key and the property value
+     * @return the parsed value, or null if not defined, blank, or invalid
+     * @param <T> the parsed type
+     */
+    private <T> T getParsedValue(
+            Map<String, Optional<Object>> parsedValues, String key, BiFunction<String, String, T> parser) {
+        return getParsedValue(parsedValues, key, parser, null);
+    }
+
+    /**
+     * Method to get a parsed property value, parsing the property value once
+     *
+     * @param parsedValues the parsed values of the type
+     * @param key key
+     * @param parser parser, called with the key and the property value
+     * @param defaultValue defaultValue used if the property is not defined or blank
+     * @return the parsed value, or null if invalid
+     * @param <T> the parsed type
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T getParsedValue(
+            Map<String, Optional<Object>> parsedValues,
+            String key,
+            BiFunction<String, String, T> parser,
+            String defaultValue) {
+        Precondition.notNull(key, "key is null");
+
+        Optional<Object> optional = parsedValues.get(key);
+
+        if (optional == null) {
+            optional = parsedValues.computeIfAbsent(key, k -> {
+                String value = properties.getProperty(key);
+                if (value == null || value.trim().isEmpty()) {
+                    value = defaultValue;
+                }
+                if (value == null) {
+                    return Optional.empty();
+                }
+                try {
+                    return ofNullable(parser.apply(key, value));
+                } catch (RuntimeException e) {
+                    return Optional.empty();
+                }
+            });
+        }
+
+        return (T) optional.orElse(null);
+    }
+
+    /**
+     * Method to get a ConfigurationSnapshot for a Configuration
+     *
+     * @param configuration configuration
+     * @return a ConfigurationSnapshot
+     */
+    public static ConfigurationSnapshot of(Configuration configuration) {
+        Precondition.notNull(configuration, "configuration is null");
+
+        if (configuration instanceof ConfigurationSnapshot) {
+            return (ConfigurationSnapshot) configuration;
+        } else if (configuration instanceof ImmutableConfiguration) {
+            return ((ImmutableConfiguration) configuration).getSnapshot();
+        } else if (configuration instanceof ConcreteConfiguration) {
+            return ((ConcreteConfiguration) configuration).getSnapshot();
+        }
+
+        return new ConfigurationSnapshot(
+                configuration.getPropertiesPath().orElse(null), configuration.getProperties(), -1);
+    }
+}
@@ -34,6 +34,15 @@ public final class Constants {
     /** Configuration constant */
     public static final String PLATFORM_EPHEMERAL = "platform-ephemeral";
 
+    /** Configuration constant */
+    public static final String ALL = "all";
+
+    /** Configuration constant */
+    public static final String FAILURES = "failures";
+
+    /** Configuration constant */
+    public static final String NONE = "none";
+
     /** Configuration constant */
     public static final String PREFIX = "verifyica";
 
@@ -58,6 +67,12 @@ public final class Constants {
     /** Configuration constant */
     public static final String ENGINE_PRUNE_STACK_TRACE = ENGINE + ".prune.stacktraces";
 
+    /** Configuration constant */
+    public static final String ENGINE_AUTOWIRED_INTERCEPTORS = ENGINE_AUTOWIRED + ".interceptors";
+
+    /** Configuration constant */
+    public static final String ENGINE_AUTOWIRED_INTERCEPTORS_SCAN = ENGINE_AUTOWIRED_INTERCEPTORS + ".scan";
+
     /** Configuration constant */
     public static final String ENGINE_AUTOWIRED_ENGINE = ENGINE_AUTOWIRED + ".engine";
 
@@ -105,6 +120,12 @@ public final class Constants {
     public static final String ENGINE_AUTOWIRED_CLASS_INTERCEPTORS_EXCLUDE_REGEX =
             ENGINE_AUTOWIRED_CLASS_INTERCEPTORS_EXCLUDE + ".regex";
 
+    /** Configuration constant */
+    public static final String ENGINE_DISCOVERY = ENGINE + ".discovery";
+
+    /** Configuration constant */
+    public static final String ENGINE_DISCOVERY_PARALLELISM = ENGINE_DISCOVERY + ".parallelism";
+
     /** Configuration constant */
     public static final String ENGINE_FILTER = ENGINE + ".filter";
 
@@ -135,6 +156,48 @@ public final class Constants {
     /** Configuration constant */
     public static final String ENGINE_TEST_STATE_MACHINE_THROTTLE = ENGINE_TEST + ".state.machine.throttle";
 
+    /** Configuration constant */
+    public static final String ENGINE_RETAIN = ENGINE + ".retain";
+
+    /** Configuration constant */
+    public static final String ENGINE_METRICS = ENGINE + ".metrics";
+
+    /** Configuration constant */
+    public static final String ENGINE_METRICS_FILE = ENGINE_METRICS + ".file";
+
+    /** Configuration constant */
+    public static final String ENGINE_TIMELINE = ENGINE + ".timeline";
+
+    /** Configuration constant */
+    public static final String ENGINE_TIMELINE_FORMAT = ENGINE_TIMELINE + ".format";
+
+    /** Configuration constant */
+    public static final String ENGINE_TIMELINE_FILE = ENGINE_TIMELINE + ".file";
+
+    /** Configuration constant */
+    public static final String ENGINE_ACCOUNTING = ENGINE + ".accounting";
+
+    /** Configuration constant */
+    public static final String ENGINE_ACCOUNTING_TOP = ENGINE_ACCOUNTING + ".top";
+
+    /** Configuration constant */
+    public static final String ENGINE_CLEANUP = ENGINE + ".cleanup";
+
+    /** Configuration constant */
+    public static final String ENGINE_CLEANUP_PARALLELISM = ENGINE_CLEANUP + ".parallelism";
+
+    /** Configuration constant */
+    public static final String ENGINE_CLEANUP_TIMEOUT = ENGINE_CLEANUP + ".timeout";
+
+    /** Configuration constant */
+    public static final String ENGINE_MANAGEMENT = ENGINE + ".management";
+
+    /** Configuration constant */
+    public static final String ENGINE_MANAGEMENT_JMX_ENABLED = ENGINE_MANAGEMENT + ".jmx.enabled";
+
+    /** Configuration constant */
+    public static final String ENGINE_MANAGEMENT_HTTP_PORT = ENGINE_MANAGEMENT + ".http.port";
+
     /** Configuration constant */
     public static final String MAVEN_PLUGIN = PREFIX + ".maven.plugin";
 
@@ -150,6 +213,9 @@ public final class Constants {
     /** Configuration constant */
     public static final String MAVEN_PLUGIN_LOG_TESTS = MAVEN_PLUGIN_LOG + ".tests";
 
+    /** Configuration constant */
+    public static final String MAVEN_PLUGIN_LOG_ANALYSIS = MAVEN_PLUGIN_LOG + ".analysis";
+
     /** Configuration constant */
     public static final String MAVEN_PLUGIN_LOG_TIMING_UNITS = MAVEN_PLUGIN_LOG + ".units";
 
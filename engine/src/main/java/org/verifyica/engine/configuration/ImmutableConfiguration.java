@@ -16,19 +16,15 @@
 
 package org.verifyica.engine.configuration;
 
-import static java.util.Optional.ofNullable;
-
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.Properties;
 import org.verifyica.api.Configuration;
-import org.verifyica.engine.common.ImmutableProperties;
 
 /** Class to implement ImmutableConfiguration */
 public class ImmutableConfiguration implements Configuration {
 
-    private final Path propertiesFilenamePath;
-    private final Properties properties;
+    private final ConfigurationSnapshot snapshot;
 
     /**
      * Constructor
@@ -36,13 +32,21 @@ public class ImmutableConfiguration implements Configuration {
      * @param configuration configuration
      */
     public ImmutableConfiguration(Configuration configuration) {
-        propertiesFilenamePath = configuration.getPropertiesPath().orElse(null);
-        properties = new ImmutableProperties(configuration.getProperties());
+        snapshot = ConfigurationSnapshot.of(configuration);
+    }
+
+    /**
+     * Method to get the ConfigurationSnapshot
+     *
+     * @return the ConfigurationSnapshot
+     */
+    public ConfigurationSnapshot getSnapshot() {
+        return snapshot;
     }
 
     @Override
     public Optional<Path> propertiesPath() {
-        return ofNullable(propertiesFilenamePath);
+        return snapshot.getPropertiesPath();
     }
 
     @Override
@@ -52,7 +56,7 @@ public class ImmutableConfiguration implements Configuration {
 
     @Override
     public Properties properties() {
-        return properties;
+        return snapshot.getProperties();
     }
 
     @Override
@@ -16,20 +16,24 @@
 
 package org.verifyica.engine.context;
 
+import java.util.Map;
 import org.verifyica.api.Configuration;
 import org.verifyica.api.Context;
+import org.verifyica.api.ContextKey;
 import org.verifyica.api.ExtendedMap;
+import org.verifyica.engine.common.Precondition;
 
 /** Class to implement AbstractContext */
 public abstract class AbstractContext implements Context {
 
-    private final ExtendedMap<String, Object> map;
+    private final SlotTable slotTable;
+    private volatile ExtendedMap<String, Object> map;
 
     /**
      * Constructor
      */
     protected AbstractContext() {
-        this.map = new ExtendedMap<>();
+        this.slotTable = new SlotTable();
     }
 
     @Override
@@ -37,6 +41,76 @@ public abstract class AbstractContext implements Context {
 
     @Override
     public ExtendedMap<String, Object> getMap() {
+        ExtendedMap<String, Object> map = this.map;
+
+        if (map == null) {
+            // The Map is created on first use, since most contexts never use it
+            synchronized (slotTable) {
+                map = this.map;
+                if (map == null) {
+                    map = new ExtendedMap<>();
+                    this.map = map;
+                }
+            }
+        }
+
+        return map;
+    }
+
+    /**
+     * Method to get the Map if it has been created
+     *
+     * @return the Map, or null if it has not been created
+     */
+    public ExtendedMap<String, Object> getMapIfCreated() {
         return map;
     }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T get(ContextKey<T> contextKey) {
+        Precondition.notNull(contextKey, "contextKey is null");
+
+        return (T) slotTable.get(contextKey.getIndex());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T put(ContextKey<T> contextKey, T value) {
+        Precondition.notNull(contextKey, "contextKey is null");
+
+        return (T) slotTable.put(contextKey.getIndex(), value);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T remove(ContextKey<T> contextKey) {
+        Precondition.notNull(contextKey, "contextKey is null");
+
+        return (T) slotTable.put(contextKey.getIndex(), null);
+    }
+
+    /**
+     * Method to collect the AutoCloseable values set using ContextKeys
+     *
+     * @param autoCloseables map to add the values to, keyed by slot name
+     */
+    public void collectAutoCloseables(Map<String, AutoCloseable> autoCloseables) {
+        slotTable.forEach((index, value) -> {
+            if (value instanceof AutoCloseable) {
+                autoCloseables.put("ContextKey[" + index + "]", (AutoCloseable) value);
+            }
+        });
+    }
+
+    /**
+     * Method to remove all values, both from the Map and set using ContextKeys
+     */
+    public void clear() {
+        ExtendedMap<String, Object> map = this.map;
+        if (map != null) {
+            map.clear();
+        }
+        slotTable.clear();
+    }
 }
@@ -19,13 +19,16 @@ package org.verifyica.engine.context;
 import java.util.Objects;
 import org.verifyica.api.Configuration;
 import org.verifyica.api.EngineContext;
+import org.verifyica.api.Metrics;
 import org.verifyica.engine.configuration.ImmutableConfiguration;
+import org.verifyica.engine.metrics.MetricsRegistry;
 
 /** Class to implement ConcreteEngineContext */
 public class ConcreteEngineContext extends AbstractContext implements EngineContext {
 
     private final Configuration configuration;
     private final String version;
+    private final Metrics metrics;
 
     /**
      * Constructor
@@ -34,8 +37,20 @@ public class ConcreteEngineContext extends AbstractContext implements EngineCont
      * @param version version
      */
     public ConcreteEngineContext(Configuration configuration, String version) {
+        this(configuration, version, new MetricsRegistry(false));
+    }
+
+    /**
+     * Constructor
+     *
+     * @param configuration configuration
+     * @param version version
+     * @param metrics metrics
+     */
+    public ConcreteEngineContext(Configuration configuration, String version, Metrics metrics) {
         this.configuration = new ImmutableConfiguration(configuration);
         this.version = version;
+        this.metrics = metrics;
     }
 
     @Override
@@ -43,6 +58,11 @@ public class ConcreteEngineContext extends AbstractContext implements EngineCont
         return version;
     }
 
+    @Override
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
     @Override
     public Configuration getConfiguration() {
         return configuration;
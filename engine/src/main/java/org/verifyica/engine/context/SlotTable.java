@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.context;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+
+/**
+ * Class to implement SlotTable
+ *
+ * <p>Stores values by ContextKey index. Reads are a volatile array load. Writes are serialized so a
+ * write can't be lost while the table grows.
+ */
+class SlotTable {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    // Shared by all empty tables, since an empty array is never written
+    private static final AtomicReferenceArray<Object> EMPTY = new AtomicReferenceArray<>(0);
+
+    private volatile AtomicReferenceArray<Object> slots;
+
+    /** Constructor */
+    SlotTable() {
+        this.slots = EMPTY;
+    }
+
+    /**
+     * Method to get a value
+     *
+     * @param index index
+     * @return the value, or null if not set
+     */
+    Object get(int index) {
+        AtomicReferenceArray<Object> slots = this.slots;
+        return index < slots.length() ? slots.get(index) : null;
+    }
+
+    /**
+     * Method to set a value
+     *
+     * @param index index
+     * @param value value, or null to remove the value
+     * @return the previous value, or null if not set
+     */
+    Object put(int index, Object value) {
+        synchronized (this) {
+            AtomicReferenceArray<Object> slots = this.slots;
+
+            if (index >= slots.length()) {
+                if (value == null) {
+                    return null;
+                }
+
+                int capacity = Math.max(INITIAL_CAPACITY, slots.length());
+                while (capacity <= index) {
+                    capacity *= 2;
+                }
+
+                AtomicReferenceArray<Object> newSlots = new AtomicReferenceArray<>(capacity);
+                for (int i = 0; i < slots.length(); i++) {
+                    newSlots.set(i, slots.get(i));
+                }
+                newSlots.set(index, value);
+
+                this.slots = newSlots;
+
+                return null;
+            }
+
+            return slots.getAndSet(index, value);
+        }
+    }
+
+    /**
+     * Method to visit the values that are set
+     *
+     * @param biConsumer biConsumer called with the index and value
+     */
+    void forEach(BiConsumer<Integer, Object> biConsumer) {
+        AtomicReferenceArray<Object> slots = this.slots;
+
+        for (int i = 0; i < slots.length(); i++) {
+            Object value = slots.get(i);
+            if (value != null) {
+                biConsumer.accept(i, value);
+            }
+        }
+    }
+
+    /** Method to remove all values */
+    void clear() {
+        synchronized (this) {
+            slots = EMPTY;
+        }
+    }
+}
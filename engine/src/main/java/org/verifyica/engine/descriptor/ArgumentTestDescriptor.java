@@ -20,19 +20,15 @@ import static java.lang.String.format;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.UniqueId;
 import org.verifyica.api.Argument;
-import org.verifyica.api.ArgumentContext;
 import org.verifyica.api.ClassContext;
-import org.verifyica.api.ClassInterceptor;
 import org.verifyica.api.Execution;
 import org.verifyica.engine.common.Throttle;
 import org.verifyica.engine.configuration.Constants;
@@ -40,8 +36,12 @@ import org.verifyica.engine.context.ConcreteArgumentContext;
 import org.verifyica.engine.inject.Inject;
 import org.verifyica.engine.inject.Injector;
 import org.verifyica.engine.inject.Named;
+import org.verifyica.engine.interceptor.ClassInterceptorPipeline;
 import org.verifyica.engine.logger.Logger;
 import org.verifyica.engine.logger.LoggerFactory;
+import org.verifyica.engine.metrics.ClassMetrics;
+import org.verifyica.engine.support.AutoCloseableSupport;
+import org.verifyica.engine.support.FlightRecorderSupport;
 
 /** Class to implement ArgumentTestDescriptor */
 public class ArgumentTestDescriptor extends TestableTestDescriptor {
@@ -60,29 +60,28 @@ public class ArgumentTestDescriptor extends TestableTestDescriptor {
     }
 
     private final int argumentIndex;
-    private final Argument<?> argument;
+    private Argument<?> argument;
     private final List<Method> beforeAllMethods;
     private final List<Method> afterAllMethods;
-    private final List<Object> invocationArguments;
-    private final List<Throwable> throwables;
+    private List<Object> invocationArguments;
 
     @Inject
     @Named(ENGINE_EXECUTION_LISTENER)
     private EngineExecutionListener engineExecutionListener;
 
     @Inject
-    @Named(CLASS_INTERCEPTORS)
-    private List<ClassInterceptor> classInterceptors;
-
-    @Inject
-    @Named(CLASS_INTERCEPTORS_REVERSED)
-    private List<ClassInterceptor> classInterceptorsReversed;
+    @Named(CLASS_INTERCEPTOR_PIPELINE)
+    private ClassInterceptorPipeline classInterceptorPipeline;
 
     @Inject
     @Named(CLASS_CONTEXT)
     private ClassContext classContext;
 
-    private ArgumentContext argumentContext;
+    @Inject
+    @Named(CLASS_METRICS)
+    private ClassMetrics classMetrics;
+
+    private ConcreteArgumentContext argumentContext;
     private boolean markSkipped;
 
     /**
@@ -108,14 +107,12 @@ public class ArgumentTestDescriptor extends TestableTestDescriptor {
         this.argument = argument;
         this.beforeAllMethods = beforeAllMethods;
         this.afterAllMethods = afterAllMethods;
-        this.invocationArguments = new ArrayList<>();
-        this.throwables = new ArrayList<>();
     }
 
     /**
      * Method to get argument
      *
-     * @return the argument
+     * @return the argument, or null if the state of the test descriptor was released
      */
     public Argument<?> getArgument() {
         return argument;
@@ -123,18 +120,25 @@ public class ArgumentTestDescriptor extends TestableTestDescriptor {
 
     @Override
     public ArgumentTestDescriptor test() {
+        Object event = beginEvent(FlightRecorderSupport.EventType.ARGUMENT);
+
         try {
             argumentContext = new ConcreteArgumentContext(classContext, argumentIndex, argument);
 
-            invocationArguments.add(argumentContext.getTestArgument().getPayload());
-            invocationArguments.add(argumentContext.getTestArgument());
-            invocationArguments.add(argumentContext);
+            // Shared, read only, with the test method test descriptors
+            invocationArguments = Arrays.asList(
+                    argumentContext.getTestArgument().getPayload(), argumentContext.getTestArgument(), argumentContext);
 
             for (TestDescriptor testDescriptor : getChildren()) {
                 Injector.inject(ENGINE_EXECUTION_LISTENER, engineExecutionListener, testDescriptor);
-                Injector.inject(CLASS_INTERCEPTORS, classInterceptors, testDescriptor);
-                Injector.inject(CLASS_INTERCEPTORS_REVERSED, classInterceptorsReversed, testDescriptor);
+                Injector.inject(CLASS_INTERCEPTOR_PIPELINE, classInterceptorPipeline, testDescriptor);
                 Injector.inject(ARGUMENT_CONTEXT, argumentContext, testDescriptor);
+                Injector.inject(INVOCATION_ARGUMENTS, invocationArguments, testDescriptor);
+                Injector.inject(CLASS_METRICS, classMetrics, testDescriptor);
+                Injector.inject(TIMELINE, getTimeline(), testDescriptor);
+                Injector.inject(RESOURCE_ACCOUNTING, getResourceAccounting(), testDescriptor);
+                Injector.inject(ENGINE_MANAGEMENT, getEngineManagement(), testDescriptor);
+                Injector.inject(CLEANUP_EXECUTOR_SERVICE, getCleanupExecutorService(), testDescriptor);
             }
 
             engineExecutionListener.executionStarted(this);
@@ -147,6 +151,9 @@ public class ArgumentTestDescriptor extends TestableTestDescriptor {
                 LOGGER.trace("testDescriptor [%s] state [%s]", this, state);
                 throttle.throttle();
 
+                State phase = state;
+                long startNanos = startPhase(classMetrics);
+
                 switch (state) {
                     case START: {
                         state = State.BEFORE_ALL;
@@ -180,6 +187,8 @@ public class ArgumentTestDescriptor extends TestableTestDescriptor {
                         throw new IllegalStateException(format("Invalid State [%s]", state));
                     }
                 }
+
+                stopPhase(classMetrics, ClassMetrics.Scope.ARGUMENT, phase, startNanos);
             }
 
             TestExecutionResult testExecutionResult;
@@ -189,12 +198,12 @@ public class ArgumentTestDescriptor extends TestableTestDescriptor {
                 setTestDescriptorStatus(TestDescriptorStatus.skipped());
                 engineExecutionListener.executionSkipped(this, "Skipped");
             } else {
-                if (throwables.isEmpty()) {
+                if (getFirstThrowable() == null) {
                     testExecutionResult = TestExecutionResult.successful();
                     testDescriptorStatus = TestDescriptorStatus.passed();
                 } else {
-                    testExecutionResult = TestExecutionResult.failed(throwables.get(0));
-                    testDescriptorStatus = TestDescriptorStatus.failed(throwables.get(0));
+                    testExecutionResult = TestExecutionResult.failed(getFirstThrowable());
+                    testDescriptorStatus = TestDescriptorStatus.failed(getFirstThrowable());
                 }
 
                 setTestDescriptorStatus(testDescriptorStatus);
@@ -206,17 +215,45 @@ public class ArgumentTestDescriptor extends TestableTestDescriptor {
             engineExecutionListener.executionFinished(this, TestExecutionResult.failed(t));
         }
 
+        endEvent(event, getDisplayName());
+        recordResources(ClassMetrics.Scope.ARGUMENT);
+
+        if (isReleasable(classContext != null ? classContext.getConfiguration() : null)) {
+            release();
+        }
+
         return this;
     }
 
+    /** Method to release the state of a completed test descriptor */
+    private void release() {
+        LOGGER.trace("release() testDescriptor [%s]", this);
+
+        argument = null;
+        argumentContext = null;
+        invocationArguments = null;
+        classContext = null;
+        classInterceptorPipeline = null;
+        releaseFirstThrowable();
+    }
+
+    @Override
+    protected String getEventTestClass() {
+        return classContext != null ? classContext.getTestClass().getName() : null;
+    }
+
+    @Override
+    protected String getEventArgument() {
+        return getDisplayName();
+    }
+
     @Override
     public void skip() {
         engineExecutionListener.executionStarted(this);
 
         getChildren().stream().map(TESTABLE_TEST_DESCRIPTOR_MAPPER).forEach(testableTestDescriptor -> {
             Injector.inject(ENGINE_EXECUTION_LISTENER, engineExecutionListener, testableTestDescriptor);
-            Injector.inject(CLASS_INTERCEPTORS, classInterceptors, testableTestDescriptor);
-            Injector.inject(CLASS_INTERCEPTORS_REVERSED, classInterceptorsReversed, testableTestDescriptor);
+            Injector.inject(CLASS_INTERCEPTOR_PIPELINE, classInterceptorPipeline, testableTestDescriptor);
             Injector.inject(CLASS_CONTEXT, classContext, testableTestDescriptor);
             testableTestDescriptor.skip();
         });
@@ -230,9 +267,7 @@ public class ArgumentTestDescriptor extends TestableTestDescriptor {
         Throwable throwable = null;
 
         try {
-            for (ClassInterceptor classInterceptor : classInterceptors) {
-                classInterceptor.preBeforeAll(argumentContext);
-            }
+            classInterceptorPipeline.preBeforeAll(argumentContext);
         } catch (Throwable t) {
             throwable = t;
         }
@@ -255,13 +290,11 @@ public class ArgumentTestDescriptor extends TestableTestDescriptor {
         }
 
         try {
-            for (ClassInterceptor classInterceptor : classInterceptorsReversed) {
-                classInterceptor.postBeforeAll(argumentContext, throwable);
-            }
+            classInterceptorPipeline.postBeforeAll(argumentContext, throwable);
         } catch (Throwable t) {
             throwable = t;
             printStackTrace(t);
-            throwables.add(t);
+            addThrowable(t);
         }
 
         if (markSkipped) {
@@ -295,8 +328,7 @@ public class ArgumentTestDescriptor extends TestableTestDescriptor {
     private State doSkipChildren() {
         getChildren().stream().map(TESTABLE_TEST_DESCRIPTOR_MAPPER).forEach(testableTestDescriptor -> {
             Injector.inject(ENGINE_EXECUTION_LISTENER, engineExecutionListener, testableTestDescriptor);
-            Injector.inject(CLASS_INTERCEPTORS, classInterceptors, testableTestDescriptor);
-            Injector.inject(CLASS_INTERCEPTORS_REVERSED, classInterceptorsReversed, testableTestDescriptor);
+            Injector.inject(CLASS_INTERCEPTOR_PIPELINE, classInterceptorPipeline, testableTestDescriptor);
             Injector.inject(CLASS_CONTEXT, classContext, testableTestDescriptor);
             testableTestDescriptor.skip();
         });
@@ -308,9 +340,7 @@ public class ArgumentTestDescriptor extends TestableTestDescriptor {
         Throwable throwable = null;
 
         try {
-            for (ClassInterceptor classInterceptor : classInterceptors) {
-                classInterceptor.preAfterAll(argumentContext);
-            }
+            classInterceptorPipeline.preAfterAll(argumentContext);
         } catch (Throwable t) {
             throwable = t;
         }
@@ -331,12 +361,10 @@ public class ArgumentTestDescriptor extends TestableTestDescriptor {
         }
 
         try {
-            for (ClassInterceptor classInterceptor : classInterceptorsReversed) {
-                classInterceptor.postAfterAll(argumentContext, throwable);
-            }
+            classInterceptorPipeline.postAfterAll(argumentContext, throwable);
         } catch (Throwable t) {
             printStackTrace(t);
-            throwables.add(t);
+            addThrowable(t);
         }
 
         return State.CLOSE;
@@ -348,7 +376,7 @@ public class ArgumentTestDescriptor extends TestableTestDescriptor {
                 ((AutoCloseable) argument).close();
             } catch (Throwable t) {
                 printStackTrace(t);
-                throwables.add(t);
+                addThrowable(t);
             }
         }
 
@@ -356,21 +384,12 @@ public class ArgumentTestDescriptor extends TestableTestDescriptor {
     }
 
     private State doCleanup() {
-        Map<String, Object> map = argumentContext.getMap();
-
-        Set<Map.Entry<String, Object>> entrySet = map.entrySet();
-        for (Map.Entry<String, Object> entry : entrySet) {
-            if (entry.getValue() instanceof AutoCloseable) {
-                try {
-                    ((AutoCloseable) entry.getValue()).close();
-                } catch (Throwable t) {
-                    printStackTrace(t);
-                    throwables.add(t);
-                }
-            }
+        for (Throwable throwable : AutoCloseableSupport.closeAll(argumentContext, getCleanupExecutorService())) {
+            printStackTrace(throwable);
+            addThrowable(throwable);
         }
 
-        map.clear();
+        argumentContext.clear();
 
         return State.END;
     }
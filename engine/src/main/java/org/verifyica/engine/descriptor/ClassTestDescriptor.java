@@ -23,15 +23,15 @@ import io.github.thunkware.vt.bridge.ThreadNameRunnable;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.TestDescriptor;
@@ -39,12 +39,13 @@ import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.TestSource;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.ClassSource;
-import org.verifyica.api.ClassContext;
 import org.verifyica.api.ClassInterceptor;
 import org.verifyica.api.EngineContext;
 import org.verifyica.api.Execution;
 import org.verifyica.api.Verifyica;
+import org.verifyica.engine.common.AdjustableLimiter;
 import org.verifyica.engine.common.DirectExecutorService;
+import org.verifyica.engine.common.LimiterRunnable;
 import org.verifyica.engine.common.SemaphoreRunnable;
 import org.verifyica.engine.common.Throttle;
 import org.verifyica.engine.configuration.Constants;
@@ -52,9 +53,14 @@ import org.verifyica.engine.context.ConcreteClassContext;
 import org.verifyica.engine.inject.Inject;
 import org.verifyica.engine.inject.Injector;
 import org.verifyica.engine.inject.Named;
+import org.verifyica.engine.interceptor.ClassInterceptorPipeline;
 import org.verifyica.engine.logger.Logger;
 import org.verifyica.engine.logger.LoggerFactory;
+import org.verifyica.engine.metrics.ClassMetrics;
+import org.verifyica.engine.metrics.MetricsRegistry;
+import org.verifyica.engine.support.AutoCloseableSupport;
 import org.verifyica.engine.support.ExecutorServiceSupport;
+import org.verifyica.engine.support.FlightRecorderSupport;
 import org.verifyica.engine.support.HashSupport;
 
 /** Class to implement ClassTestDescriptor */
@@ -82,8 +88,7 @@ public class ClassTestDescriptor extends TestableTestDescriptor {
     private final Class<?> testClass;
     private final List<Method> prepareMethods;
     private final List<Method> concludeMethods;
-    private final List<Object> invocationArguments;
-    private final List<Throwable> throwables;
+    private List<Object> invocationArguments;
 
     @Inject
     @Named(ENGINE_EXECUTION_LISTENER)
@@ -93,19 +98,25 @@ public class ClassTestDescriptor extends TestableTestDescriptor {
     @Named(CLASS_INTERCEPTORS)
     private List<ClassInterceptor> classInterceptors;
 
-    @Inject
-    @Named(CLASS_INTERCEPTORS_REVERSED)
-    private List<ClassInterceptor> classInterceptorsReversed;
-
     @Inject
     @Named(ARGUMENT_EXECUTOR_SERVICE)
     private ExecutorService argumentExecutorService;
 
+    @Inject
+    @Named(ARGUMENT_LIMITER)
+    private AdjustableLimiter argumentLimiter;
+
     @Inject
     @Named(ENGINE_CONTEXT)
     private EngineContext engineContext;
 
-    private ClassContext classContext;
+    @Inject
+    @Named(METRICS_REGISTRY)
+    private MetricsRegistry metricsRegistry;
+
+    private ConcreteClassContext classContext;
+    private ClassInterceptorPipeline classInterceptorPipeline;
+    private ClassMetrics classMetrics;
     private final AtomicReference<Object> testInstanceAtomicReference;
     private boolean markedSkipped;
 
@@ -136,8 +147,7 @@ public class ClassTestDescriptor extends TestableTestDescriptor {
         this.prepareMethods = prepareMethods;
         this.concludeMethods = concludeMethods;
         this.testInstanceAtomicReference = new AtomicReference<>();
-        this.throwables = new ArrayList<>();
-        this.invocationArguments = new ArrayList<>();
+        this.invocationArguments = Collections.emptyList();
     }
 
     @Override
@@ -156,6 +166,8 @@ public class ClassTestDescriptor extends TestableTestDescriptor {
 
     @Override
     public ClassTestDescriptor test() {
+        Object event = beginEvent(FlightRecorderSupport.EventType.CLASS);
+
         try {
             classContext = new ConcreteClassContext(
                     engineContext,
@@ -165,27 +177,20 @@ public class ClassTestDescriptor extends TestableTestDescriptor {
                     testArgumentParallelism,
                     testInstanceAtomicReference);
 
-            classInterceptors = classInterceptors.stream()
-                    .filter(classInterceptor -> {
-                        Predicate<ClassContext> predicate = classInterceptor.predicate();
-                        return predicate == null || predicate.test(classContext);
-                    })
-                    .collect(Collectors.toList());
-
-            classInterceptorsReversed = classInterceptorsReversed.stream()
-                    .filter(classInterceptor -> {
-                        Predicate<ClassContext> predicate = classInterceptor.predicate();
-                        return predicate == null || predicate.test(classContext);
-                    })
-                    .collect(Collectors.toList());
+            classMetrics = metricsRegistry != null ? metricsRegistry.getClassMetrics(testClass) : null;
+            classInterceptorPipeline = new ClassInterceptorPipeline(classInterceptors, classContext, classMetrics);
 
             engineExecutionListener.executionStarted(this);
 
             for (TestDescriptor testDescriptor : getChildren()) {
                 Injector.inject(ENGINE_EXECUTION_LISTENER, engineExecutionListener, testDescriptor);
-                Injector.inject(CLASS_INTERCEPTORS, classInterceptors, testDescriptor);
-                Injector.inject(CLASS_INTERCEPTORS_REVERSED, classInterceptorsReversed, testDescriptor);
+                Injector.inject(CLASS_INTERCEPTOR_PIPELINE, classInterceptorPipeline, testDescriptor);
                 Injector.inject(CLASS_CONTEXT, classContext, testDescriptor);
+                Injector.inject(CLASS_METRICS, classMetrics, testDescriptor);
+                Injector.inject(TIMELINE, getTimeline(), testDescriptor);
+                Injector.inject(RESOURCE_ACCOUNTING, getResourceAccounting(), testDescriptor);
+                Injector.inject(ENGINE_MANAGEMENT, getEngineManagement(), testDescriptor);
+                Injector.inject(CLEANUP_EXECUTOR_SERVICE, getCleanupExecutorService(), testDescriptor);
             }
 
             Throttle throttle =
@@ -196,6 +201,9 @@ public class ClassTestDescriptor extends TestableTestDescriptor {
                 LOGGER.trace("testDescriptor [%s] state [%s]", this, state);
                 throttle.throttle();
 
+                State phase = state;
+                long startNanos = startPhase(classMetrics);
+
                 switch (state) {
                     case START: {
                         state = State.INSTANTIATE;
@@ -237,6 +245,8 @@ public class ClassTestDescriptor extends TestableTestDescriptor {
                         throw new IllegalStateException(format("Invalid State [%s]", state));
                     }
                 }
+
+                stopPhase(classMetrics, ClassMetrics.Scope.CLASS, phase, startNanos);
             }
 
             TestExecutionResult testExecutionResult;
@@ -246,12 +256,12 @@ public class ClassTestDescriptor extends TestableTestDescriptor {
                 setTestDescriptorStatus(TestDescriptorStatus.skipped());
                 engineExecutionListener.executionSkipped(this, "Skipped");
             } else {
-                if (throwables.isEmpty()) {
+                if (getFirstThrowable() == null) {
                     testExecutionResult = TestExecutionResult.successful();
                     testDescriptorStatus = TestDescriptorStatus.passed();
                 } else {
-                    testExecutionResult = TestExecutionResult.failed(throwables.get(0));
-                    testDescriptorStatus = TestDescriptorStatus.failed(throwables.get(0));
+                    testExecutionResult = TestExecutionResult.failed(getFirstThrowable());
+                    testDescriptorStatus = TestDescriptorStatus.failed(getFirstThrowable());
                 }
 
                 setTestDescriptorStatus(testDescriptorStatus);
@@ -263,9 +273,31 @@ public class ClassTestDescriptor extends TestableTestDescriptor {
             engineExecutionListener.executionFinished(this, TestExecutionResult.failed(t));
         }
 
+        endEvent(event, getDisplayName());
+
+        if (isReleasable(engineContext != null ? engineContext.getConfiguration() : null)) {
+            release();
+        }
+
         return this;
     }
 
+    /** Method to release the state of a completed test descriptor */
+    private void release() {
+        LOGGER.trace("release() testDescriptor [%s]", this);
+
+        classContext = null;
+        classInterceptorPipeline = null;
+        classInterceptors = null;
+        invocationArguments = Collections.emptyList();
+        releaseFirstThrowable();
+    }
+
+    @Override
+    protected String getEventTestClass() {
+        return testClass.getName();
+    }
+
     @Override
     public void skip() {
         engineExecutionListener.executionStarted(this);
@@ -281,9 +313,7 @@ public class ClassTestDescriptor extends TestableTestDescriptor {
         Throwable throwable = null;
 
         try {
-            for (ClassInterceptor classInterceptor : classInterceptors) {
-                classInterceptor.preInstantiate(engineContext, testClass);
-            }
+            classInterceptorPipeline.preInstantiate(engineContext, testClass);
         } catch (Throwable t) {
             throwable = t;
         }
@@ -300,18 +330,15 @@ public class ClassTestDescriptor extends TestableTestDescriptor {
 
                 testInstanceAtomicReference.set(object);
 
-                invocationArguments.add(object);
-                invocationArguments.add(classContext);
+                invocationArguments = Arrays.asList(object, classContext);
             } catch (Throwable t) {
                 throwable = t.getCause();
             }
         }
 
         try {
-            for (ClassInterceptor classInterceptor : classInterceptorsReversed) {
-                classInterceptor.postInstantiate(
-                        engineContext, testClass, testInstanceAtomicReference.get(), throwable);
-            }
+            classInterceptorPipeline.postInstantiate(
+                    engineContext, testClass, testInstanceAtomicReference.get(), throwable);
         } catch (Throwable t) {
             throwable = t;
         }
@@ -323,9 +350,7 @@ public class ClassTestDescriptor extends TestableTestDescriptor {
         Throwable throwable = null;
 
         try {
-            for (ClassInterceptor classInterceptor : classInterceptors) {
-                classInterceptor.prePrepare(classContext);
-            }
+            classInterceptorPipeline.prePrepare(classContext);
         } catch (Throwable t) {
             throwable = t;
         }
@@ -348,13 +373,11 @@ public class ClassTestDescriptor extends TestableTestDescriptor {
         }
 
         try {
-            for (ClassInterceptor classInterceptor : classInterceptorsReversed) {
-                classInterceptor.postPrepare(classContext, throwable);
-            }
+            classInterceptorPipeline.postPrepare(classContext, throwable);
         } catch (Throwable t) {
             throwable = t;
             printStackTrace(t);
-            throwables.add(t);
+            addThrowable(t);
         }
 
         if (markedSkipped) {
@@ -390,9 +413,18 @@ public class ClassTestDescriptor extends TestableTestDescriptor {
         for (TestableTestDescriptor testableTestDescriptor : testableTestDescriptors) {
             String threadName = Thread.currentThread().getName();
             threadName = threadName.substring(0, threadName.indexOf("/") + 1) + HashSupport.alphanumeric(6);
-            ThreadNameRunnable threadNameRunnable = new ThreadNameRunnable(threadName, testableTestDescriptor::test);
-            SemaphoreRunnable semaphoreRunnable = new SemaphoreRunnable(semaphore, threadNameRunnable);
-            Future<?> future = executorService.submit(semaphoreRunnable);
+            Runnable runnable = new ThreadNameRunnable(threadName, testableTestDescriptor::test);
+            if (getTimeline() != null) {
+                // Records the wait for the executor, the argument limiter, and the semaphore
+                runnable = getTimeline().queueWait(runnable, testableTestDescriptor);
+            }
+            if (executorService == argumentExecutorService && argumentLimiter != null) {
+                // Arguments of all classes share the argument limiter, which can be changed while running
+                runnable = new LimiterRunnable(argumentLimiter, runnable);
+            }
+            SemaphoreRunnable semaphoreRunnable = new SemaphoreRunnable(semaphore, runnable);
+            Future<?> future = executorService.submit(FlightRecorderSupport.queueWait(
+                    semaphoreRunnable, testClass.getName(), testableTestDescriptor.getDisplayName()));
             futures.add(future);
         }
 
@@ -404,8 +436,7 @@ public class ClassTestDescriptor extends TestableTestDescriptor {
     private State doSkipChildren() {
         getChildren().stream().map(TESTABLE_TEST_DESCRIPTOR_MAPPER).forEach(testableTestDescriptor -> {
             Injector.inject(ENGINE_EXECUTION_LISTENER, engineExecutionListener, testableTestDescriptor);
-            Injector.inject(CLASS_INTERCEPTORS, classInterceptors, testableTestDescriptor);
-            Injector.inject(CLASS_INTERCEPTORS_REVERSED, classInterceptorsReversed, testableTestDescriptor);
+            Injector.inject(CLASS_INTERCEPTOR_PIPELINE, classInterceptorPipeline, testableTestDescriptor);
             Injector.inject(CLASS_CONTEXT, classContext, testableTestDescriptor);
             testableTestDescriptor.skip();
         });
@@ -417,9 +448,7 @@ public class ClassTestDescriptor extends TestableTestDescriptor {
         Throwable throwable = null;
 
         try {
-            for (ClassInterceptor classInterceptor : classInterceptors) {
-                classInterceptor.preConclude(classContext);
-            }
+            classInterceptorPipeline.preConclude(classContext);
         } catch (Throwable t) {
             throwable = t;
         }
@@ -440,12 +469,10 @@ public class ClassTestDescriptor extends TestableTestDescriptor {
         }
 
         try {
-            for (ClassInterceptor classInterceptor : classInterceptorsReversed) {
-                classInterceptor.postConclude(classContext, throwable);
-            }
+            classInterceptorPipeline.postConclude(classContext, throwable);
         } catch (Throwable t) {
             printStackTrace(t);
-            throwables.add(t);
+            addThrowable(t);
         }
 
         return State.DESTROY;
@@ -453,12 +480,10 @@ public class ClassTestDescriptor extends TestableTestDescriptor {
 
     private State doDestroy() {
         try {
-            for (ClassInterceptor classInterceptor : classInterceptorsReversed) {
-                classInterceptor.onDestroy(classContext);
-            }
+            classInterceptorPipeline.onDestroy(classContext);
         } catch (Throwable t) {
             printStackTrace(t);
-            throwables.add(t);
+            addThrowable(t);
         }
 
         return State.CLOSE;
@@ -470,7 +495,7 @@ public class ClassTestDescriptor extends TestableTestDescriptor {
                 ((AutoCloseable) testInstanceAtomicReference.get()).close();
             } catch (Throwable t) {
                 printStackTrace(t);
-                throwables.add(t);
+                addThrowable(t);
             }
         }
 
@@ -480,21 +505,12 @@ public class ClassTestDescriptor extends TestableTestDescriptor {
     }
 
     private State doCleanup() {
-        Map<String, Object> map = classContext.getMap();
-
-        Set<Map.Entry<String, Object>> entrySet = map.entrySet();
-        for (Map.Entry<String, Object> entry : entrySet) {
-            if (entry.getValue() instanceof AutoCloseable) {
-                try {
-                    ((AutoCloseable) entry.getValue()).close();
-                } catch (Throwable t) {
-                    printStackTrace(t);
-                    throwables.add(t);
-                }
-            }
+        for (Throwable throwable : AutoCloseableSupport.closeAll(classContext, getCleanupExecutorService())) {
+            printStackTrace(throwable);
+            addThrowable(throwable);
         }
 
-        map.clear();
+        classContext.clear();
 
         return State.END;
     }
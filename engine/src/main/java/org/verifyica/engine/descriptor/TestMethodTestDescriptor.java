@@ -21,7 +21,6 @@ import static java.util.Optional.of;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import org.junit.platform.engine.EngineExecutionListener;
@@ -30,14 +29,16 @@ import org.junit.platform.engine.TestSource;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.MethodSource;
 import org.verifyica.api.ArgumentContext;
-import org.verifyica.api.ClassInterceptor;
 import org.verifyica.api.Execution;
 import org.verifyica.engine.common.Throttle;
 import org.verifyica.engine.configuration.Constants;
 import org.verifyica.engine.inject.Inject;
 import org.verifyica.engine.inject.Named;
+import org.verifyica.engine.interceptor.ClassInterceptorPipeline;
 import org.verifyica.engine.logger.Logger;
 import org.verifyica.engine.logger.LoggerFactory;
+import org.verifyica.engine.metrics.ClassMetrics;
+import org.verifyica.engine.support.FlightRecorderSupport;
 
 /** Class to implement TestMethodDescriptor */
 public class TestMethodTestDescriptor extends TestableTestDescriptor {
@@ -55,25 +56,27 @@ public class TestMethodTestDescriptor extends TestableTestDescriptor {
     private final List<Method> beforeEachMethods;
     private final Method testMethod;
     private final List<Method> afterEachMethods;
-    private final List<Object> invocationArguments;
-    private final List<Throwable> throwables;
 
     @Inject
     @Named(ENGINE_EXECUTION_LISTENER)
     private EngineExecutionListener engineExecutionListener;
 
     @Inject
-    @Named(CLASS_INTERCEPTORS)
-    private List<ClassInterceptor> classInterceptors;
-
-    @Inject
-    @Named(CLASS_INTERCEPTORS_REVERSED)
-    private List<ClassInterceptor> classInterceptorsReversed;
+    @Named(CLASS_INTERCEPTOR_PIPELINE)
+    private ClassInterceptorPipeline classInterceptorPipeline;
 
     @Inject
     @Named(ARGUMENT_CONTEXT)
     private ArgumentContext argumentContext;
 
+    @Inject
+    @Named(INVOCATION_ARGUMENTS)
+    private List<Object> invocationArguments;
+
+    @Inject
+    @Named(CLASS_METRICS)
+    private ClassMetrics classMetrics;
+
     private boolean markSkipped;
 
     /**
@@ -96,8 +99,6 @@ public class TestMethodTestDescriptor extends TestableTestDescriptor {
         this.beforeEachMethods = beforeEachMethods;
         this.testMethod = testMethod;
         this.afterEachMethods = afterEachMethods;
-        this.invocationArguments = new ArrayList<>();
-        this.throwables = new ArrayList<>();
     }
 
     @Override
@@ -121,11 +122,9 @@ public class TestMethodTestDescriptor extends TestableTestDescriptor {
 
     @Override
     public TestMethodTestDescriptor test() {
-        try {
-            invocationArguments.add(argumentContext.getTestArgument().getPayload());
-            invocationArguments.add(argumentContext.getTestArgument());
-            invocationArguments.add(argumentContext);
+        Object event = beginEvent(FlightRecorderSupport.EventType.TEST_METHOD);
 
+        try {
             engineExecutionListener.executionStarted(this);
 
             Throttle throttle =
@@ -136,6 +135,9 @@ public class TestMethodTestDescriptor extends TestableTestDescriptor {
                 LOGGER.trace("testDescriptor [%s] state [%s]", this, state);
                 throttle.throttle();
 
+                State phase = state;
+                long startNanos = startPhase(classMetrics);
+
                 switch (state) {
                     case START: {
                         state = State.BEFORE_EACH;
@@ -157,6 +159,8 @@ public class TestMethodTestDescriptor extends TestableTestDescriptor {
                         throw new IllegalStateException(format("Invalid State [%s]", state));
                     }
                 }
+
+                stopPhase(classMetrics, ClassMetrics.Scope.TEST, phase, startNanos);
             }
 
             TestExecutionResult testExecutionResult;
@@ -166,12 +170,12 @@ public class TestMethodTestDescriptor extends TestableTestDescriptor {
                 setTestDescriptorStatus(TestDescriptorStatus.skipped());
                 engineExecutionListener.executionSkipped(this, "Skipped");
             } else {
-                if (throwables.isEmpty()) {
+                if (getFirstThrowable() == null) {
                     testExecutionResult = TestExecutionResult.successful();
                     testDescriptorStatus = TestDescriptorStatus.passed();
                 } else {
-                    testExecutionResult = TestExecutionResult.failed(throwables.get(0));
-                    testDescriptorStatus = TestDescriptorStatus.failed(throwables.get(0));
+                    testExecutionResult = TestExecutionResult.failed(getFirstThrowable());
+                    testDescriptorStatus = TestDescriptorStatus.failed(getFirstThrowable());
                 }
 
                 setTestDescriptorStatus(testDescriptorStatus);
@@ -183,9 +187,43 @@ public class TestMethodTestDescriptor extends TestableTestDescriptor {
             engineExecutionListener.executionFinished(this, TestExecutionResult.failed(t));
         }
 
+        endEvent(event, getDisplayName());
+        recordResources(ClassMetrics.Scope.TEST);
+
+        if (isReleasable(argumentContext != null ? argumentContext.getConfiguration() : null)) {
+            release();
+        }
+
         return this;
     }
 
+    /** Method to release the state of a completed test descriptor */
+    private void release() {
+        LOGGER.trace("release() testDescriptor [%s]", this);
+
+        argumentContext = null;
+        invocationArguments = null;
+        classInterceptorPipeline = null;
+        releaseFirstThrowable();
+    }
+
+    @Override
+    protected String getEventTestClass() {
+        return argumentContext != null
+                ? argumentContext.getClassContext().getTestClass().getName()
+                : null;
+    }
+
+    @Override
+    protected String getEventArgument() {
+        return argumentContext != null ? argumentContext.getTestArgument().getName() : null;
+    }
+
+    @Override
+    protected String getEventTestMethod() {
+        return testMethod.getName();
+    }
+
     @Override
     public void skip() {
         engineExecutionListener.executionStarted(this);
@@ -198,9 +236,7 @@ public class TestMethodTestDescriptor extends TestableTestDescriptor {
         Throwable throwable = null;
 
         try {
-            for (ClassInterceptor classInterceptor : classInterceptors) {
-                classInterceptor.preBeforeEach(argumentContext);
-            }
+            classInterceptorPipeline.preBeforeEach(argumentContext);
         } catch (Throwable t) {
             throwable = t;
         }
@@ -223,13 +259,11 @@ public class TestMethodTestDescriptor extends TestableTestDescriptor {
         }
 
         try {
-            for (ClassInterceptor classInterceptor : classInterceptorsReversed) {
-                classInterceptor.postBeforeEach(argumentContext, throwable);
-            }
+            classInterceptorPipeline.postBeforeEach(argumentContext, throwable);
         } catch (Throwable t) {
             throwable = t;
             printStackTrace(t);
-            throwables.add(t);
+            addThrowable(t);
         }
 
         if (markSkipped) {
@@ -245,9 +279,7 @@ public class TestMethodTestDescriptor extends TestableTestDescriptor {
         Throwable throwable = null;
 
         try {
-            for (ClassInterceptor classInterceptor : classInterceptors) {
-                classInterceptor.preTest(argumentContext, testMethod);
-            }
+            classInterceptorPipeline.preTest(argumentContext, testMethod);
         } catch (Throwable t) {
             throwable = t;
         }
@@ -268,12 +300,10 @@ public class TestMethodTestDescriptor extends TestableTestDescriptor {
         }
 
         try {
-            for (ClassInterceptor classInterceptor : classInterceptorsReversed) {
-                classInterceptor.postTest(argumentContext, testMethod, throwable);
-            }
+            classInterceptorPipeline.postTest(argumentContext, testMethod, throwable);
         } catch (Throwable t) {
             printStackTrace(t);
-            throwables.add(t);
+            addThrowable(t);
         }
 
         return State.AFTER_EACH;
@@ -283,9 +313,7 @@ public class TestMethodTestDescriptor extends TestableTestDescriptor {
         Throwable throwable = null;
 
         try {
-            for (ClassInterceptor classInterceptor : classInterceptors) {
-                classInterceptor.preAfterEach(argumentContext);
-            }
+            classInterceptorPipeline.preAfterEach(argumentContext);
         } catch (Throwable t) {
             throwable = t;
         }
@@ -306,12 +334,10 @@ public class TestMethodTestDescriptor extends TestableTestDescriptor {
         }
 
         try {
-            for (ClassInterceptor classInterceptor : classInterceptorsReversed) {
-                classInterceptor.postAfterEach(argumentContext, throwable);
-            }
+            classInterceptorPipeline.postAfterEach(argumentContext, throwable);
         } catch (Throwable t) {
             printStackTrace(t);
-            throwables.add(t);
+            addThrowable(t);
         }
 
         return State.END;
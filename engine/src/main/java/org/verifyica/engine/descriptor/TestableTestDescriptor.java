@@ -21,6 +21,7 @@ import static java.lang.String.format;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import org.junit.platform.engine.EngineExecutionListener;
@@ -31,9 +32,17 @@ import org.verifyica.api.Configuration;
 import org.verifyica.engine.common.AnsiColor;
 import org.verifyica.engine.common.StackTracePrinter;
 import org.verifyica.engine.common.Throttle;
+import org.verifyica.engine.configuration.ConfigurationSnapshot;
+import org.verifyica.engine.configuration.Constants;
 import org.verifyica.engine.exception.TestClassDefinitionException;
 import org.verifyica.engine.inject.Inject;
 import org.verifyica.engine.inject.Named;
+import org.verifyica.engine.listener.TimelineEngineExecutionListener;
+import org.verifyica.engine.management.EngineManagement;
+import org.verifyica.engine.metrics.ClassMetrics;
+import org.verifyica.engine.metrics.ResourceAccounting;
+import org.verifyica.engine.support.ClassSupport;
+import org.verifyica.engine.support.FlightRecorderSupport;
 
 /** Class to implement TestableTestDescriptor */
 public abstract class TestableTestDescriptor extends AbstractTestDescriptor {
@@ -45,11 +54,14 @@ public abstract class TestableTestDescriptor extends AbstractTestDescriptor {
     public static final String CLASS_INTERCEPTORS = "classInterceptors";
 
     /** Named annotation field constant */
-    public static final String CLASS_INTERCEPTORS_REVERSED = "classInterceptorsReversed";
+    public static final String CLASS_INTERCEPTOR_PIPELINE = "classInterceptorPipeline";
 
     /** Named annotation field constant */
     public static final String ARGUMENT_EXECUTOR_SERVICE = "argumentExecutorService";
 
+    /** Named annotation field constant */
+    public static final String ARGUMENT_LIMITER = "argumentLimiter";
+
     /** Named annotation field constant */
     public static final String ENGINE_CONTEXT = "engineContext";
 
@@ -59,6 +71,27 @@ public abstract class TestableTestDescriptor extends AbstractTestDescriptor {
     /** Named annotation field constant */
     public static final String ARGUMENT_CONTEXT = "argumentContext";
 
+    /** Named annotation field constant */
+    public static final String INVOCATION_ARGUMENTS = "invocationArguments";
+
+    /** Named annotation field constant */
+    public static final String METRICS_REGISTRY = "metricsRegistry";
+
+    /** Named annotation field constant */
+    public static final String CLASS_METRICS = "classMetrics";
+
+    /** Named annotation field constant */
+    public static final String TIMELINE = "timeline";
+
+    /** Named annotation field constant */
+    public static final String RESOURCE_ACCOUNTING = "resourceAccounting";
+
+    /** Named annotation field constant */
+    public static final String ENGINE_MANAGEMENT = "engineManagement";
+
+    /** Named annotation field constant */
+    public static final String CLEANUP_EXECUTOR_SERVICE = "cleanupExecutorService";
+
     /**
      * Predicate to filter TestableTestDescriptors
      */
@@ -75,7 +108,33 @@ public abstract class TestableTestDescriptor extends AbstractTestDescriptor {
     @Named(ENGINE_EXECUTION_LISTENER)
     private EngineExecutionListener engineExecutionListener;
 
+    @Inject
+    @Named(TIMELINE)
+    private TimelineEngineExecutionListener timeline;
+
+    @Inject
+    @Named(RESOURCE_ACCOUNTING)
+    private ResourceAccounting resourceAccounting;
+
+    @Inject
+    @Named(ENGINE_MANAGEMENT)
+    private EngineManagement engineManagement;
+
+    @Inject
+    @Named(CLEANUP_EXECUTOR_SERVICE)
+    private ExecutorService cleanupExecutorService;
+
     private TestDescriptorStatus testDescriptorStatus;
+    private Throwable firstThrowable;
+    private long userNanos;
+    private boolean userInvoked;
+    private Object phaseEvent;
+    private Thread phaseThread;
+    private long phaseCpuNanos;
+    private long phaseAllocatedBytes;
+    private long cpuNanos;
+    private long allocatedBytes;
+    private boolean unmeasured;
 
     /**
      * Constructor
@@ -122,6 +181,115 @@ public abstract class TestableTestDescriptor extends AbstractTestDescriptor {
         this.testDescriptorStatus = testDescriptorStatus;
     }
 
+    /**
+     * Method to get the timeline
+     *
+     * @return the timeline, or null if the timeline is not recorded
+     */
+    protected TimelineEngineExecutionListener getTimeline() {
+        return timeline;
+    }
+
+    /**
+     * Method to get the resource accounting
+     *
+     * @return the resource accounting, or null if resources are not accounted
+     */
+    protected ResourceAccounting getResourceAccounting() {
+        return resourceAccounting;
+    }
+
+    /**
+     * Method to get the engine management
+     *
+     * @return the engine management, or null if not injected
+     */
+    protected EngineManagement getEngineManagement() {
+        return engineManagement;
+    }
+
+    /**
+     * Method to get the ExecutorService used to close context values concurrently
+     *
+     * @return the ExecutorService
+     */
+    protected ExecutorService getCleanupExecutorService() {
+        return cleanupExecutorService;
+    }
+
+    /**
+     * Method to record the CPU time and allocated bytes of the state machine phases
+     *
+     * @param scope scope
+     */
+    protected void recordResources(ClassMetrics.Scope scope) {
+        if (resourceAccounting != null) {
+            resourceAccounting.record(
+                    scope,
+                    getEventTestClass(),
+                    getEventArgument(),
+                    getEventTestMethod(),
+                    cpuNanos,
+                    allocatedBytes,
+                    !unmeasured);
+        }
+    }
+
+    /**
+     * Method to return if the state of a completed test descriptor should be released, based on
+     * the configured retention policy
+     *
+     * <p>{@code all} (default) retains all state, {@code failures} retains the state of test
+     * descriptors that failed, and {@code none} retains no state. The test descriptor status is
+     * always retained
+     *
+     * @param configuration configuration
+     * @return true if the state should be released, else false
+     */
+    protected boolean isReleasable(Configuration configuration) {
+        if (configuration == null || testDescriptorStatus == null) {
+            return false;
+        }
+
+        String retain = ConfigurationSnapshot.of(configuration)
+                .get(Constants.ENGINE_RETAIN, Constants.ALL)
+                .trim();
+
+        if (Constants.NONE.equals(retain)) {
+            return true;
+        } else if (Constants.FAILURES.equals(retain)) {
+            return !testDescriptorStatus.isFailure() && !testDescriptorStatus.isSkippedWithThrowable();
+        }
+
+        return false;
+    }
+
+    /** Method to release the first Throwable, which is retained by the test descriptor status */
+    protected void releaseFirstThrowable() {
+        firstThrowable = null;
+    }
+
+    /**
+     * Method to record a Throwable. Only the first Throwable is kept, since it determines the
+     * test descriptor status
+     *
+     * @param throwable throwable
+     */
+    protected void addThrowable(Throwable throwable) {
+        if (firstThrowable == null) {
+            firstThrowable = throwable;
+        }
+    }
+
+    /**
+     * Method to get the first recorded Throwable
+     *
+     * @return the first recorded Throwable, or null if none was recorded
+     */
+    protected Throwable getFirstThrowable() {
+        return firstThrowable;
+    }
+
     /**
      * Method to invoke a Method.
      *
@@ -133,7 +301,7 @@ public abstract class TestableTestDescriptor extends AbstractTestDescriptor {
      * @throws InvocationTargetException InvocationTargetException
      * @throws IllegalAccessException IllegalAccessException
      */
-    protected static void invoke(Method method, Object instance, List<Object> arguments)
+    protected void invoke(Method method, Object instance, List<Object> arguments)
             throws InvocationTargetException, IllegalAccessException {
         invoke(method, instance, arguments, false);
     }
@@ -142,6 +310,7 @@ public abstract class TestableTestDescriptor extends AbstractTestDescriptor {
      * Method to invoke a Method.
      *
      * <p>Loops through each argument. If an argument type matches, invokes the method with the argument and returns.
+     * A primitive parameter type matches an argument of the corresponding wrapper type.
      *
      * @param method method
      * @param instance instant
@@ -150,10 +319,151 @@ public abstract class TestableTestDescriptor extends AbstractTestDescriptor {
      * @throws InvocationTargetException InvocationTargetException
      * @throws IllegalAccessException IllegalAccessException
      */
-    protected static void invoke(Method method, Object instance, List<Object> arguments, boolean noParameters)
+    protected void invoke(Method method, Object instance, List<Object> arguments, boolean noParameters)
+            throws InvocationTargetException, IllegalAccessException {
+        userInvoked = true;
+        long startNanos = System.nanoTime();
+        try {
+            invokeMethod(method, instance, arguments, noParameters);
+        } finally {
+            userNanos += System.nanoTime() - startNanos;
+        }
+    }
+
+    /**
+     * Method to start timing a state machine phase
+     *
+     * @param classMetrics classMetrics, or null if metrics are not recorded
+     * @return the phase start time in nanoseconds
+     */
+    protected long startPhase(ClassMetrics classMetrics) {
+        userNanos = 0;
+        userInvoked = false;
+        phaseEvent = FlightRecorderSupport.begin(FlightRecorderSupport.EventType.PHASE);
+        if (resourceAccounting != null) {
+            phaseThread = Thread.currentThread();
+            phaseCpuNanos = resourceAccounting.getCurrentThreadCpuNanos();
+            phaseAllocatedBytes = resourceAccounting.getCurrentThreadAllocatedBytes();
+        }
+        return classMetrics != null || timeline != null ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Method to record the time of a state machine phase
+     *
+     * <p>The total time is recorded, and the time spent in test class methods, if any were invoked,
+     * is recorded separately. The phase is recorded in the timeline, and a Java Flight Recorder
+     * phase event is committed, if enabled
+     *
+     * <p>The CPU time and allocated bytes of the phase are accounted, if enabled. A phase that
+     * finishes on a different thread, or runs on a thread that doesn't report them (e.g. a virtual
+     * thread, which may switch carrier threads), marks the test descriptor as not measured
+     *
+     * @param classMetrics classMetrics, or null if metrics are not recorded
+     * @param scope scope
+     * @param state state
+     * @param startNanos the phase start time in nanoseconds
+     */
+    protected void stopPhase(ClassMetrics classMetrics, ClassMetrics.Scope scope, Enum<?> state, long startNanos) {
+        if (classMetrics != null) {
+            classMetrics.record(scope, state, ClassMetrics.Kind.TOTAL, System.nanoTime() - startNanos);
+            if (userInvoked) {
+                classMetrics.record(scope, state, ClassMetrics.Kind.USER, userNanos);
+            }
+        }
+
+        if (timeline != null) {
+            timeline.phase(this, scope.getValue() + "." + state, startNanos, System.nanoTime());
+        }
+
+        if (phaseEvent != null) {
+            endEvent(phaseEvent, scope.getValue() + "." + state);
+            phaseEvent = null;
+        }
+
+        if (resourceAccounting != null) {
+            long stopCpuNanos = resourceAccounting.getCurrentThreadCpuNanos();
+            long stopAllocatedBytes = resourceAccounting.getCurrentThreadAllocatedBytes();
+            if (phaseThread == Thread.currentThread()
+                    && phaseCpuNanos >= 0
+                    && stopCpuNanos >= 0
+                    && phaseAllocatedBytes >= 0
+                    && stopAllocatedBytes >= 0) {
+                cpuNanos += stopCpuNanos - phaseCpuNanos;
+                allocatedBytes += stopAllocatedBytes - phaseAllocatedBytes;
+            } else {
+                unmeasured = true;
+            }
+            phaseThread = null;
+        }
+    }
+
+    /**
+     * Method to begin a Java Flight Recorder event
+     *
+     * @param eventType eventType
+     * @return the event, or null if the event is not enabled
+     */
+    protected Object beginEvent(FlightRecorderSupport.EventType eventType) {
+        return FlightRecorderSupport.begin(eventType);
+    }
+
+    /**
+     * Method to end a Java Flight Recorder event, committing it if required
+     *
+     * @param event the event returned by beginEvent, or null
+     * @param name name
+     */
+    protected void endEvent(Object event, String name) {
+        if (event != null) {
+            FlightRecorderSupport.end(event, getEventTestClass(), getEventArgument(), getEventTestMethod(), name);
+        }
+    }
+
+    /**
+     * Method to get the test class name of Java Flight Recorder events
+     *
+     * @return the test class name, or null
+     */
+    protected String getEventTestClass() {
+        return null;
+    }
+
+    /**
+     * Method to get the argument name of Java Flight Recorder events
+     *
+     * @return the argument name, or null
+     */
+    protected String getEventArgument() {
+        return null;
+    }
+
+    /**
+     * Method to get the test method name of Java Flight Recorder events
+     *
+     * @return the test method name, or null
+     */
+    protected String getEventTestMethod() {
+        return null;
+    }
+
+    /**
+     * Method to invoke a Method, matching an argument to the Method parameter
+     *
+     * @param method method
+     * @param instance instant
+     * @param arguments arguments
+     * @param noParameters noParameters
+     * @throws InvocationTargetException InvocationTargetException
+     * @throws IllegalAccessException IllegalAccessException
+     */
+    private static void invokeMethod(Method method, Object instance, List<Object> arguments, boolean noParameters)
             throws InvocationTargetException, IllegalAccessException {
         if (method.getParameterCount() == 1) {
             Class<?> parameterType = method.getParameterTypes()[0];
+            if (parameterType.isPrimitive()) {
+                parameterType = ClassSupport.wrap(parameterType);
+            }
             for (Object argument : arguments) {
                 if (parameterType.isInstance(argument)) {
                     method.invoke(instance, argument);
@@ -180,28 +490,10 @@ public abstract class TestableTestDescriptor extends AbstractTestDescriptor {
      * @return a Throttle
      */
     protected Throttle createThrottle(Configuration configuration, String name) {
-        String value = configuration.getProperties().getProperty(name);
-
-        if (value != null && !value.trim().isEmpty()) {
-            try {
-                String[] tokens = value.split("[\\s,]+");
-                switch (tokens.length) {
-                    case 1: {
-                        return new Throttle(name, Long.parseLong(tokens[0]), Long.parseLong(tokens[0]));
-                    }
-                    case 2: {
-                        return new Throttle(name, Long.parseLong(tokens[0]), Long.parseLong(tokens[1]));
-                    }
-                    default: {
-                        return new Throttle(name, 0, 0);
-                    }
-                }
-            } catch (Throwable t) {
-                return new Throttle(name, 0, 0);
-            }
-        } else {
-            return new Throttle(name, 0, 0);
-        }
+        Throttle throttle = engineManagement != null ? engineManagement.getThrottle(name) : null;
+        return throttle != null
+                ? throttle
+                : ConfigurationSnapshot.of(configuration).getThrottle(name);
     }
 
     /**
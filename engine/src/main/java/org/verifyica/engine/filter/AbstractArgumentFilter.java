@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.filter;
+
+import static java.lang.String.format;
+
+import java.util.regex.Pattern;
+import org.verifyica.api.Argument;
+import org.verifyica.engine.exception.EngineConfigurationException;
+
+/** Class to implement AbstractArgumentFilter */
+public abstract class AbstractArgumentFilter extends AbstractFilter {
+
+    private final Pattern argumentNamePattern;
+    private final int minimumIndex;
+    private final int maximumIndex;
+
+    /**
+     * Constructor
+     *
+     * @param classNameRegex classNameRegex
+     * @param argumentNameRegex argumentNameRegex, may be null
+     * @param argumentIndexRange argumentIndexRange, may be null
+     */
+    protected AbstractArgumentFilter(String classNameRegex, String argumentNameRegex, String argumentIndexRange) {
+        super(classNameRegex != null ? classNameRegex : ".*");
+
+        if (argumentNameRegex == null && argumentIndexRange == null) {
+            throw new EngineConfigurationException(
+                    "Argument filter requires an argumentNameRegex or an argumentIndexRange");
+        }
+
+        this.argumentNamePattern = argumentNameRegex != null ? Pattern.compile(argumentNameRegex) : null;
+
+        if (argumentIndexRange != null) {
+            int[] range = parseIndexRange(argumentIndexRange);
+            this.minimumIndex = range[0];
+            this.maximumIndex = range[1];
+        } else {
+            this.minimumIndex = 0;
+            this.maximumIndex = Integer.MAX_VALUE;
+        }
+    }
+
+    @Override
+    public boolean matches(Class<?> testClass) {
+        return getClassNamePattern().matcher(testClass.getName()).find();
+    }
+
+    /**
+     * Method to return if a Filter matches a test argument
+     *
+     * @param index the index of the test argument, as produced by the argument supplier
+     * @param argument argument
+     * @return true if the test argument matches, else false
+     */
+    public boolean matches(int index, Argument<?> argument) {
+        if (index < minimumIndex || index > maximumIndex) {
+            return false;
+        }
+
+        return argumentNamePattern == null
+                || argumentNamePattern.matcher(argument.getName()).find();
+    }
+
+    /**
+     * Method to parse an argument index range
+     *
+     * <p>Supported formats are {@code n}, {@code n-m}, {@code n-}, and {@code -m}, where bounds
+     * are inclusive
+     *
+     * @param argumentIndexRange argumentIndexRange
+     * @return an array containing the minimum and maximum index
+     */
+    private static int[] parseIndexRange(String argumentIndexRange) {
+        String value = argumentIndexRange.trim();
+
+        try {
+            int dashIndex = value.indexOf('-');
+            int minimumIndex;
+            int maximumIndex;
+
+            if (dashIndex == -1) {
+                minimumIndex = Integer.parseInt(value);
+                maximumIndex = minimumIndex;
+            } else {
+                String minimum = value.substring(0, dashIndex).trim();
+                String maximum = value.substring(dashIndex + 1).trim();
+                minimumIndex = minimum.isEmpty() ? 0 : Integer.parseInt(minimum);
+                maximumIndex = maximum.isEmpty() ? Integer.MAX_VALUE : Integer.parseInt(maximum);
+            }
+
+            if (minimumIndex < 0 || maximumIndex < minimumIndex) {
+                throw new EngineConfigurationException(
+                        format("Invalid argumentIndexRange value [%s]", argumentIndexRange));
+            }
+
+            return new int[] {minimumIndex, maximumIndex};
+        } catch (NumberFormatException e) {
+            throw new EngineConfigurationException(
+                    format("Invalid argumentIndexRange value [%s]", argumentIndexRange), e);
+        }
+    }
+}
@@ -26,16 +26,16 @@ public abstract class AbstractFilter implements Filter {
     /**
      * Constructor
      *
-     * @param classNameRegex classNameRegex
+     * @param classNameRegex classNameRegex, may be null
      */
     protected AbstractFilter(String classNameRegex) {
-        this.classNamePattern = Pattern.compile(classNameRegex);
+        this.classNamePattern = classNameRegex != null ? Pattern.compile(classNameRegex) : null;
     }
 
     /**
      * Method to get the class name Pattern
      *
-     * @return the class name Pattern
+     * @return the class name Pattern, or null if not defined
      */
     protected Pattern getClassNamePattern() {
         return classNamePattern;
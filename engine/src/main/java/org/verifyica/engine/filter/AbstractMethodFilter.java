@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.filter;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.regex.Pattern;
+import org.verifyica.engine.exception.EngineConfigurationException;
+import org.verifyica.engine.support.TagSupport;
+
+/** Class to implement AbstractMethodFilter */
+public abstract class AbstractMethodFilter extends AbstractFilter {
+
+    private final Pattern methodNamePattern;
+    private final Pattern methodTagPattern;
+    private final TagExpression methodTagExpression;
+
+    /**
+     * Constructor
+     *
+     * @param classNameRegex classNameRegex, may be null
+     * @param methodNameRegex methodNameRegex, may be null
+     * @param methodTagRegex methodTagRegex, may be null
+     * @param methodTagExpression methodTagExpression, may be null
+     */
+    protected AbstractMethodFilter(
+            String classNameRegex, String methodNameRegex, String methodTagRegex, String methodTagExpression) {
+        super(classNameRegex != null ? classNameRegex : ".*");
+
+        if (methodNameRegex == null && methodTagRegex == null && methodTagExpression == null) {
+            throw new EngineConfigurationException(
+                    "Method filter requires a methodRegex, a methodTagRegex, or a methodTagExpression");
+        }
+
+        this.methodNamePattern = methodNameRegex != null ? Pattern.compile(methodNameRegex) : null;
+        this.methodTagPattern = methodTagRegex != null ? Pattern.compile(methodTagRegex) : null;
+        this.methodTagExpression = methodTagExpression != null ? TagExpression.parse(methodTagExpression) : null;
+    }
+
+    @Override
+    public boolean matches(Class<?> testClass) {
+        return getClassNamePattern().matcher(testClass.getName()).find();
+    }
+
+    /**
+     * Method to return if a Filter matches a test method
+     *
+     * @param testMethod testMethod
+     * @return true if the test method matches, else false
+     */
+    public boolean matches(Method testMethod) {
+        return matches(testMethod, TagSupport.getTags(testMethod));
+    }
+
+    /**
+     * Method to return if a Filter matches a test method
+     *
+     * @param testMethod testMethod
+     * @param tags the test method tags
+     * @return true if the test method matches, else false
+     */
+    public boolean matches(Method testMethod, Set<String> tags) {
+        if (methodNamePattern != null
+                && !methodNamePattern.matcher(testMethod.getName()).find()) {
+            return false;
+        }
+
+        if (methodTagPattern != null && !AbstractTaggedClassFilter.matchesAny(methodTagPattern, tags)) {
+            return false;
+        }
+
+        return methodTagExpression == null || methodTagExpression.matches(tags);
+    }
+
+    /**
+     * Method to return if the Filter uses test method tags
+     *
+     * @return true if the Filter uses test method tags, else false
+     */
+    public boolean usesTags() {
+        return methodTagPattern != null || methodTagExpression != null;
+    }
+}
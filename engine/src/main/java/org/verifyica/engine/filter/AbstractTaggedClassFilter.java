@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.filter;
+
+import java.util.Set;
+import java.util.regex.Pattern;
+import org.verifyica.engine.exception.EngineConfigurationException;
+import org.verifyica.engine.support.TagSupport;
+
+/** Class to implement AbstractTaggedClassFilter */
+public abstract class AbstractTaggedClassFilter extends AbstractFilter {
+
+    private final TagExpression tagExpression;
+
+    /**
+     * Constructor
+     *
+     * @param classTagRegex classTagRegex, may be null
+     * @param classTagExpression classTagExpression, may be null
+     */
+    protected AbstractTaggedClassFilter(String classTagRegex, String classTagExpression) {
+        super(classTagRegex);
+
+        if (classTagRegex == null && classTagExpression == null) {
+            throw new EngineConfigurationException(
+                    "Tagged class filter requires a classTagRegex or a classTagExpression");
+        }
+
+        this.tagExpression = classTagExpression != null ? TagExpression.parse(classTagExpression) : null;
+    }
+
+    @Override
+    public boolean matches(Class<?> testClass) {
+        return matches(TagSupport.getTags(testClass));
+    }
+
+    /**
+     * Method to return if a Filter matches a Set of test class tags
+     *
+     * @param tags tags
+     * @return true if the tags match, else false
+     */
+    public boolean matches(Set<String> tags) {
+        if (getTagPattern() != null && !matchesAny(getTagPattern(), tags)) {
+            return false;
+        }
+
+        return tagExpression == null || tagExpression.matches(tags);
+    }
+
+    /**
+     * Method to get the tag Pattern
+     *
+     * @return the tag Pattern, or null if not defined
+     */
+    protected Pattern getTagPattern() {
+        return getClassNamePattern();
+    }
+
+    /**
+     * Method to get the TagExpression
+     *
+     * @return the TagExpression, or null if not defined
+     */
+    protected TagExpression getTagExpression() {
+        return tagExpression;
+    }
+
+    /**
+     * Method to return if a Pattern matches any tag
+     *
+     * @param pattern pattern
+     * @param tags tags
+     * @return true if the Pattern matches any tag, else false
+     */
+    static boolean matchesAny(Pattern pattern, Set<String> tags) {
+        for (String tag : tags) {
+            if (pattern.matcher(tag).find()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
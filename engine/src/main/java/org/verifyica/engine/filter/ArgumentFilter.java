@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.filter;
+
+import java.util.List;
+import org.verifyica.api.Argument;
+
+/** Class to implement ArgumentFilter */
+public class ArgumentFilter {
+
+    private final List<AbstractArgumentFilter> argumentFilters;
+
+    /**
+     * Constructor
+     *
+     * @param argumentFilters argumentFilters
+     */
+    ArgumentFilter(List<AbstractArgumentFilter> argumentFilters) {
+        this.argumentFilters = argumentFilters;
+    }
+
+    /**
+     * Method to return if a test argument is included
+     *
+     * <p>Test arguments are included by default. Filters are evaluated in order, where an exclude
+     * filter removes a matching test argument and an include filter adds it back
+     *
+     * @param index the index of the test argument, as produced by the argument supplier
+     * @param argument argument
+     * @return true if the test argument is included, else false
+     */
+    public boolean matches(int index, Argument<?> argument) {
+        boolean included = true;
+
+        for (AbstractArgumentFilter argumentFilter : argumentFilters) {
+            if (argumentFilter.matches(index, argument)) {
+                included = argumentFilter.getType() == Filter.Type.INCLUDE_ARGUMENT;
+            }
+        }
+
+        return included;
+    }
+}
@@ -16,61 +16,381 @@
 
 package org.verifyica.engine.filter;
 
-import java.util.LinkedHashSet;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import org.verifyica.engine.api.ClassDefinition;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import org.verifyica.engine.common.Stopwatch;
 import org.verifyica.engine.logger.Logger;
 import org.verifyica.engine.logger.LoggerFactory;
+import org.verifyica.engine.support.TagSupport;
 
-/** Class to implement ClassDefinitionFilter */
+/**
+ * Class to implement ClassDefinitionFilter
+ *
+ * <p>Filters are compiled into rules, where consecutive filters with the same effect are merged and
+ * their regular expressions are combined into a single alternation. Rules are evaluated from the
+ * last to the first, so evaluation stops at the first matching rule. Test class and test method
+ * tags are read once.
+ *
+ * <p>Class and method filters are applied to the discovered test classes before any argument
+ * supplier is invoked. Argument filters are applied to each test argument as it's produced.
+ */
 public class ClassDefinitionFilter {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ClassDefinitionFilter.class);
 
-    /** Constructor */
-    private ClassDefinitionFilter() {
-        // INTENTIONALLY BLANK
+    private static final Pattern BACK_REFERENCE_PATTERN = Pattern.compile("\\\\[1-9]|\\\\k<");
+
+    private final List<ClassRule> classRules;
+    private final List<AbstractMethodFilter> methodFilters;
+    private final List<AbstractArgumentFilter> argumentFilters;
+    private final Map<Class<?>, Set<String>> classTags;
+    private final Map<Method, Set<String>> methodTags;
+
+    /**
+     * Constructor
+     *
+     * @param filters filters
+     */
+    ClassDefinitionFilter(List<Filter> filters) {
+        this.classRules = new ArrayList<>();
+        this.methodFilters = new ArrayList<>();
+        this.argumentFilters = new ArrayList<>();
+        this.classTags = new ConcurrentHashMap<>();
+        this.methodTags = new ConcurrentHashMap<>();
+
+        ClassRule classRule = null;
+
+        for (Filter filter : filters) {
+            if (filter instanceof AbstractArgumentFilter) {
+                argumentFilters.add((AbstractArgumentFilter) filter);
+            } else if (filter instanceof AbstractMethodFilter) {
+                methodFilters.add((AbstractMethodFilter) filter);
+            } else {
+                boolean include = isInclude(filter);
+                if (classRule == null || classRule.include != include) {
+                    classRule = new ClassRule(include);
+                    classRules.add(classRule);
+                }
+                classRule.add(filter);
+            }
+        }
+
+        classRules.forEach(ClassRule::compile);
+
+        // Evaluated from the last rule to the first
+        Collections.reverse(classRules);
+        Collections.reverse(methodFilters);
     }
 
     /**
-     * Method to filter class definitions
+     * Method to filter test classes and test methods, removing test classes that are excluded or
+     * have no remaining test methods
      *
-     * @param classDefinitions classDefinitions
+     * @param testClassMethodSet testClassMethodSet
      */
-    public static void filter(List<ClassDefinition> classDefinitions) {
+    public void filter(Map<Class<?>, Set<Method>> testClassMethodSet) {
         LOGGER.trace("filter()");
 
-        List<Filter> filters = FilterFactory.loadFilters();
-
-        Set<ClassDefinition> workingClassDefinitionSet = new LinkedHashSet<>(classDefinitions);
-
-        classDefinitions.forEach(classDefinition -> {
-            for (Filter filter : filters) {
-                Class<?> testClass = classDefinition.getTestClass();
-                switch (filter.getType()) {
-                    case EXCLUDE_CLASS:
-                    case EXCLUDE_TAGGED_CLASS: {
-                        if (filter.matches(testClass)) {
-                            workingClassDefinitionSet.remove(classDefinition);
-                        }
-                        break;
-                    }
-                    case INCLUDE_CLASS:
-                    case INCLUDE_TAGGED_CLASS: {
-                        if (filter.matches(testClass)) {
-                            workingClassDefinitionSet.add(classDefinition);
-                        }
-                        break;
-                    }
-                    default: {
-                        // INTENTIONALLY BLANK
-                    }
+        if (classRules.isEmpty() && methodFilters.isEmpty()) {
+            return;
+        }
+
+        Stopwatch stopwatch = new Stopwatch();
+
+        int testClassCount = testClassMethodSet.size();
+
+        Iterator<Map.Entry<Class<?>, Set<Method>>> iterator =
+                testClassMethodSet.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            Map.Entry<Class<?>, Set<Method>> entry = iterator.next();
+            Class<?> testClass = entry.getKey();
+
+            if (!matches(testClass)) {
+                iterator.remove();
+                continue;
+            }
+
+            List<AbstractMethodFilter> testClassMethodFilters = getMethodFilters(testClass);
+            if (!testClassMethodFilters.isEmpty()) {
+                entry.getValue().removeIf(testMethod -> !matches(testClassMethodFilters, testMethod));
+                if (entry.getValue().isEmpty()) {
+                    iterator.remove();
+                }
+            }
+        }
+
+        LOGGER.trace(
+                "filter() testClasses [%d] filtered testClasses [%d] elapsedTime [%d] ms",
+                testClassCount,
+                testClassMethodSet.size(),
+                stopwatch.elapsedTime().toMillis());
+    }
+
+    /**
+     * Method to return if a test class is included
+     *
+     * <p>Test classes are included by default. Filters are evaluated in order, where an exclude
+     * filter removes a matching test class and an include filter adds it back
+     *
+     * @param testClass testClass
+     * @return true if the test class is included, else false
+     */
+    public boolean matches(Class<?> testClass) {
+        for (ClassRule classRule : classRules) {
+            if (classRule.matches(testClass)) {
+                return classRule.include;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Method to return if a test method is included
+     *
+     * <p>Test methods are included by default. Filters are evaluated in order, where an exclude
+     * filter removes a matching test method and an include filter adds it back
+     *
+     * @param testClass testClass
+     * @param testMethod testMethod
+     * @return true if the test method is included, else false
+     */
+    public boolean matches(Class<?> testClass, Method testMethod) {
+        return matches(getMethodFilters(testClass), testMethod);
+    }
+
+    /**
+     * Method to get the ArgumentFilter for a test class
+     *
+     * @param testClass testClass
+     * @return an ArgumentFilter, or null if no argument filters apply to the test class
+     */
+    public ArgumentFilter getArgumentFilter(Class<?> testClass) {
+        List<AbstractArgumentFilter> testClassArgumentFilters = new ArrayList<>();
+
+        for (AbstractArgumentFilter argumentFilter : argumentFilters) {
+            if (argumentFilter.matches(testClass)) {
+                testClassArgumentFilters.add(argumentFilter);
+            }
+        }
+
+        return testClassArgumentFilters.isEmpty() ? null : new ArgumentFilter(testClassArgumentFilters);
+    }
+
+    /**
+     * Method to get the method filters that apply to a test class, in evaluation order
+     *
+     * @param testClass testClass
+     * @return a List of method filters
+     */
+    private List<AbstractMethodFilter> getMethodFilters(Class<?> testClass) {
+        if (methodFilters.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<AbstractMethodFilter> testClassMethodFilters = new ArrayList<>();
+
+        for (AbstractMethodFilter methodFilter : methodFilters) {
+            if (methodFilter.matches(testClass)) {
+                testClassMethodFilters.add(methodFilter);
+            }
+        }
+
+        return testClassMethodFilters;
+    }
+
+    /**
+     * Method to return if a test method is included
+     *
+     * @param testClassMethodFilters testClassMethodFilters, in evaluation order
+     * @param testMethod testMethod
+     * @return true if the test method is included, else false
+     */
+    private boolean matches(List<AbstractMethodFilter> testClassMethodFilters, Method testMethod) {
+        for (AbstractMethodFilter methodFilter : testClassMethodFilters) {
+            Set<String> tags = methodFilter.usesTags() ? getTags(testMethod) : Collections.emptySet();
+            if (methodFilter.matches(testMethod, tags)) {
+                return methodFilter.getType() == Filter.Type.INCLUDE_METHOD;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Method to get the tags of a test class
+     *
+     * @param testClass testClass
+     * @return a Set of tags
+     */
+    private Set<String> getTags(Class<?> testClass) {
+        return classTags.computeIfAbsent(testClass, TagSupport::getTags);
+    }
+
+    /**
+     * Method to get the tags of a test method
+     *
+     * @param testMethod testMethod
+     * @return a Set of tags
+     */
+    private Set<String> getTags(Method testMethod) {
+        return methodTags.computeIfAbsent(testMethod, TagSupport::getTags);
+    }
+
+    /**
+     * Method to return if a Filter includes matching test classes
+     *
+     * @param filter filter
+     * @return true if the Filter includes matching test classes, else false
+     */
+    private static boolean isInclude(Filter filter) {
+        return filter.getType() == Filter.Type.INCLUDE_CLASS || filter.getType() == Filter.Type.INCLUDE_TAGGED_CLASS;
+    }
+
+    /**
+     * Method to merge regular expressions into a single alternation
+     *
+     * @param regexes regexes
+     * @return a Pattern, or null if there are no regular expressions
+     */
+    private static Pattern merge(List<String> regexes) {
+        if (regexes.isEmpty()) {
+            return null;
+        }
+
+        if (regexes.size() == 1) {
+            return Pattern.compile(regexes.get(0));
+        }
+
+        StringBuilder stringBuilder = new StringBuilder();
+        for (String regex : regexes) {
+            if (stringBuilder.length() > 0) {
+                stringBuilder.append('|');
+            }
+            stringBuilder.append("(?:").append(regex).append(')');
+        }
+
+        return Pattern.compile(stringBuilder.toString());
+    }
+
+    /**
+     * Method to return if a Pattern can be merged into an alternation without changing its meaning
+     *
+     * @param pattern pattern
+     * @return true if the Pattern can be merged, else false
+     */
+    private static boolean isMergeable(Pattern pattern) {
+        return pattern != null
+                && pattern.flags() == 0
+                && !BACK_REFERENCE_PATTERN.matcher(pattern.pattern()).find();
+    }
+
+    /** Class to implement ClassRule */
+    private class ClassRule {
+
+        private final boolean include;
+        private final List<String> classNameRegexes;
+        private final List<String> classTagRegexes;
+        private final List<Filter> classFilters;
+        private final List<AbstractTaggedClassFilter> taggedClassFilters;
+
+        private Pattern classNamePattern;
+        private Pattern classTagPattern;
+
+        /**
+         * Constructor
+         *
+         * @param include include
+         */
+        private ClassRule(boolean include) {
+            this.include = include;
+            this.classNameRegexes = new ArrayList<>();
+            this.classTagRegexes = new ArrayList<>();
+            this.classFilters = new ArrayList<>();
+            this.taggedClassFilters = new ArrayList<>();
+        }
+
+        /**
+         * Method to add a Filter to the rule
+         *
+         * @param filter filter
+         */
+        private void add(Filter filter) {
+            if (filter instanceof AbstractTaggedClassFilter) {
+                AbstractTaggedClassFilter taggedClassFilter = (AbstractTaggedClassFilter) filter;
+                Pattern tagPattern = taggedClassFilter.getTagPattern();
+                if (taggedClassFilter.getTagExpression() == null && isMergeable(tagPattern)) {
+                    classTagRegexes.add(tagPattern.pattern());
+                } else {
+                    taggedClassFilters.add(taggedClassFilter);
                 }
+            } else if (filter instanceof AbstractFilter
+                    && isMergeable(((AbstractFilter) filter).getClassNamePattern())) {
+                classNameRegexes.add(
+                        ((AbstractFilter) filter).getClassNamePattern().pattern());
+            } else {
+                classFilters.add(filter);
             }
-        });
+        }
 
-        classDefinitions.clear();
-        classDefinitions.addAll(workingClassDefinitionSet);
+        /** Method to compile the rule */
+        private void compile() {
+            classNamePattern = merge(classNameRegexes);
+            classTagPattern = merge(classTagRegexes);
+        }
+
+        /**
+         * Method to return if the rule matches a test class
+         *
+         * @param testClass testClass
+         * @return true if the rule matches, else false
+         */
+        private boolean matches(Class<?> testClass) {
+            if (classNamePattern != null
+                    && classNamePattern.matcher(testClass.getName()).find()) {
+                return true;
+            }
+
+            for (Filter classFilter : classFilters) {
+                if (classFilter.matches(testClass)) {
+                    return true;
+                }
+            }
+
+            if (classTagPattern == null && taggedClassFilters.isEmpty()) {
+                return false;
+            }
+
+            Set<String> tags = getTags(testClass);
+
+            if (classTagPattern != null && AbstractTaggedClassFilter.matchesAny(classTagPattern, tags)) {
+                return true;
+            }
+
+            for (AbstractTaggedClassFilter taggedClassFilter : taggedClassFilters) {
+                if (taggedClassFilter.matches(tags)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+
+    /**
+     * Method to create a ClassDefinitionFilter using the configured filters
+     *
+     * @return a ClassDefinitionFilter
+     */
+    public static ClassDefinitionFilter create() {
+        return new ClassDefinitionFilter(FilterFactory.loadFilters());
     }
 }
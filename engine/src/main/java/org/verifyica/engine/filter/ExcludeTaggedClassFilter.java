@@ -16,18 +16,17 @@
 
 package org.verifyica.engine.filter;
 
-import org.verifyica.engine.support.TagSupport;
-
 /** Class to implement ExcludeTaggedClassFilter */
-public class ExcludeTaggedClassFilter extends AbstractFilter {
+public class ExcludeTaggedClassFilter extends AbstractTaggedClassFilter {
 
     /**
      * Constructor
      *
-     * @param classNameRegex classNameRegex
+     * @param classTagRegex classTagRegex
+     * @param classTagExpression classTagExpression
      */
-    private ExcludeTaggedClassFilter(String classNameRegex) {
-        super(classNameRegex);
+    private ExcludeTaggedClassFilter(String classTagRegex, String classTagExpression) {
+        super(classTagRegex, classTagExpression);
     }
 
     @Override
@@ -35,24 +34,24 @@ public class ExcludeTaggedClassFilter extends AbstractFilter {
         return Type.EXCLUDE_TAGGED_CLASS;
     }
 
-    @Override
-    public boolean matches(Class<?> testClass) {
-        for (String tag : TagSupport.getTags(testClass)) {
-            if (getClassNamePattern().matcher(tag).find()) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
     /**
-     * Method to create an ExcludeFilter
+     * Method to create an ExcludeTaggedClassFilter
      *
      * @param classRegex classRegex
-     * @return an ExcludeFilter
+     * @return an ExcludeTaggedClassFilter
      */
     public static ExcludeTaggedClassFilter create(String classRegex) {
-        return new ExcludeTaggedClassFilter(classRegex);
+        return new ExcludeTaggedClassFilter(classRegex, null);
+    }
+
+    /**
+     * Method to create an ExcludeTaggedClassFilter
+     *
+     * @param classTagRegex classTagRegex, may be null
+     * @param classTagExpression classTagExpression, may be null
+     * @return an ExcludeTaggedClassFilter
+     */
+    public static ExcludeTaggedClassFilter create(String classTagRegex, String classTagExpression) {
+        return new ExcludeTaggedClassFilter(classTagRegex, classTagExpression);
     }
 }
@@ -30,7 +30,15 @@ public interface Filter {
         /** IncludeTaggedClass */
         INCLUDE_TAGGED_CLASS,
         /** ExcludeTaggedClass */
-        EXCLUDE_TAGGED_CLASS
+        EXCLUDE_TAGGED_CLASS,
+        /** IncludeMethod */
+        INCLUDE_METHOD,
+        /** ExcludeMethod */
+        EXCLUDE_METHOD,
+        /** IncludeArgument */
+        INCLUDE_ARGUMENT,
+        /** ExcludeArgument */
+        EXCLUDE_ARGUMENT
     }
 
     /**
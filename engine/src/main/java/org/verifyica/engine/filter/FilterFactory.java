@@ -25,9 +25,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.verifyica.engine.configuration.ConcreteConfiguration;
 import org.verifyica.engine.configuration.Constants;
 import org.verifyica.engine.exception.EngineConfigurationException;
@@ -39,12 +41,18 @@ public class FilterFactory {
 
     private static final Map<String, Filter.Type> filterTypeMap;
 
+    private static final Map<String, CachedFilters> cachedFiltersMap = new ConcurrentHashMap<>();
+
     static {
         filterTypeMap = new HashMap<>();
         filterTypeMap.put("IncludeClass", Filter.Type.INCLUDE_CLASS);
         filterTypeMap.put("ExcludeClass", Filter.Type.EXCLUDE_CLASS);
         filterTypeMap.put("IncludeTaggedClass", Filter.Type.INCLUDE_TAGGED_CLASS);
         filterTypeMap.put("ExcludeTaggedClass", Filter.Type.EXCLUDE_TAGGED_CLASS);
+        filterTypeMap.put("IncludeMethod", Filter.Type.INCLUDE_METHOD);
+        filterTypeMap.put("ExcludeMethod", Filter.Type.EXCLUDE_METHOD);
+        filterTypeMap.put("IncludeArgument", Filter.Type.INCLUDE_ARGUMENT);
+        filterTypeMap.put("ExcludeArgument", Filter.Type.EXCLUDE_ARGUMENT);
     }
 
     /** Constructor */
@@ -55,51 +63,110 @@ public class FilterFactory {
     /**
      * Method to load Filters
      *
+     * <p>Filter definition files are parsed once, and parsed again only if the file changes
+     *
      * @return a List of Filters
      */
     public static List<Filter> loadFilters() {
-        String filtersFilename = null;
+        String filtersFilename = ConcreteConfiguration.getInstance()
+                .getProperties()
+                .getProperty(Constants.ENGINE_FILTER_DEFINITIONS_FILENAME, null);
+
+        if (filtersFilename == null || filtersFilename.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        File file = new File(filtersFilename).getAbsoluteFile();
+        long lastModified = file.lastModified();
+        long length = file.length();
+
+        CachedFilters cachedFilters = cachedFiltersMap.get(file.getPath());
+        if (cachedFilters != null && cachedFilters.lastModified == lastModified && cachedFilters.length == length) {
+            return cachedFilters.filters;
+        }
+
+        List<Filter> filters = Collections.unmodifiableList(loadFilters(filtersFilename, file));
+
+        cachedFiltersMap.put(file.getPath(), new CachedFilters(lastModified, length, filters));
 
+        return filters;
+    }
+
+    /**
+     * Method to load Filters from a filter definition file
+     *
+     * @param filtersFilename filtersFilename
+     * @param file file
+     * @return a List of Filters
+     */
+    private static List<Filter> loadFilters(String filtersFilename, File file) {
         try {
             List<Filter> filters = new ArrayList<>();
 
-            filtersFilename = ConcreteConfiguration.getInstance()
-                    .getProperties()
-                    .getProperty(Constants.ENGINE_FILTER_DEFINITIONS_FILENAME, null);
-
-            if (filtersFilename != null && !filtersFilename.trim().isEmpty()) {
-                List<Object> objects = new Yaml().load(loadContents(new File(filtersFilename)));
-
-                for (Object object : objects) {
-                    Map<Object, Object> filterMap = (Map<Object, Object>) object;
-                    String type = (String) filterMap.get("type");
-                    boolean enabled = Boolean.TRUE.equals(filterMap.get("enabled"));
-
-                    if (enabled) {
-                        Filter.Type decodedType = filterTypeMap.getOrDefault(type, Filter.Type.UNKNOWN);
-                        switch (decodedType) {
-                            case INCLUDE_CLASS: {
-                                String classRegex = (String) filterMap.get("classRegex");
-                                filters.add(IncludeClassFilter.create(classRegex));
-                                break;
-                            }
-                            case EXCLUDE_CLASS: {
-                                String classRegex = (String) filterMap.get("classRegex");
-                                filters.add(ExcludeClassFilter.create(classRegex));
-                                break;
-                            }
-                            case INCLUDE_TAGGED_CLASS: {
-                                String classTagRegex = (String) filterMap.get("classTagRegex");
-                                filters.add(IncludeTaggedClassFilter.create(classTagRegex));
-                                break;
-                            }
-                            case EXCLUDE_TAGGED_CLASS: {
-                                String classTagRegex = (String) filterMap.get("classTagRegex");
-                                filters.add(ExcludeTaggedClassFilter.create(classTagRegex));
-                            }
-                            default: {
-                                throw new EngineConfigurationException(format("Invalid filter type [%s]", type));
-                            }
+            List<Object> objects = new Yaml().load(loadContents(file));
+
+            for (Object object : objects) {
+                Map<Object, Object> filterMap = (Map<Object, Object>) object;
+                String type = (String) filterMap.get("type");
+                boolean enabled = Boolean.TRUE.equals(filterMap.get("enabled"));
+
+                if (enabled) {
+                    Filter.Type decodedType = filterTypeMap.getOrDefault(type, Filter.Type.UNKNOWN);
+                    switch (decodedType) {
+                        case INCLUDE_CLASS: {
+                            String classRegex = (String) filterMap.get("classRegex");
+                            filters.add(IncludeClassFilter.create(classRegex));
+                            break;
+                        }
+                        case EXCLUDE_CLASS: {
+                            String classRegex = (String) filterMap.get("classRegex");
+                            filters.add(ExcludeClassFilter.create(classRegex));
+                            break;
+                        }
+                        case INCLUDE_TAGGED_CLASS: {
+                            String classTagRegex = (String) filterMap.get("classTagRegex");
+                            String classTagExpression = (String) filterMap.get("classTagExpression");
+                            filters.add(IncludeTaggedClassFilter.create(classTagRegex, classTagExpression));
+                            break;
+                        }
+                        case EXCLUDE_TAGGED_CLASS: {
+                            String classTagRegex = (String) filterMap.get("classTagRegex");
+                            String classTagExpression = (String) filterMap.get("classTagExpression");
+                            filters.add(ExcludeTaggedClassFilter.create(classTagRegex, classTagExpression));
+                            break;
+                        }
+                        case INCLUDE_METHOD: {
+                            filters.add(IncludeMethodFilter.create(
+                                    (String) filterMap.get("classRegex"),
+                                    (String) filterMap.get("methodRegex"),
+                                    (String) filterMap.get("methodTagRegex"),
+                                    (String) filterMap.get("methodTagExpression")));
+                            break;
+                        }
+                        case EXCLUDE_METHOD: {
+                            filters.add(ExcludeMethodFilter.create(
+                                    (String) filterMap.get("classRegex"),
+                                    (String) filterMap.get("methodRegex"),
+                                    (String) filterMap.get("methodTagRegex"),
+                                    (String) filterMap.get("methodTagExpression")));
+                            break;
+                        }
+                        case INCLUDE_ARGUMENT: {
+                            filters.add(IncludeArgumentFilter.create(
+                                    (String) filterMap.get("classRegex"),
+                                    (String) filterMap.get("argumentNameRegex"),
+                                    getString(filterMap.get("argumentIndexRange"))));
+                            break;
+                        }
+                        case EXCLUDE_ARGUMENT: {
+                            filters.add(ExcludeArgumentFilter.create(
+                                    (String) filterMap.get("classRegex"),
+                                    (String) filterMap.get("argumentNameRegex"),
+                                    getString(filterMap.get("argumentIndexRange"))));
+                            break;
+                        }
+                        default: {
+                            throw new EngineConfigurationException(format("Invalid filter type [%s]", type));
                         }
                     }
                 }
@@ -116,6 +183,37 @@ public class FilterFactory {
         }
     }
 
+    /**
+     * Method to get a YAML scalar as a String
+     *
+     * @param object object
+     * @return the String value, or null if the object is null
+     */
+    private static String getString(Object object) {
+        return object != null ? String.valueOf(object) : null;
+    }
+
+    /** Class to implement CachedFilters */
+    private static class CachedFilters {
+
+        private final long lastModified;
+        private final long length;
+        private final List<Filter> filters;
+
+        /**
+         * Constructor
+         *
+         * @param lastModified lastModified
+         * @param length length
+         * @param filters filters
+         */
+        private CachedFilters(long lastModified, long length, List<Filter> filters) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.filters = filters;
+        }
+    }
+
     /**
      * Method to load a File contents
      *
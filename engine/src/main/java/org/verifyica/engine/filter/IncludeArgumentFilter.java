@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.filter;
+
+/** Class to implement IncludeArgumentFilter */
+public class IncludeArgumentFilter extends AbstractArgumentFilter {
+
+    /**
+     * Constructor
+     *
+     * @param classNameRegex classNameRegex
+     * @param argumentNameRegex argumentNameRegex
+     * @param argumentIndexRange argumentIndexRange
+     */
+    private IncludeArgumentFilter(String classNameRegex, String argumentNameRegex, String argumentIndexRange) {
+        super(classNameRegex, argumentNameRegex, argumentIndexRange);
+    }
+
+    @Override
+    public Type getType() {
+        return Type.INCLUDE_ARGUMENT;
+    }
+
+    /**
+     * Method to create an IncludeArgumentFilter
+     *
+     * @param classRegex classRegex
+     * @param argumentNameRegex argumentNameRegex
+     * @param argumentIndexRange argumentIndexRange
+     * @return an IncludeArgumentFilter
+     */
+    public static IncludeArgumentFilter create(String classRegex, String argumentNameRegex, String argumentIndexRange) {
+        return new IncludeArgumentFilter(classRegex, argumentNameRegex, argumentIndexRange);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.filter;
+
+/** Class to implement IncludeMethodFilter */
+public class IncludeMethodFilter extends AbstractMethodFilter {
+
+    /**
+     * Constructor
+     *
+     * @param classNameRegex classNameRegex
+     * @param methodNameRegex methodNameRegex
+     * @param methodTagRegex methodTagRegex
+     * @param methodTagExpression methodTagExpression
+     */
+    private IncludeMethodFilter(
+            String classNameRegex, String methodNameRegex, String methodTagRegex, String methodTagExpression) {
+        super(classNameRegex, methodNameRegex, methodTagRegex, methodTagExpression);
+    }
+
+    @Override
+    public Type getType() {
+        return Type.INCLUDE_METHOD;
+    }
+
+    /**
+     * Method to create an IncludeMethodFilter
+     *
+     * @param classRegex classRegex
+     * @param methodRegex methodRegex
+     * @param methodTagRegex methodTagRegex
+     * @param methodTagExpression methodTagExpression
+     * @return an IncludeMethodFilter
+     */
+    public static IncludeMethodFilter create(
+            String classRegex, String methodRegex, String methodTagRegex, String methodTagExpression) {
+        return new IncludeMethodFilter(classRegex, methodRegex, methodTagRegex, methodTagExpression);
+    }
+}
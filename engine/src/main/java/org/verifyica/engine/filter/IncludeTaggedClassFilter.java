@@ -16,18 +16,17 @@
 
 package org.verifyica.engine.filter;
 
-import org.verifyica.engine.support.TagSupport;
-
 /** Class to implement IncludeTaggedClassFilter */
-public class IncludeTaggedClassFilter extends AbstractFilter {
+public class IncludeTaggedClassFilter extends AbstractTaggedClassFilter {
 
     /**
      * Constructor
      *
-     * @param classNameRegex classNameRegex
+     * @param classTagRegex classTagRegex
+     * @param classTagExpression classTagExpression
      */
-    private IncludeTaggedClassFilter(String classNameRegex) {
-        super(classNameRegex);
+    private IncludeTaggedClassFilter(String classTagRegex, String classTagExpression) {
+        super(classTagRegex, classTagExpression);
     }
 
     @Override
@@ -35,24 +34,24 @@ public class IncludeTaggedClassFilter extends AbstractFilter {
         return Type.INCLUDE_TAGGED_CLASS;
     }
 
-    @Override
-    public boolean matches(Class<?> testClass) {
-        for (String tag : TagSupport.getTags(testClass)) {
-            if (getClassNamePattern().matcher(tag).find()) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
     /**
-     * Method to create an IncludeFilter
+     * Method to create an IncludeTaggedClassFilter
      *
      * @param classRegex classRegex
-     * @return an IncludeFilter
+     * @return an IncludeTaggedClassFilter
      */
     public static IncludeTaggedClassFilter create(String classRegex) {
-        return new IncludeTaggedClassFilter(classRegex);
+        return new IncludeTaggedClassFilter(classRegex, null);
+    }
+
+    /**
+     * Method to create an IncludeTaggedClassFilter
+     *
+     * @param classTagRegex classTagRegex, may be null
+     * @param classTagExpression classTagExpression, may be null
+     * @return an IncludeTaggedClassFilter
+     */
+    public static IncludeTaggedClassFilter create(String classTagRegex, String classTagExpression) {
+        return new IncludeTaggedClassFilter(classTagRegex, classTagExpression);
     }
 }
@@ -0,0 +1,214 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.filter;
+
+import static java.lang.String.format;
+
+import java.util.Set;
+import java.util.function.Predicate;
+import org.verifyica.engine.common.Precondition;
+import org.verifyica.engine.exception.EngineConfigurationException;
+
+/**
+ * Class to implement TagExpression
+ *
+ * <p>A tag expression combines tags using {@code !} (not), {@code &} (and), {@code |} (or), and
+ * parentheses, where {@code !} binds tighter than {@code &}, which binds tighter than {@code |}.
+ * For example {@code (fast | smoke) & !flaky}
+ */
+public class TagExpression {
+
+    private final String expression;
+    private final Predicate<Set<String>> predicate;
+
+    /**
+     * Constructor
+     *
+     * @param expression expression
+     * @param predicate predicate
+     */
+    private TagExpression(String expression, Predicate<Set<String>> predicate) {
+        this.expression = expression;
+        this.predicate = predicate;
+    }
+
+    /**
+     * Method to return if a Set of tags matches the tag expression
+     *
+     * @param tags tags
+     * @return true if the tags match, else false
+     */
+    public boolean matches(Set<String> tags) {
+        return predicate.test(tags);
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    /**
+     * Method to parse a tag expression
+     *
+     * @param expression expression
+     * @return a TagExpression
+     */
+    public static TagExpression parse(String expression) {
+        Precondition.notNull(expression, "expression is null");
+
+        if (expression.trim().isEmpty()) {
+            throw new EngineConfigurationException("Invalid tag expression, expression is blank");
+        }
+
+        Parser parser = new Parser(expression);
+        Predicate<Set<String>> predicate = parser.parseOr();
+        parser.skipWhitespace();
+
+        if (parser.position != expression.length()) {
+            throw parser.exception("unexpected character");
+        }
+
+        return new TagExpression(expression.trim(), predicate);
+    }
+
+    /** Class to implement Parser */
+    private static class Parser {
+
+        private final String expression;
+        private int position;
+
+        /**
+         * Constructor
+         *
+         * @param expression expression
+         */
+        private Parser(String expression) {
+            this.expression = expression;
+        }
+
+        /**
+         * Method to parse an or expression
+         *
+         * @return a Predicate
+         */
+        private Predicate<Set<String>> parseOr() {
+            Predicate<Set<String>> predicate = parseAnd();
+            while (accept('|')) {
+                predicate = predicate.or(parseAnd());
+            }
+            return predicate;
+        }
+
+        /**
+         * Method to parse an and expression
+         *
+         * @return a Predicate
+         */
+        private Predicate<Set<String>> parseAnd() {
+            Predicate<Set<String>> predicate = parseNot();
+            while (accept('&')) {
+                predicate = predicate.and(parseNot());
+            }
+            return predicate;
+        }
+
+        /**
+         * Method to parse a not expression
+         *
+         * @return a Predicate
+         */
+        private Predicate<Set<String>> parseNot() {
+            if (accept('!')) {
+                return parseNot().negate();
+            }
+            return parsePrimary();
+        }
+
+        /**
+         * Method to parse a parenthesized expression or a tag
+         *
+         * @return a Predicate
+         */
+        private Predicate<Set<String>> parsePrimary() {
+            if (accept('(')) {
+                Predicate<Set<String>> predicate = parseOr();
+                if (!accept(')')) {
+                    throw exception("missing ')'");
+                }
+                return predicate;
+            }
+
+            skipWhitespace();
+
+            int start = position;
+            while (position < expression.length() && isTagCharacter(expression.charAt(position))) {
+                position++;
+            }
+
+            if (start == position) {
+                throw exception("missing tag");
+            }
+
+            String tag = expression.substring(start, position);
+
+            return tags -> tags.contains(tag);
+        }
+
+        /**
+         * Method to consume a character if it's the next non-whitespace character
+         *
+         * @param c c
+         * @return true if the character was consumed, else false
+         */
+        private boolean accept(char c) {
+            skipWhitespace();
+            if (position < expression.length() && expression.charAt(position) == c) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        /** Method to skip whitespace */
+        private void skipWhitespace() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+
+        /**
+         * Method to create an exception for the current position
+         *
+         * @param message message
+         * @return an EngineConfigurationException
+         */
+        private EngineConfigurationException exception(String message) {
+            return new EngineConfigurationException(
+                    format("Invalid tag expression [%s] %s at position [%d]", expression, message, position));
+        }
+
+        /**
+         * Method to return if a character can be part of a tag
+         *
+         * @param c c
+         * @return true if the character can be part of a tag, else false
+         */
+        private static boolean isTagCharacter(char c) {
+            return !Character.isWhitespace(c) && c != '&' && c != '|' && c != '!' && c != '(' && c != ')';
+        }
+    }
+}
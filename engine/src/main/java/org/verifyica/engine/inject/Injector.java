@@ -17,19 +17,36 @@
 package org.verifyica.engine.inject;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import org.verifyica.engine.exception.EngineException;
 
-/** Class to implement Injector */
+/**
+ * Class to implement Injector
+ *
+ * <p>Fields are resolved once per class into an InjectionPlan of MethodHandle setters, so injecting
+ * a value doesn't require annotation lookups, accessibility changes, or locking.
+ */
 @SuppressWarnings({"deprecation", "PMD.AvoidAccessibilityAlteration"})
 public class Injector {
 
-    private static final Map<Class<?>, List<Field>> FIELD_CACHE = new ConcurrentHashMap<>();
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType INSTANCE_SETTER_TYPE =
+            MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodType STATIC_SETTER_TYPE = MethodType.methodType(void.class, Object.class);
+
+    private static final Map<Class<?>, InjectionPlan> INJECTION_PLANS = new ConcurrentHashMap<>();
 
     /**
      * Constructor
@@ -46,24 +63,8 @@ public class Injector {
      * @param target target
      */
     public static void inject(String name, Object value, Object target) {
-        Class<?> clazz = target.getClass();
-
-        while (clazz != null
-                && !clazz.getName().startsWith("java")
-                && !clazz.getName().startsWith("sun")) {
-            for (Field field : getFields(clazz)) {
-                Inject inject = field.getAnnotation(Inject.class);
-                Named named = field.getAnnotation(Named.class);
-                if (inject != null
-                        && named != null
-                        && named.value().equals(name)
-                        && !Modifier.isStatic(field.getModifiers())
-                        && field.getType().isAssignableFrom(value.getClass())) {
-                    injectField(field, target, value);
-                }
-            }
-
-            clazz = clazz.getSuperclass();
+        for (FieldSetter fieldSetter : getInjectionPlan(target.getClass()).getNamedFieldSetters(name)) {
+            fieldSetter.set(target, value);
         }
     }
 
@@ -75,20 +76,9 @@ public class Injector {
      * @param target target
      */
     public static void inject(Class<? extends Annotation> annotation, Object value, Object target) {
-        Class<?> clazz = target.getClass();
-
-        while (clazz != null
-                && !clazz.getName().startsWith("java")
-                && !clazz.getName().startsWith("sun")) {
-            for (Field field : getFields(clazz)) {
-                if (!Modifier.isStatic(field.getModifiers())
-                        && field.isAnnotationPresent(annotation)
-                        && field.getType().isAssignableFrom(value.getClass())) {
-                    injectField(field, target, value);
-                }
-            }
-
-            clazz = clazz.getSuperclass();
+        for (FieldSetter fieldSetter :
+                getInjectionPlan(target.getClass()).getAnnotatedFieldSetters(annotation, false)) {
+            fieldSetter.set(target, value);
         }
     }
 
@@ -100,52 +90,192 @@ public class Injector {
      * @param target target
      */
     public static void inject(Class<? extends Annotation> annotation, Object value, Class<?> target) {
-        Class<?> clazz = target;
-
-        while (clazz != null
-                && !clazz.getName().startsWith("java")
-                && !clazz.getName().startsWith("sun")) {
-            for (Field field : getFields(clazz)) {
-                if (Modifier.isStatic(field.getModifiers())
-                        && field.isAnnotationPresent(annotation)
-                        && field.getType().isAssignableFrom(value.getClass())) {
-                    injectField(field, null, value);
-                }
-            }
-
-            clazz = clazz.getSuperclass();
+        for (FieldSetter fieldSetter : getInjectionPlan(target).getAnnotatedFieldSetters(annotation, true)) {
+            fieldSetter.set(null, value);
         }
     }
 
     /**
-     * Method to inject a field
+     * Method to get the InjectionPlan for a class
      *
-     * @param field field
-     * @param target target (null for static field)
-     * @param value value
+     * @param clazz clazz
+     * @return the InjectionPlan
      */
-    private static void injectField(Field field, Object target, Object value) {
-        synchronized (field) {
-            boolean originalAccessibility = field.isAccessible();
-            try {
-                field.setAccessible(true);
-                field.set(target, value);
-            } catch (IllegalAccessException e) {
-                throw new EngineException(
-                        String.format("Exception injecting object into field [%s]", field.getName()), e);
-            } finally {
-                field.setAccessible(originalAccessibility);
-            }
+    private static InjectionPlan getInjectionPlan(Class<?> clazz) {
+        InjectionPlan injectionPlan = INJECTION_PLANS.get(clazz);
+
+        if (injectionPlan == null) {
+            injectionPlan = INJECTION_PLANS.computeIfAbsent(clazz, InjectionPlan::new);
         }
+
+        return injectionPlan;
     }
 
     /**
-     * Method to get all fields for a class
+     * Method to get the injectable fields of a class and its superclasses
      *
      * @param clazz clazz
-     * @return a List of fields for a class
+     * @return a List of fields, subclass fields first
      */
     private static List<Field> getFields(Class<?> clazz) {
-        return FIELD_CACHE.computeIfAbsent(clazz, c -> Arrays.asList(c.getDeclaredFields()));
+        List<Field> fields = new ArrayList<>();
+
+        Class<?> currentClass = clazz;
+
+        while (currentClass != null
+                && !currentClass.getName().startsWith("java")
+                && !currentClass.getName().startsWith("sun")) {
+            Collections.addAll(fields, currentClass.getDeclaredFields());
+            currentClass = currentClass.getSuperclass();
+        }
+
+        return fields;
+    }
+
+    /**
+     * Method to create a FieldSetter
+     *
+     * @param field field
+     * @return a FieldSetter
+     */
+    private static FieldSetter createFieldSetter(Field field) {
+        boolean isStatic = Modifier.isStatic(field.getModifiers());
+        boolean originalAccessibility = field.isAccessible();
+
+        try {
+            field.setAccessible(true);
+            MethodHandle methodHandle =
+                    LOOKUP.unreflectSetter(field).asType(isStatic ? STATIC_SETTER_TYPE : INSTANCE_SETTER_TYPE);
+            return new FieldSetter(field, isStatic, methodHandle);
+        } catch (IllegalAccessException e) {
+            throw new EngineException(String.format("Exception injecting object into field [%s]", field.getName()), e);
+        } finally {
+            field.setAccessible(originalAccessibility);
+        }
+    }
+
+    /** Class to implement InjectionPlan */
+    private static final class InjectionPlan {
+
+        private final Class<?> clazz;
+        private final Map<String, FieldSetter[]> namedFieldSetters;
+        private final Map<Class<? extends Annotation>, FieldSetter[]> annotatedFieldSetters;
+        private final Map<Class<? extends Annotation>, FieldSetter[]> staticAnnotatedFieldSetters;
+
+        /**
+         * Constructor
+         *
+         * @param clazz clazz
+         */
+        private InjectionPlan(Class<?> clazz) {
+            this.clazz = clazz;
+            this.annotatedFieldSetters = new ConcurrentHashMap<>();
+            this.staticAnnotatedFieldSetters = new ConcurrentHashMap<>();
+
+            Map<String, List<FieldSetter>> map = new HashMap<>();
+
+            for (Field field : getFields(clazz)) {
+                Inject inject = field.getAnnotation(Inject.class);
+                Named named = field.getAnnotation(Named.class);
+                if (inject != null && named != null && !Modifier.isStatic(field.getModifiers())) {
+                    map.computeIfAbsent(named.value(), name -> new ArrayList<>())
+                            .add(createFieldSetter(field));
+                }
+            }
+
+            Map<String, FieldSetter[]> namedFieldSetters = new HashMap<>();
+            for (Map.Entry<String, List<FieldSetter>> entry : map.entrySet()) {
+                namedFieldSetters.put(entry.getKey(), entry.getValue().toArray(new FieldSetter[0]));
+            }
+
+            this.namedFieldSetters = namedFieldSetters;
+        }
+
+        /**
+         * Method to get the FieldSetters for fields annotated with a name
+         *
+         * @param name name
+         * @return an array of FieldSetters
+         */
+        private FieldSetter[] getNamedFieldSetters(String name) {
+            FieldSetter[] fieldSetters = namedFieldSetters.get(name);
+            return fieldSetters != null ? fieldSetters : FieldSetter.EMPTY;
+        }
+
+        /**
+         * Method to get the FieldSetters for fields annotated with an annotation
+         *
+         * @param annotation annotation
+         * @param isStatic true to get static fields, false to get instance fields
+         * @return an array of FieldSetters
+         */
+        private FieldSetter[] getAnnotatedFieldSetters(Class<? extends Annotation> annotation, boolean isStatic) {
+            Map<Class<? extends Annotation>, FieldSetter[]> map =
+                    isStatic ? staticAnnotatedFieldSetters : annotatedFieldSetters;
+
+            FieldSetter[] fieldSetters = map.get(annotation);
+
+            if (fieldSetters == null) {
+                fieldSetters = map.computeIfAbsent(annotation, key -> {
+                    List<FieldSetter> list = new ArrayList<>();
+                    for (Field field : getFields(clazz)) {
+                        if (Modifier.isStatic(field.getModifiers()) == isStatic && field.isAnnotationPresent(key)) {
+                            list.add(createFieldSetter(field));
+                        }
+                    }
+                    return list.toArray(new FieldSetter[0]);
+                });
+            }
+
+            return fieldSetters;
+        }
+    }
+
+    /** Class to implement FieldSetter */
+    private static final class FieldSetter {
+
+        private static final FieldSetter[] EMPTY = new FieldSetter[0];
+
+        private final Field field;
+        private final Class<?> type;
+        private final boolean isStatic;
+        private final MethodHandle methodHandle;
+
+        /**
+         * Constructor
+         *
+         * @param field field
+         * @param isStatic isStatic
+         * @param methodHandle methodHandle
+         */
+        private FieldSetter(Field field, boolean isStatic, MethodHandle methodHandle) {
+            this.field = field;
+            this.type = field.getType();
+            this.isStatic = isStatic;
+            this.methodHandle = methodHandle;
+        }
+
+        /**
+         * Method to set the field, if the value is null or assignable to the field type
+         *
+         * @param target target (null for static field)
+         * @param value value
+         */
+        private void set(Object target, Object value) {
+            if (value != null && !type.isAssignableFrom(value.getClass())) {
+                return;
+            }
+
+            try {
+                if (isStatic) {
+                    methodHandle.invokeExact(value);
+                } else {
+                    methodHandle.invokeExact(target, value);
+                }
+            } catch (Throwable t) {
+                throw new EngineException(
+                        String.format("Exception injecting object into field [%s]", field.getName()), t);
+            }
+        }
     }
 }
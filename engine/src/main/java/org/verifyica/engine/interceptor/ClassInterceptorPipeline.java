@@ -0,0 +1,643 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.interceptor;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import org.verifyica.api.ArgumentContext;
+import org.verifyica.api.ClassContext;
+import org.verifyica.api.ClassInterceptor;
+import org.verifyica.api.EngineContext;
+import org.verifyica.engine.common.Precondition;
+import org.verifyica.engine.metrics.ClassMetrics;
+import org.verifyica.engine.support.FlightRecorderSupport;
+
+/**
+ * Class to implement ClassInterceptorPipeline
+ *
+ * <p>Compiles the ClassInterceptors of a test class into one dispatch array per hook. Only
+ * ClassInterceptors that override a hook are called. For post hooks, a ClassInterceptor that
+ * overrides neither the hook nor {@code rethrow()} is replaced by an inline rethrow of the
+ * Throwable, which is what the default method does.
+ */
+public class ClassInterceptorPipeline {
+
+    private static final ClassInterceptor[] EMPTY = new ClassInterceptor[0];
+
+    private static final Map<Class<?>, Set<Hook>> OVERRIDDEN_HOOKS = new ConcurrentHashMap<>();
+
+    private static final long NOT_RECORDED = Long.MIN_VALUE;
+
+    private final List<ClassInterceptor> classInterceptors;
+    private final ClassInterceptor[][] dispatch;
+    private final ClassMetrics classMetrics;
+    private final String testClassName;
+
+    /**
+     * Constructor
+     *
+     * @param classInterceptors classInterceptors, in order
+     * @param classContext classContext used to evaluate each ClassInterceptor predicate
+     */
+    public ClassInterceptorPipeline(List<ClassInterceptor> classInterceptors, ClassContext classContext) {
+        this(classInterceptors, classContext, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param classInterceptors classInterceptors, in order
+     * @param classContext classContext used to evaluate each ClassInterceptor predicate
+     * @param classMetrics classMetrics used to record the time of each hook, or null
+     */
+    public ClassInterceptorPipeline(
+            List<ClassInterceptor> classInterceptors, ClassContext classContext, ClassMetrics classMetrics) {
+        Precondition.notNull(classInterceptors, "classInterceptors is null");
+
+        this.classMetrics = classMetrics;
+        this.testClassName = classContext != null ? classContext.getTestClass().getName() : null;
+
+        List<ClassInterceptor> accepted = new ArrayList<>(classInterceptors.size());
+
+        for (ClassInterceptor classInterceptor : classInterceptors) {
+            Predicate<ClassContext> predicate = classInterceptor.predicate();
+            if (predicate == null || predicate.test(classContext)) {
+                accepted.add(classInterceptor);
+            }
+        }
+
+        this.classInterceptors = accepted;
+        this.dispatch = new ClassInterceptor[Hook.values().length][];
+
+        for (Hook hook : Hook.values()) {
+            dispatch[hook.ordinal()] = compile(hook, accepted);
+        }
+    }
+
+    /**
+     * Method to get the ClassInterceptors accepted for the test class
+     *
+     * @return a List of ClassInterceptors, in order
+     */
+    public List<ClassInterceptor> getClassInterceptors() {
+        return classInterceptors;
+    }
+
+    /**
+     * Method to call preInstantiate hooks
+     *
+     * @param engineContext engineContext
+     * @param testClass testClass
+     * @throws Throwable Throwable
+     */
+    public void preInstantiate(EngineContext engineContext, Class<?> testClass) throws Throwable {
+        long startNanos = startNanos(Hook.PRE_INSTANTIATE);
+        Object event = beginEvent(Hook.PRE_INSTANTIATE);
+        try {
+            for (ClassInterceptor classInterceptor : dispatch[Hook.PRE_INSTANTIATE.ordinal()]) {
+                classInterceptor.preInstantiate(engineContext, testClass);
+            }
+        } finally {
+            record(Hook.PRE_INSTANTIATE, startNanos, event);
+        }
+    }
+
+    /**
+     * Method to call postInstantiate hooks
+     *
+     * @param engineContext engineContext
+     * @param testClass testClass
+     * @param testInstance testInstance
+     * @param throwable throwable
+     * @throws Throwable Throwable
+     */
+    public void postInstantiate(
+            EngineContext engineContext, Class<?> testClass, Object testInstance, Throwable throwable)
+            throws Throwable {
+        long startNanos = startNanos(Hook.POST_INSTANTIATE);
+        Object event = beginEvent(Hook.POST_INSTANTIATE);
+        try {
+            for (ClassInterceptor classInterceptor : dispatch[Hook.POST_INSTANTIATE.ordinal()]) {
+                if (classInterceptor == null) {
+                    rethrow(throwable);
+                } else {
+                    classInterceptor.postInstantiate(engineContext, testClass, testInstance, throwable);
+                }
+            }
+        } finally {
+            record(Hook.POST_INSTANTIATE, startNanos, event);
+        }
+    }
+
+    /**
+     * Method to call prePrepare hooks
+     *
+     * @param classContext classContext
+     * @throws Throwable Throwable
+     */
+    public void prePrepare(ClassContext classContext) throws Throwable {
+        long startNanos = startNanos(Hook.PRE_PREPARE);
+        Object event = beginEvent(Hook.PRE_PREPARE);
+        try {
+            for (ClassInterceptor classInterceptor : dispatch[Hook.PRE_PREPARE.ordinal()]) {
+                classInterceptor.prePrepare(classContext);
+            }
+        } finally {
+            record(Hook.PRE_PREPARE, startNanos, event);
+        }
+    }
+
+    /**
+     * Method to call postPrepare hooks
+     *
+     * @param classContext classContext
+     * @param throwable throwable
+     * @throws Throwable Throwable
+     */
+    public void postPrepare(ClassContext classContext, Throwable throwable) throws Throwable {
+        long startNanos = startNanos(Hook.POST_PREPARE);
+        Object event = beginEvent(Hook.POST_PREPARE);
+        try {
+            for (ClassInterceptor classInterceptor : dispatch[Hook.POST_PREPARE.ordinal()]) {
+                if (classInterceptor == null) {
+                    rethrow(throwable);
+                } else {
+                    classInterceptor.postPrepare(classContext, throwable);
+                }
+            }
+        } finally {
+            record(Hook.POST_PREPARE, startNanos, event);
+        }
+    }
+
+    /**
+     * Method to call preBeforeAll hooks
+     *
+     * @param argumentContext argumentContext
+     * @throws Throwable Throwable
+     */
+    public void preBeforeAll(ArgumentContext argumentContext) throws Throwable {
+        long startNanos = startNanos(Hook.PRE_BEFORE_ALL);
+        Object event = beginEvent(Hook.PRE_BEFORE_ALL);
+        try {
+            for (ClassInterceptor classInterceptor : dispatch[Hook.PRE_BEFORE_ALL.ordinal()]) {
+                classInterceptor.preBeforeAll(argumentContext);
+            }
+        } finally {
+            record(Hook.PRE_BEFORE_ALL, startNanos, event);
+        }
+    }
+
+    /**
+     * Method to call postBeforeAll hooks
+     *
+     * @param argumentContext argumentContext
+     * @param throwable throwable
+     * @throws Throwable Throwable
+     */
+    public void postBeforeAll(ArgumentContext argumentContext, Throwable throwable) throws Throwable {
+        long startNanos = startNanos(Hook.POST_BEFORE_ALL);
+        Object event = beginEvent(Hook.POST_BEFORE_ALL);
+        try {
+            for (ClassInterceptor classInterceptor : dispatch[Hook.POST_BEFORE_ALL.ordinal()]) {
+                if (classInterceptor == null) {
+                    rethrow(throwable);
+                } else {
+                    classInterceptor.postBeforeAll(argumentContext, throwable);
+                }
+            }
+        } finally {
+            record(Hook.POST_BEFORE_ALL, startNanos, event);
+        }
+    }
+
+    /**
+     * Method to call preBeforeEach hooks
+     *
+     * @param argumentContext argumentContext
+     * @throws Throwable Throwable
+     */
+    public void preBeforeEach(ArgumentContext argumentContext) throws Throwable {
+        long startNanos = startNanos(Hook.PRE_BEFORE_EACH);
+        Object event = beginEvent(Hook.PRE_BEFORE_EACH);
+        try {
+            for (ClassInterceptor classInterceptor : dispatch[Hook.PRE_BEFORE_EACH.ordinal()]) {
+                classInterceptor.preBeforeEach(argumentContext);
+            }
+        } finally {
+            record(Hook.PRE_BEFORE_EACH, startNanos, event);
+        }
+    }
+
+    /**
+     * Method to call postBeforeEach hooks
+     *
+     * @param argumentContext argumentContext
+     * @param throwable throwable
+     * @throws Throwable Throwable
+     */
+    public void postBeforeEach(ArgumentContext argumentContext, Throwable throwable) throws Throwable {
+        long startNanos = startNanos(Hook.POST_BEFORE_EACH);
+        Object event = beginEvent(Hook.POST_BEFORE_EACH);
+        try {
+            for (ClassInterceptor classInterceptor : dispatch[Hook.POST_BEFORE_EACH.ordinal()]) {
+                if (classInterceptor == null) {
+                    rethrow(throwable);
+                } else {
+                    classInterceptor.postBeforeEach(argumentContext, throwable);
+                }
+            }
+        } finally {
+            record(Hook.POST_BEFORE_EACH, startNanos, event);
+        }
+    }
+
+    /**
+     * Method to call preTest hooks
+     *
+     * @param argumentContext argumentContext
+     * @param testMethod testMethod
+     * @throws Throwable Throwable
+     */
+    public void preTest(ArgumentContext argumentContext, Method testMethod) throws Throwable {
+        long startNanos = startNanos(Hook.PRE_TEST);
+        Object event = beginEvent(Hook.PRE_TEST);
+        try {
+            for (ClassInterceptor classInterceptor : dispatch[Hook.PRE_TEST.ordinal()]) {
+                classInterceptor.preTest(argumentContext, testMethod);
+            }
+        } finally {
+            record(Hook.PRE_TEST, startNanos, event);
+        }
+    }
+
+    /**
+     * Method to call postTest hooks
+     *
+     * @param argumentContext argumentContext
+     * @param testMethod testMethod
+     * @param throwable throwable
+     * @throws Throwable Throwable
+     */
+    public void postTest(ArgumentContext argumentContext, Method testMethod, Throwable throwable) throws Throwable {
+        long startNanos = startNanos(Hook.POST_TEST);
+        Object event = beginEvent(Hook.POST_TEST);
+        try {
+            for (ClassInterceptor classInterceptor : dispatch[Hook.POST_TEST.ordinal()]) {
+                if (classInterceptor == null) {
+                    rethrow(throwable);
+                } else {
+                    classInterceptor.postTest(argumentContext, testMethod, throwable);
+                }
+            }
+        } finally {
+            record(Hook.POST_TEST, startNanos, event);
+        }
+    }
+
+    /**
+     * Method to call preAfterEach hooks
+     *
+     * @param argumentContext argumentContext
+     * @throws Throwable Throwable
+     */
+    public void preAfterEach(ArgumentContext argumentContext) throws Throwable {
+        long startNanos = startNanos(Hook.PRE_AFTER_EACH);
+        Object event = beginEvent(Hook.PRE_AFTER_EACH);
+        try {
+            for (ClassInterceptor classInterceptor : dispatch[Hook.PRE_AFTER_EACH.ordinal()]) {
+                classInterceptor.preAfterEach(argumentContext);
+            }
+        } finally {
+            record(Hook.PRE_AFTER_EACH, startNanos, event);
+        }
+    }
+
+    /**
+     * Method to call postAfterEach hooks
+     *
+     * @param argumentContext argumentContext
+     * @param throwable throwable
+     * @throws Throwable Throwable
+     */
+    public void postAfterEach(ArgumentContext argumentContext, Throwable throwable) throws Throwable {
+        long startNanos = startNanos(Hook.POST_AFTER_EACH);
+        Object event = beginEvent(Hook.POST_AFTER_EACH);
+        try {
+            for (ClassInterceptor classInterceptor : dispatch[Hook.POST_AFTER_EACH.ordinal()]) {
+                if (classInterceptor == null) {
+                    rethrow(throwable);
+                } else {
+                    classInterceptor.postAfterEach(argumentContext, throwable);
+                }
+            }
+        } finally {
+            record(Hook.POST_AFTER_EACH, startNanos, event);
+        }
+    }
+
+    /**
+     * Method to call preAfterAll hooks
+     *
+     * @param argumentContext argumentContext
+     * @throws Throwable Throwable
+     */
+    public void preAfterAll(ArgumentContext argumentContext) throws Throwable {
+        long startNanos = startNanos(Hook.PRE_AFTER_ALL);
+        Object event = beginEvent(Hook.PRE_AFTER_ALL);
+        try {
+            for (ClassInterceptor classInterceptor : dispatch[Hook.PRE_AFTER_ALL.ordinal()]) {
+                classInterceptor.preAfterAll(argumentContext);
+            }
+        } finally {
+            record(Hook.PRE_AFTER_ALL, startNanos, event);
+        }
+    }
+
+    /**
+     * Method to call postAfterAll hooks
+     *
+     * @param argumentContext argumentContext
+     * @param throwable throwable
+     * @throws Throwable Throwable
+     */
+    public void postAfterAll(ArgumentContext argumentContext, Throwable throwable) throws Throwable {
+        long startNanos = startNanos(Hook.POST_AFTER_ALL);
+        Object event = beginEvent(Hook.POST_AFTER_ALL);
+        try {
+            for (ClassInterceptor classInterceptor : dispatch[Hook.POST_AFTER_ALL.ordinal()]) {
+                if (classInterceptor == null) {
+                    rethrow(throwable);
+                } else {
+                    classInterceptor.postAfterAll(argumentContext, throwable);
+                }
+            }
+        } finally {
+            record(Hook.POST_AFTER_ALL, startNanos, event);
+        }
+    }
+
+    /**
+     * Method to call preConclude hooks
+     *
+     * @param classContext classContext
+     * @throws Throwable Throwable
+     */
+    public void preConclude(ClassContext classContext) throws Throwable {
+        long startNanos = startNanos(Hook.PRE_CONCLUDE);
+        Object event = beginEvent(Hook.PRE_CONCLUDE);
+        try {
+            for (ClassInterceptor classInterceptor : dispatch[Hook.PRE_CONCLUDE.ordinal()]) {
+                classInterceptor.preConclude(classContext);
+            }
+        } finally {
+            record(Hook.PRE_CONCLUDE, startNanos, event);
+        }
+    }
+
+    /**
+     * Method to call postConclude hooks
+     *
+     * @param classContext classContext
+     * @param throwable throwable
+     * @throws Throwable Throwable
+     */
+    public void postConclude(ClassContext classContext, Throwable throwable) throws Throwable {
+        long startNanos = startNanos(Hook.POST_CONCLUDE);
+        Object event = beginEvent(Hook.POST_CONCLUDE);
+        try {
+            for (ClassInterceptor classInterceptor : dispatch[Hook.POST_CONCLUDE.ordinal()]) {
+                if (classInterceptor == null) {
+                    rethrow(throwable);
+                } else {
+                    classInterceptor.postConclude(classContext, throwable);
+                }
+            }
+        } finally {
+            record(Hook.POST_CONCLUDE, startNanos, event);
+        }
+    }
+
+    /**
+     * Method to call onDestroy hooks
+     *
+     * @param classContext classContext
+     * @throws Throwable Throwable
+     */
+    public void onDestroy(ClassContext classContext) throws Throwable {
+        long startNanos = startNanos(Hook.ON_DESTROY);
+        Object event = beginEvent(Hook.ON_DESTROY);
+        try {
+            for (ClassInterceptor classInterceptor : dispatch[Hook.ON_DESTROY.ordinal()]) {
+                classInterceptor.onDestroy(classContext);
+            }
+        } finally {
+            record(Hook.ON_DESTROY, startNanos, event);
+        }
+    }
+
+    /**
+     * Method to get the start time of a hook, if its time is recorded
+     *
+     * @param hook hook
+     * @return the start time in nanoseconds, or NOT_RECORDED if the time of the hook is not recorded
+     */
+    private long startNanos(Hook hook) {
+        return classMetrics != null && dispatch[hook.ordinal()].length > 0 ? System.nanoTime() : NOT_RECORDED;
+    }
+
+    /**
+     * Method to begin a Java Flight Recorder event for a hook, if the hook calls any ClassInterceptors
+     *
+     * @param hook hook
+     * @return the event, or null if the event is not enabled
+     */
+    private Object beginEvent(Hook hook) {
+        return dispatch[hook.ordinal()].length > 0
+                ? FlightRecorderSupport.begin(FlightRecorderSupport.EventType.INTERCEPTOR_HOOK)
+                : null;
+    }
+
+    /**
+     * Method to record the time of a hook
+     *
+     * @param hook hook
+     * @param startNanos startNanos
+     * @param event the event returned by beginEvent, or null
+     */
+    private void record(Hook hook, long startNanos, Object event) {
+        if (startNanos != NOT_RECORDED) {
+            classMetrics.record(
+                    ClassMetrics.Scope.INTERCEPTOR, hook, ClassMetrics.Kind.TOTAL, System.nanoTime() - startNanos);
+        }
+
+        FlightRecorderSupport.end(event, testClassName, null, null, hook.name());
+    }
+
+    /**
+     * Method to rethrow a Throwable if not null
+     *
+     * @param throwable throwable
+     * @throws Throwable Throwable
+     */
+    private static void rethrow(Throwable throwable) throws Throwable {
+        if (throwable != null) {
+            throw throwable;
+        }
+    }
+
+    /**
+     * Method to compile the dispatch array for a hook
+     *
+     * @param hook hook
+     * @param classInterceptors classInterceptors, in order
+     * @return the dispatch array, where null is an inline rethrow
+     */
+    private static ClassInterceptor[] compile(Hook hook, List<ClassInterceptor> classInterceptors) {
+        List<ClassInterceptor> list = new ArrayList<>();
+
+        for (int i = 0; i < classInterceptors.size(); i++) {
+            ClassInterceptor classInterceptor =
+                    classInterceptors.get(hook.isReversed() ? classInterceptors.size() - 1 - i : i);
+            Set<Hook> overriddenHooks = getOverriddenHooks(classInterceptor.getClass());
+
+            if (overriddenHooks.contains(hook) || (hook.isPost() && overriddenHooks.contains(Hook.RETHROW))) {
+                list.add(classInterceptor);
+            } else if (hook.isPost() && (list.isEmpty() || list.get(list.size() - 1) != null)) {
+                // Consecutive default post hooks rethrow the same Throwable, so one is enough
+                list.add(null);
+            }
+        }
+
+        return list.isEmpty() ? EMPTY : list.toArray(new ClassInterceptor[0]);
+    }
+
+    /**
+     * Method to get the hooks a ClassInterceptor class overrides
+     *
+     * @param clazz clazz
+     * @return a Set of Hooks
+     */
+    private static Set<Hook> getOverriddenHooks(Class<?> clazz) {
+        Set<Hook> overriddenHooks = OVERRIDDEN_HOOKS.get(clazz);
+
+        if (overriddenHooks == null) {
+            overriddenHooks = OVERRIDDEN_HOOKS.computeIfAbsent(clazz, key -> {
+                Set<Hook> set = EnumSet.noneOf(Hook.class);
+                for (Hook hook : Hook.values()) {
+                    try {
+                        Method method = key.getMethod(hook.getMethodName(), hook.getParameterTypes());
+                        if (method.getDeclaringClass() != ClassInterceptor.class) {
+                            set.add(hook);
+                        }
+                    } catch (NoSuchMethodException e) {
+                        // Can't be determined, so call the hook
+                        set.add(hook);
+                    }
+                }
+                return set;
+            });
+        }
+
+        return overriddenHooks;
+    }
+
+    /** Enum to implement Hook */
+    private enum Hook {
+        PRE_INSTANTIATE("preInstantiate", false, false, EngineContext.class, Class.class),
+        POST_INSTANTIATE(
+                "postInstantiate", true, true, EngineContext.class, Class.class, Object.class, Throwable.class),
+        PRE_PREPARE("prePrepare", false, false, ClassContext.class),
+        POST_PREPARE("postPrepare", true, true, ClassContext.class, Throwable.class),
+        PRE_BEFORE_ALL("preBeforeAll", false, false, ArgumentContext.class),
+        POST_BEFORE_ALL("postBeforeAll", true, true, ArgumentContext.class, Throwable.class),
+        PRE_BEFORE_EACH("preBeforeEach", false, false, ArgumentContext.class),
+        POST_BEFORE_EACH("postBeforeEach", true, true, ArgumentContext.class, Throwable.class),
+        PRE_TEST("preTest", false, false, ArgumentContext.class, Method.class),
+        POST_TEST("postTest", true, true, ArgumentContext.class, Method.class, Throwable.class),
+        PRE_AFTER_EACH("preAfterEach", false, false, ArgumentContext.class),
+        POST_AFTER_EACH("postAfterEach", true, true, ArgumentContext.class, Throwable.class),
+        PRE_AFTER_ALL("preAfterAll", false, false, ArgumentContext.class),
+        POST_AFTER_ALL("postAfterAll", true, true, ArgumentContext.class, Throwable.class),
+        PRE_CONCLUDE("preConclude", false, false, ClassContext.class),
+        POST_CONCLUDE("postConclude", true, true, ClassContext.class, Throwable.class),
+        ON_DESTROY("onDestroy", false, true, ClassContext.class),
+        RETHROW("rethrow", false, false, Throwable.class);
+
+        private final String methodName;
+        private final boolean isPost;
+        private final boolean isReversed;
+        private final Class<?>[] parameterTypes;
+
+        /**
+         * Constructor
+         *
+         * @param methodName methodName
+         * @param isPost isPost
+         * @param isReversed isReversed
+         * @param parameterTypes parameterTypes
+         */
+        Hook(String methodName, boolean isPost, boolean isReversed, Class<?>... parameterTypes) {
+            this.methodName = methodName;
+            this.isPost = isPost;
+            this.isReversed = isReversed;
+            this.parameterTypes = parameterTypes;
+        }
+
+        /**
+         * Method to get the method name
+         *
+         * @return the method name
+         */
+        String getMethodName() {
+            return methodName;
+        }
+
+        /**
+         * Method to get the parameter types
+         *
+         * @return the parameter types
+         */
+        Class<?>[] getParameterTypes() {
+            return parameterTypes;
+        }
+
+        /**
+         * Method to return if the hook is a post hook, whose default implementation rethrows
+         *
+         * @return true if the hook is a post hook, else false
+         */
+        boolean isPost() {
+            return isPost;
+        }
+
+        /**
+         * Method to return if the hook is called in reverse order
+         *
+         * @return true if the hook is called in reverse order, else false
+         */
+        boolean isReversed() {
+            return isReversed;
+        }
+    }
+}
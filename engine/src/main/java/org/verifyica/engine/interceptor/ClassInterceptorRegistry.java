@@ -39,9 +39,12 @@ import org.verifyica.api.ClassInterceptor;
 import org.verifyica.api.Configuration;
 import org.verifyica.api.EngineContext;
 import org.verifyica.api.Verifyica;
+import org.verifyica.engine.classpath.ClasspathIndex;
 import org.verifyica.engine.common.AnsiColor;
 import org.verifyica.engine.common.Precondition;
 import org.verifyica.engine.common.StackTracePrinter;
+import org.verifyica.engine.common.Stopwatch;
+import org.verifyica.engine.configuration.ConfigurationSnapshot;
 import org.verifyica.engine.configuration.Constants;
 import org.verifyica.engine.exception.EngineException;
 import org.verifyica.engine.exception.TestClassDefinitionException;
@@ -51,7 +54,6 @@ import org.verifyica.engine.resolver.ResolverPredicates;
 import org.verifyica.engine.support.ClassSupport;
 import org.verifyica.engine.support.HierarchyTraversalMode;
 import org.verifyica.engine.support.ListSupport;
-import org.verifyica.engine.support.ObjectSupport;
 import org.verifyica.engine.support.OrderSupport;
 
 /** Class to implement ClassInterceptorRegistry */
@@ -60,6 +62,7 @@ public class ClassInterceptorRegistry {
     private static final Logger LOGGER = LoggerFactory.getLogger(ClassInterceptorRegistry.class);
 
     private final Configuration configuration;
+    private final ClasspathIndex classpathIndex;
     private final ReadWriteLock readWriteLock;
     private final List<ClassInterceptor> classInterceptors;
     private final Map<Class<?>, List<ClassInterceptor>> mappedClassInterceptors;
@@ -68,9 +71,11 @@ public class ClassInterceptorRegistry {
      * Constructor
      *
      * @param configuration configuration
+     * @param classpathIndex classpathIndex
      */
-    public ClassInterceptorRegistry(Configuration configuration) {
+    public ClassInterceptorRegistry(Configuration configuration, ClasspathIndex classpathIndex) {
         this.configuration = configuration;
+        this.classpathIndex = classpathIndex;
         this.readWriteLock = new ReentrantReadWriteLock(true);
 
         this.classInterceptors = new ArrayList<>();
@@ -90,8 +95,9 @@ public class ClassInterceptorRegistry {
             LOGGER.trace("initialize()");
             LOGGER.trace("loading autowired class interceptors");
 
-            List<Class<?>> autowiredClassInterceptors = new ArrayList<>(
-                    ClassSupport.findAllClasses(InterceptorPredicates.AUTOWIRED_CLASS_INTERCEPTOR_CLASS));
+            List<Class<?>> autowiredClassInterceptors =
+                    new ArrayList<>(new InterceptorLocator(classpathIndex, isScanEnabled(configuration))
+                            .locate(ClassInterceptor.class, InterceptorPredicates.AUTOWIRED_CLASS_INTERCEPTOR_CLASS));
 
             filter(autowiredClassInterceptors);
 
@@ -99,16 +105,21 @@ public class ClassInterceptorRegistry {
 
             LOGGER.trace("autowired class interceptor count [%d]", autowiredClassInterceptors.size());
 
-            for (Class<?> classInterceptorClass : autowiredClassInterceptors) {
+            List<ClassInterceptor> autowiredClassInterceptorInstances =
+                    InterceptorLocator.createInstances(autowiredClassInterceptors);
+
+            for (ClassInterceptor classInterceptor : autowiredClassInterceptorInstances) {
                 try {
-                    LOGGER.trace("loading autowired class interceptor [%s]", classInterceptorClass.getName());
+                    Stopwatch stopwatch = new Stopwatch();
 
-                    ClassInterceptor classInterceptor = ObjectSupport.createObject(classInterceptorClass);
                     classInterceptor.initialize(engineContext);
 
                     classInterceptors.add(classInterceptor);
 
-                    LOGGER.trace("autowired class interceptor [%s] loaded", classInterceptorClass.getName());
+                    LOGGER.trace(
+                            "autowired class interceptor [%s] initialized elapsedTime [%d] ms",
+                            classInterceptor.getClass().getName(),
+                            stopwatch.elapsedTime().toMillis());
                 } catch (EngineException e) {
                     throw e;
                 } catch (Throwable t) {
@@ -251,6 +262,16 @@ public class ClassInterceptorRegistry {
         }
     }
 
+    /**
+     * Method to return if scanning the classpath for autowired interceptors is enabled
+     *
+     * @param configuration configuration
+     * @return true if scanning is enabled, else false
+     */
+    static boolean isScanEnabled(Configuration configuration) {
+        return ConfigurationSnapshot.of(configuration).getBoolean(Constants.ENGINE_AUTOWIRED_INTERCEPTORS_SCAN, false);
+    }
+
     /**
      * Method to filter ClassInterceptors
      *
@@ -30,14 +30,14 @@ import java.util.regex.Pattern;
 import org.verifyica.api.Configuration;
 import org.verifyica.api.EngineContext;
 import org.verifyica.api.EngineInterceptor;
+import org.verifyica.engine.classpath.ClasspathIndex;
 import org.verifyica.engine.common.AnsiColor;
 import org.verifyica.engine.common.StackTracePrinter;
+import org.verifyica.engine.common.Stopwatch;
 import org.verifyica.engine.configuration.Constants;
 import org.verifyica.engine.exception.EngineException;
 import org.verifyica.engine.logger.Logger;
 import org.verifyica.engine.logger.LoggerFactory;
-import org.verifyica.engine.support.ClassSupport;
-import org.verifyica.engine.support.ObjectSupport;
 import org.verifyica.engine.support.OrderSupport;
 
 /** Class to implement EngineInterceptorRegistry */
@@ -46,6 +46,7 @@ public class EngineInterceptorRegistry {
     private static final Logger LOGGER = LoggerFactory.getLogger(ClassInterceptorRegistry.class);
 
     private final Configuration configuration;
+    private final ClasspathIndex classpathIndex;
     private final ReadWriteLock readWriteLock;
     private final List<EngineInterceptor> engineInterceptors;
 
@@ -53,9 +54,11 @@ public class EngineInterceptorRegistry {
      * Constructor
      *
      * @param configuration configuration
+     * @param classpathIndex classpathIndex
      */
-    public EngineInterceptorRegistry(Configuration configuration) {
+    public EngineInterceptorRegistry(Configuration configuration, ClasspathIndex classpathIndex) {
         this.configuration = configuration;
+        this.classpathIndex = classpathIndex;
         this.readWriteLock = new ReentrantReadWriteLock(true);
         this.engineInterceptors = new ArrayList<>();
     }
@@ -70,7 +73,8 @@ public class EngineInterceptorRegistry {
 
         try {
             List<Class<?>> autowiredEngineInterceptors = new ArrayList<>(
-                    ClassSupport.findAllClasses(InterceptorPredicates.AUTOWIRED_ENGINE_INTERCEPTOR_CLASS));
+                    new InterceptorLocator(classpathIndex, ClassInterceptorRegistry.isScanEnabled(configuration))
+                            .locate(EngineInterceptor.class, InterceptorPredicates.AUTOWIRED_ENGINE_INTERCEPTOR_CLASS));
 
             filter(autowiredEngineInterceptors);
 
@@ -78,25 +82,18 @@ public class EngineInterceptorRegistry {
 
             LOGGER.trace("autowired engine interceptor count [%d]", autowiredEngineInterceptors.size());
 
-            for (Class<?> engineInterceptorClass : autowiredEngineInterceptors) {
-                try {
-                    LOGGER.trace("loading autowired engine interceptor [%s]", engineInterceptorClass.getName());
-
-                    Object object = ObjectSupport.createObject(engineInterceptorClass);
-
-                    engineInterceptors.add((EngineInterceptor) object);
-
-                    LOGGER.trace("autowired class interceptor [%s] loaded", engineInterceptorClass.getName());
-                } catch (EngineException e) {
-                    throw e;
-                } catch (Throwable t) {
-                    throw new EngineException(t);
-                }
-            }
+            engineInterceptors.addAll(InterceptorLocator.createInstances(autowiredEngineInterceptors));
 
             try {
                 for (EngineInterceptor engineInterceptor : engineInterceptors) {
+                    Stopwatch stopwatch = new Stopwatch();
+
                     engineInterceptor.initialize(engineContext);
+
+                    LOGGER.trace(
+                            "autowired engine interceptor [%s] initialized elapsedTime [%d] ms",
+                            engineInterceptor.getClass().getName(),
+                            stopwatch.elapsedTime().toMillis());
                 }
             } catch (Throwable t) {
                 throw new EngineException(t);
@@ -0,0 +1,364 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.interceptor;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+import org.verifyica.api.Verifyica;
+import org.verifyica.api.processor.VerifyicaIndexProcessor;
+import org.verifyica.engine.classpath.ClasspathIndex;
+import org.verifyica.engine.common.PlatformThreadFactory;
+import org.verifyica.engine.common.Precondition;
+import org.verifyica.engine.common.Stopwatch;
+import org.verifyica.engine.exception.EngineException;
+import org.verifyica.engine.logger.Logger;
+import org.verifyica.engine.logger.LoggerFactory;
+import org.verifyica.engine.support.ClassSupport;
+import org.verifyica.engine.support.ObjectSupport;
+
+/**
+ * Class to implement InterceptorLocator
+ *
+ * <p>Locates interceptor classes registered in {@code META-INF/services} resources, and autowired
+ * interceptor classes in classpath roots that contain a generated index, or are directories.
+ * Scanning every classpath root is opt-in.
+ */
+public class InterceptorLocator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InterceptorLocator.class);
+
+    private static final String SERVICES_RESOURCE_PREFIX = "META-INF/services/";
+
+    private final ClasspathIndex classpathIndex;
+    private final ClassLoader classLoader;
+    private final boolean scan;
+
+    /**
+     * Constructor
+     *
+     * @param classpathIndex classpathIndex
+     * @param scan true to scan every classpath root for autowired interceptors, else false
+     */
+    public InterceptorLocator(ClasspathIndex classpathIndex, boolean scan) {
+        Precondition.notNull(classpathIndex, "classpathIndex is null");
+
+        this.classpathIndex = classpathIndex;
+        this.classLoader = getDefaultClassLoader();
+        this.scan = scan;
+    }
+
+    /**
+     * Method to locate interceptor classes
+     *
+     * @param interceptorClass the interceptor interface
+     * @param autowiredPredicate the Predicate an autowired interceptor class must match
+     * @return a List of interceptor classes, services first, in discovery order
+     */
+    public List<Class<?>> locate(Class<?> interceptorClass, Predicate<Class<?>> autowiredPredicate) {
+        Precondition.notNull(interceptorClass, "interceptorClass is null");
+        Precondition.notNull(autowiredPredicate, "autowiredPredicate is null");
+
+        Stopwatch stopwatch = new Stopwatch();
+
+        Set<Class<?>> classes = new LinkedHashSet<>();
+
+        for (String className : getServiceClassNames(interceptorClass)) {
+            Class<?> clazz = loadClass(className);
+            if (clazz != null && isServiceInterceptorClass(interceptorClass, clazz)) {
+                LOGGER.trace("service interceptor [%s]", clazz.getName());
+                classes.add(clazz);
+            }
+        }
+
+        if (scan) {
+            classes.addAll(classpathIndex.findClasses(autowiredPredicate));
+        } else {
+            Set<URI> indexedClasspathRoots = getIndexedClasspathRoots();
+
+            for (URI uri : indexedClasspathRoots) {
+                classes.addAll(classpathIndex.findClasses(uri, autowiredPredicate));
+            }
+
+            // The annotation processor may not have run (e.g. Java 23+ without -proc:full, or an IDE
+            // build), so directories without an index are scanned
+            for (URI uri : ClassSupport.getClasspathURIs()) {
+                if (!indexedClasspathRoots.contains(uri) && isDirectory(uri)) {
+                    LOGGER.trace("scanning classpath root [%s] without an index", uri);
+                    classes.addAll(classpathIndex.findClasses(uri, autowiredPredicate));
+                }
+            }
+        }
+
+        LOGGER.trace(
+                "locate() interceptorClass [%s] scan [%b] classes [%d] elapsedTime [%d] ms",
+                interceptorClass.getName(),
+                scan,
+                classes.size(),
+                stopwatch.elapsedTime().toMillis());
+
+        return new ArrayList<>(classes);
+    }
+
+    /**
+     * Method to create interceptor instances concurrently
+     *
+     * @param classes classes
+     * @param <T> the interceptor type
+     * @return a List of interceptor instances, in the order of the classes
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> createInstances(List<Class<?>> classes) {
+        Precondition.notNull(classes, "classes is null");
+
+        List<T> instances = new ArrayList<>(classes.size());
+
+        int threads = Math.min(Runtime.getRuntime().availableProcessors(), classes.size());
+
+        if (threads <= 1) {
+            for (Class<?> clazz : classes) {
+                instances.add((T) createInstance(clazz));
+            }
+            return instances;
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threads, new PlatformThreadFactory());
+
+        try {
+            List<Future<Object>> futures = new ArrayList<>(classes.size());
+            for (Class<?> clazz : classes) {
+                futures.add(executorService.submit(() -> createInstance(clazz)));
+            }
+
+            for (Future<Object> future : futures) {
+                try {
+                    instances.add((T) future.get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new EngineException(e);
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof EngineException) {
+                        throw (EngineException) cause;
+                    }
+                    throw new EngineException(cause);
+                }
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        return instances;
+    }
+
+    /**
+     * Method to create an interceptor instance
+     *
+     * @param clazz clazz
+     * @return an interceptor instance
+     */
+    private static Object createInstance(Class<?> clazz) {
+        Stopwatch stopwatch = new Stopwatch();
+
+        try {
+            Object object = ObjectSupport.createObject(clazz);
+
+            LOGGER.trace(
+                    "interceptor [%s] created elapsedTime [%d] ms",
+                    clazz.getName(), stopwatch.elapsedTime().toMillis());
+
+            return object;
+        } catch (EngineException e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new EngineException(t);
+        }
+    }
+
+    /**
+     * Method to get the class names registered in {@code META-INF/services} resources
+     *
+     * @param interceptorClass interceptorClass
+     * @return a Set of class names
+     */
+    private Set<String> getServiceClassNames(Class<?> interceptorClass) {
+        Set<String> classNames = new LinkedHashSet<>();
+
+        try {
+            Enumeration<URL> urls = classLoader.getResources(SERVICES_RESOURCE_PREFIX + interceptorClass.getName());
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                try (InputStream inputStream = url.openStream();
+                        BufferedReader bufferedReader =
+                                new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = bufferedReader.readLine()) != null) {
+                        int index = line.indexOf('#');
+                        if (index >= 0) {
+                            line = line.substring(0, index);
+                        }
+                        line = line.trim();
+                        if (!line.isEmpty()) {
+                            classNames.add(line);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new EngineException(e);
+        }
+
+        return classNames;
+    }
+
+    /**
+     * Method to get the classpath roots that contain a generated index
+     *
+     * @return a Set of classpath root URIs
+     */
+    private Set<URI> getIndexedClasspathRoots() {
+        Set<URI> uris = new LinkedHashSet<>();
+
+        try {
+            Enumeration<URL> urls = classLoader.getResources(VerifyicaIndexProcessor.INDEX_RESOURCE_NAME);
+            while (urls.hasMoreElements()) {
+                URI uri = getClasspathRoot(urls.nextElement());
+                if (uri != null) {
+                    uris.add(uri);
+                }
+            }
+        } catch (IOException e) {
+            throw new EngineException(e);
+        }
+
+        return uris;
+    }
+
+    /**
+     * Method to return if a classpath root is a directory
+     *
+     * @param uri uri
+     * @return true if the classpath root is a directory, else false
+     */
+    private static boolean isDirectory(URI uri) {
+        try {
+            return Files.isDirectory(Paths.get(uri));
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Method to get the classpath root of an index resource
+     *
+     * @param url url
+     * @return the classpath root URI, or null if the URL isn't a file or jar URL
+     */
+    private static URI getClasspathRoot(URL url) {
+        try {
+            String protocol = url.getProtocol();
+
+            if ("jar".equals(protocol)) {
+                String spec = url.getPath();
+                int index = spec.indexOf("!/");
+                if (index < 0) {
+                    return null;
+                }
+                URI uri = new URI(spec.substring(0, index));
+                return "file".equalsIgnoreCase(uri.getScheme())
+                        ? Paths.get(uri).toFile().toURI()
+                        : null;
+            } else if ("file".equals(protocol)) {
+                Path path = Paths.get(url.toURI());
+                int depth = VerifyicaIndexProcessor.INDEX_RESOURCE_NAME.split("/").length;
+                for (int i = 0; i < depth && path != null; i++) {
+                    path = path.getParent();
+                }
+                return path != null ? new File(path.toString()).toURI() : null;
+            }
+        } catch (URISyntaxException | RuntimeException e) {
+            LOGGER.trace("index resource [%s] could not be mapped to a classpath root [%s]", url, e.getMessage());
+        }
+
+        return null;
+    }
+
+    /**
+     * Method to return if a class registered as a service is a valid interceptor class
+     *
+     * @param interceptorClass interceptorClass
+     * @param clazz clazz
+     * @return true if the class is a valid interceptor class, else false
+     */
+    private static boolean isServiceInterceptorClass(Class<?> interceptorClass, Class<?> clazz) {
+        int modifiers = clazz.getModifiers();
+        if (!Modifier.isPublic(modifiers)
+                || Modifier.isAbstract(modifiers)
+                || !interceptorClass.isAssignableFrom(clazz)
+                || clazz.isAnnotationPresent(Verifyica.Disabled.class)) {
+            LOGGER.trace("service class [%s] is not a valid interceptor", clazz.getName());
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Method to load a Class without initializing it
+     *
+     * @param className className
+     * @return the Class, or null if it can't be loaded
+     */
+    private Class<?> loadClass(String className) {
+        try {
+            return Class.forName(className, false, classLoader);
+        } catch (Throwable t) {
+            LOGGER.trace("class [%s] could not be loaded [%s]", className, t.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Method to get the default ClassLoader
+     *
+     * @return the default ClassLoader
+     */
+    private static ClassLoader getDefaultClassLoader() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader != null ? classLoader : ClassLoader.getSystemClassLoader();
+    }
+}
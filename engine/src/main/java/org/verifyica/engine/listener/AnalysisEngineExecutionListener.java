@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.listener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.verifyica.engine.common.AnsiColor;
+import org.verifyica.engine.common.AnsiColoredString;
+import org.verifyica.engine.common.StackTracePrinter;
+import org.verifyica.engine.configuration.ConcreteConfiguration;
+import org.verifyica.engine.configuration.ConfigurationSnapshot;
+import org.verifyica.engine.configuration.Constants;
+import org.verifyica.engine.descriptor.ArgumentTestDescriptor;
+import org.verifyica.engine.descriptor.ClassTestDescriptor;
+
+/** Class to implement AnalysisEngineExecutionListener */
+public class AnalysisEngineExecutionListener implements EngineExecutionListener {
+
+    private static final String ANALYSIS_BANNER = AnsiColor.TEXT_WHITE_BRIGHT.wrap("Execution Analysis");
+
+    private static final String SEPARATOR = AnsiColor.TEXT_WHITE_BRIGHT.wrap(
+            "------------------------------------------------------------------------");
+
+    private static final String INFO = new AnsiColoredString()
+            .append(AnsiColor.TEXT_WHITE)
+            .append("[")
+            .append(AnsiColor.TEXT_BLUE_BOLD)
+            .append("INFO")
+            .append(AnsiColor.TEXT_WHITE)
+            .append("]")
+            .append(AnsiColor.NONE)
+            .append(" ")
+            .build();
+
+    private final boolean enabled;
+    private final int classParallelism;
+    private final Map<TestDescriptor, long[]> timeMap;
+    private long startNanos;
+
+    /** Constructor */
+    public AnalysisEngineExecutionListener() {
+        ConfigurationSnapshot configuration =
+                ConcreteConfiguration.getInstance().getSnapshot();
+
+        enabled = configuration.getBoolean(Constants.MAVEN_PLUGIN_LOG_ANALYSIS, false);
+
+        classParallelism = Math.max(
+                1,
+                configuration.getInt(
+                        Constants.ENGINE_CLASS_PARALLELISM, Runtime.getRuntime().availableProcessors()));
+
+        timeMap = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void executionStarted(TestDescriptor testDescriptor) {
+        if (!enabled) {
+            return;
+        }
+
+        if (testDescriptor.isRoot()) {
+            startNanos = System.nanoTime();
+        } else if (testDescriptor instanceof ClassTestDescriptor || testDescriptor instanceof ArgumentTestDescriptor) {
+            timeMap.put(testDescriptor, new long[] {System.nanoTime(), -1});
+        }
+    }
+
+    @Override
+    public void executionSkipped(TestDescriptor testDescriptor, String reason) {
+        finished(testDescriptor);
+    }
+
+    @Override
+    public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
+        if (!enabled) {
+            return;
+        }
+
+        if (testDescriptor.isRoot()) {
+            analyze(System.nanoTime());
+        } else {
+            finished(testDescriptor);
+        }
+    }
+
+    /**
+     * Method to record the finish time of a test descriptor
+     *
+     * @param testDescriptor testDescriptor
+     */
+    private void finished(TestDescriptor testDescriptor) {
+        long[] times = timeMap.get(testDescriptor);
+        if (times != null) {
+            times[1] = System.nanoTime();
+        }
+    }
+
+    /**
+     * Method to print the analysis
+     *
+     * @param endNanos endNanos
+     */
+    private void analyze(long endNanos) {
+        try {
+            Map<TestDescriptor, List<ExecutionAnalysis.Interval>> argumentIntervalsMap = new HashMap<>();
+
+            for (Map.Entry<TestDescriptor, long[]> mapEntry : timeMap.entrySet()) {
+                TestDescriptor testDescriptor = mapEntry.getKey();
+                long[] times = mapEntry.getValue();
+
+                if (testDescriptor instanceof ArgumentTestDescriptor
+                        && times[1] >= 0
+                        && testDescriptor.getParent().isPresent()) {
+                    argumentIntervalsMap
+                            .computeIfAbsent(testDescriptor.getParent().get(), k -> new ArrayList<>())
+                            .add(new ExecutionAnalysis.Interval(testDescriptor.getDisplayName(), times[0], times[1]));
+                }
+            }
+
+            List<ExecutionAnalysis.ClassInterval> classIntervals = new ArrayList<>();
+
+            for (Map.Entry<TestDescriptor, long[]> mapEntry : timeMap.entrySet()) {
+                TestDescriptor testDescriptor = mapEntry.getKey();
+                long[] times = mapEntry.getValue();
+
+                if (testDescriptor instanceof ClassTestDescriptor && times[1] >= 0) {
+                    classIntervals.add(new ExecutionAnalysis.ClassInterval(
+                            testDescriptor.getDisplayName(),
+                            times[0],
+                            times[1],
+                            argumentIntervalsMap.getOrDefault(testDescriptor, Collections.emptyList())));
+                }
+            }
+
+            ExecutionAnalysis executionAnalysis = new ExecutionAnalysis(
+                    startNanos,
+                    endNanos,
+                    classIntervals,
+                    classParallelism,
+                    Runtime.getRuntime().availableProcessors());
+
+            println(INFO + SEPARATOR);
+            println(INFO + ANALYSIS_BANNER);
+            println(INFO + SEPARATOR);
+
+            ExecutionAnalysis.ClassInterval boundingClassInterval = executionAnalysis.getBoundingClassInterval();
+
+            println(INFO
+                    + AnsiColor.TEXT_WHITE_BRIGHT.wrap("Critical path  : "
+                            + ExecutionAnalysis.toHumanReadable(executionAnalysis.getCriticalPathNanos())
+                            + (boundingClassInterval != null ? " (" + boundingClassInterval.getName() + ")" : "")));
+
+            println(INFO
+                    + AnsiColor.TEXT_WHITE_BRIGHT.wrap("Lower bound    : "
+                            + ExecutionAnalysis.toHumanReadable(executionAnalysis.getLowerBoundNanos())
+                            + " (wall time "
+                            + ExecutionAnalysis.toHumanReadable(executionAnalysis.getWallNanos())
+                            + ")"));
+
+            println(INFO
+                    + AnsiColor.TEXT_WHITE_BRIGHT.wrap("Concurrency    : classes average "
+                            + ExecutionAnalysis.toConcurrency(executionAnalysis.getClassAverageConcurrency())
+                            + " peak "
+                            + executionAnalysis.getClassPeakConcurrency()
+                            + " | arguments average "
+                            + ExecutionAnalysis.toConcurrency(executionAnalysis.getArgumentAverageConcurrency())
+                            + " peak "
+                            + executionAnalysis.getArgumentPeakConcurrency()));
+
+            println(INFO
+                    + AnsiColor.TEXT_WHITE_BRIGHT.wrap("Idle core time : "
+                            + ExecutionAnalysis.toHumanReadable(executionAnalysis.getIdleCoreNanos())
+                            + " ("
+                            + executionAnalysis.getProcessors()
+                            + " processors)"));
+
+            List<String> recommendations = executionAnalysis.getRecommendations();
+            if (!recommendations.isEmpty()) {
+                println(INFO + SEPARATOR);
+                for (String recommendation : recommendations) {
+                    println(INFO + AnsiColor.TEXT_YELLOW_BOLD_BRIGHT.wrap("- " + recommendation));
+                }
+            }
+
+            println(INFO + SEPARATOR);
+        } catch (Throwable t) {
+            StackTracePrinter.printStackTrace(t, AnsiColor.TEXT_RED_BOLD, System.err);
+        }
+    }
+
+    /**
+     * Method to println an Object
+     *
+     * @param object object
+     */
+    private static void println(Object object) {
+        System.out.println(object);
+    }
+}
@@ -0,0 +1,525 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.listener;
+
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import org.verifyica.engine.common.Precondition;
+import org.verifyica.engine.configuration.Constants;
+import org.verifyica.engine.support.TimestampSupport;
+
+/**
+ * Class to implement ExecutionAnalysis
+ *
+ * <p>Analyzes the start and finish times of test classes and test arguments:
+ *
+ * <ul>
+ *   <li>the critical path is the longest test class, if its test arguments ran with unlimited
+ *       parallelism (time outside test arguments plus the longest test argument)
+ *   <li>the lower bound is the shortest wall time for the observed test class concurrency (the
+ *       longest test class, or the total test class time divided by the peak concurrency)
+ *   <li>the idle core time is the processor time not spent in test classes or test arguments
+ * </ul>
+ */
+public class ExecutionAnalysis {
+
+    private static final double BOUNDING_RATIO = 0.5;
+
+    private static final double IMPROVEMENT_RATIO = 0.9;
+
+    private final long wallNanos;
+    private final int classParallelism;
+    private final int processors;
+    private final List<ClassInterval> classIntervals;
+    private final ClassInterval boundingClassInterval;
+    private final long criticalPathNanos;
+    private final long classNanos;
+    private final long argumentNanos;
+    private final long busyNanos;
+    private final int classPeakConcurrency;
+    private final int argumentPeakConcurrency;
+    private final long lowerBoundNanos;
+    private final List<String> recommendations;
+
+    /**
+     * Constructor
+     *
+     * @param startNanos the run start time in nanoseconds
+     * @param endNanos the run end time in nanoseconds
+     * @param classIntervals classIntervals
+     * @param classParallelism the configured test class parallelism
+     * @param processors the number of processors
+     */
+    public ExecutionAnalysis(
+            long startNanos, long endNanos, List<ClassInterval> classIntervals, int classParallelism, int processors) {
+        Precondition.notNull(classIntervals, "classIntervals is null");
+        Precondition.isTrue(classParallelism > 0, "classParallelism is less than 1");
+        Precondition.isTrue(processors > 0, "processors is less than 1");
+
+        this.wallNanos = Math.max(0, endNanos - startNanos);
+        this.classParallelism = classParallelism;
+        this.processors = processors;
+        this.classIntervals = classIntervals;
+
+        ClassInterval bounding = null;
+        long longestClassNanos = 0;
+        long classTotal = 0;
+        long argumentTotal = 0;
+        long busyTotal = 0;
+        List<Interval> argumentIntervals = new ArrayList<>();
+
+        for (ClassInterval classInterval : classIntervals) {
+            if (bounding == null || classInterval.getChainNanos() > bounding.getChainNanos()) {
+                bounding = classInterval;
+            }
+            longestClassNanos = Math.max(longestClassNanos, classInterval.getDurationNanos());
+            classTotal += classInterval.getDurationNanos();
+            argumentTotal += classInterval.getArgumentNanos();
+            busyTotal += classInterval.getOwnNanos() + classInterval.getArgumentNanos();
+            argumentIntervals.addAll(classInterval.getArgumentIntervals());
+        }
+
+        this.boundingClassInterval = bounding;
+        this.criticalPathNanos = bounding != null ? bounding.getChainNanos() : 0;
+        this.classNanos = classTotal;
+        this.argumentNanos = argumentTotal;
+        this.busyNanos = busyTotal;
+        this.classPeakConcurrency = countPeakConcurrency(classIntervals);
+        this.argumentPeakConcurrency = countPeakConcurrency(argumentIntervals);
+        this.lowerBoundNanos =
+                Math.max(longestClassNanos, classPeakConcurrency > 0 ? classTotal / classPeakConcurrency : 0);
+        this.recommendations = Collections.unmodifiableList(recommend());
+    }
+
+    /**
+     * Method to get the wall time
+     *
+     * @return the wall time in nanoseconds
+     */
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    /**
+     * Method to get the critical path
+     *
+     * @return the critical path in nanoseconds
+     */
+    public long getCriticalPathNanos() {
+        return criticalPathNanos;
+    }
+
+    /**
+     * Method to get the test class on the critical path
+     *
+     * @return the test class on the critical path, or null if no test classes ran
+     */
+    public ClassInterval getBoundingClassInterval() {
+        return boundingClassInterval;
+    }
+
+    /**
+     * Method to get the lower bound on wall time for the observed test class concurrency
+     *
+     * @return the lower bound in nanoseconds
+     */
+    public long getLowerBoundNanos() {
+        return lowerBoundNanos;
+    }
+
+    /**
+     * Method to get the average test class concurrency
+     *
+     * @return the average test class concurrency
+     */
+    public double getClassAverageConcurrency() {
+        return wallNanos > 0 ? (double) classNanos / wallNanos : 0;
+    }
+
+    /**
+     * Method to get the peak test class concurrency
+     *
+     * @return the peak test class concurrency
+     */
+    public int getClassPeakConcurrency() {
+        return classPeakConcurrency;
+    }
+
+    /**
+     * Method to get the average test argument concurrency
+     *
+     * @return the average test argument concurrency
+     */
+    public double getArgumentAverageConcurrency() {
+        return wallNanos > 0 ? (double) argumentNanos / wallNanos : 0;
+    }
+
+    /**
+     * Method to get the peak test argument concurrency
+     *
+     * @return the peak test argument concurrency
+     */
+    public int getArgumentPeakConcurrency() {
+        return argumentPeakConcurrency;
+    }
+
+    /**
+     * Method to get the idle core time
+     *
+     * @return the idle core time in nanoseconds
+     */
+    public long getIdleCoreNanos() {
+        return Math.max(0, processors * wallNanos - busyNanos);
+    }
+
+    /**
+     * Method to get the number of processors
+     *
+     * @return the number of processors
+     */
+    public int getProcessors() {
+        return processors;
+    }
+
+    /**
+     * Method to get the recommendations
+     *
+     * @return an unmodifiable List of recommendations
+     */
+    public List<String> getRecommendations() {
+        return recommendations;
+    }
+
+    /**
+     * Method to create recommendations
+     *
+     * @return a List of recommendations
+     */
+    private List<String> recommend() {
+        List<String> list = new ArrayList<>();
+
+        if (boundingClassInterval == null || wallNanos == 0) {
+            return list;
+        }
+
+        ClassInterval bounding = boundingClassInterval;
+        long otherClassNanos = 0;
+        for (ClassInterval classInterval : classIntervals) {
+            if (classInterval != bounding) {
+                otherClassNanos = Math.max(otherClassNanos, classInterval.getDurationNanos());
+            }
+        }
+
+        long throughputNanos = classNanos / Math.max(1, classPeakConcurrency);
+        int argumentCount = bounding.getArgumentIntervals().size();
+
+        if (bounding.getDurationNanos() >= BOUNDING_RATIO * wallNanos) {
+            long[] longest = bounding.getLongestArgumentNanos();
+
+            if (argumentCount > 1 && bounding.getPeakConcurrency() < argumentCount) {
+                long estimateNanos = max(bounding.getChainNanos(), otherClassNanos, throughputNanos);
+                if (estimateNanos < IMPROVEMENT_RATIO * wallNanos) {
+                    list.add(format(
+                            "class %s bounds the run at %s; running its %d arguments in parallel"
+                                    + " (@Verifyica.ArgumentSupplier(parallelism = %d)) would reduce wall time to %s",
+                            bounding.getName(),
+                            toHumanReadable(bounding.getDurationNanos()),
+                            argumentCount,
+                            argumentCount,
+                            toHumanReadable(estimateNanos)));
+                }
+            } else if (argumentCount > 0 && longest[0] >= BOUNDING_RATIO * bounding.getDurationNanos()) {
+                long estimateNanos = max(
+                        bounding.getOwnNanos() + Math.max(longest[0] / 2, longest[1]),
+                        otherClassNanos,
+                        throughputNanos);
+                if (estimateNanos < IMPROVEMENT_RATIO * wallNanos) {
+                    list.add(format(
+                            "class %s bounds the run at %s; splitting its longest argument (%s) in two"
+                                    + " would reduce wall time to %s",
+                            bounding.getName(),
+                            toHumanReadable(bounding.getDurationNanos()),
+                            toHumanReadable(longest[0]),
+                            toHumanReadable(estimateNanos)));
+                }
+            } else if (bounding.getOwnNanos() >= BOUNDING_RATIO * bounding.getDurationNanos()) {
+                list.add(format(
+                        "class %s bounds the run at %s, of which %s is outside of arguments"
+                                + " (instantiate, prepare, conclude)",
+                        bounding.getName(),
+                        toHumanReadable(bounding.getDurationNanos()),
+                        toHumanReadable(bounding.getOwnNanos())));
+            }
+        }
+
+        if (classPeakConcurrency >= classParallelism) {
+            long estimateNanos =
+                    max(otherClassNanos, bounding.getDurationNanos(), classNanos / (2L * classParallelism));
+            if (estimateNanos < IMPROVEMENT_RATIO * lowerBoundNanos) {
+                list.add(format(
+                        "classes waited for %s (%d); raising it to %d would reduce the wall time lower bound to %s",
+                        Constants.ENGINE_CLASS_PARALLELISM,
+                        classParallelism,
+                        2 * classParallelism,
+                        toHumanReadable(estimateNanos)));
+            }
+        } else if (classIntervals.size() > classPeakConcurrency) {
+            list.add(format(
+                    "raising %s (%d) would not reduce wall time; at most %d classes ran concurrently",
+                    Constants.ENGINE_CLASS_PARALLELISM, classParallelism, classPeakConcurrency));
+        }
+
+        return list;
+    }
+
+    /**
+     * Method to format nanoseconds
+     *
+     * @param nanos nanos
+     * @return a human-readable time
+     */
+    static String toHumanReadable(long nanos) {
+        return TimestampSupport.toHumanReadable(TimestampSupport.Format.SHORT, nanos);
+    }
+
+    /**
+     * Method to format a concurrency
+     *
+     * @param concurrency concurrency
+     * @return the concurrency, to one decimal place
+     */
+    static String toConcurrency(double concurrency) {
+        return format(Locale.US, "%.1f", concurrency);
+    }
+
+    /**
+     * Method to get the maximum of values
+     *
+     * @param values values
+     * @return the maximum value
+     */
+    private static long max(long... values) {
+        long max = 0;
+        for (long value : values) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    /**
+     * Method to get the peak number of overlapping intervals
+     *
+     * @param intervals intervals
+     * @return the peak number of overlapping intervals
+     */
+    private static int countPeakConcurrency(List<? extends Interval> intervals) {
+        int size = intervals.size();
+        long[] starts = new long[size];
+        long[] ends = new long[size];
+
+        for (int i = 0; i < size; i++) {
+            starts[i] = intervals.get(i).getStartNanos();
+            ends[i] = intervals.get(i).getEndNanos();
+        }
+
+        Arrays.sort(starts);
+        Arrays.sort(ends);
+
+        int peak = 0;
+        int current = 0;
+        int endIndex = 0;
+
+        // An interval that ends at the same time another starts doesn't overlap it
+        for (long start : starts) {
+            while (endIndex < size && ends[endIndex] <= start) {
+                endIndex++;
+                current--;
+            }
+            current++;
+            peak = Math.max(peak, current);
+        }
+
+        return peak;
+    }
+
+    /** Class to implement Interval */
+    public static class Interval {
+
+        private final String name;
+        private final long startNanos;
+        private final long endNanos;
+
+        /**
+         * Constructor
+         *
+         * @param name name
+         * @param startNanos startNanos
+         * @param endNanos endNanos
+         */
+        public Interval(String name, long startNanos, long endNanos) {
+            this.name = name;
+            this.startNanos = startNanos;
+            this.endNanos = Math.max(startNanos, endNanos);
+        }
+
+        /**
+         * Method to get the name
+         *
+         * @return the name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Method to get the start time
+         *
+         * @return the start time in nanoseconds
+         */
+        public long getStartNanos() {
+            return startNanos;
+        }
+
+        /**
+         * Method to get the end time
+         *
+         * @return the end time in nanoseconds
+         */
+        public long getEndNanos() {
+            return endNanos;
+        }
+
+        /**
+         * Method to get the duration
+         *
+         * @return the duration in nanoseconds
+         */
+        public long getDurationNanos() {
+            return endNanos - startNanos;
+        }
+    }
+
+    /** Class to implement ClassInterval */
+    public static class ClassInterval extends Interval {
+
+        private final List<Interval> argumentIntervals;
+
+        /**
+         * Constructor
+         *
+         * @param name name
+         * @param startNanos startNanos
+         * @param endNanos endNanos
+         * @param argumentIntervals argumentIntervals
+         */
+        public ClassInterval(String name, long startNanos, long endNanos, List<Interval> argumentIntervals) {
+            super(name, startNanos, endNanos);
+
+            Precondition.notNull(argumentIntervals, "argumentIntervals is null");
+
+            this.argumentIntervals = argumentIntervals;
+        }
+
+        /**
+         * Method to get the test argument intervals
+         *
+         * @return the test argument intervals
+         */
+        public List<Interval> getArgumentIntervals() {
+            return argumentIntervals;
+        }
+
+        /**
+         * Method to get the total test argument time
+         *
+         * @return the total test argument time in nanoseconds
+         */
+        public long getArgumentNanos() {
+            long nanos = 0;
+            for (Interval argumentInterval : argumentIntervals) {
+                nanos += argumentInterval.getDurationNanos();
+            }
+            return nanos;
+        }
+
+        /**
+         * Method to get the time outside of test arguments
+         *
+         * @return the time outside of test arguments in nanoseconds
+         */
+        public long getOwnNanos() {
+            List<Interval> sorted = new ArrayList<>(argumentIntervals);
+            sorted.sort((a, b) -> Long.compare(a.getStartNanos(), b.getStartNanos()));
+
+            long unionNanos = 0;
+            long coveredUntil = Long.MIN_VALUE;
+
+            for (Interval interval : sorted) {
+                long start = Math.max(interval.getStartNanos(), coveredUntil);
+                if (interval.getEndNanos() > start) {
+                    unionNanos += interval.getEndNanos() - start;
+                    coveredUntil = interval.getEndNanos();
+                }
+            }
+
+            return Math.max(0, getDurationNanos() - unionNanos);
+        }
+
+        /**
+         * Method to get the time of the test class if its test arguments ran with unlimited
+         * parallelism
+         *
+         * @return the time in nanoseconds
+         */
+        public long getChainNanos() {
+            return getOwnNanos() + getLongestArgumentNanos()[0];
+        }
+
+        /**
+         * Method to get the peak test argument concurrency
+         *
+         * @return the peak test argument concurrency
+         */
+        public int getPeakConcurrency() {
+            return countPeakConcurrency(argumentIntervals);
+        }
+
+        /**
+         * Method to get the longest and second-longest test argument times
+         *
+         * @return an array of the longest and second-longest test argument times in nanoseconds
+         */
+        long[] getLongestArgumentNanos() {
+            long[] longest = new long[2];
+            for (Interval argumentInterval : argumentIntervals) {
+                long nanos = argumentInterval.getDurationNanos();
+                if (nanos > longest[0]) {
+                    longest[1] = longest[0];
+                    longest[0] = nanos;
+                } else if (nanos > longest[1]) {
+                    longest[1] = nanos;
+                }
+            }
+            return longest;
+        }
+    }
+}
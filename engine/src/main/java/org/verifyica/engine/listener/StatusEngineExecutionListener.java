@@ -22,12 +22,12 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestExecutionResult;
-import org.verifyica.api.Configuration;
 import org.verifyica.engine.common.AnsiColor;
 import org.verifyica.engine.common.AnsiColoredString;
 import org.verifyica.engine.common.StackTracePrinter;
 import org.verifyica.engine.common.Stopwatch;
 import org.verifyica.engine.configuration.ConcreteConfiguration;
+import org.verifyica.engine.configuration.ConfigurationSnapshot;
 import org.verifyica.engine.configuration.Constants;
 import org.verifyica.engine.descriptor.ArgumentTestDescriptor;
 import org.verifyica.engine.descriptor.ClassTestDescriptor;
@@ -82,16 +82,12 @@ public class StatusEngineExecutionListener implements EngineExecutionListener {
 
     /** Constructor */
     public StatusEngineExecutionListener() {
-        Configuration configuration = ConcreteConfiguration.getInstance();
+        ConfigurationSnapshot configuration =
+                ConcreteConfiguration.getInstance().getSnapshot();
 
-        if ("false".equals(configuration.getProperties().getProperty(Constants.MAVEN_PLUGIN_LOG_TESTS, "true"))) {
-            consoleLogTests = false;
-        } else {
-            consoleLogTests = true;
-        }
+        consoleLogTests = configuration.getBoolean(Constants.MAVEN_PLUGIN_LOG_TESTS, true);
 
-        consoleLogTimingUnits =
-                configuration.getProperties().getProperty(Constants.MAVEN_PLUGIN_LOG_TIMING_UNITS, "milliseconds");
+        consoleLogTimingUnits = configuration.get(Constants.MAVEN_PLUGIN_LOG_TIMING_UNITS, "milliseconds");
 
         LOGGER.trace(
                 "configuration property [%s] = [%s]", Constants.MAVEN_PLUGIN_LOG_TIMING_UNITS, consoleLogTimingUnits);
@@ -117,8 +113,7 @@ public class StatusEngineExecutionListener implements EngineExecutionListener {
 
                     ArgumentTestDescriptor argumentTestDescriptor = findArgumentTestDescriptor(testDescriptor);
                     if (argumentTestDescriptor != null) {
-                        testArgumentDisplayName =
-                                argumentTestDescriptor.getArgument().getName();
+                        testArgumentDisplayName = argumentTestDescriptor.getDisplayName();
                     }
 
                     TestMethodTestDescriptor testMethodTestDescriptor = findTestMethodTestDescriptor(testDescriptor);
@@ -171,8 +166,7 @@ public class StatusEngineExecutionListener implements EngineExecutionListener {
 
                 ArgumentTestDescriptor argumentTestDescriptor = findArgumentTestDescriptor(testDescriptor);
                 if (argumentTestDescriptor != null) {
-                    testArgumentDisplayName =
-                            argumentTestDescriptor.getArgument().getName();
+                    testArgumentDisplayName = argumentTestDescriptor.getDisplayName();
                 }
 
                 TestMethodTestDescriptor testMethodTestDescriptor = findTestMethodTestDescriptor(testDescriptor);
@@ -229,8 +223,7 @@ public class StatusEngineExecutionListener implements EngineExecutionListener {
 
                 ArgumentTestDescriptor argumentTestDescriptor = findArgumentTestDescriptor(testDescriptor);
                 if (argumentTestDescriptor != null) {
-                    testArgumentDisplayName =
-                            argumentTestDescriptor.getArgument().getName();
+                    testArgumentDisplayName = argumentTestDescriptor.getDisplayName();
                 }
 
                 TestMethodTestDescriptor testMethodTestDescriptor = findTestMethodTestDescriptor(testDescriptor);
@@ -0,0 +1,707 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.listener;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.verifyica.engine.common.Precondition;
+import org.verifyica.engine.descriptor.ArgumentTestDescriptor;
+import org.verifyica.engine.descriptor.ClassTestDescriptor;
+import org.verifyica.engine.descriptor.TestMethodTestDescriptor;
+import org.verifyica.engine.logger.Logger;
+import org.verifyica.engine.logger.LoggerFactory;
+import org.verifyica.engine.support.JsonSupport;
+
+/**
+ * Class to implement TimelineEngineExecutionListener
+ *
+ * <p>Records a span for the engine and each test class, test argument, test method, and state
+ * machine phase, and for the wait between submitting a test class or test argument to an executor
+ * and running it. Each span records the name of the Thread it ran on.
+ *
+ * <p>Completed spans are streamed to a file, in Chrome Trace Event format or OTLP-JSON, by a
+ * background Thread. Completed spans are buffered in a bounded queue. If the queue is full, the
+ * Thread completing a span waits for the writer.
+ */
+public class TimelineEngineExecutionListener implements EngineExecutionListener, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimelineEngineExecutionListener.class);
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final Span END = new Span(null, null, 0, 0, 0, null);
+
+    /** Enum to implement Format */
+    public enum Format {
+
+        /** Chrome Trace Event format */
+        CHROME("verifyica-timeline.json"),
+
+        /** OTLP-JSON format */
+        OTLP("verifyica-timeline.otlp.json");
+
+        private final String defaultFilename;
+
+        Format(String defaultFilename) {
+            this.defaultFilename = defaultFilename;
+        }
+
+        /**
+         * Method to get the default filename
+         *
+         * @return the default filename
+         */
+        public String getDefaultFilename() {
+            return defaultFilename;
+        }
+
+        /**
+         * Method to decode a format
+         *
+         * @param value value
+         * @return the format, or null if the value isn't a format
+         */
+        public static Format decode(String value) {
+            if (value != null) {
+                for (Format format : values()) {
+                    if (format.name().equalsIgnoreCase(value.trim())) {
+                        return format;
+                    }
+                }
+            }
+
+            return null;
+        }
+    }
+
+    private final long startNanos;
+    private final long epochOffsetNanos;
+    private final AtomicLong spanIds;
+    private final Map<UniqueId, Span> openSpans;
+    private final BlockingQueue<Span> queue;
+    private final SpanWriter spanWriter;
+    private final Thread writerThread;
+    private volatile boolean closed;
+
+    /**
+     * Constructor
+     *
+     * @param path path
+     * @param format format
+     * @throws IOException IOException
+     */
+    public TimelineEngineExecutionListener(Path path, Format format) throws IOException {
+        Precondition.notNull(path, "path is null");
+        Precondition.notNull(format, "format is null");
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        this.startNanos = System.nanoTime();
+        this.epochOffsetNanos = System.currentTimeMillis() * 1_000_000L - startNanos;
+        this.spanIds = new AtomicLong();
+        this.openSpans = new ConcurrentHashMap<>();
+        this.queue = new ArrayBlockingQueue<>(BUFFER_SIZE);
+
+        Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        this.spanWriter = format == Format.CHROME ? new ChromeSpanWriter(writer) : new OtlpSpanWriter(writer);
+        this.spanWriter.writeHeader();
+
+        this.writerThread = new Thread(this::drain, "verifyica-timeline");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    @Override
+    public void executionStarted(TestDescriptor testDescriptor) {
+        Span span = new Span(
+                getKind(testDescriptor),
+                testDescriptor.getDisplayName(),
+                spanIds.incrementAndGet(),
+                getParentSpanId(testDescriptor.getParent()),
+                System.nanoTime(),
+                Thread.currentThread().getName());
+
+        openSpans.put(testDescriptor.getUniqueId(), span);
+    }
+
+    @Override
+    public void executionSkipped(TestDescriptor testDescriptor, String reason) {
+        Span span = openSpans.remove(testDescriptor.getUniqueId());
+        if (span != null) {
+            span.end(System.nanoTime(), TestExecutionResult.Status.ABORTED, "SKIPPED");
+            offer(span);
+        }
+    }
+
+    @Override
+    public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
+        Span span = openSpans.remove(testDescriptor.getUniqueId());
+        if (span != null) {
+            span.end(
+                    System.nanoTime(),
+                    testExecutionResult.getStatus(),
+                    testExecutionResult.getStatus().name());
+            offer(span);
+        }
+    }
+
+    /**
+     * Method to record a state machine phase
+     *
+     * @param testDescriptor the test descriptor running the phase
+     * @param name name
+     * @param startNanos the phase start time in nanoseconds
+     * @param endNanos the phase end time in nanoseconds
+     */
+    public void phase(TestDescriptor testDescriptor, String name, long startNanos, long endNanos) {
+        Span span = new Span(
+                "phase",
+                name,
+                spanIds.incrementAndGet(),
+                getParentSpanId(Optional.of(testDescriptor)),
+                startNanos,
+                Thread.currentThread().getName());
+
+        span.end(endNanos, null, null);
+        offer(span);
+    }
+
+    /**
+     * Method to wrap a Runnable, recording the time between submission to an executor and
+     * running as a queue span
+     *
+     * @param runnable runnable
+     * @param testDescriptor the test descriptor the Runnable tests
+     * @return a Runnable
+     */
+    public Runnable queueWait(Runnable runnable, TestDescriptor testDescriptor) {
+        long submitNanos = System.nanoTime();
+
+        return () -> {
+            Span span = new Span(
+                    "queue",
+                    testDescriptor.getDisplayName(),
+                    spanIds.incrementAndGet(),
+                    getParentSpanId(testDescriptor.getParent()),
+                    submitNanos,
+                    Thread.currentThread().getName());
+
+            span.end(System.nanoTime(), null, null);
+            offer(span);
+
+            runnable.run();
+        };
+    }
+
+    /** Method to write the remaining spans and close the file */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        try {
+            queue.put(END);
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        openSpans.clear();
+    }
+
+    /**
+     * Method to get the span kind of a test descriptor
+     *
+     * @param testDescriptor testDescriptor
+     * @return the span kind
+     */
+    private static String getKind(TestDescriptor testDescriptor) {
+        if (testDescriptor instanceof ClassTestDescriptor) {
+            return "class";
+        } else if (testDescriptor instanceof ArgumentTestDescriptor) {
+            return "argument";
+        } else if (testDescriptor instanceof TestMethodTestDescriptor) {
+            return "test";
+        } else if (!testDescriptor.getParent().isPresent()) {
+            return "engine";
+        } else {
+            return "container";
+        }
+    }
+
+    /**
+     * Method to get the span id of a test descriptor
+     *
+     * @param testDescriptor testDescriptor
+     * @return the span id, or 0 if the test descriptor doesn't have an open span
+     */
+    private long getParentSpanId(Optional<TestDescriptor> testDescriptor) {
+        if (testDescriptor.isPresent()) {
+            Span span = openSpans.get(testDescriptor.get().getUniqueId());
+            if (span != null) {
+                return span.spanId;
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Method to queue a completed span to be written, waiting if the queue is full
+     *
+     * @param span span
+     */
+    private void offer(Span span) {
+        if (closed) {
+            return;
+        }
+
+        try {
+            queue.put(span);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Method to write queued spans until closed */
+    private void drain() {
+        boolean failed = false;
+
+        try {
+            while (true) {
+                Span span = queue.take();
+                if (span == END) {
+                    break;
+                }
+
+                if (!failed) {
+                    try {
+                        spanWriter.write(span);
+                        if (queue.isEmpty()) {
+                            spanWriter.flush();
+                        }
+                    } catch (IOException e) {
+                        failed = true;
+                        LOGGER.warn("timeline could not be written [%s]", e.getMessage());
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            try {
+                spanWriter.close();
+            } catch (IOException e) {
+                if (!failed) {
+                    LOGGER.warn("timeline could not be written [%s]", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /** Class to implement Span */
+    private static final class Span {
+
+        private final String kind;
+        private final String name;
+        private final long spanId;
+        private final long parentSpanId;
+        private final long startNanos;
+        private final String threadName;
+        private long endNanos;
+        private TestExecutionResult.Status status;
+        private String statusName;
+
+        /**
+         * Constructor
+         *
+         * @param kind kind
+         * @param name name
+         * @param spanId spanId
+         * @param parentSpanId parentSpanId, or 0 if the span doesn't have a parent
+         * @param startNanos startNanos
+         * @param threadName threadName
+         */
+        private Span(String kind, String name, long spanId, long parentSpanId, long startNanos, String threadName) {
+            this.kind = kind;
+            this.name = name;
+            this.spanId = spanId;
+            this.parentSpanId = parentSpanId;
+            this.startNanos = startNanos;
+            this.threadName = threadName;
+        }
+
+        /**
+         * Method to end the span
+         *
+         * @param endNanos endNanos
+         * @param status status, or null if the span doesn't have a status
+         * @param statusName statusName, or null if the span doesn't have a status
+         */
+        private void end(long endNanos, TestExecutionResult.Status status, String statusName) {
+            this.endNanos = endNanos;
+            this.status = status;
+            this.statusName = statusName;
+        }
+    }
+
+    /** Class to implement SpanWriter */
+    private abstract static class SpanWriter {
+
+        private final Writer writer;
+        private final StringBuilder stringBuilder;
+
+        /**
+         * Constructor
+         *
+         * @param writer writer
+         */
+        private SpanWriter(Writer writer) {
+            this.writer = writer;
+            this.stringBuilder = new StringBuilder(256);
+        }
+
+        /**
+         * Method to write the header
+         *
+         * @throws IOException IOException
+         */
+        abstract void writeHeader() throws IOException;
+
+        /**
+         * Method to write a span
+         *
+         * @param span span
+         * @throws IOException IOException
+         */
+        abstract void write(Span span) throws IOException;
+
+        /**
+         * Method to write the footer
+         *
+         * @throws IOException IOException
+         */
+        abstract void writeFooter() throws IOException;
+
+        /**
+         * Method to get the cleared StringBuilder used to format a record
+         *
+         * @return the StringBuilder
+         */
+        StringBuilder stringBuilder() {
+            stringBuilder.setLength(0);
+            return stringBuilder;
+        }
+
+        /**
+         * Method to write a formatted record
+         *
+         * @param value value
+         * @throws IOException IOException
+         */
+        void append(CharSequence value) throws IOException {
+            writer.append(value);
+        }
+
+        /**
+         * Method to flush the file
+         *
+         * @throws IOException IOException
+         */
+        void flush() throws IOException {
+            writer.flush();
+        }
+
+        /**
+         * Method to write the footer and close the file
+         *
+         * @throws IOException IOException
+         */
+        void close() throws IOException {
+            try {
+                writeFooter();
+            } finally {
+                writer.close();
+            }
+        }
+    }
+
+    /**
+     * Class to implement ChromeSpanWriter
+     *
+     * <p>Writes the JSON Array Format, which trace viewers load even if the closing bracket is
+     * missing. Spans are complete events on a track per Thread name, and queue spans are async
+     * events.
+     */
+    private final class ChromeSpanWriter extends SpanWriter {
+
+        private final Map<String, Integer> threadIds;
+        private String separator;
+
+        /**
+         * Constructor
+         *
+         * @param writer writer
+         */
+        private ChromeSpanWriter(Writer writer) {
+            super(writer);
+
+            this.threadIds = new HashMap<>();
+            this.separator = "\n";
+        }
+
+        @Override
+        void writeHeader() throws IOException {
+            StringBuilder stringBuilder = stringBuilder();
+            stringBuilder.append("[");
+            stringBuilder.append(separator).append("{\"name\": \"process_name\", \"ph\": \"M\", \"pid\": 1, ");
+            stringBuilder.append("\"args\": {\"name\": \"verifyica\"}}");
+            separator = ",\n";
+            append(stringBuilder);
+        }
+
+        @Override
+        void write(Span span) throws IOException {
+            StringBuilder stringBuilder = stringBuilder();
+
+            if ("queue".equals(span.kind)) {
+                appendQueueEvent(stringBuilder, span, "b", span.startNanos);
+                appendQueueEvent(stringBuilder, span, "e", span.endNanos);
+                append(stringBuilder);
+                return;
+            }
+
+            Integer threadId = threadIds.get(span.threadName);
+            if (threadId == null) {
+                threadId = threadIds.size() + 1;
+                threadIds.put(span.threadName, threadId);
+
+                stringBuilder.append(separator).append("{\"name\": \"thread_name\", \"ph\": \"M\", \"pid\": 1, ");
+                stringBuilder.append("\"tid\": ").append(threadId).append(", \"args\": {\"name\": ");
+                JsonSupport.appendString(stringBuilder, span.threadName);
+                stringBuilder.append("}}");
+            }
+
+            stringBuilder.append(separator).append("{\"name\": ");
+            JsonSupport.appendString(stringBuilder, span.name);
+            stringBuilder.append(", \"cat\": \"").append(span.kind).append("\", \"ph\": \"X\", \"ts\": ");
+            appendMicroseconds(stringBuilder, span.startNanos - startNanos);
+            stringBuilder.append(", \"dur\": ");
+            appendMicroseconds(stringBuilder, span.endNanos - span.startNanos);
+            stringBuilder.append(", \"pid\": 1, \"tid\": ").append(threadId);
+            if (span.statusName != null) {
+                stringBuilder
+                        .append(", \"args\": {\"status\": \"")
+                        .append(span.statusName)
+                        .append("\"}");
+            }
+            stringBuilder.append('}');
+
+            append(stringBuilder);
+        }
+
+        @Override
+        void writeFooter() throws IOException {
+            append("\n]\n");
+        }
+
+        /**
+         * Method to append a queue span async event
+         *
+         * @param stringBuilder stringBuilder
+         * @param span span
+         * @param phase phase
+         * @param nanos nanos
+         */
+        private void appendQueueEvent(StringBuilder stringBuilder, Span span, String phase, long nanos) {
+            stringBuilder.append(separator).append("{\"name\": ");
+            JsonSupport.appendString(stringBuilder, span.name);
+            stringBuilder
+                    .append(", \"cat\": \"queue\", \"ph\": \"")
+                    .append(phase)
+                    .append("\", \"id\": ");
+            stringBuilder.append(span.spanId).append(", \"ts\": ");
+            appendMicroseconds(stringBuilder, nanos - startNanos);
+            stringBuilder.append(", \"pid\": 1}");
+            separator = ",\n";
+        }
+
+        /**
+         * Method to append nanoseconds as microseconds
+         *
+         * @param stringBuilder stringBuilder
+         * @param nanos nanos
+         */
+        private void appendMicroseconds(StringBuilder stringBuilder, long nanos) {
+            long value = Math.max(0, nanos);
+            long fraction = value % 1000;
+
+            stringBuilder.append(value / 1000).append('.');
+            if (fraction < 100) {
+                stringBuilder.append(fraction < 10 ? "00" : "0");
+            }
+            stringBuilder.append(fraction);
+        }
+    }
+
+    /**
+     * Class to implement OtlpSpanWriter
+     *
+     * <p>Writes one OTLP-JSON ExportTraceServiceRequest containing a single trace. Parent span
+     * ids follow the test descriptor hierarchy.
+     */
+    private final class OtlpSpanWriter extends SpanWriter {
+
+        private final String traceId;
+        private String separator;
+
+        /**
+         * Constructor
+         *
+         * @param writer writer
+         */
+        private OtlpSpanWriter(Writer writer) {
+            super(writer);
+
+            this.traceId = UUID.randomUUID().toString().replace("-", "");
+            this.separator = "\n";
+        }
+
+        @Override
+        void writeHeader() throws IOException {
+            append("{\"resourceSpans\": [{\"resource\": {\"attributes\": [{\"key\": \"service.name\", "
+                    + "\"value\": {\"stringValue\": \"verifyica\"}}]}, "
+                    + "\"scopeSpans\": [{\"scope\": {\"name\": \"org.verifyica\"}, \"spans\": [");
+        }
+
+        @Override
+        void write(Span span) throws IOException {
+            StringBuilder stringBuilder = stringBuilder();
+
+            stringBuilder
+                    .append(separator)
+                    .append("{\"traceId\": \"")
+                    .append(traceId)
+                    .append("\", \"spanId\": \"");
+            appendSpanId(stringBuilder, span.spanId);
+            stringBuilder.append('"');
+            if (span.parentSpanId != 0) {
+                stringBuilder.append(", \"parentSpanId\": \"");
+                appendSpanId(stringBuilder, span.parentSpanId);
+                stringBuilder.append('"');
+            }
+            stringBuilder.append(", \"name\": ");
+            JsonSupport.appendString(stringBuilder, span.name);
+            stringBuilder.append(", \"kind\": 1, \"startTimeUnixNano\": \"");
+            stringBuilder.append(epochOffsetNanos + span.startNanos);
+            stringBuilder.append("\", \"endTimeUnixNano\": \"");
+            stringBuilder.append(epochOffsetNanos + span.endNanos);
+            stringBuilder.append("\", \"attributes\": [");
+            appendAttribute(stringBuilder, "verifyica.kind", span.kind);
+            stringBuilder.append(", ");
+            appendAttribute(stringBuilder, "thread.name", span.threadName);
+            if (span.statusName != null) {
+                stringBuilder.append(", ");
+                appendAttribute(stringBuilder, "verifyica.status", span.statusName);
+            }
+            stringBuilder.append(']');
+            if (span.status != null) {
+                stringBuilder
+                        .append(", \"status\": {\"code\": ")
+                        .append(getStatusCode(span.status))
+                        .append('}');
+            }
+            stringBuilder.append('}');
+            separator = ",\n";
+
+            append(stringBuilder);
+        }
+
+        @Override
+        void writeFooter() throws IOException {
+            append("\n]}]}]}\n");
+        }
+
+        /**
+         * Method to get the OTLP status code of a test execution status
+         *
+         * @param status status
+         * @return 1 (OK) if successful, 2 (ERROR) if failed, else 0 (UNSET)
+         */
+        private int getStatusCode(TestExecutionResult.Status status) {
+            switch (status) {
+                case SUCCESSFUL: {
+                    return 1;
+                }
+                case FAILED: {
+                    return 2;
+                }
+                default: {
+                    return 0;
+                }
+            }
+        }
+
+        /**
+         * Method to append a span id as 16 hexadecimal characters
+         *
+         * @param stringBuilder stringBuilder
+         * @param spanId spanId
+         */
+        private void appendSpanId(StringBuilder stringBuilder, long spanId) {
+            String hex = Long.toHexString(spanId);
+            for (int i = hex.length(); i < 16; i++) {
+                stringBuilder.append('0');
+            }
+            stringBuilder.append(hex);
+        }
+
+        /**
+         * Method to append a String attribute
+         *
+         * @param stringBuilder stringBuilder
+         * @param key key
+         * @param value value
+         */
+        private void appendAttribute(StringBuilder stringBuilder, String key, String value) {
+            stringBuilder.append("{\"key\": \"").append(key).append("\", \"value\": {\"stringValue\": ");
+            JsonSupport.appendString(stringBuilder, value);
+            stringBuilder.append("}}");
+        }
+    }
+}
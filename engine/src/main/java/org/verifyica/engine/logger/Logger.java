@@ -23,11 +23,10 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import org.verifyica.api.Configuration;
 import org.verifyica.engine.common.Precondition;
 import org.verifyica.engine.configuration.ConcreteConfiguration;
+import org.verifyica.engine.configuration.ConfigurationSnapshot;
 import org.verifyica.engine.configuration.Constants;
 
 /** Class to implement Logger */
@@ -49,16 +48,14 @@ public class Logger {
         this.name = name;
         this.level = new AtomicReference<>(Level.INFO);
 
-        Configuration configuration = ConcreteConfiguration.getInstance();
+        ConfigurationSnapshot configuration =
+                ConcreteConfiguration.getInstance().getSnapshot();
 
-        String loggerLevel =
-                configuration.getProperties().getProperty(Constants.ENGINE_LOGGER_LEVEL, Level.INFO.toString());
-        String regex = configuration.getProperties().getProperty(Constants.ENGINE_LOGGER_REGEX, ".*");
+        String loggerLevel = configuration.get(Constants.ENGINE_LOGGER_LEVEL, Level.INFO.toString());
+        Pattern pattern = configuration.getPattern(Constants.ENGINE_LOGGER_REGEX, ".*");
 
         try {
-            Pattern pattern = Pattern.compile(regex);
-            Matcher matcher = pattern.matcher(name);
-            if (matcher.find()) {
+            if (pattern != null && pattern.matcher(name).find()) {
                 level.set(Level.decode(loggerLevel));
             }
         } catch (Throwable t) {
@@ -18,15 +18,23 @@ package org.verifyica.engine.logger;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import org.verifyica.engine.common.Precondition;
+import org.verifyica.engine.configuration.ConcreteConfiguration;
+import org.verifyica.engine.configuration.Constants;
 
 /** Class to implement LoggerFactory */
 @SuppressWarnings("PMD.EmptyCatchBlock")
 public final class LoggerFactory {
 
-    private static final Logger ROOT_LOGGER = new Logger("<ROOT>");
+    private static final String ROOT_LOGGER_NAME = "<ROOT>";
+
+    private static final Logger ROOT_LOGGER = new Logger(ROOT_LOGGER_NAME);
 
     private final Map<String, Logger> loggers = new ConcurrentHashMap<>();
 
+    private volatile Level level;
+
     /** Constructor */
     private LoggerFactory() {
         // INTENTIONALLY BLANK
@@ -39,7 +47,26 @@ public final class LoggerFactory {
      * @return a Logger
      */
     private Logger getOrCreateLogger(String name) {
-        return loggers.computeIfAbsent(name, Logger::new);
+        return loggers.computeIfAbsent(name, key -> {
+            Logger logger = new Logger(key);
+            Level level = this.level;
+            if (level != null && matches(key)) {
+                logger.setLevel(level);
+            }
+            return logger;
+        });
+    }
+
+    /**
+     * Method to return if a Logger name matches the configured Logger regex
+     *
+     * @param name name
+     * @return true if the name matches, else false
+     */
+    private static boolean matches(String name) {
+        Pattern pattern =
+                ConcreteConfiguration.getInstance().getSnapshot().getPattern(Constants.ENGINE_LOGGER_REGEX, ".*");
+        return pattern != null && pattern.matcher(name).find();
     }
 
     /**
@@ -68,6 +95,46 @@ public final class LoggerFactory {
         return logger != null ? logger : ROOT_LOGGER;
     }
 
+    /**
+     * Method to get the Level of Loggers matching the configured Logger regex
+     *
+     * @return the Level
+     */
+    public static Level getLevel() {
+        Level level = SingletonHolder.SINGLETON.level;
+
+        if (level == null) {
+            level = Level.decode(ConcreteConfiguration.getInstance()
+                    .getSnapshot()
+                    .get(Constants.ENGINE_LOGGER_LEVEL, Level.INFO.toString()));
+        }
+
+        return level;
+    }
+
+    /**
+     * Method to dynamically change the Level of existing and future Loggers matching the configured
+     * Logger regex
+     *
+     * @param level level
+     */
+    public static void setLevel(Level level) {
+        Precondition.notNull(level, "level is null");
+
+        LoggerFactory loggerFactory = SingletonHolder.SINGLETON;
+        loggerFactory.level = level;
+
+        for (Map.Entry<String, Logger> entry : loggerFactory.loggers.entrySet()) {
+            if (matches(entry.getKey())) {
+                entry.getValue().setLevel(level);
+            }
+        }
+
+        if (matches(ROOT_LOGGER_NAME)) {
+            ROOT_LOGGER.setLevel(level);
+        }
+    }
+
     /** Class to hold the singleton instance */
     private static final class SingletonHolder {
 
@@ -0,0 +1,364 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.management;
+
+import static java.lang.String.format;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.verifyica.api.Configuration;
+import org.verifyica.engine.common.AdjustableLimiter;
+import org.verifyica.engine.common.Precondition;
+import org.verifyica.engine.common.Throttle;
+import org.verifyica.engine.configuration.ConfigurationSnapshot;
+import org.verifyica.engine.configuration.Constants;
+import org.verifyica.engine.exception.EngineConfigurationException;
+import org.verifyica.engine.logger.Level;
+import org.verifyica.engine.logger.Logger;
+import org.verifyica.engine.logger.LoggerFactory;
+
+/**
+ * Class to implement EngineManagement
+ *
+ * <p>Exposes execution state and allows changing parallelism, throttles, and the Logger level while
+ * tests are running, using JMX and/or a local HTTP endpoint. Changes are applied the next time a
+ * test class, test argument, or test method is admitted.
+ */
+public class EngineManagement implements EngineManagementMBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EngineManagement.class);
+
+    /** The JMX ObjectName */
+    public static final String OBJECT_NAME = "org.verifyica:type=Engine";
+
+    private final ConfigurationSnapshot configurationSnapshot;
+    private final ExecutorService classExecutorService;
+    private final AdjustableLimiter classLimiter;
+    private final ExecutorService argumentExecutorService;
+    private final AdjustableLimiter argumentLimiter;
+    private final Map<String, Throttle> throttles;
+    private final Map<String, String> throttleValues;
+    private ObjectName objectName;
+    private ManagementHttpServer managementHttpServer;
+
+    /**
+     * Constructor
+     *
+     * @param configuration configuration
+     * @param classExecutorService classExecutorService
+     * @param classLimiter classLimiter
+     * @param argumentExecutorService argumentExecutorService
+     * @param argumentLimiter argumentLimiter
+     */
+    public EngineManagement(
+            Configuration configuration,
+            ExecutorService classExecutorService,
+            AdjustableLimiter classLimiter,
+            ExecutorService argumentExecutorService,
+            AdjustableLimiter argumentLimiter) {
+        Precondition.notNull(configuration, "configuration is null");
+        Precondition.notNull(classExecutorService, "classExecutorService is null");
+        Precondition.notNull(classLimiter, "classLimiter is null");
+        Precondition.notNull(argumentExecutorService, "argumentExecutorService is null");
+        Precondition.notNull(argumentLimiter, "argumentLimiter is null");
+
+        this.configurationSnapshot = ConfigurationSnapshot.of(configuration);
+        this.classExecutorService = classExecutorService;
+        this.classLimiter = classLimiter;
+        this.argumentExecutorService = argumentExecutorService;
+        this.argumentLimiter = argumentLimiter;
+        this.throttles = new ConcurrentHashMap<>();
+        this.throttleValues = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Method to start management, registering the MBean and starting the HTTP endpoint if configured
+     */
+    public void start() {
+        if (configurationSnapshot.getBoolean(Constants.ENGINE_MANAGEMENT_JMX_ENABLED, false)) {
+            registerMBean();
+        }
+
+        String port = configurationSnapshot.get(Constants.ENGINE_MANAGEMENT_HTTP_PORT);
+        if (port != null && !port.trim().isEmpty()) {
+            int intValue;
+
+            try {
+                intValue = Integer.parseInt(port.trim());
+            } catch (NumberFormatException e) {
+                throw new EngineConfigurationException(
+                        format("Invalid %s value [%s]", Constants.ENGINE_MANAGEMENT_HTTP_PORT, port), e);
+            }
+
+            if (intValue < 0 || intValue > 65535) {
+                throw new EngineConfigurationException(
+                        format("Invalid %s value [%d]", Constants.ENGINE_MANAGEMENT_HTTP_PORT, intValue));
+            }
+
+            managementHttpServer = new ManagementHttpServer(this, intValue);
+            managementHttpServer.start();
+        }
+    }
+
+    /** Method to stop management, unregistering the MBean and stopping the HTTP endpoint */
+    public void stop() {
+        if (managementHttpServer != null) {
+            managementHttpServer.stop();
+            managementHttpServer = null;
+        }
+
+        if (objectName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            } catch (Throwable t) {
+                LOGGER.trace("MBean [%s] could not be unregistered [%s]", objectName, t.getMessage());
+            }
+            objectName = null;
+        }
+    }
+
+    /**
+     * Method to get a Throttle that was changed using management
+     *
+     * @param name the throttle configuration constant
+     * @return a Throttle, or null if the Throttle hasn't been changed
+     */
+    public Throttle getThrottle(String name) {
+        return throttles.get(name);
+    }
+
+    @Override
+    public int getClassParallelism() {
+        return classLimiter.getLimit();
+    }
+
+    @Override
+    public void setClassParallelism(int classParallelism) {
+        setParallelism(Constants.ENGINE_CLASS_PARALLELISM, classExecutorService, classLimiter, classParallelism);
+    }
+
+    @Override
+    public int getArgumentParallelism() {
+        return argumentLimiter.getLimit();
+    }
+
+    @Override
+    public void setArgumentParallelism(int argumentParallelism) {
+        setParallelism(
+                Constants.ENGINE_ARGUMENT_PARALLELISM, argumentExecutorService, argumentLimiter, argumentParallelism);
+    }
+
+    @Override
+    public int getActiveClasses() {
+        return classLimiter.getActive();
+    }
+
+    @Override
+    public int getActiveArguments() {
+        return argumentLimiter.getActive();
+    }
+
+    @Override
+    public int getClassQueueDepth() {
+        return getQueueDepth(classExecutorService);
+    }
+
+    @Override
+    public int getArgumentQueueDepth() {
+        return getQueueDepth(argumentExecutorService);
+    }
+
+    @Override
+    public int getWaitingClasses() {
+        return classLimiter.getWaiting();
+    }
+
+    @Override
+    public int getWaitingArguments() {
+        return argumentLimiter.getWaiting();
+    }
+
+    @Override
+    public long getClassWaitCount() {
+        return classLimiter.getWaitCount();
+    }
+
+    @Override
+    public long getArgumentWaitCount() {
+        return argumentLimiter.getWaitCount();
+    }
+
+    @Override
+    public String getClassStateMachineThrottle() {
+        return getThrottleValue(Constants.ENGINE_CLASS_STATE_MACHINE_THROTTLE);
+    }
+
+    @Override
+    public void setClassStateMachineThrottle(String throttle) {
+        setThrottleValue(Constants.ENGINE_CLASS_STATE_MACHINE_THROTTLE, throttle);
+    }
+
+    @Override
+    public String getArgumentStateMachineThrottle() {
+        return getThrottleValue(Constants.ENGINE_ARGUMENT_STATE_MACHINE_THROTTLE);
+    }
+
+    @Override
+    public void setArgumentStateMachineThrottle(String throttle) {
+        setThrottleValue(Constants.ENGINE_ARGUMENT_STATE_MACHINE_THROTTLE, throttle);
+    }
+
+    @Override
+    public String getTestStateMachineThrottle() {
+        return getThrottleValue(Constants.ENGINE_TEST_STATE_MACHINE_THROTTLE);
+    }
+
+    @Override
+    public void setTestStateMachineThrottle(String throttle) {
+        setThrottleValue(Constants.ENGINE_TEST_STATE_MACHINE_THROTTLE, throttle);
+    }
+
+    @Override
+    public String getLoggerLevel() {
+        return LoggerFactory.getLevel().toString();
+    }
+
+    @Override
+    public void setLoggerLevel(String loggerLevel) {
+        Precondition.notBlank(loggerLevel, "loggerLevel is null", "loggerLevel is blank");
+
+        Level level = Level.decode(loggerLevel.trim().toUpperCase(Locale.ENGLISH));
+        if (!level.toString().equalsIgnoreCase(loggerLevel.trim())) {
+            throw new IllegalArgumentException(format("Invalid Logger level [%s]", loggerLevel));
+        }
+
+        LOGGER.info("changing Logger level to [%s]", level);
+
+        LoggerFactory.setLevel(level);
+    }
+
+    /**
+     * Method to register the MBean, replacing an MBean registered by a previous execution
+     */
+    private void registerMBean() {
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+
+            mBeanServer.registerMBean(this, objectName);
+            this.objectName = objectName;
+
+            LOGGER.trace("registered MBean [%s]", objectName);
+        } catch (Throwable t) {
+            LOGGER.warn("MBean [%s] could not be registered [%s]", OBJECT_NAME, t.getMessage());
+        }
+    }
+
+    /**
+     * Method to set a parallelism limit, growing the executor's thread pool if required
+     *
+     * @param name name
+     * @param executorService executorService
+     * @param adjustableLimiter adjustableLimiter
+     * @param parallelism parallelism
+     */
+    private static void setParallelism(
+            String name, ExecutorService executorService, AdjustableLimiter adjustableLimiter, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(format("Invalid %s value [%d]", name, parallelism));
+        }
+
+        if (executorService instanceof ThreadPoolExecutor) {
+            ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) executorService;
+            synchronized (threadPoolExecutor) {
+                if (parallelism > threadPoolExecutor.getMaximumPoolSize()) {
+                    threadPoolExecutor.setMaximumPoolSize(parallelism);
+                    threadPoolExecutor.setCorePoolSize(parallelism);
+                }
+            }
+        }
+
+        LOGGER.info("changing %s to [%d]", name, parallelism);
+
+        adjustableLimiter.setLimit(parallelism);
+    }
+
+    /**
+     * Method to get the number of tasks queued in an executor
+     *
+     * @param executorService executorService
+     * @return the number of queued tasks, or 0 if not available
+     */
+    private static int getQueueDepth(ExecutorService executorService) {
+        if (executorService instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executorService).getQueue().size();
+        }
+
+        return 0;
+    }
+
+    /**
+     * Method to get a throttle value
+     *
+     * @param name name
+     * @return the changed throttle value, or the configured throttle value
+     */
+    private String getThrottleValue(String name) {
+        String value = throttleValues.get(name);
+
+        if (value == null) {
+            value = configurationSnapshot.get(name, "");
+        }
+
+        return value;
+    }
+
+    /**
+     * Method to set a throttle value
+     *
+     * @param name name
+     * @param value value, blank to use the configured throttle value
+     */
+    private void setThrottleValue(String name, String value) {
+        if (value == null || value.trim().isEmpty()) {
+            LOGGER.info("changing %s to the configured value", name);
+            throttles.remove(name);
+            throttleValues.remove(name);
+            return;
+        }
+
+        Throttle throttle = Throttle.parse(name, value);
+        if (throttle == null) {
+            throw new IllegalArgumentException(format("Invalid %s value [%s]", name, value));
+        }
+
+        LOGGER.info("changing %s to [%s]", name, value.trim());
+
+        throttleValues.put(name, value.trim());
+        throttles.put(name, throttle);
+    }
+}
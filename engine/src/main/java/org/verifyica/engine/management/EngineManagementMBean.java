@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.management;
+
+/** Interface to implement EngineManagementMBean */
+public interface EngineManagementMBean {
+
+    /**
+     * Method to get the class parallelism
+     *
+     * @return the class parallelism
+     */
+    int getClassParallelism();
+
+    /**
+     * Method to set the class parallelism, applied the next time a test class is admitted
+     *
+     * @param classParallelism classParallelism
+     */
+    void setClassParallelism(int classParallelism);
+
+    /**
+     * Method to get the argument parallelism
+     *
+     * @return the argument parallelism
+     */
+    int getArgumentParallelism();
+
+    /**
+     * Method to set the argument parallelism, applied the next time a test argument is admitted
+     *
+     * @param argumentParallelism argumentParallelism
+     */
+    void setArgumentParallelism(int argumentParallelism);
+
+    /**
+     * Method to get the number of active test classes
+     *
+     * @return the number of active test classes
+     */
+    int getActiveClasses();
+
+    /**
+     * Method to get the number of active test arguments executed in parallel
+     *
+     * @return the number of active test arguments
+     */
+    int getActiveArguments();
+
+    /**
+     * Method to get the number of test classes queued in the class executor
+     *
+     * @return the class queue depth
+     */
+    int getClassQueueDepth();
+
+    /**
+     * Method to get the number of test arguments queued in the argument executor
+     *
+     * @return the argument queue depth
+     */
+    int getArgumentQueueDepth();
+
+    /**
+     * Method to get the number of test classes waiting to be admitted
+     *
+     * @return the number of waiting test classes
+     */
+    int getWaitingClasses();
+
+    /**
+     * Method to get the number of test arguments waiting to be admitted
+     *
+     * @return the number of waiting test arguments
+     */
+    int getWaitingArguments();
+
+    /**
+     * Method to get the number of times a test class had to wait to be admitted
+     *
+     * @return the class wait count
+     */
+    long getClassWaitCount();
+
+    /**
+     * Method to get the number of times a test argument had to wait to be admitted
+     *
+     * @return the argument wait count
+     */
+    long getArgumentWaitCount();
+
+    /**
+     * Method to get the class state machine throttle
+     *
+     * @return the class state machine throttle
+     */
+    String getClassStateMachineThrottle();
+
+    /**
+     * Method to set the class state machine throttle, blank to use the configured value
+     *
+     * @param throttle throttle
+     */
+    void setClassStateMachineThrottle(String throttle);
+
+    /**
+     * Method to get the argument state machine throttle
+     *
+     * @return the argument state machine throttle
+     */
+    String getArgumentStateMachineThrottle();
+
+    /**
+     * Method to set the argument state machine throttle, blank to use the configured value
+     *
+     * @param throttle throttle
+     */
+    void setArgumentStateMachineThrottle(String throttle);
+
+    /**
+     * Method to get the test state machine throttle
+     *
+     * @return the test state machine throttle
+     */
+    String getTestStateMachineThrottle();
+
+    /**
+     * Method to set the test state machine throttle, blank to use the configured value
+     *
+     * @param throttle throttle
+     */
+    void setTestStateMachineThrottle(String throttle);
+
+    /**
+     * Method to get the Logger level
+     *
+     * @return the Logger level
+     */
+    String getLoggerLevel();
+
+    /**
+     * Method to set the Logger level
+     *
+     * @param loggerLevel loggerLevel
+     */
+    void setLoggerLevel(String loggerLevel);
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.management;
+
+import static java.lang.String.format;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.verifyica.engine.common.PlatformThreadFactory;
+import org.verifyica.engine.common.Precondition;
+import org.verifyica.engine.exception.EngineException;
+import org.verifyica.engine.logger.Logger;
+import org.verifyica.engine.logger.LoggerFactory;
+
+/**
+ * Class to implement ManagementHttpServer
+ *
+ * <p>Serves the engine management state on the loopback address. {@code GET /verifyica} returns
+ * the state as properties. {@code POST /verifyica?<name>=<value>&...} changes values, then returns
+ * the state.
+ *
+ * <p>A POST must send the token generated when the server starts, which is logged, in the {@code
+ * X-Verifyica-Token} header. A browser doesn't send a custom header cross-origin without a CORS
+ * preflight, which the server doesn't answer, so a web page can't change values.
+ */
+public class ManagementHttpServer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ManagementHttpServer.class);
+
+    /** The context path */
+    public static final String CONTEXT_PATH = "/verifyica";
+
+    /** The token header */
+    public static final String TOKEN_HEADER = "X-Verifyica-Token";
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private final EngineManagementMBean engineManagementMBean;
+    private final int port;
+    private final String token;
+    private HttpServer httpServer;
+    private ExecutorService executorService;
+
+    /**
+     * Constructor
+     *
+     * @param engineManagementMBean engineManagementMBean
+     * @param port port, 0 to use an ephemeral port
+     */
+    public ManagementHttpServer(EngineManagementMBean engineManagementMBean, int port) {
+        Precondition.notNull(engineManagementMBean, "engineManagementMBean is null");
+
+        this.engineManagementMBean = engineManagementMBean;
+        this.port = port;
+        this.token = createToken();
+    }
+
+    /** Method to start the HTTP server */
+    public void start() {
+        try {
+            httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            httpServer.createContext(CONTEXT_PATH, this::handle);
+            executorService = Executors.newSingleThreadExecutor(new PlatformThreadFactory());
+            httpServer.setExecutor(executorService);
+            httpServer.start();
+
+            LOGGER.info(
+                    "management endpoint [http://%s:%d%s] %s [%s]",
+                    httpServer.getAddress().getHostString(), getPort(), CONTEXT_PATH, TOKEN_HEADER, token);
+        } catch (IOException e) {
+            throw new EngineException(format("Management HTTP server could not be started on port [%d]", port), e);
+        }
+    }
+
+    /**
+     * Method to get the port the HTTP server is bound to
+     *
+     * @return the port
+     */
+    public int getPort() {
+        return httpServer != null ? httpServer.getAddress().getPort() : port;
+    }
+
+    /**
+     * Method to get the token required to change values
+     *
+     * @return the token
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /** Method to stop the HTTP server */
+    public void stop() {
+        if (httpServer != null) {
+            httpServer.stop(0);
+            httpServer = null;
+        }
+
+        if (executorService != null) {
+            executorService.shutdownNow();
+            executorService = null;
+        }
+    }
+
+    /**
+     * Method to handle an HTTP exchange
+     *
+     * @param httpExchange httpExchange
+     * @throws IOException IOException
+     */
+    private void handle(HttpExchange httpExchange) throws IOException {
+        try {
+            String method = httpExchange.getRequestMethod();
+
+            if ("POST".equalsIgnoreCase(method)) {
+                if (!isAuthorized(httpExchange.getRequestHeaders().getFirst(TOKEN_HEADER))) {
+                    respond(httpExchange, 403, format("Missing or invalid %s header%n", TOKEN_HEADER));
+                    return;
+                }
+
+                try {
+                    for (Map.Entry<String, String> entry : parseQuery(
+                                    httpExchange.getRequestURI().getRawQuery())
+                            .entrySet()) {
+                        set(entry.getKey(), entry.getValue());
+                    }
+                } catch (IllegalArgumentException e) {
+                    respond(httpExchange, 400, e.getMessage() + "\n");
+                    return;
+                }
+            } else if (!"GET".equalsIgnoreCase(method)) {
+                respond(httpExchange, 405, format("Method [%s] not allowed%n", method));
+                return;
+            }
+
+            respond(httpExchange, 200, getState());
+        } finally {
+            httpExchange.close();
+        }
+    }
+
+    /**
+     * Method to return if a request token matches the token
+     *
+     * @param requestToken requestToken, may be null
+     * @return true if the request token matches, else false
+     */
+    private boolean isAuthorized(String requestToken) {
+        return requestToken != null
+                && MessageDigest.isEqual(
+                        token.getBytes(StandardCharsets.UTF_8), requestToken.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Method to set a value
+     *
+     * @param name name
+     * @param value value
+     */
+    private void set(String name, String value) {
+        switch (name) {
+            case "classParallelism": {
+                engineManagementMBean.setClassParallelism(parseInt(name, value));
+                break;
+            }
+            case "argumentParallelism": {
+                engineManagementMBean.setArgumentParallelism(parseInt(name, value));
+                break;
+            }
+            case "classStateMachineThrottle": {
+                engineManagementMBean.setClassStateMachineThrottle(value);
+                break;
+            }
+            case "argumentStateMachineThrottle": {
+                engineManagementMBean.setArgumentStateMachineThrottle(value);
+                break;
+            }
+            case "testStateMachineThrottle": {
+                engineManagementMBean.setTestStateMachineThrottle(value);
+                break;
+            }
+            case "loggerLevel": {
+                engineManagementMBean.setLoggerLevel(value);
+                break;
+            }
+            default: {
+                throw new IllegalArgumentException(format("Unknown name [%s]", name));
+            }
+        }
+    }
+
+    /**
+     * Method to get the state as properties
+     *
+     * @return the state
+     */
+    private String getState() {
+        Map<String, Object> state = new LinkedHashMap<>();
+
+        state.put("classParallelism", engineManagementMBean.getClassParallelism());
+        state.put("argumentParallelism", engineManagementMBean.getArgumentParallelism());
+        state.put("activeClasses", engineManagementMBean.getActiveClasses());
+        state.put("activeArguments", engineManagementMBean.getActiveArguments());
+        state.put("classQueueDepth", engineManagementMBean.getClassQueueDepth());
+        state.put("argumentQueueDepth", engineManagementMBean.getArgumentQueueDepth());
+        state.put("waitingClasses", engineManagementMBean.getWaitingClasses());
+        state.put("waitingArguments", engineManagementMBean.getWaitingArguments());
+        state.put("classWaitCount", engineManagementMBean.getClassWaitCount());
+        state.put("argumentWaitCount", engineManagementMBean.getArgumentWaitCount());
+        state.put("classStateMachineThrottle", engineManagementMBean.getClassStateMachineThrottle());
+        state.put("argumentStateMachineThrottle", engineManagementMBean.getArgumentStateMachineThrottle());
+        state.put("testStateMachineThrottle", engineManagementMBean.getTestStateMachineThrottle());
+        state.put("loggerLevel", engineManagementMBean.getLoggerLevel());
+
+        StringBuilder stringBuilder = new StringBuilder();
+        for (Map.Entry<String, Object> entry : state.entrySet()) {
+            stringBuilder
+                    .append(entry.getKey())
+                    .append('=')
+                    .append(entry.getValue())
+                    .append('\n');
+        }
+
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Method to parse a query string
+     *
+     * @param query query
+     * @return a Map of names to values, in query order
+     */
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> map = new LinkedHashMap<>();
+
+        if (query == null || query.isEmpty()) {
+            return map;
+        }
+
+        for (String token : query.split("&")) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            int index = token.indexOf('=');
+            String name = index >= 0 ? token.substring(0, index) : token;
+            String value = index >= 0 ? token.substring(index + 1) : "";
+            map.put(decode(name), decode(value));
+        }
+
+        return map;
+    }
+
+    /**
+     * Method to URL decode a String
+     *
+     * @param string string
+     * @return the decoded String
+     */
+    private static String decode(String string) {
+        try {
+            return URLDecoder.decode(string, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Method to parse an int value
+     *
+     * @param name name
+     * @param value value
+     * @return the int value
+     */
+    private static int parseInt(String name, String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(format("Invalid %s value [%s]", name, value), e);
+        }
+    }
+
+    /**
+     * Method to create a random token
+     *
+     * @return a token
+     */
+    private static String createToken() {
+        byte[] bytes = new byte[16];
+        SECURE_RANDOM.nextBytes(bytes);
+
+        StringBuilder stringBuilder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            stringBuilder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Method to write a text response
+     *
+     * @param httpExchange httpExchange
+     * @param status status
+     * @param body body
+     * @throws IOException IOException
+     */
+    private static void respond(HttpExchange httpExchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        httpExchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        httpExchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = httpExchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
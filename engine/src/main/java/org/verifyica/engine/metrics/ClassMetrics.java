@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.metrics;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.verifyica.engine.common.Precondition;
+
+/**
+ * Class to implement ClassMetrics
+ *
+ * <p>Records the histograms of a test class. Each recorded value is also recorded in the
+ * aggregate ClassMetrics of the MetricsRegistry.
+ */
+public class ClassMetrics {
+
+    /** Scope of a recorded value */
+    public enum Scope {
+        /** Test class state machine */
+        CLASS("class"),
+        /** Test argument state machine */
+        ARGUMENT("argument"),
+        /** Test method state machine */
+        TEST("test"),
+        /** Class interceptor hook */
+        INTERCEPTOR("interceptor");
+
+        private final String value;
+
+        Scope(String value) {
+            this.value = value;
+        }
+
+        /**
+         * Method to get the value used in names
+         *
+         * @return the value
+         */
+        public String getValue() {
+            return value;
+        }
+    }
+
+    /** Kind of a recorded value */
+    public enum Kind {
+        /** Total time of a phase */
+        TOTAL("total"),
+        /** Time of a phase spent in test class methods */
+        USER("user");
+
+        private final String value;
+
+        Kind(String value) {
+            this.value = value;
+        }
+    }
+
+    private static final int MAXIMUM_PHASES = 32;
+
+    private static final int KINDS = Kind.values().length;
+
+    private final MetricsRegistry metricsRegistry;
+    private final String prefix;
+    private final ClassMetrics aggregateClassMetrics;
+    private final AtomicReferenceArray<ConcurrentHistogram> histograms;
+
+    /**
+     * Constructor
+     *
+     * @param metricsRegistry metricsRegistry
+     * @param prefix prefix of the histogram names
+     * @param aggregateClassMetrics aggregateClassMetrics, or null if this is the aggregate
+     */
+    ClassMetrics(MetricsRegistry metricsRegistry, String prefix, ClassMetrics aggregateClassMetrics) {
+        this.metricsRegistry = metricsRegistry;
+        this.prefix = prefix;
+        this.aggregateClassMetrics = aggregateClassMetrics;
+        this.histograms = new AtomicReferenceArray<>(Scope.values().length * MAXIMUM_PHASES * KINDS);
+    }
+
+    /**
+     * Method to record a value
+     *
+     * @param scope scope
+     * @param phase phase, the state machine State or interceptor hook
+     * @param kind kind
+     * @param nanos nanos
+     */
+    public void record(Scope scope, Enum<?> phase, Kind kind, long nanos) {
+        Precondition.isTrue(phase.ordinal() < MAXIMUM_PHASES, "phase ordinal is too large");
+
+        int index = ((scope.ordinal() * MAXIMUM_PHASES) + phase.ordinal()) * KINDS + kind.ordinal();
+
+        ConcurrentHistogram histogram = histograms.get(index);
+        if (histogram == null) {
+            histogram =
+                    metricsRegistry.getOrCreateHistogram(prefix + scope.value + "." + phase.name() + "." + kind.value);
+            histograms.compareAndSet(index, null, histogram);
+        }
+
+        histogram.record(nanos);
+
+        if (aggregateClassMetrics != null) {
+            aggregateClassMetrics.record(scope, phase, kind, nanos);
+        }
+    }
+}
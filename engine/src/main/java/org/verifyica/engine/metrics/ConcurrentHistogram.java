@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import org.verifyica.api.Metrics;
+
+/**
+ * Class to implement ConcurrentHistogram
+ *
+ * <p>A lock-free, log-linear histogram. Values below 32 are recorded exactly. Larger values are
+ * recorded in buckets of 32 sub-buckets per power of 2, so a recorded value is accurate to
+ * within approximately 3%. Bucket arrays are created when a value in their range is first
+ * recorded.
+ */
+public class ConcurrentHistogram implements Metrics.Histogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    private static final int BUCKET_COUNT = 64 - SUB_BUCKET_BITS;
+
+    private final AtomicReferenceArray<AtomicLongArray> buckets;
+    private final LongAdder count;
+    private final LongAdder total;
+    private final LongAccumulator min;
+    private final LongAccumulator max;
+
+    /** Constructor */
+    public ConcurrentHistogram() {
+        this.buckets = new AtomicReferenceArray<>(BUCKET_COUNT);
+        this.count = new LongAdder();
+        this.total = new LongAdder();
+        this.min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        this.max = new LongAccumulator(Math::max, 0L);
+    }
+
+    /**
+     * Method to record a value
+     *
+     * @param value value, negative values are recorded as 0
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+
+        int bucketIndex;
+        int subBucketIndex;
+
+        if (value < SUB_BUCKET_COUNT) {
+            bucketIndex = 0;
+            subBucketIndex = (int) value;
+        } else {
+            int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+            bucketIndex = shift + 1;
+            subBucketIndex = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        }
+
+        AtomicLongArray bucket = buckets.get(bucketIndex);
+        if (bucket == null) {
+            buckets.compareAndSet(bucketIndex, null, new AtomicLongArray(SUB_BUCKET_COUNT));
+            bucket = buckets.get(bucketIndex);
+        }
+
+        bucket.incrementAndGet(subBucketIndex);
+        count.increment();
+        total.add(value);
+        min.accumulate(value);
+        max.accumulate(value);
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public long getTotal() {
+        return total.sum();
+    }
+
+    @Override
+    public long getMin() {
+        long value = min.get();
+        return value == Long.MAX_VALUE ? 0 : value;
+    }
+
+    @Override
+    public long getMax() {
+        return max.get();
+    }
+
+    @Override
+    public double getMean() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) getTotal() / count;
+    }
+
+    @Override
+    public long getValueAtPercentile(double percentile) {
+        long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+
+        double clampedPercentile = Math.min(Math.max(percentile, 0.0), 100.0);
+        long countAtPercentile = Math.max(1, (long) Math.ceil(clampedPercentile / 100.0 * count));
+        long runningCount = 0;
+
+        for (int bucketIndex = 0; bucketIndex < BUCKET_COUNT; bucketIndex++) {
+            AtomicLongArray bucket = buckets.get(bucketIndex);
+            if (bucket == null) {
+                continue;
+            }
+            for (int subBucketIndex = 0; subBucketIndex < SUB_BUCKET_COUNT; subBucketIndex++) {
+                runningCount += bucket.get(subBucketIndex);
+                if (runningCount >= countAtPercentile) {
+                    long value = highestEquivalentValue(bucketIndex, subBucketIndex);
+                    return Math.max(getMin(), Math.min(value, getMax()));
+                }
+            }
+        }
+
+        return getMax();
+    }
+
+    /**
+     * Method to get the highest value recorded in a sub-bucket
+     *
+     * @param bucketIndex bucketIndex
+     * @param subBucketIndex subBucketIndex
+     * @return the highest value recorded in the sub-bucket
+     */
+    private static long highestEquivalentValue(int bucketIndex, int subBucketIndex) {
+        if (bucketIndex == 0) {
+            return subBucketIndex;
+        }
+
+        int shift = bucketIndex - 1;
+        long lowestValue = ((long) (subBucketIndex + SUB_BUCKET_COUNT)) << shift;
+        return lowestValue + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import org.verifyica.api.Metrics;
+import org.verifyica.engine.common.Precondition;
+import org.verifyica.engine.support.JsonSupport;
+
+/**
+ * Class to implement MetricsRegistry
+ *
+ * <p>Holds the histograms recorded for each test class, and in aggregate, during an engine run
+ */
+public class MetricsRegistry implements Metrics {
+
+    private static final String CLASS_SEPARATOR = "/";
+
+    private static final double[] PERCENTILES = new double[] {50.0, 90.0, 99.0, 99.9};
+
+    private static final String[] PERCENTILE_NAMES = new String[] {"p50", "p90", "p99", "p999"};
+
+    private final boolean enabled;
+    private final Map<String, ConcurrentHistogram> histograms;
+    private final Map<String, ClassMetrics> classMetricsMap;
+    private final ClassMetrics aggregateClassMetrics;
+
+    /**
+     * Constructor
+     *
+     * @param enabled enabled
+     */
+    public MetricsRegistry(boolean enabled) {
+        this.enabled = enabled;
+        this.histograms = new ConcurrentHashMap<>();
+        this.classMetricsMap = new ConcurrentHashMap<>();
+        this.aggregateClassMetrics = new ClassMetrics(this, "", null);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Method to get the ClassMetrics for a test class
+     *
+     * @param testClass testClass
+     * @return the ClassMetrics, or null if metrics are not recorded
+     */
+    public ClassMetrics getClassMetrics(Class<?> testClass) {
+        Precondition.notNull(testClass, "testClass is null");
+
+        if (!enabled) {
+            return null;
+        }
+
+        return classMetricsMap.computeIfAbsent(
+                testClass.getName(),
+                className -> new ClassMetrics(this, className + CLASS_SEPARATOR, aggregateClassMetrics));
+    }
+
+    /**
+     * Method to get a histogram, creating it if absent
+     *
+     * @param name name
+     * @return the histogram
+     */
+    ConcurrentHistogram getOrCreateHistogram(String name) {
+        return histograms.computeIfAbsent(name, key -> new ConcurrentHistogram());
+    }
+
+    @Override
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(new TreeSet<>(histograms.keySet()));
+    }
+
+    @Override
+    public Histogram getHistogram(String name) {
+        Precondition.notNull(name, "name is null");
+
+        return histograms.get(name);
+    }
+
+    @Override
+    public String toJson() {
+        Map<String, Map<String, ConcurrentHistogram>> classHistograms = new TreeMap<>();
+        Map<String, ConcurrentHistogram> aggregateHistograms = new TreeMap<>();
+
+        for (Map.Entry<String, ConcurrentHistogram> entry : histograms.entrySet()) {
+            String name = entry.getKey();
+            int index = name.lastIndexOf(CLASS_SEPARATOR);
+            if (index == -1) {
+                aggregateHistograms.put(name, entry.getValue());
+            } else {
+                classHistograms
+                        .computeIfAbsent(name.substring(0, index), key -> new TreeMap<>())
+                        .put(name.substring(index + 1), entry.getValue());
+            }
+        }
+
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("{\n  \"unit\": \"nanoseconds\",\n  \"aggregate\": ");
+        appendHistograms(stringBuilder, aggregateHistograms, "  ");
+        stringBuilder.append(",\n  \"classes\": {");
+
+        String separator = "\n";
+        for (Map.Entry<String, Map<String, ConcurrentHistogram>> entry : classHistograms.entrySet()) {
+            stringBuilder.append(separator).append("    ");
+            JsonSupport.appendString(stringBuilder, entry.getKey());
+            stringBuilder.append(": ");
+            appendHistograms(stringBuilder, entry.getValue(), "    ");
+            separator = ",\n";
+        }
+
+        stringBuilder.append(classHistograms.isEmpty() ? "}" : "\n  }").append("\n}\n");
+
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Method to write the recorded histograms as JSON to a file
+     *
+     * @param path path
+     * @throws IOException IOException
+     */
+    public void write(Path path) throws IOException {
+        Precondition.notNull(path, "path is null");
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write(toJson());
+        }
+    }
+
+    /**
+     * Method to append a Map of histograms as a JSON object
+     *
+     * @param stringBuilder stringBuilder
+     * @param histograms histograms
+     * @param indent indent
+     */
+    private static void appendHistograms(
+            StringBuilder stringBuilder, Map<String, ConcurrentHistogram> histograms, String indent) {
+        stringBuilder.append('{');
+
+        String separator = "\n";
+        for (Map.Entry<String, ConcurrentHistogram> entry : histograms.entrySet()) {
+            ConcurrentHistogram histogram = entry.getValue();
+
+            stringBuilder.append(separator).append(indent).append("  ");
+            JsonSupport.appendString(stringBuilder, entry.getKey());
+            stringBuilder
+                    .append(": {\"count\": ")
+                    .append(histogram.getCount())
+                    .append(", \"total\": ")
+                    .append(histogram.getTotal())
+                    .append(", \"min\": ")
+                    .append(histogram.getMin())
+                    .append(", \"mean\": ")
+                    .append((long) histogram.getMean())
+                    .append(", \"max\": ")
+                    .append(histogram.getMax());
+
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                stringBuilder
+                        .append(", \"")
+                        .append(PERCENTILE_NAMES[i])
+                        .append("\": ")
+                        .append(histogram.getValueAtPercentile(PERCENTILES[i]));
+            }
+
+            stringBuilder.append('}');
+            separator = ",\n";
+        }
+
+        stringBuilder.append(histograms.isEmpty() ? "}" : "\n" + indent + "}");
+    }
+}
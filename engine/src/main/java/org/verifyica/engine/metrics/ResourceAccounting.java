@@ -0,0 +1,394 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.metrics;
+
+import static java.lang.String.format;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import org.verifyica.engine.common.Precondition;
+import org.verifyica.engine.configuration.Constants;
+import org.verifyica.engine.support.TimestampSupport;
+
+/**
+ * Class to implement ResourceAccounting
+ *
+ * <p>Records the CPU time and allocated bytes of test arguments and test methods, and keeps the
+ * top consumers of each. Values are sampled on the executing thread at state machine phase
+ * boundaries by the test descriptors
+ */
+public class ResourceAccounting {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    private static final com.sun.management.ThreadMXBean SUN_THREAD_MX_BEAN =
+            THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean
+                    ? (com.sun.management.ThreadMXBean) THREAD_MX_BEAN
+                    : null;
+
+    private static final Comparator<Entry> CPU_COMPARATOR = Comparator.comparingLong(Entry::getCpuNanos);
+
+    private static final Comparator<Entry> ALLOCATED_COMPARATOR = Comparator.comparingLong(Entry::getAllocatedBytes);
+
+    private static final String[] BYTE_UNITS = new String[] {"B", "KB", "MB", "GB", "TB"};
+
+    private final int top;
+    private final Map<ClassMetrics.Scope, Consumers> consumersMap;
+
+    /**
+     * Constructor
+     *
+     * @param top the number of top consumers to keep
+     */
+    public ResourceAccounting(int top) {
+        Precondition.isTrue(top > 0, "top is less than 1");
+
+        this.top = top;
+        this.consumersMap = new EnumMap<>(ClassMetrics.Scope.class);
+        this.consumersMap.put(ClassMetrics.Scope.ARGUMENT, new Consumers());
+        this.consumersMap.put(ClassMetrics.Scope.TEST, new Consumers());
+    }
+
+    /**
+     * Method to return if the JVM supports thread CPU time and allocated bytes, enabling them if
+     * required
+     *
+     * @return true if supported, else false
+     */
+    public static boolean isSupported() {
+        try {
+            if (SUN_THREAD_MX_BEAN == null
+                    || !THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()
+                    || !SUN_THREAD_MX_BEAN.isThreadAllocatedMemorySupported()) {
+                return false;
+            }
+
+            if (!THREAD_MX_BEAN.isThreadCpuTimeEnabled()) {
+                THREAD_MX_BEAN.setThreadCpuTimeEnabled(true);
+            }
+
+            if (!SUN_THREAD_MX_BEAN.isThreadAllocatedMemoryEnabled()) {
+                SUN_THREAD_MX_BEAN.setThreadAllocatedMemoryEnabled(true);
+            }
+
+            return true;
+        } catch (UnsupportedOperationException | SecurityException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Method to get the CPU time of the current thread
+     *
+     * @return the CPU time of the current thread in nanoseconds, or -1 if not available (e.g. on a
+     *     virtual thread)
+     */
+    public long getCurrentThreadCpuNanos() {
+        try {
+            return THREAD_MX_BEAN.getCurrentThreadCpuTime();
+        } catch (UnsupportedOperationException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Method to get the allocated bytes of the current thread
+     *
+     * @return the allocated bytes of the current thread, or -1 if not available (e.g. on a virtual
+     *     thread)
+     */
+    @SuppressWarnings("deprecation")
+    public long getCurrentThreadAllocatedBytes() {
+        try {
+            return SUN_THREAD_MX_BEAN.getThreadAllocatedBytes(
+                    Thread.currentThread().getId());
+        } catch (UnsupportedOperationException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Method to record the CPU time and allocated bytes of a test argument or test method
+     *
+     * @param scope scope
+     * @param testClass testClass
+     * @param argument argument
+     * @param testMethod testMethod, or null for a test argument
+     * @param cpuNanos cpuNanos
+     * @param allocatedBytes allocatedBytes
+     * @param measured true if all phases were measured, else false
+     */
+    public void record(
+            ClassMetrics.Scope scope,
+            String testClass,
+            String argument,
+            String testMethod,
+            long cpuNanos,
+            long allocatedBytes,
+            boolean measured) {
+        Consumers consumers = consumersMap.get(scope);
+        Precondition.notNull(consumers, "scope is not ARGUMENT or TEST");
+
+        synchronized (consumers) {
+            if (!measured) {
+                consumers.unmeasuredCount++;
+                return;
+            }
+
+            consumers.measuredCount++;
+            consumers.cpuNanos += cpuNanos;
+            consumers.allocatedBytes += allocatedBytes;
+
+            Entry entry = new Entry(testClass, argument, testMethod, cpuNanos, allocatedBytes);
+            offer(consumers.cpuTop, entry, CPU_COMPARATOR);
+            offer(consumers.allocatedTop, entry, ALLOCATED_COMPARATOR);
+        }
+    }
+
+    /**
+     * Method to get the number of measured test arguments or test methods
+     *
+     * @param scope scope
+     * @return the number of measured test arguments or test methods
+     */
+    public long getMeasuredCount(ClassMetrics.Scope scope) {
+        Consumers consumers = consumersMap.get(scope);
+        synchronized (consumers) {
+            return consumers.measuredCount;
+        }
+    }
+
+    /**
+     * Method to get the number of test arguments or test methods that couldn't be measured
+     *
+     * @param scope scope
+     * @return the number of test arguments or test methods that couldn't be measured
+     */
+    public long getUnmeasuredCount(ClassMetrics.Scope scope) {
+        Consumers consumers = consumersMap.get(scope);
+        synchronized (consumers) {
+            return consumers.unmeasuredCount;
+        }
+    }
+
+    /**
+     * Method to get the top CPU time consumers
+     *
+     * @param scope scope
+     * @return a List of the top CPU time consumers, highest first
+     */
+    public List<Entry> getTopCpu(ClassMetrics.Scope scope) {
+        Consumers consumers = consumersMap.get(scope);
+        synchronized (consumers) {
+            return sort(consumers.cpuTop, CPU_COMPARATOR);
+        }
+    }
+
+    /**
+     * Method to get the top allocated bytes consumers
+     *
+     * @param scope scope
+     * @return a List of the top allocated bytes consumers, highest first
+     */
+    public List<Entry> getTopAllocated(ClassMetrics.Scope scope) {
+        Consumers consumers = consumersMap.get(scope);
+        synchronized (consumers) {
+            return sort(consumers.allocatedTop, ALLOCATED_COMPARATOR);
+        }
+    }
+
+    /**
+     * Method to create the report
+     *
+     * @return a List of report lines
+     */
+    public List<String> report() {
+        List<String> lines = new ArrayList<>();
+
+        for (Map.Entry<ClassMetrics.Scope, Consumers> mapEntry : consumersMap.entrySet()) {
+            ClassMetrics.Scope scope = mapEntry.getKey();
+            Consumers consumers = mapEntry.getValue();
+            String name = scope == ClassMetrics.Scope.ARGUMENT ? "test arguments" : "test methods";
+
+            synchronized (consumers) {
+                lines.add(format(
+                        "%s measured [%d] CPU time [%s] allocated [%s]",
+                        name,
+                        consumers.measuredCount,
+                        TimestampSupport.toHumanReadable(TimestampSupport.Format.SHORT, consumers.cpuNanos),
+                        toHumanReadableBytes(consumers.allocatedBytes)));
+
+                if (consumers.unmeasuredCount > 0) {
+                    lines.add(format(
+                            "%s not measured [%d] (ran on threads that don't report CPU time, such as virtual"
+                                    + " threads; use %s=platform to measure them)",
+                            name, consumers.unmeasuredCount, Constants.ENGINE_THREAD_TYPE));
+                }
+            }
+
+            List<Entry> entries = getTopCpu(scope);
+            if (!entries.isEmpty()) {
+                lines.add(format("top [%d] %s by CPU time", top, name));
+                for (Entry entry : entries) {
+                    lines.add(format(
+                            "  %s | %s | %s",
+                            TimestampSupport.toHumanReadable(TimestampSupport.Format.SHORT, entry.getCpuNanos()),
+                            toHumanReadableBytes(entry.getAllocatedBytes()),
+                            entry.getName()));
+                }
+            }
+
+            entries = getTopAllocated(scope);
+            if (!entries.isEmpty()) {
+                lines.add(format("top [%d] %s by allocated bytes", top, name));
+                for (Entry entry : entries) {
+                    lines.add(format(
+                            "  %s | %s | %s",
+                            toHumanReadableBytes(entry.getAllocatedBytes()),
+                            TimestampSupport.toHumanReadable(TimestampSupport.Format.SHORT, entry.getCpuNanos()),
+                            entry.getName()));
+                }
+            }
+        }
+
+        return lines;
+    }
+
+    /**
+     * Method to offer an entry to a bounded min-heap of top consumers
+     *
+     * @param priorityQueue priorityQueue
+     * @param entry entry
+     * @param comparator comparator
+     */
+    private void offer(PriorityQueue<Entry> priorityQueue, Entry entry, Comparator<Entry> comparator) {
+        if (priorityQueue.size() < top) {
+            priorityQueue.add(entry);
+        } else if (comparator.compare(entry, priorityQueue.peek()) > 0) {
+            priorityQueue.poll();
+            priorityQueue.add(entry);
+        }
+    }
+
+    /**
+     * Method to sort top consumers, highest first
+     *
+     * @param priorityQueue priorityQueue
+     * @param comparator comparator
+     * @return a sorted List of top consumers
+     */
+    private static List<Entry> sort(PriorityQueue<Entry> priorityQueue, Comparator<Entry> comparator) {
+        List<Entry> list = new ArrayList<>(priorityQueue);
+        list.sort(comparator.reversed());
+        return list;
+    }
+
+    /**
+     * Method to convert bytes into a human-readable size
+     *
+     * @param bytes bytes
+     * @return the human-readable size
+     */
+    static String toHumanReadableBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+
+        double value = bytes;
+        int unit = 0;
+        while (value >= 1024 && unit < BYTE_UNITS.length - 1) {
+            value /= 1024;
+            unit++;
+        }
+
+        return format(Locale.US, "%.1f %s", value, BYTE_UNITS[unit]);
+    }
+
+    /** Class to implement Consumers */
+    private static class Consumers {
+
+        private final PriorityQueue<Entry> cpuTop = new PriorityQueue<>(CPU_COMPARATOR);
+        private final PriorityQueue<Entry> allocatedTop = new PriorityQueue<>(ALLOCATED_COMPARATOR);
+        private long measuredCount;
+        private long unmeasuredCount;
+        private long cpuNanos;
+        private long allocatedBytes;
+    }
+
+    /** Class to implement Entry */
+    public static class Entry {
+
+        private final String testClass;
+        private final String argument;
+        private final String testMethod;
+        private final long cpuNanos;
+        private final long allocatedBytes;
+
+        /**
+         * Constructor
+         *
+         * @param testClass testClass
+         * @param argument argument
+         * @param testMethod testMethod
+         * @param cpuNanos cpuNanos
+         * @param allocatedBytes allocatedBytes
+         */
+        private Entry(String testClass, String argument, String testMethod, long cpuNanos, long allocatedBytes) {
+            this.testClass = testClass;
+            this.argument = argument;
+            this.testMethod = testMethod;
+            this.cpuNanos = cpuNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        /**
+         * Method to get the name
+         *
+         * @return the name (test class | argument | test method)
+         */
+        public String getName() {
+            return testMethod != null
+                    ? testClass + " | " + argument + " | " + testMethod
+                    : testClass + " | " + argument;
+        }
+
+        /**
+         * Method to get the CPU time
+         *
+         * @return the CPU time in nanoseconds
+         */
+        public long getCpuNanos() {
+            return cpuNanos;
+        }
+
+        /**
+         * Method to get the allocated bytes
+         *
+         * @return the allocated bytes
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+}
@@ -29,6 +29,7 @@ import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.discovery.ClassNameFilter;
 import org.junit.platform.engine.discovery.ClasspathRootSelector;
 import org.junit.platform.engine.discovery.PackageNameFilter;
+import org.verifyica.engine.classpath.ClasspathIndex;
 import org.verifyica.engine.common.Stopwatch;
 import org.verifyica.engine.logger.Logger;
 import org.verifyica.engine.logger.LoggerFactory;
@@ -41,9 +42,15 @@ public class ClasspathRootSelectorResolver {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ClasspathRootSelectorResolver.class);
 
-    /** Constructor */
-    public ClasspathRootSelectorResolver() {
-        // INTENTIONALLY BLANK
+    private final ClasspathIndex classpathIndex;
+
+    /**
+     * Constructor
+     *
+     * @param classpathIndex classpathIndex
+     */
+    public ClasspathRootSelectorResolver(ClasspathIndex classpathIndex) {
+        this.classpathIndex = classpathIndex;
     }
 
     /**
@@ -64,8 +71,8 @@ public class ClasspathRootSelectorResolver {
 
             LOGGER.trace("classpathRoot [%s]", classpathRootSelector.getClasspathRoot());
 
-            List<Class<?>> testClasses = ClassSupport.findAllClasses(
-                    classpathRootSelector.getClasspathRoot(), ResolverPredicates.TEST_CLASS);
+            List<Class<?>> testClasses =
+                    classpathIndex.findClasses(classpathRootSelector.getClasspathRoot(), ResolverPredicates.TEST_CLASS);
 
             List<ClassNameFilter> classNameFilters = engineDiscoveryRequest.getFiltersByType(ClassNameFilter.class);
 
@@ -30,6 +30,7 @@ public class ConcreteClassDefinition implements ClassDefinition {
     private final Class<?> testClass;
     private final Set<MethodDefinition> testMethodDefinitions;
     private final List<Argument<?>> arguments;
+    private final List<Integer> argumentIndices;
     private final Set<String> tags;
     private final int argumentParallelism;
 
@@ -43,6 +44,7 @@ public class ConcreteClassDefinition implements ClassDefinition {
      * @param tags tags
      * @param testMethodDefinitions testMethodDefinitions
      * @param arguments arguments
+     * @param argumentIndices argumentIndices
      * @param argumentParallelism testArgumentParallelism
      */
     public ConcreteClassDefinition(
@@ -51,12 +53,14 @@ public class ConcreteClassDefinition implements ClassDefinition {
             Set<String> tags,
             List<MethodDefinition> testMethodDefinitions,
             List<Argument<?>> arguments,
+            List<Integer> argumentIndices,
             int argumentParallelism) {
         this.testClass = testClass;
         this.displayName = displayName;
         this.tags = tags;
         this.testMethodDefinitions = new LinkedHashSet<>(testMethodDefinitions);
         this.arguments = arguments;
+        this.argumentIndices = argumentIndices;
         this.argumentParallelism = argumentParallelism;
     }
 
@@ -92,6 +96,11 @@ public class ConcreteClassDefinition implements ClassDefinition {
         return arguments;
     }
 
+    @Override
+    public List<Integer> getArgumentIndices() {
+        return argumentIndices;
+    }
+
     @Override
     public int getArgumentParallelism() {
         return argumentParallelism;
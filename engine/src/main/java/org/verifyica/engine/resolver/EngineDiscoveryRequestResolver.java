@@ -25,10 +25,18 @@ import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -48,9 +56,13 @@ import org.junit.platform.engine.discovery.PackageSelector;
 import org.junit.platform.engine.discovery.UniqueIdSelector;
 import org.junit.platform.engine.discovery.UriSelector;
 import org.verifyica.api.Argument;
+import org.verifyica.api.ArgumentSource;
 import org.verifyica.api.Verifyica;
 import org.verifyica.engine.api.ClassDefinition;
 import org.verifyica.engine.api.MethodDefinition;
+import org.verifyica.engine.classpath.ClasspathIndex;
+import org.verifyica.engine.common.DirectExecutorService;
+import org.verifyica.engine.common.PlatformThreadFactory;
 import org.verifyica.engine.common.Precondition;
 import org.verifyica.engine.common.Stopwatch;
 import org.verifyica.engine.descriptor.ArgumentTestDescriptor;
@@ -58,6 +70,7 @@ import org.verifyica.engine.descriptor.ClassTestDescriptor;
 import org.verifyica.engine.descriptor.TestMethodTestDescriptor;
 import org.verifyica.engine.exception.EngineException;
 import org.verifyica.engine.exception.TestClassDefinitionException;
+import org.verifyica.engine.filter.ArgumentFilter;
 import org.verifyica.engine.filter.ClassDefinitionFilter;
 import org.verifyica.engine.logger.Logger;
 import org.verifyica.engine.logger.LoggerFactory;
@@ -89,11 +102,20 @@ public class EngineDiscoveryRequestResolver {
         DISCOVERY_SELECTORS_CLASSES.add(UniqueIdSelector.class);
     }
 
+    private final ClasspathIndex classpathIndex;
+    private final int parallelism;
+
     /**
      * Constructor
+     *
+     * @param classpathIndex classpathIndex
+     * @param parallelism the maximum number of argument suppliers invoked concurrently
      */
-    public EngineDiscoveryRequestResolver() {
-        // INTENTIONALLY BLANK
+    public EngineDiscoveryRequestResolver(ClasspathIndex classpathIndex, int parallelism) {
+        Precondition.isTrue(parallelism > 0, "parallelism is less than 1");
+
+        this.classpathIndex = classpathIndex;
+        this.parallelism = parallelism;
     }
 
     /**
@@ -108,7 +130,7 @@ public class EngineDiscoveryRequestResolver {
         Stopwatch stopwatch = new Stopwatch();
 
         Map<Class<?>, Set<Method>> testClassMethodSet = new HashMap<>();
-        Map<Class<?>, List<Argument<?>>> testClassArgumentMap = new HashMap<>();
+        Map<Class<?>, Map<Integer, Argument<?>>> testClassArgumentMap = new HashMap<>();
         Map<Class<?>, Set<Integer>> testClassArgumentIndexMap = new HashMap<>();
 
         try {
@@ -126,21 +148,28 @@ public class EngineDiscoveryRequestResolver {
                                 : "null"));
             }
 
-            new ClasspathRootSelectorResolver().resolve(engineDiscoveryRequest, testClassMethodSet);
-            new PackageSelectorResolver().resolve(engineDiscoveryRequest, testClassMethodSet);
+            new ClasspathRootSelectorResolver(classpathIndex).resolve(engineDiscoveryRequest, testClassMethodSet);
+            new PackageSelectorResolver(classpathIndex).resolve(engineDiscoveryRequest, testClassMethodSet);
             new ClassSelectorResolver().resolve(engineDiscoveryRequest, testClassMethodSet);
             new MethodSelectorResolver().resolve(engineDiscoveryRequest, testClassMethodSet);
             new UniqueIdSelectorResolver()
                     .resolve(engineDiscoveryRequest, testClassMethodSet, testClassArgumentIndexMap);
 
-            resolveTestArguments(testClassMethodSet, testClassArgumentMap, testClassArgumentIndexMap);
+            testClassMethodSet.keySet().forEach(EngineDiscoveryRequestResolver::validateSynchronousMethods);
+
+            // Class and method filters are applied before any argument supplier is invoked
+            ClassDefinitionFilter classDefinitionFilter = ClassDefinitionFilter.create();
+            classDefinitionFilter.filter(testClassMethodSet);
+
+            resolveTestArguments(
+                    testClassMethodSet, testClassArgumentMap, testClassArgumentIndexMap, classDefinitionFilter);
 
             List<ClassDefinition> classDefinitions = new ArrayList<>();
 
             Set<Class<?>> orderedKeySet = OrderSupport.orderClasses(new LinkedHashSet<>(testClassMethodSet.keySet()));
 
             orderedKeySet.forEach(testClass -> {
-                List<Argument<?>> testArguments = testClassArgumentMap.get(testClass);
+                Map<Integer, Argument<?>> testArguments = testClassArgumentMap.get(testClass);
 
                 Set<Method> testMethods = OrderSupport.orderMethods(testClassMethodSet.get(testClass));
 
@@ -184,12 +213,12 @@ public class EngineDiscoveryRequestResolver {
                         testClassDisplayName,
                         testClassTags,
                         testMethodDefinitions,
-                        testArguments,
+                        new ArrayList<>(testArguments.values()),
+                        new ArrayList<>(testArguments.keySet()),
                         testArgumentParallelism));
             });
 
             pruneClassDefinitions(classDefinitions);
-            ClassDefinitionFilter.filter(classDefinitions);
             buildEngineDescriptor(classDefinitions, testDescriptor);
             prunedDisabledTestMethods(testDescriptor);
         } catch (EngineException e) {
@@ -207,32 +236,59 @@ public class EngineDiscoveryRequestResolver {
     /**
      * Method to resolve test class test arguments
      *
+     * <p>Argument suppliers of different test classes are invoked concurrently
+     *
      * @param testClassMethodSet testClassMethodSet
      * @param testClassArgumentMap testClassArgumentMap
+     * @param argumentIndexMap argumentIndexMap
+     * @param classDefinitionFilter classDefinitionFilter
      * @throws Throwable Throwable
      */
-    private static void resolveTestArguments(
+    private void resolveTestArguments(
             Map<Class<?>, Set<Method>> testClassMethodSet,
-            Map<Class<?>, List<Argument<?>>> testClassArgumentMap,
-            Map<Class<?>, Set<Integer>> argumentIndexMap)
+            Map<Class<?>, Map<Integer, Argument<?>>> testClassArgumentMap,
+            Map<Class<?>, Set<Integer>> argumentIndexMap,
+            ClassDefinitionFilter classDefinitionFilter)
             throws Throwable {
         LOGGER.trace("resolveTestArguments()");
 
         Stopwatch stopwatch = new Stopwatch();
 
-        for (Class<?> testClass : testClassMethodSet.keySet()) {
-            List<Argument<?>> testArguments = getTestArguments(testClass);
-            Set<Integer> testArgumentIndices = argumentIndexMap.get(testClass);
-            if (testArgumentIndices != null) {
-                List<Argument<?>> specificTestArguments = new ArrayList<>();
-                for (int i = 0; i < testArguments.size(); i++) {
-                    if (testArgumentIndices.contains(i)) {
-                        specificTestArguments.add(testArguments.get(i));
+        // Ordered, so the reported failure is deterministic
+        List<Class<?>> testClasses = OrderSupport.orderClasses(new ArrayList<>(testClassMethodSet.keySet()));
+
+        Map<Class<?>, Future<Map<Integer, Argument<?>>>> futures = new LinkedHashMap<>();
+
+        int threads = Math.min(parallelism, testClasses.size());
+
+        ExecutorService executorService = threads > 1
+                ? Executors.newFixedThreadPool(threads, new PlatformThreadFactory())
+                : new DirectExecutorService();
+
+        try {
+            for (Class<?> testClass : testClasses) {
+                Set<Integer> testArgumentIndices = argumentIndexMap.get(testClass);
+                ArgumentFilter argumentFilter = classDefinitionFilter.getArgumentFilter(testClass);
+
+                futures.put(testClass, executorService.submit(() -> {
+                    try {
+                        return getTestArguments(testClass, testArgumentIndices, argumentFilter);
+                    } catch (Exception | Error e) {
+                        throw e;
+                    } catch (Throwable t) {
+                        throw new EngineException(t);
                     }
-                }
-                testClassArgumentMap.put(testClass, specificTestArguments);
-            } else {
-                testClassArgumentMap.put(testClass, testArguments);
+                }));
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        for (Map.Entry<Class<?>, Future<Map<Integer, Argument<?>>>> entry : futures.entrySet()) {
+            try {
+                testClassArgumentMap.put(entry.getKey(), entry.getValue().get());
+            } catch (ExecutionException e) {
+                throw e.getCause();
             }
         }
 
@@ -244,38 +300,44 @@ public class EngineDiscoveryRequestResolver {
     /**
      * Method to get test class test arguments
      *
+     * <p>Test arguments are filtered as they are produced by the argument supplier, so only
+     * selected test arguments are retained. For arrays, random access Lists, and {@link
+     * ArgumentSource}s, only selected test arguments are requested
+     *
      * @param testClass testClass
-     * @return a List of arguments
+     * @param testArgumentIndices the selected test argument indices, or null to select all test
+     *     arguments
+     * @param argumentFilter argumentFilter, or null if no argument filters apply
+     * @return a Map of test arguments, keyed by the test argument index
      * @throws Throwable Throwable
      */
-    private static List<Argument<?>> getTestArguments(Class<?> testClass) throws Throwable {
+    private static Map<Integer, Argument<?>> getTestArguments(
+            Class<?> testClass, Set<Integer> testArgumentIndices, ArgumentFilter argumentFilter) throws Throwable {
         LOGGER.trace("getTestArguments() testClass [%s]", testClass.getName());
 
         Stopwatch stopwatch = new Stopwatch();
 
-        List<Argument<?>> testArguments = new ArrayList<>();
+        Map<Integer, Argument<?>> testArguments = new LinkedHashMap<>();
+
+        // Iterated test arguments after the last selected index are not produced
+        int maximumIndex = testArgumentIndices != null
+                ? testArgumentIndices.stream().mapToInt(Integer::intValue).max().orElse(-1)
+                : Integer.MAX_VALUE;
 
         Object object = getArgumentSupplierMethod(testClass).invoke(null, (Object[]) null);
         if (object == null) {
             return testArguments;
         } else if (object.getClass().isArray()) {
             Object[] objects = (Object[]) object;
-            if (objects.length > 0) {
-                int index = 0;
-                for (Object o : objects) {
-                    if (o instanceof Argument<?>) {
-                        testArguments.add((Argument<?>) o);
-                    } else {
-                        testArguments.add(Argument.of("argument[" + index + "]", o));
-                    }
-                    index++;
-                }
-            } else {
-                return testArguments;
-            }
-        } else if (object instanceof Argument<?>) {
-            testArguments.add((Argument<?>) object);
-            return testArguments;
+            addTestArguments(
+                    testArguments, objects.length, index -> objects[index], testArgumentIndices, argumentFilter);
+        } else if (object instanceof ArgumentSource) {
+            ArgumentSource<?> argumentSource = (ArgumentSource<?>) object;
+            addTestArguments(
+                    testArguments, argumentSource.size(), argumentSource::get, testArgumentIndices, argumentFilter);
+        } else if (object instanceof List && object instanceof RandomAccess) {
+            List<?> list = (List<?>) object;
+            addTestArguments(testArguments, list.size(), list::get, testArgumentIndices, argumentFilter);
         } else if (object instanceof Stream
                 || object instanceof Iterable
                 || object instanceof Iterator
@@ -293,18 +355,13 @@ public class EngineDiscoveryRequestResolver {
                 iterator = iterable.iterator();
             }
 
-            long index = 0;
-            while (iterator.hasNext()) {
-                Object o = iterator.next();
-                if (o instanceof Argument<?>) {
-                    testArguments.add((Argument<?>) o);
-                } else {
-                    testArguments.add(Argument.of("argument[" + index + "]", o));
-                }
+            int index = 0;
+            while (index <= maximumIndex && iterator.hasNext()) {
+                addTestArgument(testArguments, index, iterator.next(), testArgumentIndices, argumentFilter);
                 index++;
             }
         } else {
-            testArguments.add(Argument.of("argument[0]", object));
+            addTestArgument(testArguments, 0, object, testArgumentIndices, argumentFilter);
         }
 
         LOGGER.trace(
@@ -314,6 +371,65 @@ public class EngineDiscoveryRequestResolver {
         return testArguments;
     }
 
+    /**
+     * Method to add test arguments from an index addressable source
+     *
+     * <p>If specific test arguments are selected, only the selected indices are requested
+     *
+     * @param testArguments testArguments
+     * @param size size
+     * @param function function to get the test argument (or value) for an index
+     * @param testArgumentIndices testArgumentIndices
+     * @param argumentFilter argumentFilter
+     */
+    private static void addTestArguments(
+            Map<Integer, Argument<?>> testArguments,
+            int size,
+            IntFunction<?> function,
+            Set<Integer> testArgumentIndices,
+            ArgumentFilter argumentFilter) {
+        if (testArgumentIndices != null) {
+            for (int index : new TreeSet<>(testArgumentIndices)) {
+                if (index >= 0 && index < size) {
+                    addTestArgument(testArguments, index, function.apply(index), testArgumentIndices, argumentFilter);
+                }
+            }
+        } else {
+            for (int index = 0; index < size; index++) {
+                addTestArgument(testArguments, index, function.apply(index), null, argumentFilter);
+            }
+        }
+    }
+
+    /**
+     * Method to add a test argument if it's selected and not filtered
+     *
+     * @param testArguments testArguments
+     * @param index index
+     * @param object object
+     * @param testArgumentIndices testArgumentIndices
+     * @param argumentFilter argumentFilter
+     */
+    private static void addTestArgument(
+            Map<Integer, Argument<?>> testArguments,
+            int index,
+            Object object,
+            Set<Integer> testArgumentIndices,
+            ArgumentFilter argumentFilter) {
+        if (testArgumentIndices != null && !testArgumentIndices.contains(index)) {
+            return;
+        }
+
+        // The default name is only created if requested
+        Argument<?> argument = object instanceof Argument<?>
+                ? (Argument<?>) object
+                : Argument.lazy(() -> "argument[" + index + "]", object);
+
+        if (argumentFilter == null || argumentFilter.matches(index, argument)) {
+            testArguments.put(index, argument);
+        }
+    }
+
     /**
      * Method to get a class argument supplier method
      *
@@ -400,20 +516,37 @@ public class EngineDiscoveryRequestResolver {
 
             testDescriptor.addChild(classTestDescriptor);
 
-            int testArgumentIndex = 0;
-            for (Argument<?> testArgument : classDefinition.getArguments()) {
-                UniqueId argumentTestDescriptorUniqueId =
-                        classTestDescriptorUniqueId.append("argument", String.valueOf(testArgumentIndex));
+            // Lifecycle methods are resolved once per class and shared by all argument and test method test descriptors
+
+            List<Method> beforeAllMethods = ClassSupport.findMethods(
+                    testClass, ResolverPredicates.BEFORE_ALL_METHOD, HierarchyTraversalMode.TOP_DOWN);
+
+            validateSingleMethodPerClass(Verifyica.BeforeAll.class, beforeAllMethods);
+
+            List<Method> afterAllMethods = ClassSupport.findMethods(
+                    testClass, ResolverPredicates.AFTER_ALL_METHOD, HierarchyTraversalMode.BOTTOM_UP);
+
+            validateSingleMethodPerClass(Verifyica.AfterAll.class, afterAllMethods);
 
-                List<Method> beforeAllMethods = ClassSupport.findMethods(
-                        testClass, ResolverPredicates.BEFORE_ALL_METHOD, HierarchyTraversalMode.TOP_DOWN);
+            List<Method> beforeEachMethods = ClassSupport.findMethods(
+                    testClass, ResolverPredicates.BEFORE_EACH_METHOD, HierarchyTraversalMode.TOP_DOWN);
 
-                validateSingleMethodPerClass(Verifyica.BeforeAll.class, beforeAllMethods);
+            validateSingleMethodPerClass(Verifyica.BeforeEach.class, beforeEachMethods);
 
-                List<Method> afterAllMethods = ClassSupport.findMethods(
-                        testClass, ResolverPredicates.AFTER_ALL_METHOD, HierarchyTraversalMode.BOTTOM_UP);
+            List<Method> afterEachMethods = ClassSupport.findMethods(
+                    testClass, ResolverPredicates.AFTER_EACH_METHOD, HierarchyTraversalMode.BOTTOM_UP);
 
-                validateSingleMethodPerClass(Verifyica.AfterAll.class, afterAllMethods);
+            validateSingleMethodPerClass(Verifyica.AfterEach.class, afterEachMethods);
+
+            List<Argument<?>> testArguments = classDefinition.getArguments();
+            List<Integer> testArgumentIndices = classDefinition.getArgumentIndices();
+
+            for (int i = 0; i < testArguments.size(); i++) {
+                Argument<?> testArgument = testArguments.get(i);
+                int testArgumentIndex = testArgumentIndices.get(i);
+
+                UniqueId argumentTestDescriptorUniqueId =
+                        classTestDescriptorUniqueId.append("argument", String.valueOf(testArgumentIndex));
 
                 ArgumentTestDescriptor argumentTestDescriptor = new ArgumentTestDescriptor(
                         argumentTestDescriptorUniqueId,
@@ -447,16 +580,6 @@ public class EngineDiscoveryRequestResolver {
                     UniqueId testMethodDescriptorUniqueId =
                             argumentTestDescriptorUniqueId.append("method", testMethod.getName());
 
-                    List<Method> beforeEachMethods = ClassSupport.findMethods(
-                            testClass, ResolverPredicates.BEFORE_EACH_METHOD, HierarchyTraversalMode.TOP_DOWN);
-
-                    validateSingleMethodPerClass(Verifyica.BeforeEach.class, beforeEachMethods);
-
-                    List<Method> afterEachMethods = ClassSupport.findMethods(
-                            testClass, ResolverPredicates.AFTER_EACH_METHOD, HierarchyTraversalMode.BOTTOM_UP);
-
-                    validateSingleMethodPerClass(Verifyica.AfterEach.class, beforeEachMethods);
-
                     TestMethodTestDescriptor testMethodTestDescriptor = new TestMethodTestDescriptor(
                             testMethodDescriptorUniqueId,
                             testMethodDefinition.getDisplayName(),
@@ -467,8 +590,6 @@ public class EngineDiscoveryRequestResolver {
 
                     argumentTestDescriptor.addChild(testMethodTestDescriptor);
                 }
-
-                testArgumentIndex++;
             }
         }
 
@@ -503,6 +624,27 @@ public class EngineDiscoveryRequestResolver {
         }
     }
 
+    /**
+     * Method to validate a test class doesn't declare test or lifecycle methods that return a
+     * CompletionStage or Future
+     *
+     * @param testClass testClass
+     */
+    private static void validateSynchronousMethods(Class<?> testClass) {
+        List<Method> asynchronousMethods = ClassSupport.findMethods(
+                testClass, ResolverPredicates.ASYNCHRONOUS_METHOD, HierarchyTraversalMode.TOP_DOWN);
+
+        if (!asynchronousMethods.isEmpty()) {
+            Method method = asynchronousMethods.get(0);
+            throw new TestClassDefinitionException(format(
+                    "Test class [%s] method [%s] returns [%s], asynchronous methods are not supported,"
+                            + " methods must return void",
+                    testClass.getName(),
+                    method.getName(),
+                    method.getReturnType().getName()));
+        }
+    }
+
     /**
      * Method to get test class parallelism
      *
@@ -24,6 +24,7 @@ import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.discovery.PackageSelector;
+import org.verifyica.engine.classpath.ClasspathIndex;
 import org.verifyica.engine.common.Stopwatch;
 import org.verifyica.engine.logger.Logger;
 import org.verifyica.engine.logger.LoggerFactory;
@@ -36,9 +37,15 @@ public class PackageSelectorResolver {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PackageSelectorResolver.class);
 
-    /** Constructor */
-    public PackageSelectorResolver() {
-        // INTENTIONALLY BLANK
+    private final ClasspathIndex classpathIndex;
+
+    /**
+     * Constructor
+     *
+     * @param classpathIndex classpathIndex
+     */
+    public PackageSelectorResolver(ClasspathIndex classpathIndex) {
+        this.classpathIndex = classpathIndex;
     }
 
     /**
@@ -61,7 +68,7 @@ public class PackageSelectorResolver {
 
             LOGGER.trace("packageName [%s]", packageName);
 
-            List<Class<?>> testClasses = ClassSupport.findAllClasses(packageName, ResolverPredicates.TEST_CLASS);
+            List<Class<?>> testClasses = classpathIndex.findClasses(packageName, ResolverPredicates.TEST_CLASS);
 
             testClasses.forEach(testClass -> classMethodSet
                     .computeIfAbsent(testClass, set -> new LinkedHashSet<>())
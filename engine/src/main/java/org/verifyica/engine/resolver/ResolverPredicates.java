@@ -18,6 +18,8 @@ package org.verifyica.engine.resolver;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
 import java.util.function.Predicate;
 import org.verifyica.api.Verifyica;
 import org.verifyica.engine.support.ClassSupport;
@@ -46,6 +48,21 @@ public class ResolverPredicates {
                 && method.isAnnotationPresent(Verifyica.ArgumentSupplier.class);
     };
 
+    /**
+     * Predicate to filter test and lifecycle methods that return a CompletionStage or Future
+     *
+     * <p>Asynchronous methods are not supported. They are filtered so they can be rejected
+     */
+    public static final Predicate<Method> ASYNCHRONOUS_METHOD = method -> {
+        Class<?> returnType = method.getReturnType();
+        return (CompletionStage.class.isAssignableFrom(returnType) || Future.class.isAssignableFrom(returnType))
+                && (method.isAnnotationPresent(Verifyica.Test.class)
+                        || method.isAnnotationPresent(Verifyica.BeforeAll.class)
+                        || method.isAnnotationPresent(Verifyica.AfterAll.class)
+                        || method.isAnnotationPresent(Verifyica.BeforeEach.class)
+                        || method.isAnnotationPresent(Verifyica.AfterEach.class));
+    };
+
     /** Predicate to filter test methods */
     public static final Predicate<Method> TEST_METHOD = method -> {
         int modifiers = method.getModifiers();
@@ -64,7 +81,8 @@ public class ResolverPredicates {
                 && hasDefaultConstructor(clazz)
                 && !ClassSupport.findMethods(clazz, ARGUMENT_SUPPLIER_METHOD, HierarchyTraversalMode.BOTTOM_UP)
                         .isEmpty()
-                && !ClassSupport.findMethods(clazz, TEST_METHOD, HierarchyTraversalMode.TOP_DOWN)
+                && !ClassSupport.findMethods(
+                                clazz, TEST_METHOD.or(ASYNCHRONOUS_METHOD), HierarchyTraversalMode.TOP_DOWN)
                         .isEmpty();
     };
 
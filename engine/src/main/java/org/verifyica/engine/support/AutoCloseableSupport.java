@@ -0,0 +1,437 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.support;
+
+import static java.lang.String.format;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.verifyica.api.Context;
+import org.verifyica.api.ExtendedMap;
+import org.verifyica.engine.common.Precondition;
+import org.verifyica.engine.common.Stopwatch;
+import org.verifyica.engine.configuration.ConfigurationSnapshot;
+import org.verifyica.engine.configuration.Constants;
+import org.verifyica.engine.context.AbstractContext;
+import org.verifyica.engine.logger.Logger;
+import org.verifyica.engine.logger.LoggerFactory;
+
+/**
+ * Class to implement AutoCloseableSupport
+ *
+ * <p>Closes the AutoCloseable values of a context map in waves. A value is closed after the values
+ * declared with {@link ExtendedMap#closeBefore(Object, Object[])}. Values in the same wave are
+ * independent, so they are closed concurrently, using an ExecutorService shared by the engine, when
+ * parallelism is greater than 1.
+ */
+public class AutoCloseableSupport {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AutoCloseableSupport.class);
+
+    private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /** Constructor */
+    private AutoCloseableSupport() {
+        // INTENTIONALLY BLANK
+    }
+
+    /**
+     * Method to create the ExecutorService used to close values concurrently. Threads are created
+     * when required, and are daemon threads, so a close that times out doesn't keep the JVM running
+     *
+     * @return an ExecutorService
+     */
+    public static ExecutorService createExecutorService() {
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "verifyica-cleanup");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Method to close the AutoCloseable values of a context map, using the configured cleanup
+     * parallelism and timeout
+     *
+     * @param context context
+     * @param executorService executorService used to close values concurrently
+     * @return a List of Throwables thrown closing values, in close order
+     */
+    public static List<Throwable> closeAll(Context context, ExecutorService executorService) {
+        Precondition.notNull(context, "context is null");
+        Precondition.notNull(executorService, "executorService is null");
+
+        ConfigurationSnapshot configurationSnapshot = ConfigurationSnapshot.of(context.getConfiguration());
+
+        ExtendedMap<String, Object> map;
+        Map<String, AutoCloseable> autoCloseables;
+
+        if (context instanceof AbstractContext) {
+            AbstractContext abstractContext = (AbstractContext) context;
+            map = abstractContext.getMapIfCreated();
+            autoCloseables = map != null ? getAutoCloseables(map) : new LinkedHashMap<>();
+            abstractContext.collectAutoCloseables(autoCloseables);
+        } else {
+            map = context.getMap();
+            autoCloseables = getAutoCloseables(map);
+        }
+
+        return closeAll(
+                map,
+                autoCloseables,
+                configurationSnapshot.getInt(Constants.ENGINE_CLEANUP_PARALLELISM, 1),
+                configurationSnapshot.getLong(Constants.ENGINE_CLEANUP_TIMEOUT, 0),
+                executorService);
+    }
+
+    /**
+     * Method to close the AutoCloseable values of a map
+     *
+     * @param map map
+     * @param parallelism the maximum number of values closed concurrently
+     * @param timeoutMillis the maximum time to close a value, or 0 for no timeout
+     * @param executorService executorService used to close values concurrently
+     * @return a List of Throwables thrown closing values, in close order
+     */
+    public static List<Throwable> closeAll(
+            ExtendedMap<String, Object> map, int parallelism, long timeoutMillis, ExecutorService executorService) {
+        Precondition.notNull(map, "map is null");
+        Precondition.notNull(executorService, "executorService is null");
+
+        return closeAll(map, getAutoCloseables(map), parallelism, timeoutMillis, executorService);
+    }
+
+    /**
+     * Method to get the AutoCloseable values of a map
+     *
+     * @param map map
+     * @return a Map of AutoCloseable values, in map order
+     */
+    private static Map<String, AutoCloseable> getAutoCloseables(ExtendedMap<String, Object> map) {
+        Map<String, AutoCloseable> autoCloseables = new LinkedHashMap<>();
+
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            if (entry.getValue() instanceof AutoCloseable) {
+                autoCloseables.put(entry.getKey(), (AutoCloseable) entry.getValue());
+            }
+        }
+
+        return autoCloseables;
+    }
+
+    /**
+     * Method to close AutoCloseable values
+     *
+     * @param map map used to resolve the close order, may be null
+     * @param autoCloseables autoCloseables
+     * @param parallelism the maximum number of values closed concurrently
+     * @param timeoutMillis the maximum time to close a value, or 0 for no timeout
+     * @param executorService executorService used to close values concurrently
+     * @return a List of Throwables thrown closing values, in close order
+     */
+    private static List<Throwable> closeAll(
+            ExtendedMap<String, Object> map,
+            Map<String, AutoCloseable> autoCloseables,
+            int parallelism,
+            long timeoutMillis,
+            ExecutorService executorService) {
+        List<Throwable> throwables = new ArrayList<>();
+
+        if (autoCloseables.isEmpty()) {
+            return throwables;
+        }
+
+        Stopwatch stopwatch = new Stopwatch();
+
+        List<List<String>> waves = getWaves(map, autoCloseables);
+
+        if (parallelism <= 1 && timeoutMillis <= 0) {
+            for (List<String> wave : waves) {
+                for (String key : wave) {
+                    Throwable throwable = close(key, autoCloseables.get(key));
+                    if (throwable != null) {
+                        throwables.add(throwable);
+                    }
+                }
+            }
+        } else {
+            for (List<String> wave : waves) {
+                List<CloseTask> closeTasks = new ArrayList<>(wave.size());
+                Deque<CloseTask> pendingCloseTasks = new ArrayDeque<>(wave.size());
+
+                for (String key : wave) {
+                    CloseTask closeTask =
+                            new CloseTask(key, autoCloseables.get(key), pendingCloseTasks, executorService);
+                    closeTasks.add(closeTask);
+                    pendingCloseTasks.add(closeTask);
+                }
+
+                // At most parallelism values are closed at a time, each finished close starts the next
+                for (int i = 0; i < Math.max(1, parallelism); i++) {
+                    CloseTask.submitNext(pendingCloseTasks, executorService);
+                }
+
+                for (CloseTask closeTask : closeTasks) {
+                    Throwable throwable = closeTask.await(TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+                    if (throwable != null) {
+                        throwables.add(throwable);
+                    }
+                }
+            }
+        }
+
+        LOGGER.debug(
+                "closeAll() closed [%d] AutoCloseables in [%d] waves parallelism [%d] elapsedTime [%d] ms",
+                autoCloseables.size(),
+                waves.size(),
+                parallelism,
+                stopwatch.elapsedTime().toMillis());
+
+        return throwables;
+    }
+
+    /**
+     * Method to group keys into waves, where each key is in a later wave than the keys closed before it
+     *
+     * @param map map
+     * @param autoCloseables autoCloseables
+     * @return a List of waves
+     */
+    private static List<List<String>> getWaves(
+            ExtendedMap<String, Object> map, Map<String, AutoCloseable> autoCloseables) {
+        Map<String, Integer> levels = new LinkedHashMap<>();
+
+        for (String key : autoCloseables.keySet()) {
+            getLevel(key, map, autoCloseables, levels, new HashSet<>());
+        }
+
+        List<List<String>> waves = new ArrayList<>();
+
+        for (String key : autoCloseables.keySet()) {
+            int level = levels.get(key);
+            while (waves.size() <= level) {
+                waves.add(new ArrayList<>());
+            }
+            waves.get(level).add(key);
+        }
+
+        return waves;
+    }
+
+    /**
+     * Method to get the wave of a key
+     *
+     * @param key key
+     * @param map map
+     * @param autoCloseables autoCloseables
+     * @param levels levels
+     * @param visiting keys being resolved, to ignore cyclic declarations
+     * @return the wave of the key
+     */
+    private static int getLevel(
+            String key,
+            ExtendedMap<String, Object> map,
+            Map<String, AutoCloseable> autoCloseables,
+            Map<String, Integer> levels,
+            Set<String> visiting) {
+        Integer level = levels.get(key);
+        if (level != null) {
+            return level;
+        }
+
+        if (!visiting.add(key)) {
+            LOGGER.trace("cyclic close order for key [%s] ignored", key);
+            return -1;
+        }
+
+        int result = 0;
+
+        Set<String> closedBeforeKeys = map != null ? map.getClosedBeforeKeys(key) : Collections.emptySet();
+
+        for (String closedBeforeKey : closedBeforeKeys) {
+            if (autoCloseables.containsKey(closedBeforeKey)) {
+                result = Math.max(result, getLevel(closedBeforeKey, map, autoCloseables, levels, visiting) + 1);
+            }
+        }
+
+        visiting.remove(key);
+        levels.put(key, result);
+
+        return result;
+    }
+
+    /**
+     * Method to close an AutoCloseable
+     *
+     * @param key key
+     * @param autoCloseable autoCloseable
+     * @return the Throwable thrown closing the AutoCloseable, or null
+     */
+    private static Throwable close(String key, AutoCloseable autoCloseable) {
+        Stopwatch stopwatch = new Stopwatch();
+
+        try {
+            autoCloseable.close();
+            return null;
+        } catch (Throwable t) {
+            return t;
+        } finally {
+            LOGGER.trace(
+                    "close() key [%s] elapsedTime [%d] ms",
+                    key, stopwatch.elapsedTime().toMillis());
+        }
+    }
+
+    /** Class to implement CloseTask */
+    private static class CloseTask {
+
+        private final String key;
+        private final AutoCloseable autoCloseable;
+        private final Deque<CloseTask> pendingCloseTasks;
+        private final ExecutorService executorService;
+        private final AtomicBoolean released;
+        private final CountDownLatch submitted;
+        private volatile Future<?> future;
+        private volatile boolean started;
+        private volatile long startNanos;
+        private volatile Throwable throwable;
+
+        /**
+         * Constructor
+         *
+         * @param key key
+         * @param autoCloseable autoCloseable
+         * @param pendingCloseTasks the close tasks of the wave waiting to be submitted
+         * @param executorService executorService
+         */
+        private CloseTask(
+                String key,
+                AutoCloseable autoCloseable,
+                Deque<CloseTask> pendingCloseTasks,
+                ExecutorService executorService) {
+            this.key = key;
+            this.autoCloseable = autoCloseable;
+            this.pendingCloseTasks = pendingCloseTasks;
+            this.executorService = executorService;
+            this.released = new AtomicBoolean();
+            this.submitted = new CountDownLatch(1);
+        }
+
+        /**
+         * Method to submit the next pending close task of a wave
+         *
+         * @param pendingCloseTasks pendingCloseTasks
+         * @param executorService executorService
+         */
+        private static void submitNext(Deque<CloseTask> pendingCloseTasks, ExecutorService executorService) {
+            CloseTask closeTask;
+
+            synchronized (pendingCloseTasks) {
+                closeTask = pendingCloseTasks.poll();
+            }
+
+            if (closeTask != null) {
+                closeTask.future = executorService.submit(closeTask::run);
+                closeTask.submitted.countDown();
+            }
+        }
+
+        /** Method to close the AutoCloseable */
+        private void run() {
+            startNanos = System.nanoTime();
+            started = true;
+
+            try {
+                throwable = close(key, autoCloseable);
+            } finally {
+                release();
+            }
+        }
+
+        /**
+         * Method to release the close task's slot, submitting the next pending close task, once
+         */
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                submitNext(pendingCloseTasks, executorService);
+            }
+        }
+
+        /**
+         * Method to wait for the close to complete, timing out relative to when the close started
+         *
+         * @param timeoutNanos timeoutNanos, or 0 for no timeout
+         * @return the Throwable thrown closing the AutoCloseable, a TimeoutException, or null
+         */
+        private Throwable await(long timeoutNanos) {
+            try {
+                // Submitted when an earlier close task of the wave completes
+                submitted.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return e;
+            }
+
+            while (true) {
+                try {
+                    if (timeoutNanos <= 0) {
+                        future.get();
+                    } else {
+                        long waitNanos =
+                                started ? Math.max(0, timeoutNanos - (System.nanoTime() - startNanos)) : POLL_NANOS;
+                        future.get(waitNanos, TimeUnit.NANOSECONDS);
+                    }
+                    return throwable;
+                } catch (TimeoutException e) {
+                    if (started && System.nanoTime() - startNanos >= timeoutNanos) {
+                        future.cancel(true);
+                        // A close that ignores the interrupt doesn't hold up the rest of the wave
+                        release();
+                        return new TimeoutException(format(
+                                "Close of key [%s] timed out after [%d] ms",
+                                key, TimeUnit.NANOSECONDS.toMillis(timeoutNanos)));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    future.cancel(true);
+                    release();
+                    return e;
+                } catch (ExecutionException e) {
+                    return e.getCause();
+                } catch (CancellationException e) {
+                    return e;
+                }
+            }
+        }
+    }
+}
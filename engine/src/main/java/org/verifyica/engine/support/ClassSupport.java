@@ -29,18 +29,19 @@ import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
-import java.util.stream.Collectors;
 import org.junit.platform.commons.support.ReflectionSupport;
 import org.verifyica.engine.common.Precondition;
 import org.verifyica.engine.exception.UncheckedURISyntaxException;
@@ -49,6 +50,22 @@ import org.verifyica.engine.exception.UncheckedURISyntaxException;
 public class ClassSupport {
 
     private static final Lock LOCK = new ReentrantLock(true);
+
+    private static final Map<Class<?>, Class<?>> PRIMITIVE_WRAPPERS;
+
+    static {
+        Map<Class<?>, Class<?>> map = new HashMap<>();
+        map.put(boolean.class, Boolean.class);
+        map.put(byte.class, Byte.class);
+        map.put(char.class, Character.class);
+        map.put(short.class, Short.class);
+        map.put(int.class, Integer.class);
+        map.put(long.class, Long.class);
+        map.put(float.class, Float.class);
+        map.put(double.class, Double.class);
+        PRIMITIVE_WRAPPERS = Collections.unmodifiableMap(map);
+    }
+
     private static List<URI> URIS;
 
     /** Constructor */
@@ -56,6 +73,19 @@ public class ClassSupport {
         // INTENTIONALLY BLANK
     }
 
+    /**
+     * Method to get the wrapper Class of a primitive Class
+     *
+     * @param clazz clazz
+     * @return the wrapper Class if the Class is primitive, else the Class
+     */
+    public static Class<?> wrap(Class<?> clazz) {
+        Precondition.notNull(clazz, "clazz is null");
+
+        Class<?> wrapperClass = PRIMITIVE_WRAPPERS.get(clazz);
+        return wrapperClass != null ? wrapperClass : clazz;
+    }
+
     /**
      * Method to get a List of classpath URIs
      *
@@ -80,26 +110,6 @@ public class ClassSupport {
         }
     }
 
-    /**
-     * Method to scan the Java classpath and return a list of classes matching the Predicate
-     *
-     * @param predicate predicate
-     * @return a List of Classes
-     */
-    public static List<Class<?>> findAllClasses(Predicate<Class<?>> predicate) {
-        Precondition.notNull(predicate, "predicate is null");
-
-        Set<Class<?>> set = new LinkedHashSet<>();
-
-        getClasspathURIs()
-                .forEach(uri -> set.addAll(
-                        ReflectionSupport.findAllClassesInClasspathRoot(uri, predicate, classNameFilter -> true)));
-
-        List<Class<?>> list = new ArrayList<>(set);
-        list.sort(Comparator.comparing(Class::getName));
-        return list;
-    }
-
     /**
      * Method to find nested classes in a Class
      *
@@ -126,23 +136,6 @@ public class ClassSupport {
                 ReflectionSupport.findAllClassesInClasspathRoot(uri, predicate, classNameFilter -> true));
     }
 
-    /**
-     * Method to scan the Java classpath and return a list of classes matching the package name and
-     * Predicate
-     *
-     * @param packageName packageName
-     * @param predicate predicate
-     * @return a List of Classes
-     */
-    public static List<Class<?>> findAllClasses(String packageName, Predicate<Class<?>> predicate) {
-        Precondition.notNull(packageName, "packageName is null");
-        Precondition.notNull(predicate, "predicate is null");
-
-        return findAllClasses(predicate).stream()
-                .filter(clazz -> packageName.equals(clazz.getPackage().getName()))
-                .collect(Collectors.toList());
-    }
-
     /**
      * Method to find fields of a Class
      *
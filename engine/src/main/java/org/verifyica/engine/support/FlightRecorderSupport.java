@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.support;
+
+/**
+ * Class to implement FlightRecorderSupport
+ *
+ * <p>Java Flight Recorder events are not available on Java 8, so no events are created. The
+ * Java 11+ version of this class, in the multi-release jar, creates the events.
+ */
+public class FlightRecorderSupport {
+
+    /** Enum to implement EventType */
+    public enum EventType {
+        /** Test class */
+        CLASS,
+        /** Test argument */
+        ARGUMENT,
+        /** Test method */
+        TEST_METHOD,
+        /** State machine phase */
+        PHASE,
+        /** ClassInterceptor hook */
+        INTERCEPTOR_HOOK,
+        /** Executor queue wait */
+        QUEUE_WAIT
+    }
+
+    /** Constructor */
+    private FlightRecorderSupport() {
+        // INTENTIONALLY BLANK
+    }
+
+    /**
+     * Method to return if Java Flight Recorder events are supported
+     *
+     * @return false
+     */
+    public static boolean isSupported() {
+        return false;
+    }
+
+    /**
+     * Method to begin an event
+     *
+     * @param eventType eventType
+     * @return null
+     */
+    public static Object begin(EventType eventType) {
+        return null;
+    }
+
+    /**
+     * Method to end an event, committing it if required
+     *
+     * @param event the event returned by begin, or null
+     * @param testClass testClass
+     * @param argument argument
+     * @param testMethod testMethod
+     * @param name name
+     */
+    public static void end(Object event, String testClass, String argument, String testMethod, String name) {
+        // INTENTIONALLY BLANK
+    }
+
+    /**
+     * Method to wrap a Runnable, recording the time between submission to an executor and
+     * running as a queue wait event
+     *
+     * @param runnable runnable
+     * @param testClass testClass
+     * @param argument argument
+     * @return the Runnable
+     */
+    public static Runnable queueWait(Runnable runnable, String testClass, String argument) {
+        return runnable;
+    }
+}
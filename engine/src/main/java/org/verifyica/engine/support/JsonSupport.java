@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.support;
+
+/** Class to implement JsonSupport */
+public class JsonSupport {
+
+    /** Constructor */
+    private JsonSupport() {
+        // INTENTIONALLY BLANK
+    }
+
+    /**
+     * Method to append a JSON String
+     *
+     * @param stringBuilder stringBuilder
+     * @param value value
+     */
+    public static void appendString(StringBuilder stringBuilder, String value) {
+        stringBuilder.append('"');
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                stringBuilder.append('\\').append(c);
+            } else if (c < 0x20) {
+                stringBuilder.append(String.format("\\u%04x", (int) c));
+            } else {
+                stringBuilder.append(c);
+            }
+        }
+
+        stringBuilder.append('"');
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.verifyica.engine.support;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Class to implement FlightRecorderSupport
+ *
+ * <p>Creates Java Flight Recorder events. An event is only created when its event type is enabled
+ * in a recording, and its fields are only set when it is committed, so the cost is a check when
+ * recording is off.
+ *
+ * <p>If the jdk.jfr module is not present in the runtime, no events are created.
+ */
+public class FlightRecorderSupport {
+
+    /** Enum to implement EventType */
+    public enum EventType {
+        /** Test class */
+        CLASS,
+        /** Test argument */
+        ARGUMENT,
+        /** Test method */
+        TEST_METHOD,
+        /** State machine phase */
+        PHASE,
+        /** ClassInterceptor hook */
+        INTERCEPTOR_HOOK,
+        /** Executor queue wait */
+        QUEUE_WAIT
+    }
+
+    private static final boolean SUPPORTED = initialize();
+
+    /** Constructor */
+    private FlightRecorderSupport() {
+        // INTENTIONALLY BLANK
+    }
+
+    /**
+     * Method to return if Java Flight Recorder events are supported
+     *
+     * @return true if the jdk.jfr module is present, else false
+     */
+    public static boolean isSupported() {
+        return SUPPORTED;
+    }
+
+    /**
+     * Method to begin an event
+     *
+     * @param eventType eventType
+     * @return the event, or null if the event is not enabled
+     */
+    public static Object begin(EventType eventType) {
+        if (!SUPPORTED) {
+            return null;
+        }
+
+        return Recorder.begin(eventType);
+    }
+
+    /**
+     * Method to end an event, committing it if required
+     *
+     * @param event the event returned by begin, or null
+     * @param testClass testClass
+     * @param argument argument
+     * @param testMethod testMethod
+     * @param name name
+     */
+    public static void end(Object event, String testClass, String argument, String testMethod, String name) {
+        if (event == null) {
+            return;
+        }
+
+        Recorder.end(event, testClass, argument, testMethod, name);
+    }
+
+    /**
+     * Method to wrap a Runnable, recording the time between submission to an executor and
+     * running as a queue wait event
+     *
+     * @param runnable runnable
+     * @param testClass testClass
+     * @param argument argument
+     * @return the Runnable
+     */
+    public static Runnable queueWait(Runnable runnable, String testClass, String argument) {
+        Object event = begin(EventType.QUEUE_WAIT);
+        if (event == null) {
+            return runnable;
+        }
+
+        return () -> {
+            end(event, testClass, argument, null, null);
+            runnable.run();
+        };
+    }
+
+    /**
+     * Method to initialize the Java Flight Recorder event types
+     *
+     * @return true if the jdk.jfr module is present, else false
+     */
+    private static boolean initialize() {
+        try {
+            Recorder.initialize();
+            return true;
+        } catch (Throwable t) {
+            // The jdk.jfr module is not present (NoClassDefFoundError or another LinkageError)
+            return false;
+        }
+    }
+
+    /**
+     * Class to implement Recorder
+     *
+     * <p>All references to jdk.jfr classes are in this class, so they are only loaded if
+     * initialize() succeeds
+     */
+    private static final class Recorder {
+
+        private static final jdk.jfr.EventType[] JFR_EVENT_TYPES = {
+            jdk.jfr.EventType.getEventType(ClassEvent.class),
+            jdk.jfr.EventType.getEventType(ArgumentEvent.class),
+            jdk.jfr.EventType.getEventType(TestMethodEvent.class),
+            jdk.jfr.EventType.getEventType(PhaseEvent.class),
+            jdk.jfr.EventType.getEventType(InterceptorHookEvent.class),
+            jdk.jfr.EventType.getEventType(QueueWaitEvent.class)
+        };
+
+        /** Constructor */
+        private Recorder() {
+            // INTENTIONALLY BLANK
+        }
+
+        /** Method to initialize the class, resolving the event types */
+        static void initialize() {
+            // INTENTIONALLY BLANK
+        }
+
+        /**
+         * Method to begin an event
+         *
+         * @param eventType eventType
+         * @return the event, or null if the event is not enabled
+         */
+        static Object begin(EventType eventType) {
+            // Checked before creating the event, so nothing is allocated when recording is off
+            if (!JFR_EVENT_TYPES[eventType.ordinal()].isEnabled()) {
+                return null;
+            }
+
+            VerifyicaEvent event = create(eventType);
+            event.begin();
+            return event;
+        }
+
+        /**
+         * Method to end an event, committing it if required
+         *
+         * @param event the event returned by begin
+         * @param testClass testClass
+         * @param argument argument
+         * @param testMethod testMethod
+         * @param name name
+         */
+        static void end(Object event, String testClass, String argument, String testMethod, String name) {
+            VerifyicaEvent verifyicaEvent = (VerifyicaEvent) event;
+            verifyicaEvent.end();
+            if (verifyicaEvent.shouldCommit()) {
+                verifyicaEvent.testClass = testClass;
+                verifyicaEvent.argument = argument;
+                verifyicaEvent.testMethod = testMethod;
+                verifyicaEvent.name = name;
+                verifyicaEvent.commit();
+            }
+        }
+
+        /**
+         * Method to create an event
+         *
+         * @param eventType eventType
+         * @return an event
+         */
+        private static VerifyicaEvent create(EventType eventType) {
+            switch (eventType) {
+                case CLASS: {
+                    return new ClassEvent();
+                }
+                case ARGUMENT: {
+                    return new ArgumentEvent();
+                }
+                case TEST_METHOD: {
+                    return new TestMethodEvent();
+                }
+                case PHASE: {
+                    return new PhaseEvent();
+                }
+                case INTERCEPTOR_HOOK: {
+                    return new InterceptorHookEvent();
+                }
+                case QUEUE_WAIT: {
+                    return new QueueWaitEvent();
+                }
+                default: {
+                    throw new IllegalArgumentException("Invalid EventType [" + eventType + "]");
+                }
+            }
+        }
+
+        /** Class to implement VerifyicaEvent */
+        @Category("Verifyica")
+        private abstract static class VerifyicaEvent extends Event {
+
+            @Label("Test Class")
+            String testClass;
+
+            @Label("Argument")
+            String argument;
+
+            @Label("Test Method")
+            String testMethod;
+
+            @Label("Name")
+            String name;
+        }
+
+        /** Class to implement ClassEvent */
+        @Name("org.verifyica.Class")
+        @Label("Class")
+        @Description("Execution of a test class")
+        private static final class ClassEvent extends VerifyicaEvent {}
+
+        /** Class to implement ArgumentEvent */
+        @Name("org.verifyica.Argument")
+        @Label("Argument")
+        @Description("Execution of a test argument")
+        private static final class ArgumentEvent extends VerifyicaEvent {}
+
+        /** Class to implement TestMethodEvent */
+        @Name("org.verifyica.TestMethod")
+        @Label("Test Method")
+        @Description("Execution of a test method")
+        private static final class TestMethodEvent extends VerifyicaEvent {}
+
+        /** Class to implement PhaseEvent */
+        @Name("org.verifyica.Phase")
+        @Label("Phase")
+        @Description("Execution of a state machine phase")
+        private static final class PhaseEvent extends VerifyicaEvent {}
+
+        /** Class to implement InterceptorHookEvent */
+        @Name("org.verifyica.InterceptorHook")
+        @Label("Interceptor Hook")
+        @Description("Execution of the ClassInterceptors of a hook")
+        private static final class InterceptorHookEvent extends VerifyicaEvent {}
+
+        /** Class to implement QueueWaitEvent */
+        @Name("org.verifyica.QueueWait")
+        @Label("Queue Wait")
+        @Description("Wait between submission to an executor and running")
+        private static final class QueueWaitEvent extends VerifyicaEvent {}
+    }
+}
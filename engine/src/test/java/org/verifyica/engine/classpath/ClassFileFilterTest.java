@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.classpath;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.verifyica.api.ArgumentContext;
+import org.verifyica.api.ClassInterceptor;
+import org.verifyica.api.Verifyica;
+
+public class ClassFileFilterTest {
+
+    @Test
+    public void testParse() throws IOException {
+        ClassFile classFile = parse(TestClass1.class);
+
+        assertThat(classFile.getClassName()).isEqualTo(TestClass1.class.getName());
+        assertThat(classFile.getSuperName()).isEqualTo("java/lang/Object");
+        assertThat(classFile.getInterfaceNames()).isEmpty();
+        assertThat(classFile.isInterface()).isFalse();
+        assertThat(classFile.getAnnotationNames())
+                .contains(
+                        "org/verifyica/api/Verifyica$Tag",
+                        "org/verifyica/api/Verifyica$ArgumentSupplier",
+                        "org/verifyica/api/Verifyica$Test");
+    }
+
+    @Test
+    public void testParseInvalidBytes() {
+        assertThatExceptionOfType(IOException.class).isThrownBy(() -> ClassFile.parse(new byte[] {1, 2, 3, 4}, 4));
+        assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> ClassFile.parse(new byte[] {(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE}, 4));
+    }
+
+    @Test
+    public void testCandidates() throws IOException {
+        ClassFileFilter classFileFilter = new ClassFileFilter(getClass().getClassLoader());
+
+        assertThat(classFileFilter.isCandidate(parse(TestClass1.class))).isTrue();
+        assertThat(classFileFilter.isCandidate(parse(TestClass2.class))).isTrue();
+        assertThat(classFileFilter.isCandidate(parse(TestClass3.class))).isTrue();
+        assertThat(classFileFilter.isCandidate(parse(TestClass4.class))).isFalse();
+        assertThat(classFileFilter.isCandidate(parse(String.class))).isFalse();
+    }
+
+    @Test
+    public void testCycleCandidates() {
+        ClassFileFilter classFileFilter = new ClassFileFilter(null);
+
+        // Malformed hierarchy, A extends B, B extends A, and A implements X, which is a candidate
+        classFileFilter.register(
+                new ClassFile("test/A", "test/B", Collections.singletonList("test/X"), Collections.emptySet(), false));
+        classFileFilter.register(
+                new ClassFile("test/B", "test/A", Collections.emptyList(), Collections.emptySet(), false));
+        classFileFilter.register(new ClassFile(
+                "test/X",
+                "java/lang/Object",
+                Collections.singletonList("org/verifyica/api/ClassInterceptor"),
+                Collections.emptySet(),
+                true));
+
+        // Resolving A reaches the cycle at B -> A before A -> X, so B must not be cached as a non-candidate
+        assertThat(classFileFilter.isCandidate(new ClassFile(
+                        "test/A", "test/B", Collections.singletonList("test/X"), Collections.emptySet(), false)))
+                .isTrue();
+        assertThat(classFileFilter.isCandidate(
+                        new ClassFile("test/B", "test/A", Collections.emptyList(), Collections.emptySet(), false)))
+                .isTrue();
+    }
+
+    @Test
+    public void testClear() {
+        ClassFileFilter classFileFilter = new ClassFileFilter(null);
+
+        classFileFilter.register(new ClassFile(
+                "test/X",
+                "java/lang/Object",
+                Collections.singletonList("org/verifyica/api/ClassInterceptor"),
+                Collections.emptySet(),
+                true));
+
+        assertThat(classFileFilter.isCandidate(
+                        new ClassFile("test/A", "test/X", Collections.emptyList(), Collections.emptySet(), false)))
+                .isTrue();
+
+        classFileFilter.clear();
+
+        // X is no longer registered, and can't be read without a ClassLoader
+        assertThat(classFileFilter.isCandidate(
+                        new ClassFile("test/B", "test/X", Collections.emptyList(), Collections.emptySet(), false)))
+                .isFalse();
+    }
+
+    private static ClassFile parse(Class<?> clazz) throws IOException {
+        String resourceName = "/" + clazz.getName().replace('.', '/') + ".class";
+
+        try (InputStream inputStream = clazz.getResourceAsStream(resourceName)) {
+            assertThat(inputStream).isNotNull();
+
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                byteArrayOutputStream.write(buffer, 0, read);
+            }
+
+            byte[] bytes = byteArrayOutputStream.toByteArray();
+
+            return ClassFile.parse(bytes, bytes.length);
+        }
+    }
+
+    @Verifyica.Tag("tag1")
+    public static class TestClass1 {
+
+        @Verifyica.ArgumentSupplier
+        public static Object arguments() {
+            return Stream.of("a", "b");
+        }
+
+        @Verifyica.Test
+        public void test(ArgumentContext argumentContext) {
+            // INTENTIONALLY BLANK
+        }
+    }
+
+    public static class TestClass2 extends TestClass1 {
+        // INTENTIONALLY BLANK
+    }
+
+    public static class TestClass3 implements ClassInterceptor {
+        // INTENTIONALLY BLANK
+    }
+
+    public static class TestClass4 {
+
+        public void test() {
+            // INTENTIONALLY BLANK
+        }
+    }
+}
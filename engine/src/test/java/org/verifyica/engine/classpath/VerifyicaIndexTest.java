@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.classpath;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.junit.jupiter.api.Test;
+import org.verifyica.api.TemporaryDirectory;
+import org.verifyica.api.processor.VerifyicaIndexProcessor;
+
+public class VerifyicaIndexTest {
+
+    @Test
+    public void testIsFresh() throws IOException {
+        try (TemporaryDirectory temporaryDirectory = new TemporaryDirectory()) {
+            Path root = temporaryDirectory.path();
+            Path index = root.resolve(VerifyicaIndexProcessor.INDEX_RESOURCE_NAME);
+            Path classFile = root.resolve("example/ExampleTest.class");
+
+            Files.createDirectories(index.getParent());
+            Files.createDirectories(classFile.getParent());
+            Files.write(index, "version 1\ntype example.ExampleTest\n".getBytes(StandardCharsets.UTF_8));
+            Files.write(classFile, new byte[0]);
+
+            long lastModifiedMillis = System.currentTimeMillis() - 60_000;
+            Files.setLastModifiedTime(index, FileTime.fromMillis(lastModifiedMillis));
+            Files.setLastModifiedTime(classFile, FileTime.fromMillis(lastModifiedMillis - 1_000));
+
+            assertThat(VerifyicaIndex.load(root.toUri()).isFresh(root.toUri())).isTrue();
+
+            // Recompiled without the annotation processor
+            Files.setLastModifiedTime(classFile, FileTime.fromMillis(lastModifiedMillis + 1_000));
+
+            assertThat(VerifyicaIndex.load(root.toUri()).isFresh(root.toUri())).isFalse();
+
+            // Compiled without the annotation processor
+            Files.setLastModifiedTime(classFile, FileTime.fromMillis(lastModifiedMillis - 1_000));
+            Path otherClassFile = root.resolve("example/OtherTest.class");
+            Files.write(otherClassFile, new byte[0]);
+            Files.setLastModifiedTime(otherClassFile, FileTime.fromMillis(lastModifiedMillis - 1_000));
+
+            assertThat(VerifyicaIndex.load(root.toUri()).isFresh(root.toUri())).isFalse();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class AdjustableLimiterTest {
+
+    @Test
+    public void testLimit() throws InterruptedException {
+        AdjustableLimiter adjustableLimiter = new AdjustableLimiter(1);
+
+        adjustableLimiter.acquire();
+        assertThat(adjustableLimiter.getActive()).isEqualTo(1);
+
+        CountDownLatch admitted = new CountDownLatch(1);
+        Thread thread = new Thread(() -> {
+            try {
+                adjustableLimiter.acquire();
+                admitted.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        thread.start();
+
+        while (adjustableLimiter.getWaiting() == 0) {
+            Thread.sleep(1);
+        }
+
+        assertThat(admitted.await(50, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(adjustableLimiter.getWaitCount()).isEqualTo(1);
+
+        adjustableLimiter.setLimit(2);
+
+        assertThat(admitted.await(5, TimeUnit.SECONDS)).isTrue();
+        thread.join();
+
+        assertThat(adjustableLimiter.getLimit()).isEqualTo(2);
+        assertThat(adjustableLimiter.getActive()).isEqualTo(2);
+        assertThat(adjustableLimiter.getWaiting()).isEqualTo(0);
+
+        adjustableLimiter.setLimit(1);
+        adjustableLimiter.release();
+        adjustableLimiter.release();
+
+        assertThat(adjustableLimiter.getActive()).isEqualTo(0);
+    }
+
+    @Test
+    public void testInvalidLimit() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new AdjustableLimiter(0));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new AdjustableLimiter(1).setLimit(0));
+    }
+}
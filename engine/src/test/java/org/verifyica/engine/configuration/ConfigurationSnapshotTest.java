@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+import org.verifyica.engine.common.OrderedProperties;
+
+public class ConfigurationSnapshotTest {
+
+    @Test
+    public void testTypedValues() {
+        Properties properties = new OrderedProperties();
+        properties.setProperty("boolean", "false");
+        properties.setProperty("invalid.boolean", "no");
+        properties.setProperty("regex", "^org\\.verifyica");
+        properties.setProperty("invalid.regex", "[");
+
+        ConfigurationSnapshot configurationSnapshot = new ConfigurationSnapshot(null, properties, 0);
+
+        assertThat(configurationSnapshot.getBoolean("boolean", true)).isFalse();
+        assertThat(configurationSnapshot.getBoolean("invalid.boolean", true)).isTrue();
+        assertThat(configurationSnapshot.getBoolean("undefined", true)).isTrue();
+        assertThat(configurationSnapshot.getPattern("regex", ".*"))
+                .isSameAs(configurationSnapshot.getPattern("regex", ".*"));
+        assertThat(configurationSnapshot.getPattern("invalid.regex", ".*")).isNull();
+        assertThat(configurationSnapshot.getPattern("undefined", ".*").pattern())
+                .isEqualTo(".*");
+        assertThat(configurationSnapshot.getThrottle("undefined")).isNotNull();
+        assertThat(configurationSnapshot.getThrottle("undefined"))
+                .isSameAs(configurationSnapshot.getThrottle("undefined"));
+        assertThat(configurationSnapshot.getThrottle("invalid.regex"))
+                .isSameAs(configurationSnapshot.getThrottle("invalid.regex"));
+        assertThat(configurationSnapshot.getPattern("undefined", "^foo").pattern())
+                .isEqualTo("^foo");
+    }
+
+    @Test
+    public void testLoadedProperties() throws IOException {
+        OrderedProperties properties = new OrderedProperties();
+        properties.load(new StringReader("b=2\na=1\n"));
+
+        assertThat(properties.stringPropertyNames()).containsExactlyInAnyOrder("a", "b");
+
+        ConfigurationSnapshot configurationSnapshot =
+                new ConfigurationSnapshot(null, properties, properties.getModificationCount());
+
+        assertThat(configurationSnapshot.get("a")).isEqualTo("1");
+        assertThat(configurationSnapshot.get("b")).isEqualTo("2");
+    }
+
+    @Test
+    public void testImmutable() {
+        Properties properties = new OrderedProperties();
+        properties.setProperty("key", "value");
+
+        ConfigurationSnapshot configurationSnapshot = new ConfigurationSnapshot(null, properties, 0);
+
+        properties.setProperty("key", "changed");
+
+        assertThat(configurationSnapshot.get("key")).isEqualTo("value");
+        assertThat(configurationSnapshot.getProperties().getProperty("key")).isEqualTo("value");
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> configurationSnapshot.getProperties().setProperty("key", "value"));
+    }
+
+    @Test
+    public void testModificationCount() {
+        OrderedProperties properties = new OrderedProperties();
+        long modificationCount = properties.getModificationCount();
+
+        properties.setProperty("key", "value");
+
+        assertThat(properties.getModificationCount()).isNotEqualTo(modificationCount);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.verifyica.api.Configuration;
+import org.verifyica.api.ContextKey;
+
+public class AbstractContextTest {
+
+    private static final ContextKey<String> NAME = ContextKey.of("name", String.class);
+
+    private static final ContextKey<AutoCloseable> RESOURCE = ContextKey.of("resource");
+
+    @Test
+    public void testContextKeys() {
+        AbstractContext context = new TestContext();
+
+        assertThat(context.get(NAME)).isNull();
+        assertThat(context.put(NAME, "foo")).isNull();
+        assertThat(context.put(NAME, "bar")).isEqualTo("foo");
+
+        String value = context.get(NAME);
+        assertThat(value).isEqualTo("bar");
+
+        assertThat(context.remove(NAME)).isEqualTo("bar");
+        assertThat(context.get(NAME)).isNull();
+        assertThat(context.getMap()).isEmpty();
+    }
+
+    @Test
+    public void testGrowth() {
+        AbstractContext context = new TestContext();
+
+        ContextKey<Integer> contextKey = null;
+        for (int i = 0; i < 100; i++) {
+            contextKey = ContextKey.of("key" + i);
+        }
+
+        context.put(NAME, "foo");
+        context.put(contextKey, 1);
+
+        assertThat(context.get(NAME)).isEqualTo("foo");
+        assertThat(context.get(contextKey)).isEqualTo(1);
+    }
+
+    @Test
+    public void testClear() {
+        AbstractContext context = new TestContext();
+        AutoCloseable autoCloseable = () -> {};
+
+        context.put(RESOURCE, autoCloseable);
+        context.getMap().put("foo", "bar");
+
+        Map<String, AutoCloseable> autoCloseables = new LinkedHashMap<>();
+        context.collectAutoCloseables(autoCloseables);
+
+        assertThat(autoCloseables).containsValue(autoCloseable);
+
+        context.clear();
+
+        assertThat(context.get(RESOURCE)).isNull();
+        assertThat(context.getMap()).isEmpty();
+    }
+
+    private static class TestContext extends AbstractContext {
+
+        @Override
+        public Configuration getConfiguration() {
+            return null;
+        }
+    }
+}
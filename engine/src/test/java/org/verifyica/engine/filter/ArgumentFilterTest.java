@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.verifyica.api.Argument;
+import org.verifyica.engine.exception.EngineConfigurationException;
+
+public class ArgumentFilterTest {
+
+    @Test
+    public void testArgumentIndexRange() {
+        AbstractArgumentFilter argumentFilter = ExcludeArgumentFilter.create(null, null, "2-3");
+
+        assertThat(argumentFilter.matches(ArgumentFilterTest.class)).isTrue();
+        assertThat(argumentFilter.matches(1, Argument.ofInt(1))).isFalse();
+        assertThat(argumentFilter.matches(2, Argument.ofInt(2))).isTrue();
+        assertThat(argumentFilter.matches(3, Argument.ofInt(3))).isTrue();
+        assertThat(argumentFilter.matches(4, Argument.ofInt(4))).isFalse();
+
+        assertThat(ExcludeArgumentFilter.create(null, null, "5-").matches(100, Argument.ofInt(1)))
+                .isTrue();
+        assertThat(ExcludeArgumentFilter.create(null, null, "-5").matches(0, Argument.ofInt(1)))
+                .isTrue();
+        assertThat(ExcludeArgumentFilter.create(null, null, "5").matches(6, Argument.ofInt(1)))
+                .isFalse();
+    }
+
+    @Test
+    public void testInvalidArgumentFilter() {
+        assertThatExceptionOfType(EngineConfigurationException.class)
+                .isThrownBy(() -> ExcludeArgumentFilter.create(null, null, null));
+        assertThatExceptionOfType(EngineConfigurationException.class)
+                .isThrownBy(() -> ExcludeArgumentFilter.create(null, null, "3-1"));
+        assertThatExceptionOfType(EngineConfigurationException.class)
+                .isThrownBy(() -> ExcludeArgumentFilter.create(null, null, "a"));
+    }
+
+    @Test
+    public void testArgumentFilterOrder() {
+        ArgumentFilter argumentFilter = new ArgumentFilter(Arrays.asList(
+                ExcludeArgumentFilter.create(null, ".*", null), IncludeArgumentFilter.create(null, "^keep", null)));
+
+        List<Integer> indices = new ArrayList<>();
+        String[] names = {"keep-0", "drop-1", "keep-2"};
+        for (int i = 0; i < names.length; i++) {
+            if (argumentFilter.matches(i, Argument.of(names[i], i))) {
+                indices.add(i);
+            }
+        }
+
+        assertThat(indices).containsExactly(0, 2);
+    }
+}
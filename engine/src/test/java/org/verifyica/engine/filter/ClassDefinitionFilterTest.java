@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.verifyica.api.Verifyica;
+
+public class ClassDefinitionFilterTest {
+
+    @Test
+    public void testClassFilters() {
+        ClassDefinitionFilter classDefinitionFilter = new ClassDefinitionFilter(Arrays.asList(
+                ExcludeClassFilter.create(".*"),
+                IncludeClassFilter.create("TestClass1"),
+                IncludeTaggedClassFilter.create(null, "fast & !flaky"),
+                ExcludeClassFilter.create("TestClass3")));
+
+        assertThat(classDefinitionFilter.matches(TestClass1.class)).isTrue();
+        assertThat(classDefinitionFilter.matches(TestClass2.class)).isTrue();
+        assertThat(classDefinitionFilter.matches(TestClass3.class)).isFalse();
+        assertThat(classDefinitionFilter.matches(ClassDefinitionFilterTest.class))
+                .isFalse();
+    }
+
+    @Test
+    public void testMethodFilters() throws NoSuchMethodException {
+        ClassDefinitionFilter classDefinitionFilter = new ClassDefinitionFilter(Arrays.asList(
+                ExcludeMethodFilter.create("TestClass2", null, null, "slow"),
+                ExcludeMethodFilter.create("TestClass3", ".*", null, null)));
+
+        Method fastMethod = TestClass2.class.getMethod("fast");
+        Method slowMethod = TestClass2.class.getMethod("slow");
+
+        Map<Class<?>, Set<Method>> testClassMethodSet = new LinkedHashMap<>();
+        testClassMethodSet.put(TestClass2.class, new LinkedHashSet<>(Arrays.asList(fastMethod, slowMethod)));
+        testClassMethodSet.put(TestClass3.class, new LinkedHashSet<>(Arrays.asList(TestClass3.class.getMethods())));
+
+        classDefinitionFilter.filter(testClassMethodSet);
+
+        assertThat(testClassMethodSet).containsOnlyKeys(TestClass2.class);
+        assertThat(testClassMethodSet.get(TestClass2.class)).containsExactly(fastMethod);
+    }
+
+    public static class TestClass1 {}
+
+    @Verifyica.Tag("fast")
+    public static class TestClass2 {
+
+        public void fast() {
+            // INTENTIONALLY BLANK
+        }
+
+        @Verifyica.Tag("slow")
+        public void slow() {
+            // INTENTIONALLY BLANK
+        }
+    }
+
+    @Verifyica.Tag("fast")
+    @Verifyica.Tag("flaky")
+    public static class TestClass3 {}
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.verifyica.engine.exception.EngineConfigurationException;
+
+public class TagExpressionTest {
+
+    @Test
+    public void testTagExpression() {
+        TagExpression tagExpression = TagExpression.parse("(fast | smoke) & !flaky");
+
+        assertThat(tagExpression.matches(tags("fast"))).isTrue();
+        assertThat(tagExpression.matches(tags("smoke", "slow"))).isTrue();
+        assertThat(tagExpression.matches(tags("fast", "flaky"))).isFalse();
+        assertThat(tagExpression.matches(tags("slow"))).isFalse();
+        assertThat(tagExpression.matches(Collections.emptySet())).isFalse();
+    }
+
+    @Test
+    public void testPrecedence() {
+        TagExpression tagExpression = TagExpression.parse("a | b & !c");
+
+        assertThat(tagExpression.matches(tags("a", "c"))).isTrue();
+        assertThat(tagExpression.matches(tags("b"))).isTrue();
+        assertThat(tagExpression.matches(tags("b", "c"))).isFalse();
+        assertThat(TagExpression.parse("!!a").matches(tags("a"))).isTrue();
+    }
+
+    @Test
+    public void testInvalidTagExpression() {
+        assertThatExceptionOfType(EngineConfigurationException.class).isThrownBy(() -> TagExpression.parse(" "));
+        assertThatExceptionOfType(EngineConfigurationException.class).isThrownBy(() -> TagExpression.parse("a &"));
+        assertThatExceptionOfType(EngineConfigurationException.class).isThrownBy(() -> TagExpression.parse("(a | b"));
+        assertThatExceptionOfType(EngineConfigurationException.class).isThrownBy(() -> TagExpression.parse("a b"));
+    }
+
+    private static Set<String> tags(String... tags) {
+        return new HashSet<>(Arrays.asList(tags));
+    }
+}
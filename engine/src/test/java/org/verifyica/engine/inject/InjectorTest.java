@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.inject;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import org.junit.jupiter.api.Test;
+
+public class InjectorTest {
+
+    @Test
+    public void testNamedInjection() {
+        Target target = new Target();
+
+        Injector.inject("value", "test", target);
+        Injector.inject("value", 1, target);
+        Injector.inject("superValue", "super", target);
+        Injector.inject("unknown", "unknown", target);
+
+        assertThat(target.value).isEqualTo("test");
+        assertThat(target.number).isEqualTo(1);
+        assertThat(target.getSuperValue()).isEqualTo("super");
+    }
+
+    @Test
+    public void testNullInjection() {
+        Target target = new Target();
+
+        Injector.inject("superValue", "super", target);
+        Injector.inject("superValue", null, target);
+
+        assertThat(target.getSuperValue()).isNull();
+    }
+
+    @Test
+    public void testAnnotationInjection() {
+        Target target = new Target();
+
+        Injector.inject(Annotated.class, "instance", target);
+        Injector.inject(Annotated.class, "static", Target.class);
+
+        assertThat(target.annotated).isEqualTo("instance");
+        assertThat(Target.staticAnnotated).isEqualTo("static");
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @java.lang.annotation.Target(ElementType.FIELD)
+    public @interface Annotated {}
+
+    private static class SuperTarget {
+
+        @Inject
+        @Named("superValue")
+        private String superValue;
+
+        public String getSuperValue() {
+            return superValue;
+        }
+    }
+
+    private static class Target extends SuperTarget {
+
+        @Inject
+        @Named("value")
+        private String value;
+
+        @Inject
+        @Named("value")
+        private Integer number;
+
+        @Annotated
+        private String annotated;
+
+        @Annotated
+        private static String staticAnnotated;
+    }
+}
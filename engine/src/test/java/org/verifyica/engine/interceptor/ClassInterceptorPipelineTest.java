@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Test;
+import org.verifyica.api.ArgumentContext;
+import org.verifyica.api.ClassContext;
+import org.verifyica.api.ClassInterceptor;
+
+public class ClassInterceptorPipelineTest {
+
+    @Test
+    public void testOrder() throws Throwable {
+        List<String> calls = new ArrayList<>();
+
+        ClassInterceptorPipeline classInterceptorPipeline = new ClassInterceptorPipeline(
+                Arrays.asList(
+                        new RecordingClassInterceptor("a", calls),
+                        new ClassInterceptor() {},
+                        new RecordingClassInterceptor("b", calls)),
+                null);
+
+        classInterceptorPipeline.preBeforeAll(null);
+        classInterceptorPipeline.postBeforeAll(null, null);
+
+        assertThat(classInterceptorPipeline.getClassInterceptors()).hasSize(3);
+        assertThat(calls).containsExactly("a.preBeforeAll", "b.preBeforeAll", "b.postBeforeAll", "a.postBeforeAll");
+    }
+
+    @Test
+    public void testPredicate() throws Throwable {
+        List<String> calls = new ArrayList<>();
+
+        ClassInterceptorPipeline classInterceptorPipeline = new ClassInterceptorPipeline(
+                Arrays.asList(new RecordingClassInterceptor("a", calls), new RecordingClassInterceptor("b", calls) {
+
+                    @Override
+                    public Predicate<ClassContext> predicate() {
+                        return classContext -> false;
+                    }
+                }),
+                null);
+
+        classInterceptorPipeline.preBeforeAll(null);
+
+        assertThat(classInterceptorPipeline.getClassInterceptors()).hasSize(1);
+        assertThat(calls).containsExactly("a.preBeforeAll");
+    }
+
+    @Test
+    public void testDefaultPostHookRethrows() {
+        List<String> calls = new ArrayList<>();
+        Throwable throwable = new RuntimeException("test");
+
+        ClassInterceptorPipeline classInterceptorPipeline = new ClassInterceptorPipeline(
+                Arrays.asList(new RecordingClassInterceptor("a", calls), new ClassInterceptor() {}), null);
+
+        assertThatThrownBy(() -> classInterceptorPipeline.postBeforeAll(null, throwable))
+                .isSameAs(throwable);
+        assertThat(calls).isEmpty();
+    }
+
+    @Test
+    public void testOverriddenRethrow() throws Throwable {
+        ClassInterceptorPipeline classInterceptorPipeline = new ClassInterceptorPipeline(
+                Arrays.asList(new ClassInterceptor() {
+
+                    @Override
+                    public void rethrow(Throwable throwable) {
+                        // INTENTIONALLY BLANK
+                    }
+                }),
+                null);
+
+        classInterceptorPipeline.postTest(null, null, new RuntimeException("test"));
+    }
+
+    private static class RecordingClassInterceptor implements ClassInterceptor {
+
+        private final String name;
+        private final List<String> calls;
+
+        public RecordingClassInterceptor(String name, List<String> calls) {
+            this.name = name;
+            this.calls = calls;
+        }
+
+        @Override
+        public void preBeforeAll(ArgumentContext argumentContext) {
+            calls.add(name + ".preBeforeAll");
+        }
+
+        @Override
+        public void postBeforeAll(ArgumentContext argumentContext, Throwable throwable) {
+            calls.add(name + ".postBeforeAll");
+        }
+    }
+}
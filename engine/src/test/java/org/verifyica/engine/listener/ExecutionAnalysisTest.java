@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class ExecutionAnalysisTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    public void testSequentialArguments() {
+        // Class A runs 4 arguments sequentially (2s outside of arguments), class B runs 2s
+        List<ExecutionAnalysis.Interval> arguments = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            arguments.add(
+                    new ExecutionAnalysis.Interval("argument[" + i + "]", (1 + 2 * i) * SECOND, (3 + 2 * i) * SECOND));
+        }
+
+        List<ExecutionAnalysis.ClassInterval> classIntervals = Arrays.asList(
+                new ExecutionAnalysis.ClassInterval("A", 0, 10 * SECOND, arguments),
+                new ExecutionAnalysis.ClassInterval("B", 0, 2 * SECOND, Collections.emptyList()));
+
+        ExecutionAnalysis executionAnalysis = new ExecutionAnalysis(0, 10 * SECOND, classIntervals, 4, 4);
+
+        assertThat(executionAnalysis.getBoundingClassInterval().getName()).isEqualTo("A");
+        assertThat(executionAnalysis.getCriticalPathNanos()).isEqualTo(4 * SECOND);
+        assertThat(executionAnalysis.getLowerBoundNanos()).isEqualTo(10 * SECOND);
+        assertThat(executionAnalysis.getClassPeakConcurrency()).isEqualTo(2);
+        assertThat(executionAnalysis.getArgumentPeakConcurrency()).isEqualTo(1);
+        assertThat(executionAnalysis.getClassAverageConcurrency()).isEqualTo(1.2);
+        assertThat(executionAnalysis.getIdleCoreNanos()).isEqualTo(28 * SECOND);
+        assertThat(executionAnalysis.getRecommendations()).hasSize(1);
+        assertThat(executionAnalysis.getRecommendations().get(0))
+                .startsWith("class A bounds the run at " + ExecutionAnalysis.toHumanReadable(10 * SECOND))
+                .contains("parallelism = 4")
+                .endsWith("would reduce wall time to " + ExecutionAnalysis.toHumanReadable(6 * SECOND));
+    }
+
+    @Test
+    public void testSaturatedClassParallelism() {
+        // 8 classes of 1s, run 2 at a time
+        List<ExecutionAnalysis.ClassInterval> classIntervals = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            long start = (i / 2) * SECOND;
+            classIntervals.add(
+                    new ExecutionAnalysis.ClassInterval("C" + i, start, start + SECOND, Collections.emptyList()));
+        }
+
+        ExecutionAnalysis executionAnalysis = new ExecutionAnalysis(0, 4 * SECOND, classIntervals, 2, 8);
+
+        assertThat(executionAnalysis.getClassPeakConcurrency()).isEqualTo(2);
+        assertThat(executionAnalysis.getLowerBoundNanos()).isEqualTo(4 * SECOND);
+        assertThat(executionAnalysis.getIdleCoreNanos()).isEqualTo(24 * SECOND);
+        assertThat(executionAnalysis.getRecommendations())
+                .containsExactly("classes waited for verifyica.engine.class.parallelism (2);"
+                        + " raising it to 4 would reduce the wall time lower bound to "
+                        + ExecutionAnalysis.toHumanReadable(2 * SECOND));
+    }
+
+    @Test
+    public void testNoClasses() {
+        ExecutionAnalysis executionAnalysis = new ExecutionAnalysis(0, SECOND, Collections.emptyList(), 1, 1);
+
+        assertThat(executionAnalysis.getBoundingClassInterval()).isNull();
+        assertThat(executionAnalysis.getCriticalPathNanos()).isZero();
+        assertThat(executionAnalysis.getRecommendations()).isEmpty();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+
+public class TimelineEngineExecutionListenerTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void testChromeFormat() throws IOException {
+        String json = record(TimelineEngineExecutionListener.Format.CHROME);
+
+        assertThat(json).startsWith("[").endsWith("]\n");
+        assertThat(json).contains("{\"name\": \"thread_name\", \"ph\": \"M\", \"pid\": 1, \"tid\": 1");
+        assertThat(json).contains("{\"name\": \"child\", \"cat\": \"container\", \"ph\": \"X\"");
+        assertThat(json).contains("{\"name\": \"engine\", \"cat\": \"engine\", \"ph\": \"X\"");
+        assertThat(json).contains("{\"name\": \"test.TEST\", \"cat\": \"phase\", \"ph\": \"X\"");
+        assertThat(json).contains("{\"name\": \"child\", \"cat\": \"queue\", \"ph\": \"b\"");
+        assertThat(json).contains("{\"name\": \"child\", \"cat\": \"queue\", \"ph\": \"e\"");
+        assertThat(json).contains("\"args\": {\"status\": \"FAILED\"}");
+    }
+
+    @Test
+    public void testOtlpFormat() throws IOException {
+        String json = record(TimelineEngineExecutionListener.Format.OTLP);
+
+        assertThat(json).startsWith("{\"resourceSpans\": [").endsWith("]}]}]}\n");
+        assertThat(json).contains("\"spanId\": \"0000000000000001\", \"name\": \"engine\"");
+        assertThat(json).contains("\"spanId\": \"0000000000000002\", \"parentSpanId\": \"0000000000000001\"");
+        assertThat(json).contains("{\"key\": \"verifyica.kind\", \"value\": {\"stringValue\": \"phase\"}}");
+        assertThat(json).contains("\"status\": {\"code\": 1}");
+        assertThat(json).contains("\"status\": {\"code\": 2}");
+    }
+
+    @Test
+    public void testFormatDecode() {
+        assertThat(TimelineEngineExecutionListener.Format.decode(" Chrome "))
+                .isEqualTo(TimelineEngineExecutionListener.Format.CHROME);
+        assertThat(TimelineEngineExecutionListener.Format.decode("otlp"))
+                .isEqualTo(TimelineEngineExecutionListener.Format.OTLP);
+        assertThat(TimelineEngineExecutionListener.Format.decode("xml")).isNull();
+    }
+
+    private String record(TimelineEngineExecutionListener.Format format) throws IOException {
+        Path path = directory.resolve(format.getDefaultFilename());
+
+        UniqueId uniqueId = UniqueId.forEngine("verifyica");
+        EngineDescriptor engineDescriptor = new EngineDescriptor(uniqueId, "engine");
+        EngineDescriptor childDescriptor = new EngineDescriptor(uniqueId.append("class", "child"), "child");
+        engineDescriptor.addChild(childDescriptor);
+
+        TimelineEngineExecutionListener timeline = new TimelineEngineExecutionListener(path, format);
+
+        timeline.executionStarted(engineDescriptor);
+        timeline.queueWait(() -> timeline.executionStarted(childDescriptor), childDescriptor)
+                .run();
+        timeline.phase(childDescriptor, "test.TEST", System.nanoTime(), System.nanoTime());
+        timeline.executionFinished(childDescriptor, TestExecutionResult.failed(new AssertionError()));
+        timeline.executionFinished(engineDescriptor, TestExecutionResult.successful());
+        timeline.close();
+
+        return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+    }
+}
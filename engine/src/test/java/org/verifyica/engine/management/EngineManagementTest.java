@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+import org.verifyica.api.Configuration;
+import org.verifyica.engine.common.AdjustableLimiter;
+import org.verifyica.engine.configuration.Constants;
+
+public class EngineManagementTest {
+
+    @Test
+    public void testThrottles() {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        try {
+            EngineManagement engineManagement1 = createEngineManagement(executorService);
+            EngineManagement engineManagement2 = createEngineManagement(executorService);
+
+            engineManagement1.setTestStateMachineThrottle("0, 10");
+
+            assertThat(engineManagement1.getThrottle(Constants.ENGINE_TEST_STATE_MACHINE_THROTTLE))
+                    .isNotNull();
+            assertThat(engineManagement1.getTestStateMachineThrottle()).isEqualTo("0, 10");
+            assertThat(engineManagement2.getThrottle(Constants.ENGINE_TEST_STATE_MACHINE_THROTTLE))
+                    .isNull();
+            assertThat(engineManagement2.getTestStateMachineThrottle()).isEmpty();
+
+            engineManagement2.stop();
+
+            assertThat(engineManagement1.getThrottle(Constants.ENGINE_TEST_STATE_MACHINE_THROTTLE))
+                    .isNotNull();
+
+            engineManagement1.setTestStateMachineThrottle(" ");
+
+            assertThat(engineManagement1.getThrottle(Constants.ENGINE_TEST_STATE_MACHINE_THROTTLE))
+                    .isNull();
+
+            assertThatThrownBy(() -> engineManagement1.setTestStateMachineThrottle("foo"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    private static EngineManagement createEngineManagement(ExecutorService executorService) {
+        Configuration configuration = new Configuration() {
+
+            private final Properties properties = new Properties();
+
+            @Override
+            public Optional<Path> getPropertiesPath() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Properties getProperties() {
+                return properties;
+            }
+        };
+
+        return new EngineManagement(
+                configuration, executorService, new AdjustableLimiter(1), executorService, new AdjustableLimiter(1));
+    }
+}
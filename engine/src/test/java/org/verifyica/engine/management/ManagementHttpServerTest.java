@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+import org.verifyica.api.Configuration;
+import org.verifyica.engine.common.AdjustableLimiter;
+
+public class ManagementHttpServerTest {
+
+    @Test
+    public void testToken() throws IOException {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        AdjustableLimiter classLimiter = new AdjustableLimiter(1);
+
+        EngineManagement engineManagement = new EngineManagement(
+                new TestConfiguration(), executorService, classLimiter, executorService, new AdjustableLimiter(1));
+
+        ManagementHttpServer managementHttpServer = new ManagementHttpServer(engineManagement, 0);
+
+        try {
+            managementHttpServer.start();
+
+            String url = "http://127.0.0.1:" + managementHttpServer.getPort() + ManagementHttpServer.CONTEXT_PATH;
+
+            assertThat(request("GET", url, null)).isEqualTo(200);
+            assertThat(request("POST", url + "?classParallelism=2", null)).isEqualTo(403);
+            assertThat(request("POST", url + "?classParallelism=2", "invalid")).isEqualTo(403);
+            assertThat(classLimiter.getLimit()).isEqualTo(1);
+
+            assertThat(request("POST", url + "?classParallelism=2", managementHttpServer.getToken()))
+                    .isEqualTo(200);
+            assertThat(classLimiter.getLimit()).isEqualTo(2);
+        } finally {
+            managementHttpServer.stop();
+            executorService.shutdown();
+        }
+    }
+
+    private static int request(String method, String url, String token) throws IOException {
+        HttpURLConnection httpURLConnection = (HttpURLConnection) new URL(url).openConnection();
+
+        try {
+            httpURLConnection.setRequestMethod(method);
+            if (token != null) {
+                httpURLConnection.setRequestProperty(ManagementHttpServer.TOKEN_HEADER, token);
+            }
+            return httpURLConnection.getResponseCode();
+        } finally {
+            httpURLConnection.disconnect();
+        }
+    }
+
+    private static class TestConfiguration implements Configuration {
+
+        private final Properties properties = new Properties();
+
+        @Override
+        public Optional<Path> getPropertiesPath() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Properties getProperties() {
+            return properties;
+        }
+    }
+}
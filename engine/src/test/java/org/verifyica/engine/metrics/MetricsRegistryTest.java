@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.verifyica.api.Metrics;
+
+public class MetricsRegistryTest {
+
+    private enum State {
+        START,
+        TEST
+    }
+
+    @Test
+    public void testHistogram() throws InterruptedException {
+        ConcurrentHistogram histogram = new ConcurrentHistogram();
+
+        assertThat(histogram.getCount()).isEqualTo(0);
+        assertThat(histogram.getMin()).isEqualTo(0);
+        assertThat(histogram.getValueAtPercentile(50)).isEqualTo(0);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(() -> {
+                for (long value = 1; value <= 10000; value++) {
+                    histogram.record(value);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(histogram.getCount()).isEqualTo(40000);
+        assertThat(histogram.getTotal()).isEqualTo(4 * 50005000L);
+        assertThat(histogram.getMin()).isEqualTo(1);
+        assertThat(histogram.getMax()).isEqualTo(10000);
+        assertThat(histogram.getMean()).isEqualTo(5000.5);
+        assertThat(histogram.getValueAtPercentile(0)).isEqualTo(1);
+        assertThat(histogram.getValueAtPercentile(50)).isBetween(4850L, 5150L);
+        assertThat(histogram.getValueAtPercentile(99)).isBetween(9600L, 10000L);
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(10000);
+    }
+
+    @Test
+    public void testRegistry() {
+        MetricsRegistry metricsRegistry = new MetricsRegistry(true);
+
+        ClassMetrics classMetrics = metricsRegistry.getClassMetrics(MetricsRegistryTest.class);
+        classMetrics.record(ClassMetrics.Scope.TEST, State.TEST, ClassMetrics.Kind.TOTAL, 1000);
+        classMetrics.record(ClassMetrics.Scope.TEST, State.TEST, ClassMetrics.Kind.USER, 800);
+
+        String className = MetricsRegistryTest.class.getName();
+
+        assertThat(metricsRegistry.getNames())
+                .containsExactly(
+                        className + "/test.TEST.total",
+                        className + "/test.TEST.user",
+                        "test.TEST.total",
+                        "test.TEST.user");
+
+        Metrics.Histogram histogram = metricsRegistry.getHistogram("test.TEST.user");
+        assertThat(histogram.getCount()).isEqualTo(1);
+        assertThat(histogram.getMax()).isEqualTo(800);
+        assertThat(metricsRegistry.getHistogram("test.START.total")).isNull();
+
+        String json = metricsRegistry.toJson();
+        assertThat(json).contains("\"aggregate\": {");
+        assertThat(json).contains("\"" + className + "\": {");
+        assertThat(json).contains("\"test.TEST.total\": {\"count\": 1, \"total\": 1000");
+    }
+
+    @Test
+    public void testDisabled() {
+        MetricsRegistry metricsRegistry = new MetricsRegistry(false);
+
+        assertThat(metricsRegistry.isEnabled()).isFalse();
+        assertThat(metricsRegistry.getClassMetrics(MetricsRegistryTest.class)).isNull();
+        assertThat(metricsRegistry.getNames()).isEmpty();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class ResourceAccountingTest {
+
+    @Test
+    public void testTopConsumers() {
+        ResourceAccounting resourceAccounting = new ResourceAccounting(2);
+
+        for (int i = 0; i < 5; i++) {
+            resourceAccounting.record(
+                    ClassMetrics.Scope.TEST,
+                    "TestClass",
+                    "argument[" + i + "]",
+                    "test",
+                    i * 1000L,
+                    (5 - i) * 1024L,
+                    true);
+        }
+        resourceAccounting.record(ClassMetrics.Scope.TEST, "TestClass", "argument[5]", "test", 0, 0, false);
+
+        List<ResourceAccounting.Entry> topCpu = resourceAccounting.getTopCpu(ClassMetrics.Scope.TEST);
+        assertThat(topCpu).extracting(ResourceAccounting.Entry::getCpuNanos).containsExactly(4000L, 3000L);
+        assertThat(topCpu.get(0).getName()).isEqualTo("TestClass | argument[4] | test");
+
+        List<ResourceAccounting.Entry> topAllocated = resourceAccounting.getTopAllocated(ClassMetrics.Scope.TEST);
+        assertThat(topAllocated)
+                .extracting(ResourceAccounting.Entry::getAllocatedBytes)
+                .containsExactly(5120L, 4096L);
+
+        assertThat(resourceAccounting.getMeasuredCount(ClassMetrics.Scope.TEST)).isEqualTo(5);
+        assertThat(resourceAccounting.getUnmeasuredCount(ClassMetrics.Scope.TEST))
+                .isEqualTo(1);
+        assertThat(resourceAccounting.getTopCpu(ClassMetrics.Scope.ARGUMENT)).isEmpty();
+        assertThat(resourceAccounting.report()).contains("top [2] test methods by CPU time");
+    }
+
+    @Test
+    public void testCurrentThread() {
+        assumeThat(ResourceAccounting.isSupported()).isTrue();
+
+        ResourceAccounting resourceAccounting = new ResourceAccounting(1);
+
+        long cpuNanos = resourceAccounting.getCurrentThreadCpuNanos();
+        long allocatedBytes = resourceAccounting.getCurrentThreadAllocatedBytes();
+
+        byte[][] bytes = new byte[16][];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = new byte[65536];
+        }
+
+        assertThat(bytes[15]).hasSize(65536);
+        assertThat(cpuNanos).isNotNegative();
+        assertThat(resourceAccounting.getCurrentThreadCpuNanos()).isGreaterThanOrEqualTo(cpuNanos);
+        assertThat(resourceAccounting.getCurrentThreadAllocatedBytes() - allocatedBytes)
+                .isGreaterThanOrEqualTo(16 * 65536L);
+    }
+
+    @Test
+    public void testHumanReadableBytes() {
+        assertThat(ResourceAccounting.toHumanReadableBytes(512)).isEqualTo("512 B");
+        assertThat(ResourceAccounting.toHumanReadableBytes(1536)).isEqualTo("1.5 KB");
+        assertThat(ResourceAccounting.toHumanReadableBytes(3L * 1024 * 1024 * 1024))
+                .isEqualTo("3.0 GB");
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.resolver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.verifyica.api.Verifyica;
+import org.verifyica.engine.classpath.ClasspathIndex;
+import org.verifyica.engine.exception.TestClassDefinitionException;
+
+public class EngineDiscoveryRequestResolverTest {
+
+    @Test
+    public void testSynchronousMethods() {
+        TestDescriptor engineDescriptor = resolve(SynchronousTest.class);
+
+        assertThat(engineDescriptor.getChildren()).hasSize(1);
+        assertThat(engineDescriptor.getDescendants()).hasSize(3);
+    }
+
+    @Test
+    public void testAsynchronousMethodsAreRejected() {
+        assertThatExceptionOfType(TestClassDefinitionException.class)
+                .isThrownBy(() -> resolve(AsynchronousTest.class))
+                .withMessageContaining(AsynchronousTest.class.getName())
+                .withMessageContaining("[test]");
+
+        assertThatExceptionOfType(TestClassDefinitionException.class)
+                .isThrownBy(() -> resolve(AsynchronousBeforeAllTest.class))
+                .withMessageContaining(AsynchronousBeforeAllTest.class.getName())
+                .withMessageContaining("[beforeAll]");
+    }
+
+    /**
+     * Method to resolve a test class
+     *
+     * @param testClass testClass
+     * @return the engine descriptor
+     */
+    private static TestDescriptor resolve(Class<?> testClass) {
+        TestDescriptor engineDescriptor = new EngineDescriptor(UniqueId.forEngine("verifyica"), "Verifyica");
+
+        new EngineDiscoveryRequestResolver(new ClasspathIndex(1), 1)
+                .resolveSelectors(request().selectors(selectClass(testClass)).build(), engineDescriptor);
+
+        return engineDescriptor;
+    }
+
+    public static class SynchronousTest {
+
+        @Verifyica.ArgumentSupplier
+        public static Object arguments() {
+            return "test";
+        }
+
+        @Verifyica.Test
+        public void test(String argument) {}
+    }
+
+    public static class AsynchronousTest {
+
+        @Verifyica.ArgumentSupplier
+        public static Object arguments() {
+            return "test";
+        }
+
+        @Verifyica.Test
+        public CompletionStage<Void> test(String argument) {
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    public static class AsynchronousBeforeAllTest {
+
+        @Verifyica.ArgumentSupplier
+        public static Object arguments() {
+            return "test";
+        }
+
+        @Verifyica.BeforeAll
+        public CompletableFuture<Void> beforeAll(String argument) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Verifyica.Test
+        public void test(String argument) {}
+    }
+}
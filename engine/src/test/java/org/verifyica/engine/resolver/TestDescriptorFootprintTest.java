@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.resolver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.Collection;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.verifyica.api.Argument;
+import org.verifyica.api.Verifyica;
+import org.verifyica.engine.classpath.ClasspathIndex;
+
+public class TestDescriptorFootprintTest {
+
+    private static final int ARGUMENT_COUNT = 2000;
+
+    private static final int TEST_METHOD_COUNT = 10;
+
+    private static final long MAXIMUM_BYTES_PER_DESCRIPTOR = 4096;
+
+    @Test
+    public void testHeapFootprintPerDescriptor() throws InterruptedException {
+        EngineDiscoveryRequest engineDiscoveryRequest =
+                request().selectors(selectClass(FootprintTest.class)).build();
+
+        // Warm up so class loading and one-time caches are not part of the measurement
+        assertThat(resolve(engineDiscoveryRequest).getDescendants())
+                .hasSize(1 + ARGUMENT_COUNT + (ARGUMENT_COUNT * TEST_METHOD_COUNT));
+
+        long before = usedHeap();
+
+        TestDescriptor engineDescriptor = resolve(engineDiscoveryRequest);
+
+        long after = usedHeap();
+
+        int descriptorCount = engineDescriptor.getDescendants().size();
+        long bytesPerDescriptor = Math.max(0, after - before) / descriptorCount;
+
+        System.out.printf(
+                "[%d] descriptors retain [%d] bytes, approximately [%d] bytes per descriptor%n",
+                descriptorCount, after - before, bytesPerDescriptor);
+
+        assertThat(descriptorCount).isEqualTo(1 + ARGUMENT_COUNT + (ARGUMENT_COUNT * TEST_METHOD_COUNT));
+        assertThat(bytesPerDescriptor).isLessThan(MAXIMUM_BYTES_PER_DESCRIPTOR);
+    }
+
+    /**
+     * Method to resolve an engine discovery request
+     *
+     * @param engineDiscoveryRequest engineDiscoveryRequest
+     * @return the engine descriptor
+     */
+    private static TestDescriptor resolve(EngineDiscoveryRequest engineDiscoveryRequest) {
+        TestDescriptor engineDescriptor = new EngineDescriptor(UniqueId.forEngine("verifyica"), "Verifyica");
+
+        new EngineDiscoveryRequestResolver(new ClasspathIndex(1), 1)
+                .resolveSelectors(engineDiscoveryRequest, engineDescriptor);
+
+        return engineDescriptor;
+    }
+
+    /**
+     * Method to get the used heap after requesting garbage collection
+     *
+     * @return the used heap in bytes
+     * @throws InterruptedException if interrupted
+     */
+    private static long usedHeap() throws InterruptedException {
+        MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+
+        return memoryMXBean.getHeapMemoryUsage().getUsed();
+    }
+
+    public static class FootprintTest {
+
+        @Verifyica.ArgumentSupplier
+        public static Collection<Argument<Integer>> arguments() {
+            Collection<Argument<Integer>> collection = new ArrayList<>();
+
+            for (int i = 0; i < ARGUMENT_COUNT; i++) {
+                collection.add(Argument.ofInt(i));
+            }
+
+            return collection;
+        }
+
+        @Verifyica.Test
+        public void test1(Integer argument) {}
+
+        @Verifyica.Test
+        public void test2(Integer argument) {}
+
+        @Verifyica.Test
+        public void test3(Integer argument) {}
+
+        @Verifyica.Test
+        public void test4(Integer argument) {}
+
+        @Verifyica.Test
+        public void test5(Integer argument) {}
+
+        @Verifyica.Test
+        public void test6(Integer argument) {}
+
+        @Verifyica.Test
+        public void test7(Integer argument) {}
+
+        @Verifyica.Test
+        public void test8(Integer argument) {}
+
+        @Verifyica.Test
+        public void test9(Integer argument) {}
+
+        @Verifyica.Test
+        public void test10(Integer argument) {}
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.engine.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.verifyica.api.ExtendedMap;
+
+public class AutoCloseableSupportTest {
+
+    private static ExecutorService executorService;
+
+    @BeforeAll
+    public static void beforeAll() {
+        executorService = AutoCloseableSupport.createExecutorService();
+    }
+
+    @AfterAll
+    public static void afterAll() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testCloseOrder() {
+        ConcurrentLinkedQueue<String> closed = new ConcurrentLinkedQueue<>();
+
+        ExtendedMap<String, Object> map = new ExtendedMap<>();
+        map.put("network", (AutoCloseable) () -> closed.add("network"));
+        map.put("client1", (AutoCloseable) () -> closed.add("client1"));
+        map.put("client2", (AutoCloseable) () -> closed.add("client2"));
+        map.put("value", "value");
+        map.closeBefore("client1", "network");
+        map.closeBefore("client2", "network");
+
+        List<Throwable> throwables = AutoCloseableSupport.closeAll(map, 4, 0, executorService);
+
+        assertThat(throwables).isEmpty();
+        assertThat(closed).hasSize(3);
+        assertThat(closed.toArray()[2]).isEqualTo("network");
+    }
+
+    @Test
+    public void testParallelClose() {
+        CountDownLatch countDownLatch = new CountDownLatch(2);
+
+        ExtendedMap<String, Object> map = new ExtendedMap<>();
+        for (int i = 0; i < 2; i++) {
+            // Each close waits for the other, so they only complete if closed concurrently
+            map.put("resource" + i, (AutoCloseable) () -> {
+                countDownLatch.countDown();
+                if (!countDownLatch.await(10, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("not closed concurrently");
+                }
+            });
+        }
+
+        assertThat(AutoCloseableSupport.closeAll(map, 2, 0, executorService)).isEmpty();
+    }
+
+    @Test
+    public void testParallelismLimit() {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maximumActive = new AtomicInteger();
+
+        ExtendedMap<String, Object> map = new ExtendedMap<>();
+        for (int i = 0; i < 8; i++) {
+            map.put("resource" + i, (AutoCloseable) () -> {
+                maximumActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                Thread.sleep(20);
+                active.decrementAndGet();
+            });
+        }
+
+        assertThat(AutoCloseableSupport.closeAll(map, 2, 1000, executorService)).isEmpty();
+        assertThat(maximumActive.get()).isBetween(1, 2);
+    }
+
+    @Test
+    public void testTimeoutAndFailure() {
+        ExtendedMap<String, Object> map = new ExtendedMap<>();
+        map.put("slow", (AutoCloseable) () -> Thread.sleep(10000));
+        map.put("failing", (AutoCloseable) () -> {
+            throw new IllegalStateException("failed");
+        });
+
+        List<Throwable> throwables = AutoCloseableSupport.closeAll(map, 1, 100, executorService);
+
+        assertThat(throwables).hasSize(2);
+        assertThat(throwables)
+                .anySatisfy(throwable -> assertThat(throwable).isInstanceOf(TimeoutException.class))
+                .anySatisfy(throwable -> assertThat(throwable).hasMessage("failed"));
+    }
+}
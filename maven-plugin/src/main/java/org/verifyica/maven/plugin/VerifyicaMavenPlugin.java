@@ -61,6 +61,7 @@ import org.verifyica.engine.configuration.ConcreteConfigurationParameters;
 import org.verifyica.engine.configuration.Constants;
 import org.verifyica.engine.descriptor.TestableTestDescriptor;
 import org.verifyica.engine.exception.TestClassDefinitionException;
+import org.verifyica.engine.listener.AnalysisEngineExecutionListener;
 import org.verifyica.engine.listener.ChainedEngineExecutionListener;
 import org.verifyica.engine.listener.StatusEngineExecutionListener;
 import org.verifyica.engine.listener.SummaryEngineExecutionListener;
@@ -338,7 +339,8 @@ public class VerifyicaMavenPlugin extends AbstractMojo {
         ChainedEngineExecutionListener chainedEngineExecutionListener = new ChainedEngineExecutionListener(
                 new TracingEngineExecutionListener(),
                 new StatusEngineExecutionListener(),
-                new SummaryEngineExecutionListener());
+                new SummaryEngineExecutionListener(),
+                new AnalysisEngineExecutionListener());
 
         ExecutionRequest executionRequest = new ExecutionRequest(
                 testDescriptor,
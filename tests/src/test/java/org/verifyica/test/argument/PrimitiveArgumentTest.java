@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.test.argument;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import org.verifyica.api.IntArgument;
+import org.verifyica.api.Verifyica;
+
+public class PrimitiveArgumentTest {
+
+    @Verifyica.ArgumentSupplier
+    public static Collection<IntArgument> arguments() {
+        Collection<IntArgument> collection = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            collection.add(IntArgument.of(i));
+        }
+
+        return collection;
+    }
+
+    @Verifyica.Test
+    public void test1(IntArgument argument) throws Throwable {
+        System.out.printf("test1(name[%s], value[%d])%n", argument.getName(), argument.getAsInt());
+
+        assertThat(argument.getName()).isEqualTo(String.valueOf(argument.getAsInt()));
+        assertThat(argument.getAsInt()).isBetween(0, 9);
+    }
+
+    @Verifyica.Test
+    public void test2(int value) throws Throwable {
+        System.out.printf("test2(value[%d])%n", value);
+
+        assertThat(value).isBetween(0, 9);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.test.fixture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.verifyica.api.Argument;
+import org.verifyica.api.ArgumentContext;
+import org.verifyica.api.FixturePool;
+import org.verifyica.api.Verifyica;
+
+public class FixturePoolTest {
+
+    private static final String LEASE = "lease";
+
+    private static final AtomicInteger CREATED = new AtomicInteger();
+
+    @Verifyica.ArgumentSupplier(parallelism = 4)
+    public static Collection<Argument<String>> arguments() {
+        Collection<Argument<String>> collection = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            collection.add(Argument.ofString("String " + i));
+        }
+
+        return collection;
+    }
+
+    @Verifyica.BeforeAll
+    public void beforeAll(ArgumentContext argumentContext) throws Throwable {
+        FixturePool<Environment> fixturePool = argumentContext
+                .getClassContext()
+                .getEngineContext()
+                .getFixturePool(FixturePoolTest.class.getName(), () -> FixturePool.builder(Environment::new)
+                        .maximumSize(2)
+                        .build());
+
+        // The Lease is AutoCloseable, so the fixture is returned to the pool when the argument is cleaned up
+        argumentContext.getMap().put(LEASE, fixturePool.lease());
+
+        assertThat(fixturePool.getSize()).isLessThanOrEqualTo(2);
+    }
+
+    @Verifyica.Test
+    public void test(ArgumentContext argumentContext) {
+        FixturePool.Lease<Environment> lease = argumentContext.getMap().getAs(LEASE);
+
+        System.out.printf(
+                "test(name=[%s]) environment [%d]%n",
+                argumentContext.getTestArgument().getName(), lease.get().getId());
+
+        assertThat(lease.get().isClosed()).isFalse();
+        assertThat(CREATED.get()).isLessThanOrEqualTo(2);
+    }
+
+    public static class Environment implements AutoCloseable {
+
+        private final int id;
+        private volatile boolean closed;
+
+        public Environment() {
+            this.id = CREATED.incrementAndGet();
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public boolean isClosed() {
+            return closed;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
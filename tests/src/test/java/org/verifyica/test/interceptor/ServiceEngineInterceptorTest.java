@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2024-present Verifyica project authors and contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.verifyica.test.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.verifyica.api.ArgumentContext;
+import org.verifyica.api.Verifyica;
+
+public class ServiceEngineInterceptorTest {
+
+    @Verifyica.ArgumentSupplier
+    public static String arguments() {
+        return "test";
+    }
+
+    @Verifyica.Test
+    public void test(ArgumentContext argumentContext) throws Throwable {
+        System.out.printf("test(%s)%n", argumentContext.getTestArgument().getPayload());
+
+        // Validate that the service registered interceptor added a global String to the EngineContext Store
+        assertThat(argumentContext
+                        .getClassContext()
+                        .getEngineContext()
+                        .getMap()
+                        .get(ExampleServiceEngineInterceptor.KEY))
+                .isEqualTo(ExampleServiceEngineInterceptor.VALUE);
+    }
+}